@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.context.notification;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.context.notification.NotificationOverflowPolicy.DROP_OLDEST;
+import static org.mule.runtime.core.context.notification.NotificationOverflowPolicy.SAMPLE;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.context.notification.ServerNotification;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class BatchingNotificationDispatcherTestCase extends AbstractMuleTestCase {
+
+  private final List<Runnable> submittedTasks = new LinkedList<>();
+  private Scheduler scheduler;
+  private Listener1 listener;
+
+  @Before
+  public void before() {
+    scheduler = mock(Scheduler.class);
+    when(scheduler.submit(any(Runnable.class))).then(invocation -> {
+      submittedTasks.add((Runnable) invocation.getArguments()[0]);
+      return null;
+    });
+    listener = mock(Listener1.class);
+  }
+
+  @Test
+  public void singleTaskPerBatch() {
+    BatchingNotificationDispatcher dispatcher = new BatchingNotificationDispatcher(scheduler, scheduler, 16, 16, DROP_OLDEST);
+    for (int i = 0; i < 10; ++i) {
+      dispatcher.notify(listener, new Event1());
+    }
+
+    assertThat(submittedTasks.size(), is(1));
+    runSubmittedTasks();
+    verify(listener, times(10)).onNotification(any(ServerNotification.class));
+  }
+
+  @Test
+  public void batchSizeIsHonored() {
+    BatchingNotificationDispatcher dispatcher = new BatchingNotificationDispatcher(scheduler, scheduler, 16, 4, DROP_OLDEST);
+    for (int i = 0; i < 10; ++i) {
+      dispatcher.notify(listener, new Event1());
+    }
+
+    submittedTasks.remove(0).run();
+    verify(listener, times(4)).onNotification(any(ServerNotification.class));
+    assertThat(submittedTasks.size(), is(1));
+    runSubmittedTasks();
+    verify(listener, times(10)).onNotification(any(ServerNotification.class));
+  }
+
+  @Test
+  public void dropOldest() {
+    BatchingNotificationDispatcher dispatcher = new BatchingNotificationDispatcher(scheduler, scheduler, 2, 16, DROP_OLDEST);
+    Event1 last = new Event1();
+    dispatcher.notify(listener, new Event1());
+    dispatcher.notify(listener, new Event1());
+    dispatcher.notify(listener, last);
+
+    assertThat(dispatcher.getDroppedCount(), is(1L));
+    assertThat(dispatcher.getDroppedCount(listener), is(1L));
+    runSubmittedTasks();
+    verify(listener, times(2)).onNotification(any(ServerNotification.class));
+    verify(listener).onNotification(last);
+  }
+
+  @Test
+  public void sample() {
+    BatchingNotificationDispatcher dispatcher = new BatchingNotificationDispatcher(scheduler, scheduler, 64, 64, SAMPLE);
+    for (int i = 0; i < 64; ++i) {
+      dispatcher.notify(listener, new Event1());
+    }
+
+    // the first half is always queued, only one out of ten from then on
+    assertThat(dispatcher.getDroppedCount(), is(29L));
+    runSubmittedTasks();
+    verify(listener, times(35)).onNotification(any(ServerNotification.class));
+  }
+
+  @Test
+  public void ringBufferKeepsOrder() {
+    NotificationRingBuffer buffer = new NotificationRingBuffer(3);
+    assertThat(buffer.capacity(), is(4));
+
+    Event1[] events = new Event1[] {new Event1(), new Event1(), new Event1(), new Event1()};
+    for (Event1 event : events) {
+      assertThat(buffer.offer(event), is(true));
+    }
+    assertThat(buffer.offer(new Event1()), is(false));
+
+    for (Event1 event : events) {
+      assertThat(buffer.poll(), sameInstance(event));
+    }
+    assertThat(buffer.isEmpty(), is(true));
+  }
+
+  private void runSubmittedTasks() {
+    while (!submittedTasks.isEmpty()) {
+      submittedTasks.remove(0).run();
+    }
+  }
+}
@@ -22,6 +22,9 @@ import static org.mule.runtime.api.metadata.DataType.OBJECT;
 import static org.mule.runtime.api.metadata.DataType.STRING;
 import static org.mule.runtime.api.metadata.DataType.fromFunction;
 import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.core.api.el.CompiledExpression.Kind.FULL;
+import static org.mule.runtime.core.api.el.CompiledExpression.Kind.LITERAL;
+import static org.mule.runtime.core.api.el.CompiledExpression.Kind.SIMPLE_PATH;
 
 import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.el.ExpressionFunction;
@@ -31,6 +34,7 @@ import org.mule.runtime.api.metadata.FunctionParameter;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledExpression;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
@@ -220,4 +224,43 @@ public class DefaultExpressionManagerTestCase extends AbstractMuleContextTestCas
     assertThat(expressionManager.isExpression("${var}"), is(false));
   }
 
+  @Test
+  @Description("Verifies that values without expressions are compiled as literals.")
+  public void compileLiteral() throws MuleException {
+    CompiledExpression compiled = expressionManager.compile("just text");
+    assertThat(compiled.getKind(), is(LITERAL));
+    assertThat(compiled.evaluate(testEvent()).getValue(), is("just text"));
+  }
+
+  @Test
+  @Description("Verifies that references to the payload are compiled as simple paths and resolved from the event.")
+  public void compilePayload() throws MuleException {
+    CompiledExpression compiled = expressionManager.compile("#[payload]");
+    assertThat(compiled.getKind(), is(SIMPLE_PATH));
+    assertThat(compiled.evaluate(testEvent()).getValue(), is(TEST_PAYLOAD));
+    assertThat(expressionManager.compile("#[dw:payload]").getKind(), is(SIMPLE_PATH));
+  }
+
+  @Test
+  @Description("Verifies that compiled variable references behave like a full evaluation, even when not defined.")
+  public void compileVariable() throws MuleException {
+    CompiledExpression compiled = expressionManager.compile("#[variables.myVar]");
+    assertThat(compiled.getKind(), is(SIMPLE_PATH));
+    Event.Builder eventBuilder = Event.builder(testEvent());
+    assertThat(compiled.evaluate(eventBuilder.build()).getValue(), nullValue());
+    String value = "Leda";
+    eventBuilder.addVariable(MY_VAR, value);
+    assertThat(compiled.evaluate(eventBuilder.build()).getValue(), is(value));
+  }
+
+  @Test
+  @Description("Verifies that any other expression is compiled to be evaluated by its expression language.")
+  public void compileFull() throws MuleException {
+    CompiledExpression compiled = expressionManager.compile("#['this is ' ++ payload]");
+    assertThat(compiled.getKind(), is(FULL));
+    assertThat(compiled.evaluate(testEvent()).getValue(), is(String.format("this is %s", TEST_PAYLOAD)));
+    assertThat(expressionManager.compile("#[mel:payload]").getKind(), is(FULL));
+    assertThat(expressionManager.compile("#[payload.foo]").getKind(), is(FULL));
+  }
+
 }
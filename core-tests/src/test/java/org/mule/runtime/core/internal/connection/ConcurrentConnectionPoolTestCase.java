@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.config.PoolingProfile.DEFAULT_MAX_POOL_WAIT;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.apache.commons.pool.PoolableObjectFactory;
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class ConcurrentConnectionPoolTestCase extends AbstractMuleTestCase {
+
+  private final CountingFactory factory = new CountingFactory();
+  private final SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+  private ConcurrentConnectionPool<Object> pool;
+
+  @After
+  public void after() throws Exception {
+    if (pool != null) {
+      pool.close();
+    }
+    schedulerService.stop();
+  }
+
+  @Test
+  public void reusesReturnedConnection() throws Exception {
+    pool = createPool(new PoolingProfile(2, 2, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE), 0);
+
+    Object connection = pool.borrowObject();
+    assertThat(pool.getNumActive(), is(1));
+    pool.returnObject(connection);
+
+    assertThat(pool.getNumActive(), is(0));
+    assertThat(pool.getNumIdle(), is(1));
+    assertThat(pool.borrowObject(), is(sameInstance(connection)));
+    assertThat(factory.created.get(), is(1));
+    assertThat(pool.getBorrowCount(), is(2L));
+  }
+
+  @Test
+  public void exhaustion() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE), 0);
+
+    Object connection = pool.borrowObject();
+    try {
+      pool.borrowObject();
+      fail("Was expecting the pool to be exhausted");
+    } catch (NoSuchElementException e) {
+      // expected
+    }
+
+    pool.invalidateObject(connection);
+    assertThat(factory.destroyed.get(), is(1));
+    assertThat(pool.borrowObject(), is(not(sameInstance(connection))));
+  }
+
+  @Test
+  public void waitingBorrowerGetsReturnedConnection() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, 10000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE), 0);
+    Object connection = pool.borrowObject();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch borrowing = new CountDownLatch(1);
+      Future<Object> borrowed = executor.submit(() -> {
+        borrowing.countDown();
+        return pool.borrowObject();
+      });
+      borrowing.await();
+      pool.returnObject(connection);
+
+      assertThat(borrowed.get(5, SECONDS), is(sameInstance(connection)));
+      assertThat(factory.created.get(), is(1));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void waitTimesOut() throws Exception {
+    pool = createPool(new PoolingProfile(1, 1, 100, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE), 0);
+    pool.borrowObject();
+    try {
+      pool.borrowObject();
+      fail("Was expecting the borrow to time out");
+    } catch (NoSuchElementException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void zeroMaxActiveIsUnlimited() throws Exception {
+    pool = createPool(new PoolingProfile(0, 0, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE), 0);
+
+    for (int i = 0; i < 10; ++i) {
+      pool.borrowObject();
+    }
+    assertThat(pool.getNumActive(), is(10));
+  }
+
+  @Test
+  public void idleConnectionsNotValidatedWhenEvictionDisabled() throws Exception {
+    pool = createPool(new PoolingProfile(2, 2, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE), 0);
+
+    assertThat(pool.isValidatingIdleConnections(), is(false));
+  }
+
+  @Test
+  public void invalidIdleConnectionsAreEvicted() throws Exception {
+    PoolingProfile poolingProfile = mock(PoolingProfile.class);
+    when(poolingProfile.getMaxActive()).thenReturn(2);
+    when(poolingProfile.getMaxIdle()).thenReturn(2);
+    when(poolingProfile.getExhaustedAction()).thenReturn(WHEN_EXHAUSTED_FAIL);
+    when(poolingProfile.getInitialisationPolicy()).thenReturn(INITIALISE_NONE);
+    when(poolingProfile.getEvictionCheckIntervalMillis()).thenReturn(50);
+    pool = createPool(poolingProfile, connection -> false, 0);
+    assertThat(pool.isValidatingIdleConnections(), is(true));
+
+    pool.returnObject(pool.borrowObject());
+
+    new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> {
+      assertThat(pool.getNumIdle(), is(0));
+      assertThat(factory.destroyed.get(), is(1));
+      return true;
+    }));
+  }
+
+  @Test
+  public void exceedingMaxIdleDestroysConnection() throws Exception {
+    pool = createPool(new PoolingProfile(2, 1, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE), 0);
+    Object connection1 = pool.borrowObject();
+    Object connection2 = pool.borrowObject();
+
+    pool.returnObject(connection1);
+    pool.returnObject(connection2);
+
+    assertThat(pool.getNumIdle(), is(1));
+    assertThat(factory.destroyed.get(), is(1));
+  }
+
+  @Test
+  public void closeDestroysIdleAndReturnedConnections() throws Exception {
+    pool = createPool(new PoolingProfile(2, 2, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE), 0);
+    Object connection1 = pool.borrowObject();
+    Object connection2 = pool.borrowObject();
+    pool.returnObject(connection1);
+
+    pool.close();
+    assertThat(factory.destroyed.get(), is(1));
+
+    pool.returnObject(connection2);
+    assertThat(factory.destroyed.get(), is(2));
+  }
+
+  @Test
+  public void prefillsPool() throws Exception {
+    pool = createPool(new PoolingProfile(5, 3, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_ALL), 0);
+
+    new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> {
+      assertThat(pool.getNumIdle(), is(3));
+      return true;
+    }));
+    assertThat(factory.created.get(), is(3));
+  }
+
+  @Test
+  public void concurrentBorrowers() throws Exception {
+    final int threads = 8;
+    pool = createPool(new PoolingProfile(2, 2, 10000, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE), 0);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      AtomicInteger maxActive = new AtomicInteger();
+      Future<?>[] results = new Future<?>[threads];
+      for (int i = 0; i < threads; ++i) {
+        results[i] = executor.submit(() -> {
+          for (int j = 0; j < 500; ++j) {
+            Object connection = pool.borrowObject();
+            maxActive.accumulateAndGet(pool.getNumActive(), Math::max);
+            pool.returnObject(connection);
+          }
+          return null;
+        });
+      }
+      for (Future<?> result : results) {
+        result.get(30, SECONDS);
+      }
+
+      assertThat(maxActive.get() <= 2, is(true));
+      assertThat(factory.created.get() - factory.destroyed.get() <= 2, is(true));
+      assertThat(pool.getNumActive(), is(0));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private ConcurrentConnectionPool<Object> createPool(PoolingProfile poolingProfile, long leakDetectionThreshold) {
+    return createPool(poolingProfile, connection -> true, leakDetectionThreshold);
+  }
+
+  private ConcurrentConnectionPool<Object> createPool(PoolingProfile poolingProfile, Predicate<Object> validator,
+                                                      long leakDetectionThreshold) {
+    return new ConcurrentConnectionPool<>(poolingProfile, factory, validator, leakDetectionThreshold,
+                                          schedulerService.ioScheduler());
+  }
+
+  private static class CountingFactory implements PoolableObjectFactory<Object> {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger destroyed = new AtomicInteger();
+
+    @Override
+    public Object makeObject() throws Exception {
+      created.incrementAndGet();
+      return new Object();
+    }
+
+    @Override
+    public void destroyObject(Object obj) throws Exception {
+      destroyed.incrementAndGet();
+    }
+
+    @Override
+    public boolean validateObject(Object obj) {
+      return true;
+    }
+
+    @Override
+    public void activateObject(Object obj) throws Exception {}
+
+    @Override
+    public void passivateObject(Object obj) throws Exception {}
+  }
+}
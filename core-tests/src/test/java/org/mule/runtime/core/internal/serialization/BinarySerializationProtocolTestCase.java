@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.metadata.DataType.NUMBER;
+import static org.mule.runtime.api.metadata.MediaType.APPLICATION_JSON;
+import org.mule.runtime.api.metadata.CollectionDataType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.message.InternalMessage;
+import org.mule.runtime.core.api.serialization.SerializationException;
+import org.mule.runtime.core.util.SerializationUtils;
+import org.mule.runtime.core.util.store.PersistentObjectStorePartition.StoreValue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class BinarySerializationProtocolTestCase extends AbstractSerializerProtocolContractTestCase {
+
+  @Override
+  protected void doSetUp() throws Exception {
+    BinarySerializationProtocol protocol = new BinarySerializationProtocol();
+    protocol.setMuleContext(muleContext);
+    serializationProtocol = protocol;
+  }
+
+  @Test(expected = SerializationException.class)
+  public void notSerializable() throws Exception {
+    serializationProtocol.serialize(new Object());
+  }
+
+  @Test
+  public void coreValues() throws Exception {
+    Map<String, Object> map = new HashMap<>();
+    map.put("int", -42);
+    map.put("long", Long.MAX_VALUE);
+    map.put("double", 3.5d);
+    map.put("bytes", new byte[] {1, 2, 3});
+    map.put("list", new ArrayList<>(asList("a", "b", "a")));
+    map.put("unicode", "á中");
+
+    Map<String, Object> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(map));
+
+    assertThat(deserialized.get("int"), equalTo(-42));
+    assertThat(deserialized.get("long"), equalTo(Long.MAX_VALUE));
+    assertThat(deserialized.get("double"), equalTo(3.5d));
+    assertThat(deserialized.get("bytes"), equalTo(new byte[] {1, 2, 3}));
+    assertThat(deserialized.get("list"), equalTo(asList("a", "b", "a")));
+    assertThat(deserialized.get("unicode"), equalTo("á中"));
+  }
+
+  @Test
+  public void dataTypes() throws Exception {
+    DataType simple = DataType.builder().type(String.class).mediaType(APPLICATION_JSON).build();
+    DataType collection = DataType.builder().collectionType(List.class).itemType(Integer.class).build();
+
+    List<DataType> dataTypes = new ArrayList<>(asList(simple, collection, simple));
+
+    List<DataType> deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(dataTypes));
+
+    assertThat(deserialized.get(0), equalTo(simple));
+    assertThat(deserialized.get(1), equalTo(collection));
+    assertThat(((CollectionDataType) deserialized.get(1)).getItemDataType().getType(), equalTo(Integer.class));
+    assertThat(deserialized.get(2), equalTo(simple));
+  }
+
+  @Test
+  public void message() throws Exception {
+    InternalMessage message = InternalMessage.builder().payload("{\"hello\": \"world\"}").mediaType(APPLICATION_JSON)
+        .addInboundProperty("inbound", "value").addOutboundProperty("outbound", 10, NUMBER).build();
+
+    InternalMessage deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(message));
+
+    assertThat(deserialized.getPayload().getValue(), equalTo(message.getPayload().getValue()));
+    assertThat(deserialized.getPayload().getDataType(), equalTo(message.getPayload().getDataType()));
+    assertThat(deserialized.getInboundProperty("inbound"), equalTo("value"));
+    assertThat(deserialized.getOutboundProperty("outbound"), equalTo(10));
+    assertThat(deserialized.getOutboundPropertyDataType("outbound"), equalTo(NUMBER));
+  }
+
+  @Test
+  public void event() throws Exception {
+    Event event = eventBuilder().message(InternalMessage.of(TEST_PAYLOAD)).addVariable("count", 3)
+        .addVariable("user", new TestUserType("john")).correlationId("correlation").build();
+    event.getSession().setProperty("sessionProperty", "sessionValue");
+
+    Event deserialized = serializationProtocol.deserialize(serializationProtocol.serialize(event));
+
+    assertThat(deserialized.getContext().getId(), equalTo(event.getContext().getId()));
+    assertThat(deserialized.getMessage().getPayload().getValue(), equalTo(TEST_PAYLOAD));
+    assertThat(deserialized.getVariable("count").getValue(), equalTo(3));
+    assertThat(deserialized.getVariable("user").getValue(), equalTo(new TestUserType("john")));
+    assertThat(deserialized.getLegacyCorrelationId(), equalTo("correlation"));
+    assertThat(deserialized.getSession().getProperty("sessionProperty"), equalTo("sessionValue"));
+    assertThat(deserialized.isNotificationsEnabled(), is(true));
+  }
+
+  @Test
+  public void storeValue() throws Exception {
+    Event event = eventBuilder().message(InternalMessage.of(TEST_PAYLOAD)).build();
+
+    StoreValue<Event> deserialized =
+        serializationProtocol.deserialize(serializationProtocol.serialize(new StoreValue<>("key", event)));
+
+    assertThat(deserialized.getKey(), equalTo("key"));
+    assertThat(deserialized.getValue(), notNullValue());
+    assertThat(deserialized.getValue().getMessage().getPayload().getValue(), equalTo(TEST_PAYLOAD));
+  }
+
+  @Test
+  public void smallerThanJavaSerialization() throws Exception {
+    InternalMessage.Builder builder = InternalMessage.builder().payload(TEST_PAYLOAD);
+    for (int i = 0; i < 10; ++i) {
+      builder.addOutboundProperty("property" + i, "value" + i);
+    }
+    Event event = eventBuilder().message(builder.build()).addVariable("variable", "value").build();
+
+    assertThat(serializationProtocol.serialize(event).length, lessThan(SerializationUtils.serialize(event).length));
+  }
+
+  @Test(expected = SerializationException.class)
+  public void newerFormatVersion() throws Exception {
+    byte[] bytes = serializationProtocol.serialize(TEST_PAYLOAD);
+    bytes[1] = BinaryFormat.FORMAT_VERSION + 1;
+    serializationProtocol.deserialize(bytes);
+  }
+
+  @Test(expected = SerializationException.class)
+  public void notWrittenByThisProtocol() throws Exception {
+    serializationProtocol.deserialize(SerializationUtils.serialize(TEST_PAYLOAD));
+  }
+
+  private static class TestUserType implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String name;
+
+    private TestUserType(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof TestUserType && name.equals(((TestUserType) obj).name);
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.lifecycle;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class ParallelLifecycleApplierTestCase extends AbstractMuleTestCase {
+
+  private static final String CONFIG = "config";
+  private static final String FLOW_1 = "flow1";
+  private static final String FLOW_2 = "flow2";
+
+  @Rule
+  public ExpectedException expected = ExpectedException.none();
+
+  private final SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+  private final ParallelLifecycleApplier applier = new ParallelLifecycleApplier(4, schedulerService, "test.lifecycle", 5000);
+  private final Map<Object, Collection<Object>> dependencies = new IdentityHashMap<>();
+  private final List<Object> applied = new ArrayList<>();
+
+  @After
+  public void after() throws Exception {
+    schedulerService.stop();
+  }
+
+  @Test
+  public void independentObjectsAreProcessedConcurrently() throws Exception {
+    CountDownLatch allStarted = new CountDownLatch(2);
+    applier.apply(asList(FLOW_1, FLOW_2), dependencies, false, target -> {
+      allStarted.countDown();
+      try {
+        // Only completes if both objects are being processed at the same time
+        assertThat(allStarted.await(5, SECONDS), is(true));
+      } catch (InterruptedException e) {
+        throw new LifecycleException(e, target);
+      }
+      record(target);
+    });
+
+    assertThat(applied, containsInAnyOrder(FLOW_1, FLOW_2));
+  }
+
+  @Test
+  public void concurrentObjectsAreBoundedByParallelism() throws Exception {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    new ParallelLifecycleApplier(2, schedulerService, "test.lifecycle", 5000)
+        .apply(asList(CONFIG, FLOW_1, FLOW_2, "flow3"), dependencies, false, target -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          record(target);
+          running.decrementAndGet();
+        });
+
+    assertThat(applied, containsInAnyOrder(CONFIG, FLOW_1, FLOW_2, "flow3"));
+    assertThat(maxRunning.get() <= 2, is(true));
+  }
+
+  @Test
+  public void dependenciesAreProcessedFirst() throws Exception {
+    dependencies.put(FLOW_1, singletonList(CONFIG));
+    dependencies.put(FLOW_2, singletonList(CONFIG));
+
+    applier.apply(asList(FLOW_1, FLOW_2, CONFIG), dependencies, false, this::record);
+
+    assertThat(applied.indexOf(CONFIG), is(0));
+    assertThat(applied, containsInAnyOrder(CONFIG, FLOW_1, FLOW_2));
+  }
+
+  @Test
+  public void dependenciesAreProcessedLastWhenReversed() throws Exception {
+    dependencies.put(FLOW_1, singletonList(CONFIG));
+    dependencies.put(FLOW_2, singletonList(CONFIG));
+
+    applier.apply(asList(CONFIG, FLOW_1, FLOW_2), dependencies, true, this::record);
+
+    assertThat(applied.indexOf(CONFIG), is(2));
+  }
+
+  @Test
+  public void chainIsProcessedInOrder() throws Exception {
+    dependencies.put(FLOW_2, singletonList(FLOW_1));
+    dependencies.put(FLOW_1, singletonList(CONFIG));
+
+    applier.apply(asList(FLOW_2, FLOW_1, CONFIG), dependencies, false, this::record);
+
+    assertThat(applied, contains(CONFIG, FLOW_1, FLOW_2));
+  }
+
+  @Test
+  public void cyclesAreProcessedInGivenOrder() throws Exception {
+    dependencies.put(FLOW_1, singletonList(FLOW_2));
+    dependencies.put(FLOW_2, singletonList(FLOW_1));
+
+    applier.apply(asList(FLOW_2, FLOW_1, CONFIG), dependencies, false, this::record);
+
+    assertThat(applied, contains(CONFIG, FLOW_2, FLOW_1));
+  }
+
+  @Test
+  public void failureStopsFollowingLevels() throws Exception {
+    dependencies.put(FLOW_1, singletonList(CONFIG));
+    LifecycleException failure = new LifecycleException(new RuntimeException("failed"), CONFIG);
+    expected.expect(is(failure));
+
+    try {
+      applier.apply(asList(CONFIG, FLOW_2, FLOW_1), dependencies, false, target -> {
+        if (target == CONFIG) {
+          throw failure;
+        }
+        record(target);
+      });
+    } finally {
+      assertThat(applied, contains(FLOW_2));
+    }
+  }
+
+  @Test
+  public void failureIsPropagated() throws Exception {
+    LifecycleException failure = new LifecycleException(new RuntimeException("failed"), CONFIG);
+    expected.expect(is(failure));
+
+    applier.apply(asList(CONFIG, FLOW_1), dependencies, false, target -> {
+      if (target == CONFIG) {
+        throw failure;
+      }
+    });
+  }
+
+  @Test
+  public void schedulerIsStopped() throws Exception {
+    applier.apply(asList(FLOW_1, FLOW_2), dependencies, false, this::record);
+
+    assertThat(applied, containsInAnyOrder(FLOW_1, FLOW_2));
+    assertThat(schedulerService.getSchedulers(), is(empty()));
+  }
+
+  @Test
+  public void schedulerIsStoppedAfterFailure() throws Exception {
+    LifecycleException failure = new LifecycleException(new RuntimeException("failed"), CONFIG);
+    expected.expect(is(failure));
+
+    try {
+      applier.apply(asList(CONFIG, FLOW_1), dependencies, false, target -> {
+        if (target == CONFIG) {
+          throw failure;
+        }
+      });
+    } finally {
+      assertThat(schedulerService.getSchedulers(), is(empty()));
+    }
+  }
+
+  @Test
+  public void usesTheCallerContextClassLoader() throws Exception {
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    final List<ClassLoader> classLoaders = new ArrayList<>();
+    applier.apply(asList(FLOW_1, FLOW_2), dependencies, false, target -> {
+      synchronized (classLoaders) {
+        classLoaders.add(Thread.currentThread().getContextClassLoader());
+      }
+    });
+
+    assertThat(classLoaders, contains(contextClassLoader, contextClassLoader));
+  }
+
+  private void record(Object target) {
+    synchronized (applied) {
+      applied.add(target);
+    }
+  }
+}
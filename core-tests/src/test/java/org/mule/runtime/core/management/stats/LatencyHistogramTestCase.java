@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mule.runtime.core.management.stats.LatencyHistogram.MAX_TRACKABLE_VALUE;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class LatencyHistogramTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void empty() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getMin(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(0L));
+    assertThat(histogram.getMean(), equalTo(0L));
+    assertThat(histogram.getValueAtPercentile(99), equalTo(0L));
+  }
+
+  @Test
+  public void smallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 10; ++i) {
+      histogram.record(i);
+    }
+
+    assertThat(histogram.getCount(), equalTo(10L));
+    assertThat(histogram.getTotal(), equalTo(55L));
+    assertThat(histogram.getMin(), equalTo(1L));
+    assertThat(histogram.getMax(), equalTo(10L));
+    assertThat(histogram.getValueAtPercentile(50), equalTo(5L));
+    assertThat(histogram.getValueAtPercentile(100), equalTo(10L));
+  }
+
+  @Test
+  public void percentilesWithinPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 100000; ++i) {
+      histogram.record(i * 1000);
+    }
+
+    assertThat((double) histogram.getValueAtPercentile(50), closeTo(50000000, 50000000 * 0.03));
+    assertThat((double) histogram.getValueAtPercentile(99), closeTo(99000000, 99000000 * 0.03));
+    assertThat((double) histogram.getValueAtPercentile(99.9), closeTo(99900000, 99900000 * 0.03));
+    assertThat(histogram.getValueAtPercentile(100), equalTo(100000000L));
+  }
+
+  @Test
+  public void outOfRangeValues() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5);
+    histogram.record(Long.MAX_VALUE);
+
+    assertThat(histogram.getMin(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(MAX_TRACKABLE_VALUE));
+    assertThat(histogram.getValueAtPercentile(100), equalTo(MAX_TRACKABLE_VALUE));
+  }
+
+  @Test
+  public void bucketsCoverValues() {
+    for (long value = 1; value < MAX_TRACKABLE_VALUE; value = value * 3 + 1) {
+      assertThat(LatencyHistogram.highestEquivalentValue(LatencyHistogram.indexFor(value)), greaterThanOrEqualTo(value));
+    }
+  }
+
+  @Test
+  public void reset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1000);
+    histogram.reset();
+
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(0L));
+    assertThat(histogram.getValueAtPercentile(50), equalTo(0L));
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.apache.commons.lang.SerializationUtils;
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class ProcessingTimeTestCase extends AbstractMuleTestCase {
+
+  private FlowConstruct flow;
+
+  @Before
+  public void before() {
+    flow = mock(FlowConstruct.class, RETURNS_DEEP_STUBS);
+    FlowConstructStatistics statistics = new FlowConstructStatistics("Flow", "test");
+    statistics.setEnabled(true);
+    when(flow.getStatistics()).thenReturn(statistics);
+  }
+
+  @Test
+  public void recordsLatency() {
+    ProcessingTime processingTime = ProcessingTime.newInstance(flow);
+    processingTime.addFlowExecutionBranchTime(System.currentTimeMillis());
+
+    assertThat(processingTime.getStatistics().getProcessingLatency().getCount(), equalTo(1L));
+  }
+
+  @Test
+  public void doesNotRecordLatencyAfterDeserialization() {
+    ProcessingTime processingTime =
+        (ProcessingTime) SerializationUtils.deserialize(SerializationUtils.serialize(ProcessingTime.newInstance(flow)));
+    processingTime.addFlowExecutionBranchTime(System.currentTimeMillis());
+
+    assertThat(processingTime.getStatistics().getProcessedEvents(), equalTo(1L));
+    assertThat(processingTime.getStatistics().getProcessingLatency().getCount(), equalTo(0L));
+  }
+}
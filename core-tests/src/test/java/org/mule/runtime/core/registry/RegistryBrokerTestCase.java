@@ -19,6 +19,8 @@ import org.mule.tck.junit4.AbstractMuleContextTestCase;
 import org.mule.tck.testmodels.fruit.Apple;
 import org.mule.tck.testmodels.fruit.Kiwi;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -133,4 +135,40 @@ public class RegistryBrokerTestCase extends AbstractMuleContextTestCase {
     assertThat(muleContext.getRegistry().lookupObject(Kiwi.class), is(VALUE2));
   }
 
+  @Test
+  public void singleRegistryLookupReflectsLaterRegistrations() throws Exception {
+    TransientRegistry registry = new TransientRegistry(muleContext);
+    registry.initialise();
+    DefaultRegistryBroker broker = new DefaultRegistryBroker(muleContext);
+    broker.addRegistry(registry);
+
+    registry.registerObject("apple", new Apple());
+    Collection<Apple> apples = broker.lookupObjects(Apple.class);
+    Map<String, Apple> applesByKey = broker.lookupByType(Apple.class);
+
+    registry.registerObject("otherApple", new Apple());
+    assertThat(apples.size(), is(2));
+    assertThat(applesByKey.size(), is(2));
+  }
+
+  @Test
+  public void mergedLookupDoesNotReflectLaterRegistrations() throws Exception {
+    TransientRegistry registry = new TransientRegistry(muleContext);
+    registry.initialise();
+    TransientRegistry otherRegistry = new TransientRegistry(muleContext);
+    otherRegistry.initialise();
+    DefaultRegistryBroker broker = new DefaultRegistryBroker(muleContext);
+    broker.addRegistry(registry);
+    broker.addRegistry(otherRegistry);
+
+    registry.registerObject("apple", new Apple());
+    otherRegistry.registerObject("otherApple", new Apple());
+    Collection<Apple> apples = broker.lookupObjects(Apple.class);
+    Map<String, Apple> applesByKey = broker.lookupByType(Apple.class);
+
+    registry.registerObject("anotherApple", new Apple());
+    assertThat(apples.size(), is(2));
+    assertThat(applesByKey.size(), is(2));
+  }
+
 }
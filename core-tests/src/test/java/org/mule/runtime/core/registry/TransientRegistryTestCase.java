@@ -6,8 +6,11 @@
  */
 package org.mule.runtime.core.registry;
 
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -20,6 +23,7 @@ import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
@@ -74,6 +78,54 @@ public class TransientRegistryTestCase extends AbstractMuleContextTestCase {
     assertThat(registryMap.getLostObjects(), is(empty()));
   }
 
+  @Test
+  public void selectsByTypeFromIndex() throws Exception {
+    final TransientRegistry.RegistryMap registryMap = new TransientRegistry.RegistryMap(mock(Logger.class));
+    registryMap.putAndLogWarningIfDuplicate("string", "value");
+    registryMap.putAndLogWarningIfDuplicate("integer", 1);
+
+    Map<String, CharSequence> sequences = registryMap.selectByType(CharSequence.class);
+    assertThat(sequences.size(), is(1));
+    assertThat(sequences, hasEntry("string", "value"));
+    assertThat(registryMap.selectByType(CharSequence.class), is(sameInstance(sequences)));
+  }
+
+  @Test
+  public void indexIsUpdatedOnRegistration() throws Exception {
+    final TransientRegistry.RegistryMap registryMap = new TransientRegistry.RegistryMap(mock(Logger.class));
+    registryMap.putAndLogWarningIfDuplicate("string", "value");
+    assertThat(registryMap.selectByType(Number.class).size(), is(0));
+
+    registryMap.putAndLogWarningIfDuplicate("integer", 1);
+    assertThat(registryMap.selectByType(Number.class), hasEntry("integer", 1));
+    assertThat(registryMap.selectByType(Object.class).size(), is(2));
+
+    registryMap.putAndLogWarningIfDuplicate("integer", "overridden");
+    assertThat(registryMap.selectByType(Number.class).size(), is(0));
+    assertThat(registryMap.selectByType(CharSequence.class).size(), is(2));
+
+    registryMap.remove("string");
+    assertThat(registryMap.selectByType(CharSequence.class).keySet(), contains("integer"));
+    assertThat(registryMap.selectByType(Object.class).size(), is(1));
+  }
+
+  @Test
+  public void indexViewIsUpdatedInPlace() throws Exception {
+    final TransientRegistry.RegistryMap registryMap = new TransientRegistry.RegistryMap(mock(Logger.class));
+    Map<String, Number> numbers = registryMap.selectByType(Number.class);
+
+    registryMap.putAndLogWarningIfDuplicate("integer", 1);
+
+    assertThat(numbers, hasEntry("integer", 1));
+    assertThat(registryMap.selectByType(Number.class), is(sameInstance(numbers)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void indexViewIsReadOnly() throws Exception {
+    final TransientRegistry.RegistryMap registryMap = new TransientRegistry.RegistryMap(mock(Logger.class));
+    registryMap.selectByType(Number.class).put("integer", 1);
+  }
+
 
   @Test
   public void testJSR250ObjectLifecycle() throws Exception {
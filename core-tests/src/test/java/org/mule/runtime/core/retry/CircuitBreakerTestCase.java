@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.retry.CircuitBreaker.State.CLOSED;
+import static org.mule.runtime.core.retry.CircuitBreaker.State.HALF_OPEN;
+import static org.mule.runtime.core.retry.CircuitBreaker.State.OPEN;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class CircuitBreakerTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void opensAfterThreshold() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(3, 60000);
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.getState(), is(CLOSED));
+    assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.getState(), is(OPEN));
+    assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+  }
+
+  @Test
+  public void successResetsFailures() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000);
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.getState(), is(CLOSED));
+  }
+
+  @Test
+  public void halfOpenLetsSingleTrialThrough() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(1, 0);
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.getState(), is(OPEN));
+
+    assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+    assertThat(circuitBreaker.getState(), is(HALF_OPEN));
+    assertThat(circuitBreaker.tryAcquirePermission(), is(false));
+
+    circuitBreaker.onSuccess();
+    assertThat(circuitBreaker.getState(), is(CLOSED));
+    assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+  }
+
+  @Test
+  public void failedTrialReopens() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(5, 0);
+    for (int i = 0; i < 5; ++i) {
+      circuitBreaker.onFailure();
+    }
+    assertThat(circuitBreaker.tryAcquirePermission(), is(true));
+
+    circuitBreaker.onFailure();
+    assertThat(circuitBreaker.getState(), is(OPEN));
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry.policies;
+
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.core.retry.CircuitBreaker.State.CLOSED;
+import static org.mule.runtime.core.retry.CircuitBreaker.State.HALF_OPEN;
+import static org.mule.runtime.core.retry.policies.SimpleRetryPolicyTemplate.RETRY_COUNT_FOREVER;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
+import org.mule.runtime.core.retry.CircuitBreaker;
+import org.mule.runtime.core.retry.CircuitBreakerOpenException;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+@SmallTest
+public class BackoffRetryPolicyTestCase extends AbstractMuleTestCase {
+
+  private final ScheduledExecutorService timer = newSingleThreadScheduledExecutor();
+
+  @After
+  public void after() {
+    timer.shutdownNow();
+  }
+
+  @Test
+  public void fixedBackoff() {
+    BackoffStrategy strategy = new FixedBackoffStrategy(100);
+    assertThat(strategy.nextDelay(1, 0), is(100L));
+    assertThat(strategy.nextDelay(10, 100), is(100L));
+  }
+
+  @Test
+  public void exponentialBackoffIsCapped() {
+    BackoffStrategy strategy = new ExponentialBackoffStrategy(100, 1000);
+    assertThat(strategy.nextDelay(1, 0), is(100L));
+    assertThat(strategy.nextDelay(2, 100), is(200L));
+    assertThat(strategy.nextDelay(4, 400), is(800L));
+    assertThat(strategy.nextDelay(5, 800), is(1000L));
+    assertThat(strategy.nextDelay(100, 1000), is(1000L));
+  }
+
+  @Test
+  public void decorrelatedJitterWithinBounds() {
+    BackoffStrategy strategy = new DecorrelatedJitterBackoffStrategy(10, 500);
+    long delay = 0;
+    for (int attempt = 1; attempt <= 100; ++attempt) {
+      long previous = delay;
+      delay = strategy.nextDelay(attempt, previous);
+      assertThat(delay, greaterThanOrEqualTo(10L));
+      assertThat(delay, lessThanOrEqualTo(Math.min(500L, Math.max(10L, previous) * 3)));
+    }
+  }
+
+  @Test
+  public void retriesUntilSuccess() {
+    AtomicInteger attempts = new AtomicInteger();
+    BackoffRetryPolicy policy = new BackoffRetryPolicy(new FixedBackoffStrategy(1), 5, -1, null, timer);
+
+    String result = Mono.from(policy.applyPolicy(failing(attempts, 3), e -> true, e -> fail("Policy exhausted"))).block();
+
+    assertThat(result, is("ok"));
+    assertThat(attempts.get(), is(4));
+  }
+
+  @Test
+  public void exhaustsAfterMaxRetries() {
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicReference<Throwable> exhausted = new AtomicReference<>();
+    BackoffRetryPolicy policy = new BackoffRetryPolicy(new FixedBackoffStrategy(1), 2, -1, null, timer);
+
+    try {
+      Mono.from(policy.applyPolicy(failing(attempts, RETRY_COUNT_FOREVER), e -> true, exhausted::set)).block();
+      fail("Was expecting the policy to be exhausted");
+    } catch (Exception e) {
+      // expected
+    }
+
+    assertThat(attempts.get(), is(3));
+    assertThat(exhausted.get(), instanceOf(IOException.class));
+  }
+
+  @Test
+  public void exhaustsAfterMaxElapsedTime() {
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicReference<Throwable> exhausted = new AtomicReference<>();
+    BackoffRetryPolicy policy = new BackoffRetryPolicy(new FixedBackoffStrategy(100), RETRY_COUNT_FOREVER, 150, null, timer);
+
+    try {
+      Mono.from(policy.applyPolicy(failing(attempts, RETRY_COUNT_FOREVER), e -> true, exhausted::set)).block();
+      fail("Was expecting the policy to be exhausted");
+    } catch (Exception e) {
+      // expected
+    }
+
+    assertThat(attempts.get(), is(2));
+    assertThat(exhausted.get(), instanceOf(IOException.class));
+  }
+
+  @Test
+  public void doesNotRetryWhenPredicateRejects() {
+    AtomicInteger attempts = new AtomicInteger();
+    BackoffRetryPolicy policy = new BackoffRetryPolicy(new FixedBackoffStrategy(1), 5, -1, null, timer);
+
+    try {
+      Mono.from(policy.applyPolicy(failing(attempts, RETRY_COUNT_FOREVER), e -> false, e -> {
+      })).block();
+      fail("Was expecting the policy to be exhausted");
+    } catch (Exception e) {
+      // expected
+    }
+
+    assertThat(attempts.get(), is(1));
+  }
+
+  @Test
+  public void openCircuitStopsRetries() {
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicReference<Throwable> exhausted = new AtomicReference<>();
+    CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000);
+    BackoffRetryPolicy policy = new BackoffRetryPolicy(new FixedBackoffStrategy(1), 10, -1, circuitBreaker, timer);
+
+    try {
+      Mono.from(policy.applyPolicy(failing(attempts, RETRY_COUNT_FOREVER), e -> true, exhausted::set)).block();
+      fail("Was expecting the policy to be exhausted");
+    } catch (Exception e) {
+      // expected
+    }
+
+    assertThat(attempts.get(), is(2));
+    assertThat(exhausted.get(), instanceOf(CircuitBreakerOpenException.class));
+  }
+
+  @Test
+  public void blockingSuccessClosesCircuit() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(2, 0);
+    BackoffRetryPolicy policy = new BackoffRetryPolicy(new FixedBackoffStrategy(1), 5, -1, circuitBreaker, null);
+
+    assertThat(policy.applyPolicy(new IOException("failed")).isOk(), is(true));
+    assertThat(policy.applyPolicy(new IOException("failed")).isOk(), is(true));
+    assertThat(circuitBreaker.getState(), is(HALF_OPEN));
+
+    policy.onSuccess();
+    assertThat(circuitBreaker.getState(), is(CLOSED));
+  }
+
+  private Mono<String> failing(AtomicInteger attempts, int failures) {
+    return Mono.defer(() -> {
+      if (attempts.incrementAndGet() <= failures || failures == RETRY_COUNT_FOREVER) {
+        return Mono.error(new IOException("failed"));
+      }
+      return Mono.just("ok");
+    });
+  }
+}
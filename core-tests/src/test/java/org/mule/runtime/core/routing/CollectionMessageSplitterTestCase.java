@@ -26,12 +26,14 @@ import org.mule.runtime.core.routing.outbound.IteratorMessageSequence;
 import org.mule.runtime.core.session.DefaultMuleSession;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
+import java.io.Closeable;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -129,6 +131,36 @@ public class CollectionMessageSplitterTestCase extends AbstractMuleContextTestCa
     assertRouted(new IteratorMessageSequence(TEST_LIST_SINGLE.iterator()), 1, false);
   }
 
+  @Test
+  public void testResultsAccumulator() throws Exception {
+    CollectionSplitter splitter = new CollectionSplitter();
+    splitter.setMuleContext(muleContext);
+    splitter.setListener(event -> event);
+    splitter.setResultsAccumulator(new MessageCollectionAccumulator());
+
+    Event result = splitter.process(eventBuilder().message(InternalMessage.of(TEST_LIST_MULTIPLE)).build());
+
+    List<InternalMessage> messages = (List<InternalMessage>) result.getMessage().getPayload().getValue();
+    assertEquals(3, messages.size());
+    for (int i = 0; i < 3; ++i) {
+      assertEquals(TEST_LIST_MULTIPLE.get(i), messages.get(i).getPayload().getValue());
+    }
+  }
+
+  @Test
+  public void testSequenceClosedAfterSplit() throws Exception {
+    CloseableIterator iterator = new CloseableIterator(TEST_LIST_MULTIPLE.iterator());
+    CollectionSplitter splitter = new CollectionSplitter();
+    Grabber grabber = new Grabber();
+    splitter.setMuleContext(muleContext);
+    splitter.setListener(grabber);
+
+    splitter.process(eventBuilder().message(InternalMessage.of(new IteratorMessageSequence(iterator))).build());
+
+    assertEquals(3, grabber.getEvents().size());
+    assertThat(iterator.closed, is(true));
+  }
+
   private void assertRouted(Object payload, int count, boolean counted) throws Exception, MuleException {
     MuleSession session = new DefaultMuleSession();
 
@@ -201,6 +233,31 @@ public class CollectionMessageSplitterTestCase extends AbstractMuleContextTestCa
     }
   }
 
+  private static class CloseableIterator implements Iterator<String>, Closeable {
+
+    private final Iterator<String> delegate;
+    private boolean closed;
+
+    CloseableIterator(Iterator<String> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return delegate.hasNext();
+    }
+
+    @Override
+    public String next() {
+      return delegate.next();
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+
   private static class Grabber implements Processor {
 
     private List<Event> events = new ArrayList<>();
@@ -53,4 +53,35 @@ public class IdempotentMessageFilterTestCase extends AbstractMuleContextTestCase
     processedEvent = ir.process(event);
     assertNull(processedEvent);
   }
+
+  @Test
+  public void testIdempotentReceiverWithBloomFilterAndShards() throws Exception {
+    Flow flow = getTestFlow(muleContext);
+
+    MuleSession session = mock(MuleSession.class);
+
+    IdempotentMessageFilter ir = new IdempotentMessageFilter();
+    ir.setIdExpression("#[mel:message.inboundProperties.id]");
+    ir.setValueExpression("#[mel:message:id]");
+    ir.setFlowConstruct(flow);
+    ir.setThrowOnUnaccepted(false);
+    ir.setStorePrefix("foo");
+    ir.setStore(new InMemoryObjectStore<String>());
+    ir.setExpectedEntries(100);
+    ir.setShards(4);
+
+    final EventContext context = DefaultEventContext.create(flow, TEST_CONNECTOR);
+
+    for (int i = 0; i < 10; ++i) {
+      InternalMessage message = InternalMessage.builder().payload("OK").addOutboundProperty("id", "" + i).build();
+      Event event = Event.builder(context).message(message).flow(getTestFlow(muleContext)).session(session).build();
+      assertNotNull(ir.process(event));
+    }
+
+    for (int i = 0; i < 10; ++i) {
+      InternalMessage message = InternalMessage.builder().payload("OK").addOutboundProperty("id", "" + i).build();
+      Event event = Event.builder(context).message(message).flow(getTestFlow(muleContext)).session(session).build();
+      assertNull(ir.process(event));
+    }
+  }
 }
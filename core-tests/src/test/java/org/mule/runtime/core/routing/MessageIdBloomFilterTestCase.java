@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+@SmallTest
+public class MessageIdBloomFilterTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void noFalseNegatives() {
+    MessageIdBloomFilter filter = new MessageIdBloomFilter(1000, 0.01, -1);
+    for (int i = 0; i < 1000; ++i) {
+      filter.put("id-" + i);
+    }
+    for (int i = 0; i < 1000; ++i) {
+      assertThat(filter.mightContain("id-" + i), is(true));
+    }
+  }
+
+  @Test
+  public void falsePositivesAreBounded() {
+    MessageIdBloomFilter filter = new MessageIdBloomFilter(1000, 0.01, -1);
+    for (int i = 0; i < 1000; ++i) {
+      filter.put("id-" + i);
+    }
+
+    int falsePositives = 0;
+    for (int i = 0; i < 10000; ++i) {
+      if (filter.mightContain("other-" + i)) {
+        ++falsePositives;
+      }
+    }
+    assertThat(falsePositives, lessThan(300));
+  }
+
+  @Test
+  public void forgetsAfterTwoWindows() {
+    AtomicLong nanoClock = new AtomicLong();
+    MessageIdBloomFilter filter = new MessageIdBloomFilter(100, 0.01, 50, nanoClock::get);
+    filter.put("id");
+    assertThat(filter.mightContain("id"), is(true));
+
+    // the first rotation moves the id to the previous generation, the second one discards it
+    nanoClock.addAndGet(MILLISECONDS.toNanos(50));
+    assertThat(filter.mightContain("id"), is(true));
+    nanoClock.addAndGet(MILLISECONDS.toNanos(49));
+    assertThat(filter.mightContain("id"), is(true));
+    nanoClock.addAndGet(MILLISECONDS.toNanos(1));
+    assertThat(filter.mightContain("id"), is(false));
+  }
+}
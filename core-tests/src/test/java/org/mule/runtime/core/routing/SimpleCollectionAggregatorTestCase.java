@@ -14,6 +14,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
+import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.DefaultEventContext;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.EventContext;
@@ -160,4 +161,50 @@ public class SimpleCollectionAggregatorTestCase extends AbstractMuleContextTestC
 
   }
 
+  @Test
+  public void testAggregateWithResultsAccumulator() throws Exception {
+    Flow flow = getTestFlowWithComponent("test", Apple.class);
+
+    SimpleCollectionAggregator router = new SimpleCollectionAggregator();
+    SensingNullMessageProcessor sensingMessageProcessor = getSensingNullMessageProcessor();
+    router.setListener(sensingMessageProcessor);
+    router.setResultsAccumulator(new MessageCollectionAccumulator());
+    router.setMuleContext(muleContext);
+    router.setFlowConstruct(flow);
+    router.initialise();
+
+    EventContext executionContext = DefaultEventContext.create(flow, TEST_CONNECTOR, "foo");
+
+    Event event1 = Event.builder(executionContext).message(InternalMessage.of("test event A"))
+        .groupCorrelation(new GroupCorrelation(3, null)).flow(flow).build();
+    Event event2 = Event.builder(executionContext).message(InternalMessage.of("test event B")).flow(flow).build();
+    Event event3 = Event.builder(executionContext).message(InternalMessage.of("test event C")).flow(flow).build();
+
+    assertNull(router.process(event1));
+    assertNull(router.process(event2));
+    Event resultEvent = router.process(event3);
+
+    assertNotNull(sensingMessageProcessor.event);
+    assertThat(resultEvent, equalTo(sensingMessageProcessor.event));
+
+    List<InternalMessage> list = (List<InternalMessage>) resultEvent.getMessage().getPayload().getValue();
+    assertEquals(3, list.size());
+    String[] results = new String[3];
+    list.stream().map(msg -> msg.getPayload().getValue()).collect(toList()).toArray(results);
+    Arrays.sort(results);
+    assertEquals("test event A", results[0]);
+    assertEquals("test event B", results[1]);
+    assertEquals("test event C", results[2]);
+  }
+
+  @Test(expected = InitialisationException.class)
+  public void testResultsAccumulatorWithPersistentStores() throws Exception {
+    SimpleCollectionAggregator router = new SimpleCollectionAggregator();
+    router.setResultsAccumulator(new MessageCollectionAccumulator());
+    router.setPersistentStores(true);
+    router.setMuleContext(muleContext);
+    router.setFlowConstruct(getTestFlowWithComponent("test", Apple.class));
+    router.initialise();
+  }
+
 }
@@ -12,6 +12,7 @@ import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.mule.runtime.core.transformer.graph.GraphTransformerResolver.CACHE_SIZE;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
@@ -82,7 +83,28 @@ public class GraphTransformerResolverTestCase extends AbstractMuleTestCase {
   }
 
   @Test
-  public void clearsCacheWhenAddsConverter() throws ResolverException {
+  public void clearsCacheWhenAddsConverterInResolvedPath() throws ResolverException {
+    Converter xmlToJson = new MockConverterBuilder().named("xmlToJson").from(XML_DATA_TYPE).to(JSON_DATA_TYPE).build();
+    Converter inputStreamToXml =
+        new MockConverterBuilder().named("inputStreamToXml").from(INPUT_STREAM_DATA_TYPE).to(XML_DATA_TYPE).build();
+
+    graphResolver.transformerChange(inputStreamToXml, TransformerResolver.RegistryAction.ADDED);
+    graphResolver.transformerChange(xmlToJson, TransformerResolver.RegistryAction.ADDED);
+
+    Transformer transformer1 = graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE);
+    assertNotNull(transformer1);
+
+    Converter inputStreamToJson =
+        new MockConverterBuilder().named("inputStreamToJson").from(INPUT_STREAM_DATA_TYPE).to(JSON_DATA_TYPE).build();
+    graphResolver.transformerChange(inputStreamToJson, TransformerResolver.RegistryAction.ADDED);
+
+    Transformer transformer2 = graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE);
+    assertNotSame(transformer1, transformer2);
+    assertSame(inputStreamToJson, transformer2);
+  }
+
+  @Test
+  public void keepsCacheWhenAddsUnrelatedConverter() throws ResolverException {
     Converter xmlToJson = new MockConverterBuilder().named("xmlToJson").from(XML_DATA_TYPE).to(JSON_DATA_TYPE).build();
     Converter inputStreamToXml =
         new MockConverterBuilder().named("inputStreamToXml").from(INPUT_STREAM_DATA_TYPE).to(XML_DATA_TYPE).build();
@@ -97,7 +119,30 @@ public class GraphTransformerResolverTestCase extends AbstractMuleTestCase {
     graphResolver.transformerChange(xmlToString, TransformerResolver.RegistryAction.ADDED);
 
     Transformer transformer2 = graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE);
-    assertNotSame(transformer1, transformer2);
+    assertSame(transformer1, transformer2);
+  }
+
+  @Test
+  public void clearsCachedMissWhenAddsConverter() throws ResolverException {
+    Converter inputStreamToXml =
+        new MockConverterBuilder().named("inputStreamToXml").from(INPUT_STREAM_DATA_TYPE).to(XML_DATA_TYPE).build();
+    graphResolver.transformerChange(inputStreamToXml, TransformerResolver.RegistryAction.ADDED);
+
+    assertNull(graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE));
+
+    Converter xmlToJson = new MockConverterBuilder().named("xmlToJson").from(XML_DATA_TYPE).to(JSON_DATA_TYPE).build();
+    graphResolver.transformerChange(xmlToJson, TransformerResolver.RegistryAction.ADDED);
+
+    assertNotNull(graphResolver.resolve(INPUT_STREAM_DATA_TYPE, JSON_DATA_TYPE));
+  }
+
+  @Test
+  public void boundsCachedResolutions() throws ResolverException {
+    for (int i = 0; i < CACHE_SIZE * 2; ++i) {
+      assertNull(graphResolver.resolve(mock(DataType.class), JSON_DATA_TYPE));
+    }
+
+    assertTrue(graphResolver.getCachedResolutionsCount() <= CACHE_SIZE);
   }
 
   @Test
@@ -198,4 +198,13 @@ public class MuleProperties {
   public static final String MULE_FLOW_TRACE = SYSTEM_PROPERTY_PREFIX + "flowTrace";
   public static final String MULE_LOG_VERBOSE_CLASSLOADING = SYSTEM_PROPERTY_PREFIX + "classloading.verbose";
   public static final String MULE_MEL_AS_DEFAULT = SYSTEM_PROPERTY_PREFIX + "test.mel.default";
+  public static final String MULE_NOTIFICATIONS_BATCHED_DISPATCH = SYSTEM_PROPERTY_PREFIX + "notifications.batchedDispatch";
+  public static final String MULE_NOTIFICATIONS_BUFFER_SIZE = SYSTEM_PROPERTY_PREFIX + "notifications.bufferSize";
+  public static final String MULE_NOTIFICATIONS_BATCH_SIZE = SYSTEM_PROPERTY_PREFIX + "notifications.batchSize";
+  public static final String MULE_NOTIFICATIONS_OVERFLOW_POLICY = SYSTEM_PROPERTY_PREFIX + "notifications.overflowPolicy";
+  public static final String MULE_PROCESSOR_LATENCY_SAMPLE_RATE = SYSTEM_PROPERTY_PREFIX + "stats.processorLatencySampleRate";
+  public static final String MULE_FLOW_TRACE_SAMPLE_RATE = SYSTEM_PROPERTY_PREFIX + "flowTrace.sampleRate";
+  public static final String MULE_CONNECTION_POOL_IMPLEMENTATION = SYSTEM_PROPERTY_PREFIX + "connection.pool.implementation";
+  public static final String MULE_CONNECTION_POOL_LEAK_DETECTION_THRESHOLD =
+      SYSTEM_PROPERTY_PREFIX + "connection.pool.leakDetectionThreshold";
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.connector;
+
+/**
+ * A live view of the state of a pool of connections. The values returned by its methods change as connections are borrowed
+ * from and returned to the pool, so they can be polled to be exported as gauges.
+ *
+ * @since 4.0
+ */
+public interface ConnectionPoolStatistics {
+
+  /**
+   * @return the amount of connections currently borrowed from the pool
+   */
+  int getNumActive();
+
+  /**
+   * @return the amount of connections currently available in the pool
+   */
+  int getNumIdle();
+
+  /**
+   * @return the amount of connections borrowed for longer than the leak detection threshold and not yet returned
+   */
+  int getNumLeaked();
+
+  /**
+   * @return the amount of connections borrowed from the pool
+   */
+  long getBorrowCount();
+
+  /**
+   * @return the mean time borrowers had to wait for a connection, in nanoseconds
+   */
+  long getMeanBorrowWaitTime();
+
+  /**
+   * @return the maximum time a borrower had to wait for a connection, in nanoseconds
+   */
+  long getMaxBorrowWaitTime();
+
+  /**
+   * @param percentile the percentile to get, between {@code 0} and {@code 100}
+   * @return the time within which the given percentile of the borrowers got a connection, in nanoseconds
+   */
+  long getBorrowWaitTimeAtPercentile(double percentile);
+}
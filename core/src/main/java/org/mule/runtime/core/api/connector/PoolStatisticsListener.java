@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.connector;
+
+import org.mule.runtime.api.connection.PoolingListener;
+
+/**
+ * A {@link PoolingListener} which is also given access to the {@link ConnectionPoolStatistics} of the pool it listens to.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.0
+ */
+public interface PoolStatisticsListener<C> extends PoolingListener<C> {
+
+  /**
+   * Invoked once, when the pool is created.
+   *
+   * @param statistics the statistics of the pool, which remain up to date for as long as the pool is open
+   */
+  void onPoolCreated(ConnectionPoolStatistics statistics);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.el;
+
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.expression.ExpressionRuntimeException;
+
+/**
+ * A handle to an expression that has already been analyzed by an {@link ExtendedExpressionManager}.
+ * <p>
+ * Components which know their expressions beforehand should obtain a handle through
+ * {@link ExtendedExpressionManager#compile(String)} when initialised and use it on each evaluation, avoiding the parsing and
+ * expression language selection that happens when a raw {@link String} is evaluated.
+ *
+ * @since 4.0
+ */
+public interface CompiledExpression {
+
+  /**
+   * The categories in which a compiled expression may fall.
+   */
+  enum Kind {
+
+    /**
+     * The value contains no expression at all and always resolves to itself.
+     */
+    LITERAL,
+
+    /**
+     * The expression is a direct reference to the payload, the attributes, the payload's data type or a variable, and can be
+     * resolved without going through an expression language.
+     */
+    SIMPLE_PATH,
+
+    /**
+     * The expression needs to be evaluated by the expression language.
+     */
+    FULL
+  }
+
+  /**
+   * @return the original expression this handle was compiled from
+   */
+  String getExpression();
+
+  /**
+   * @return the {@link Kind} this expression was classified as
+   */
+  Kind getKind();
+
+  /**
+   * Evaluates the compiled expression against the given {@code event}.
+   *
+   * @param event the current event being processed
+   * @param eventBuilder event builder instance used to mutate the current message or event.
+   * @param flowConstruct the flow where the event is being processed
+   * @return the result of the evaluation
+   * @throws ExpressionRuntimeException if a problem occurs evaluating the expression
+   */
+  TypedValue evaluate(Event event, Event.Builder eventBuilder, FlowConstruct flowConstruct) throws ExpressionRuntimeException;
+
+  /**
+   * Evaluates the compiled expression against the given {@code event}.
+   *
+   * @param event the current event being processed
+   * @return the result of the evaluation
+   * @throws ExpressionRuntimeException if a problem occurs evaluating the expression
+   */
+  default TypedValue evaluate(Event event) throws ExpressionRuntimeException {
+    return evaluate(event, Event.builder(event), null);
+  }
+}
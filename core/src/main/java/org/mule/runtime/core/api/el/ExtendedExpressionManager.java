@@ -144,4 +144,16 @@ public interface ExtendedExpressionManager extends ExpressionManager {
   String parse(String expression, Event event, Event.Builder eventBuilder, FlowConstruct flowConstruct)
       throws ExpressionRuntimeException;
 
+  /**
+   * Analyzes the given {@code expression} once, returning a {@link CompiledExpression} which can then be evaluated repeatedly
+   * without paying for its parsing or for the selection of the expression language on each evaluation.
+   * <p>
+   * Components should obtain their handles when initialised rather than per event.
+   *
+   * @param expression a literal value or a single expression
+   * @return a {@link CompiledExpression} for the given {@code expression}
+   * @since 4.0
+   */
+  CompiledExpression compile(String expression);
+
 }
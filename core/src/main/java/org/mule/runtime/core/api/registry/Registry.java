@@ -32,6 +32,9 @@ public interface Registry extends Initialisable, Disposable {
 
   /**
    * Look up all objects of a given type.
+   * <p>
+   * The returned collection is read-only, and may be a live view of the registry that reflects the objects registered or
+   * unregistered after this call. Callers that need a snapshot have to copy it.
    *
    * @return collection of objects or empty collection if none found
    */
@@ -63,6 +66,11 @@ public interface Registry extends Initialisable, Disposable {
   <T> T lookupObject(Class<T> clazz) throws RegistrationException;
 
   /**
+   * Look up all objects of a given type along with their keys.
+   * <p>
+   * The returned map is read-only, and may be a live view of the registry that reflects the objects registered or unregistered
+   * after this call. Callers that need a snapshot have to copy it.
+   *
    * @return key/object pairs
    */
   <T> Map<String, T> lookupByType(Class<T> type);
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.retry;
+
+/**
+ * Determines how long to wait before retrying a failed attempt.
+ *
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface BackoffStrategy {
+
+  /**
+   * @param attempt the number of the attempt that failed, starting at {@code 1}
+   * @param previousDelay the delay returned for the previous attempt, or {@code 0} if this is the first one
+   * @return the time to wait before the next attempt, in milliseconds
+   */
+  long nextDelay(int attempt, long previousDelay);
+}
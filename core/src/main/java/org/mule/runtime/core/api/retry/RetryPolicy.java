@@ -27,6 +27,13 @@ public interface RetryPolicy {
    */
   PolicyStatus applyPolicy(Throwable cause);
 
+  /**
+   * Notifies the policy that an attempt succeeded, after which it will not be applied again.
+   *
+   * @since 4.0
+   */
+  default void onSuccess() {}
+
 
   /**
    * Applies the retry policy in a non blocking manner by transforming
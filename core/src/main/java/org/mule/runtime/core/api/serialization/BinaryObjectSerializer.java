@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.core.api.serialization;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.internal.serialization.BinarySerializationProtocol;
+import org.mule.runtime.core.internal.serialization.JavaExternalSerializerProtocol;
+
+/**
+ * Serializes objects for internal consumption (persistent object stores, queue stores and transaction journals) using a compact
+ * binary format with dedicated codecs for the Mule core types, and for external consumption using the default Java
+ * serialization mechanism.
+ * <p>
+ * It can be set as the default serializer of an application through the {@code defaultObjectSerializer-ref} attribute of its
+ * {@code configuration} element.
+ *
+ * @since 4.0
+ */
+public class BinaryObjectSerializer implements ObjectSerializer, MuleContextAware {
+
+  private final BinarySerializationProtocol binarySerializationProtocol = new BinarySerializationProtocol();
+  private final JavaExternalSerializerProtocol javaSerializerProtocol = new JavaExternalSerializerProtocol();
+
+  @Override
+  public SerializationProtocol getInternalProtocol() {
+    return binarySerializationProtocol;
+  }
+
+  @Override
+  public SerializationProtocol getExternalProtocol() {
+    return javaSerializerProtocol;
+  }
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    binarySerializationProtocol.setMuleContext(context);
+    javaSerializerProtocol.setMuleContext(context);
+  }
+}
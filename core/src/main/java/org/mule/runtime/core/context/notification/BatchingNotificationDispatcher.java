@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.context.notification;
+
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.context.notification.ServerNotification;
+import org.mule.runtime.core.api.context.notification.ServerNotificationListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+
+/**
+ * A {@link NotifierCallback} that delivers asynchronous notifications in batches.
+ * <p>
+ * Each listener gets its own bounded {@link NotificationRingBuffer}. Firing a notification just queues it in the buffer, and a
+ * task is submitted to the listener's {@link Scheduler} only when there isn't one already draining that buffer. That task
+ * delivers up to {@code batchSize} notifications before giving the thread back, so the amount of scheduler submissions is
+ * proportional to the amount of batches rather than to the amount of notifications.
+ * <p>
+ * When a listener falls behind and its buffer fills up, the configured {@link NotificationOverflowPolicy} is applied. Discarded
+ * notifications are accounted for in {@link #getDroppedCount()}.
+ *
+ * @since 4.0
+ */
+public class BatchingNotificationDispatcher implements NotifierCallback {
+
+  private static final Logger logger = getLogger(BatchingNotificationDispatcher.class);
+
+  private static final long BLOCK_PARK_NANOS = 100000;
+  private static final int SAMPLE_RATE = 10;
+
+  private final Scheduler liteScheduler;
+  private final Scheduler ioScheduler;
+  private final int bufferSize;
+  private final int batchSize;
+  private final NotificationOverflowPolicy overflowPolicy;
+  private final ConcurrentMap<ServerNotificationListener, ListenerQueue> queues = new ConcurrentHashMap<>();
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile boolean stopped = false;
+
+  /**
+   * @param liteScheduler the scheduler on which non blocking listeners are notified
+   * @param ioScheduler the scheduler on which blocking listeners are notified
+   * @param bufferSize the amount of notifications that may be queued for each listener
+   * @param batchSize the maximum amount of notifications delivered to a listener in a single task
+   * @param overflowPolicy what to do when a listener's buffer is full
+   */
+  public BatchingNotificationDispatcher(Scheduler liteScheduler, Scheduler ioScheduler, int bufferSize, int batchSize,
+                                        NotificationOverflowPolicy overflowPolicy) {
+    checkArgument(bufferSize > 0, "bufferSize must be greater than zero");
+    checkArgument(batchSize > 0, "batchSize must be greater than zero");
+    this.liteScheduler = liteScheduler;
+    this.ioScheduler = ioScheduler;
+    this.bufferSize = bufferSize;
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  @Override
+  public void notify(ServerNotificationListener listener, ServerNotification notification) {
+    ListenerQueue queue = queues.get(listener);
+    if (queue == null) {
+      queue = queues.computeIfAbsent(listener, l -> new ListenerQueue(l, l.isBlocking() ? ioScheduler : liteScheduler));
+    }
+    if (queue.enqueue(notification)) {
+      queue.scheduleDrain();
+    }
+  }
+
+  /**
+   * Discards the buffer of the given listener, if any.
+   *
+   * @param listener the listener that is no longer notified
+   */
+  public void removeListener(ServerNotificationListener listener) {
+    queues.remove(listener);
+  }
+
+  /**
+   * Stops delivering notifications. Any queued notification is discarded.
+   */
+  public void stop() {
+    stopped = true;
+    queues.clear();
+  }
+
+  /**
+   * @return the total amount of notifications that were discarded because of a full buffer
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  /**
+   * @param listener a listener
+   * @return the amount of notifications for the given {@code listener} that were discarded because of a full buffer
+   */
+  public long getDroppedCount(ServerNotificationListener listener) {
+    ListenerQueue queue = queues.get(listener);
+    return queue == null ? 0 : queue.dropped.get();
+  }
+
+  private class ListenerQueue {
+
+    private final ServerNotificationListener listener;
+    private final Scheduler scheduler;
+    private final NotificationRingBuffer buffer = new NotificationRingBuffer(bufferSize);
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong sampled = new AtomicLong();
+
+    private ListenerQueue(ServerNotificationListener listener, Scheduler scheduler) {
+      this.listener = listener;
+      this.scheduler = scheduler;
+    }
+
+    private boolean enqueue(ServerNotification notification) {
+      switch (overflowPolicy) {
+        case DROP_OLDEST:
+          while (!buffer.offer(notification)) {
+            if (buffer.poll() != null) {
+              onDropped();
+            }
+          }
+          return true;
+        case SAMPLE:
+          if (buffer.size() >= buffer.capacity() / 2 && sampled.incrementAndGet() % SAMPLE_RATE != 0) {
+            onDropped();
+            return false;
+          }
+          if (!buffer.offer(notification)) {
+            onDropped();
+            return false;
+          }
+          return true;
+        default:
+          while (!buffer.offer(notification)) {
+            if (stopped) {
+              onDropped();
+              return false;
+            }
+            // make sure someone is consuming while we wait
+            scheduleDrain();
+            parkNanos(BLOCK_PARK_NANOS);
+          }
+          return true;
+      }
+    }
+
+    private void onDropped() {
+      dropped.incrementAndGet();
+      BatchingNotificationDispatcher.this.dropped.incrementAndGet();
+    }
+
+    private void scheduleDrain() {
+      if (!stopped && draining.compareAndSet(false, true)) {
+        try {
+          scheduler.submit(this::drain);
+        } catch (RejectedExecutionException e) {
+          draining.set(false);
+          if (logger.isDebugEnabled()) {
+            logger.debug("Notifications for listener " + listener + " could not be scheduled", e);
+          }
+        }
+      }
+    }
+
+    private void drain() {
+      try {
+        for (int i = 0; i < batchSize && !stopped; ++i) {
+          ServerNotification notification = buffer.poll();
+          if (notification == null) {
+            break;
+          }
+          try {
+            listener.onNotification(notification);
+          } catch (Exception e) {
+            // Exceptions from listeners do not affect the notification processing
+            logger.warn("Listener " + listener + " failed to process notification " + notification, e);
+          }
+        }
+      } finally {
+        draining.set(false);
+      }
+
+      // notifications may have been queued after the last poll, or the batch may have been cut short
+      if (!buffer.isEmpty()) {
+        scheduleDrain();
+      }
+    }
+  }
+}
@@ -9,8 +9,9 @@ package org.mule.runtime.core.context.notification;
 import org.mule.runtime.core.api.context.notification.ProcessorsTrace;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Keeps context information about the message processors that were executed as part of the processing of an event.
@@ -19,7 +20,7 @@ public class DefaultProcessorsTrace implements ProcessorsTrace {
 
   private static final long serialVersionUID = 5327053121687733907L;
 
-  private List<String> executedProcessors = Collections.synchronizedList(new ArrayList<String>());
+  private final Queue<String> executedProcessors = new ConcurrentLinkedQueue<>();
 
   /**
    * Adds a message processor path to the list of processors that were executed as part of the processing of this event.
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.core.context.notification;
 
+import static java.lang.Integer.getInteger;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_FLOW_TRACE_SAMPLE_RATE;
+
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
@@ -25,6 +28,7 @@ import org.mule.runtime.core.logging.LogConfigChangeSubject;
 import java.beans.PropertyChangeListener;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.spi.LoggerContext;
@@ -37,11 +41,15 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
 
   public static final String FLOW_STACK_INFO_KEY = "FlowStack";
 
+  private static final int TRACE_SAMPLE_RATE = Math.max(1, getInteger(MULE_FLOW_TRACE_SAMPLE_RATE, 1));
+
   private final FlowNotificationTextDebugger pipelineProcessorDebugger;
   private final MessageProcessorTextDebugger messageProcessorTextDebugger;
 
   private MuleContext muleContext;
 
+  private final Map<String, String> processorRepresentations = new ConcurrentHashMap<>();
+
   private PropertyChangeListener logConfigChangeListener = evt -> handleNotificationListeners();
 
   public MessageProcessingFlowTraceManager() {
@@ -66,6 +74,7 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
 
   @Override
   public void dispose() {
+    processorRepresentations.clear();
     LoggerContext context = LogManager.getContext(false);
     if (context != null && context instanceof LogConfigChangeSubject) {
       ((LogConfigChangeSubject) context).unregisterLogConfigChangeListener(logConfigChangeListener);
@@ -99,10 +108,15 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
    * @param notification the notification that contains the event and the processor that is about to be invoked.
    */
   public void onMessageProcessorNotificationPreInvoke(MessageProcessorNotification notification) {
-    String resolveProcessorRepresentation =
-        resolveProcessorRepresentation(muleContext.getConfiguration().getId(), notification.getComponentLocation().getLocation(),
-                                       notification.getProcessor());
-    if (notification.getSource().getContext().getProcessorsTrace() instanceof DefaultProcessorsTrace) {
+    String processorPath = notification.getComponentLocation().getLocation();
+    String resolveProcessorRepresentation = processorRepresentations.get(processorPath);
+    if (resolveProcessorRepresentation == null) {
+      resolveProcessorRepresentation = processorRepresentations
+          .computeIfAbsent(processorPath, path -> resolveProcessorRepresentation(muleContext.getConfiguration().getId(), path,
+                                                                                  notification.getProcessor()));
+    }
+    if (notification.getSource().getContext().getProcessorsTrace() instanceof DefaultProcessorsTrace
+        && isTraced(notification.getSource())) {
       ((DefaultProcessorsTrace) notification.getSource().getContext().getProcessorsTrace())
           .addExecutedProcessors(resolveProcessorRepresentation);
     }
@@ -112,6 +126,10 @@ public class MessageProcessingFlowTraceManager extends LocationExecutionContextP
     }
   }
 
+  private boolean isTraced(Event event) {
+    return TRACE_SAMPLE_RATE == 1 || (event.getContext().getId().hashCode() & Integer.MAX_VALUE) % TRACE_SAMPLE_RATE == 0;
+  }
+
   /**
    * Callback method for when a flow or sub-flow called from a {@code flow-ref} component has been completed.
    * 
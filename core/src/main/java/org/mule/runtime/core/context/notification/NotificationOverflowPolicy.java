@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.context.notification;
+
+/**
+ * What to do when an asynchronous notification has to be queued for a listener that has fallen behind.
+ *
+ * @since 4.0
+ */
+public enum NotificationOverflowPolicy {
+
+  /**
+   * When the listener's buffer is full, the oldest queued notification is discarded to make room for the new one. This is the
+   * default policy.
+   */
+  DROP_OLDEST,
+
+  /**
+   * When the listener's buffer is full, the thread firing the notification waits until there is room for it.
+   * <p>
+   * Since notifications are usually fired from flow threads, a slow listener may end up holding those threads back.
+   */
+  BLOCK,
+
+  /**
+   * Once the listener's buffer is half full, only one of every few notifications is queued. When it is full, new notifications
+   * are discarded.
+   */
+  SAMPLE
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.context.notification;
+
+import static java.lang.Integer.highestOneBit;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.core.api.context.notification.ServerNotification;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer of {@link ServerNotification}s which supports many concurrent producers and consumers.
+ * <p>
+ * Each slot carries a sequence number that tells producers whether the slot is free for the current lap and consumers whether
+ * it has been published, so that neither of them needs a lock.
+ *
+ * @since 4.0
+ */
+final class NotificationRingBuffer {
+
+  private final int mask;
+  private final AtomicReferenceArray<ServerNotification> slots;
+  private final AtomicLongArray sequences;
+  private final AtomicLong head = new AtomicLong();
+  private final AtomicLong tail = new AtomicLong();
+
+  /**
+   * @param capacity the minimum amount of notifications the buffer has to hold. It is rounded up to a power of two.
+   */
+  NotificationRingBuffer(int capacity) {
+    checkArgument(capacity > 0, "capacity must be greater than zero");
+    int size = highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    mask = size - 1;
+    slots = new AtomicReferenceArray<>(size);
+    sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; ++i) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds a notification to the buffer if there's room for it.
+   *
+   * @param notification the notification to add
+   * @return {@code true} if the notification was added, {@code false} if the buffer is full
+   */
+  boolean offer(ServerNotification notification) {
+    while (true) {
+      long position = tail.get();
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1)) {
+          slots.lazySet(index, notification);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Removes the oldest notification in the buffer.
+   *
+   * @return the removed notification or {@code null} if the buffer is empty
+   */
+  ServerNotification poll() {
+    while (true) {
+      long position = head.get();
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - (position + 1);
+      if (difference == 0) {
+        if (head.compareAndSet(position, position + 1)) {
+          ServerNotification notification = slots.get(index);
+          slots.lazySet(index, null);
+          sequences.set(index, position + mask + 1);
+          return notification;
+        }
+      } else if (difference < 0) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * @return an approximation of the amount of notifications in the buffer
+   */
+  int size() {
+    long size = tail.get() - head.get();
+    return (int) Math.max(0, Math.min(size, capacity()));
+  }
+
+  boolean isEmpty() {
+    return size() == 0;
+  }
+
+  int capacity() {
+    return mask + 1;
+  }
+}
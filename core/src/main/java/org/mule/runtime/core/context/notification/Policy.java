@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +34,9 @@ class Policy {
   private ConcurrentMap knownEventsExact = new ConcurrentHashMap();
   private ConcurrentMap knownEventsSuper = new ConcurrentHashMap();
 
+  // precomputed senders for each notification class that has been dispatched
+  private ConcurrentMap<Class<? extends ServerNotification>, Sender[]> notificationToSenders = new ConcurrentHashMap<>();
+
   /**
    * For each listener, we check each interface and see what events can be delivered.
    */
@@ -85,33 +89,33 @@ class Policy {
 
   void dispatch(ServerNotification notification, NotifierCallback notifier) {
     if (null != notification) {
-      Class notfnClass = notification.getClass();
-      // search if we don't know about this event, or if we do know it is used
-      if (!knownEventsExact.containsKey(notfnClass)) {
-        boolean found = doDispatch(notification, notfnClass, notifier);
-        knownEventsExact.put(notfnClass, Boolean.valueOf(found));
-      } else if (((Boolean) knownEventsExact.get(notfnClass)).booleanValue()) {
-        boolean found = doDispatch(notification, notfnClass, notifier);
-        // reduce contention on the map by not writing the same value over and over again.
-        if (!found) {
-          knownEventsExact.put(notfnClass, Boolean.valueOf(found));
-        }
+      Class<? extends ServerNotification> notfnClass = notification.getClass();
+      Sender[] senders = notificationToSenders.get(notfnClass);
+      if (senders == null) {
+        senders = notificationToSenders.computeIfAbsent(notfnClass, this::resolveSenders);
+      }
+      for (Sender sender : senders) {
+        sender.dispatch(notification, notifier);
       }
     }
   }
 
-  protected boolean doDispatch(ServerNotification notification, Class<? extends ServerNotification> notfnClass,
-                               NotifierCallback notifier) {
-    boolean found = false;
+  /**
+   * Collects all the senders for the event types the given notification class is assignable to, so that they don't need to be
+   * looked up on each dispatch.
+   *
+   * @param notfnClass the class of the notifications to dispatch
+   * @return the senders for the given notification class, in the same order they would have been looked up
+   */
+  private Sender[] resolveSenders(Class<? extends ServerNotification> notfnClass) {
+    List<Sender> senders = new ArrayList<>();
     for (Class<? extends ServerNotification> event : eventToSenders.keySet()) {
       if (event.isAssignableFrom(notfnClass)) {
-        found = true;
-        for (Sender sender : eventToSenders.get(event)) {
-          sender.dispatch(notification, notifier);
-        }
+        senders.addAll(eventToSenders.get(event));
       }
     }
-    return found;
+    knownEventsExact.put(notfnClass, Boolean.valueOf(!senders.isEmpty()));
+    return senders.toArray(new Sender[senders.size()]);
   }
 
   /**
@@ -6,9 +6,17 @@
  */
 package org.mule.runtime.core.context.notification;
 
+import static java.lang.Boolean.getBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.System.getProperty;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_NOTIFICATIONS_BATCHED_DISPATCH;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_NOTIFICATIONS_BATCH_SIZE;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_NOTIFICATIONS_BUFFER_SIZE;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_NOTIFICATIONS_OVERFLOW_POLICY;
+import static org.mule.runtime.core.context.notification.NotificationOverflowPolicy.DROP_OLDEST;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.lifecycle.Disposable;
@@ -56,6 +64,12 @@ import org.slf4j.Logger;
  * <li>Disabling an event or interface disables all uses of that class or any subclass.</li>
  * <li>Enquiring whether an event is enabled returns true if any subclass is enabled.</li>
  * </ul>
+ *
+ * <p>
+ * By default, each asynchronous notification is submitted as a separate task for each listener. When batched dispatch is enabled
+ * (see {@link #setBatchedDispatch(boolean)}), notifications are queued in a bounded buffer per listener instead, and delivered in
+ * batches by a {@link BatchingNotificationDispatcher}.
+ * </p>
  */
 public class ServerNotificationManager implements Initialisable, Disposable, ServerNotificationHandler, MuleContextAware {
 
@@ -68,6 +82,12 @@ public class ServerNotificationManager implements Initialisable, Disposable, Ser
   private MuleContext muleContext;
   private Scheduler notificationsLiteScheduler;
   private Scheduler notificationsIoScheduler;
+  private boolean batchedDispatch = getBoolean(MULE_NOTIFICATIONS_BATCHED_DISPATCH);
+  private int dispatchBufferSize = getInteger(MULE_NOTIFICATIONS_BUFFER_SIZE, 1024);
+  private int dispatchBatchSize = getInteger(MULE_NOTIFICATIONS_BATCH_SIZE, 64);
+  private NotificationOverflowPolicy overflowPolicy =
+      NotificationOverflowPolicy.valueOf(getProperty(MULE_NOTIFICATIONS_OVERFLOW_POLICY, DROP_OLDEST.name()));
+  private BatchingNotificationDispatcher batchingDispatcher;
 
   @Override
   public boolean isNotificationDynamic() {
@@ -83,10 +103,45 @@ public class ServerNotificationManager implements Initialisable, Disposable, Ser
     this.dynamic = dynamic;
   }
 
+  /**
+   * @param batchedDispatch whether asynchronous notifications are to be queued and delivered in batches to each listener
+   */
+  public void setBatchedDispatch(boolean batchedDispatch) {
+    this.batchedDispatch = batchedDispatch;
+  }
+
+  /**
+   * @param dispatchBufferSize the amount of asynchronous notifications that may be queued for each listener when using batched
+   *        dispatch
+   */
+  public void setDispatchBufferSize(int dispatchBufferSize) {
+    this.dispatchBufferSize = dispatchBufferSize;
+  }
+
+  /**
+   * @param dispatchBatchSize the maximum amount of notifications delivered to a listener in a single task when using batched
+   *        dispatch
+   */
+  public void setDispatchBatchSize(int dispatchBatchSize) {
+    this.dispatchBatchSize = dispatchBatchSize;
+  }
+
+  /**
+   * @param overflowPolicy what to do when a listener's buffer is full when using batched dispatch. Defaults to
+   *        {@link NotificationOverflowPolicy#DROP_OLDEST} so that firing a notification never blocks.
+   */
+  public void setOverflowPolicy(NotificationOverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
   @Override
   public void initialise() throws InitialisationException {
     notificationsLiteScheduler = muleContext.getSchedulerService().cpuLightScheduler();
     notificationsIoScheduler = muleContext.getSchedulerService().ioScheduler();
+    if (batchedDispatch) {
+      batchingDispatcher = new BatchingNotificationDispatcher(notificationsLiteScheduler, notificationsIoScheduler,
+                                                              dispatchBufferSize, dispatchBatchSize, overflowPolicy);
+    }
   }
 
   public void addInterfaceToType(Class<? extends ServerNotificationListener> iface, Class<? extends ServerNotification> event) {
@@ -115,6 +170,9 @@ public class ServerNotificationManager implements Initialisable, Disposable, Ser
    */
   public void removeListener(ServerNotificationListener<?> listener) {
     configuration.removeListener(listener);
+    if (batchingDispatcher != null) {
+      batchingDispatcher.removeListener(listener);
+    }
   }
 
   public void disableInterface(Class<? extends ServerNotificationListener> iface) throws ClassNotFoundException {
@@ -152,6 +210,8 @@ public class ServerNotificationManager implements Initialisable, Disposable, Ser
       notification.setMuleContext(muleContext);
       if (notification instanceof SynchronousServerEvent) {
         notifyListeners(notification, (listener, nfn) -> listener.onNotification(nfn));
+      } else if (batchingDispatcher != null) {
+        notifyListeners(notification, batchingDispatcher);
       } else {
         notifyListeners(notification, (listener, nfn) -> {
           if (listener.isBlocking()) {
@@ -170,6 +230,14 @@ public class ServerNotificationManager implements Initialisable, Disposable, Ser
     configuration.getPolicy().dispatch(notification, notifier);
   }
 
+  /**
+   * @return the amount of asynchronous notifications discarded because a listener's buffer was full. Always {@code 0} unless
+   *         batched dispatch is enabled.
+   */
+  public long getDroppedNotificationsCount() {
+    return batchingDispatcher == null ? 0 : batchingDispatcher.getDroppedCount();
+  }
+
   @Override
   public boolean isNotificationEnabled(Class<? extends ServerNotification> type) {
     boolean enabled = false;
@@ -188,6 +256,10 @@ public class ServerNotificationManager implements Initialisable, Disposable, Ser
     try {
       final int shutdownTimeout = muleContext.getConfiguration().getShutdownTimeout();
 
+      if (batchingDispatcher != null) {
+        batchingDispatcher.stop();
+      }
+
       if (notificationsLiteScheduler != null) {
         notificationsLiteScheduler.stop(shutdownTimeout, MILLISECONDS);
         notificationsLiteScheduler = null;
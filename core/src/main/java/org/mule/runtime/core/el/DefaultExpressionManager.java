@@ -7,6 +7,7 @@
 package org.mule.runtime.core.el;
 
 import static java.lang.String.format;
+import static java.util.regex.Pattern.DOTALL;
 import static org.mule.runtime.api.el.ValidationResult.failure;
 import static org.mule.runtime.api.el.ValidationResult.success;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
@@ -26,6 +27,7 @@ import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledExpression;
 import org.mule.runtime.core.api.el.ExtendedExpressionLanguage;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.api.el.GlobalBindingContextProvider;
@@ -38,6 +40,7 @@ import org.mule.runtime.core.util.TemplateParser;
 
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
 
 import javax.inject.Inject;
 
@@ -49,6 +52,7 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
   public static final String MEL_PREFIX = "mel";
   public static final String PREFIX_EXPR_SEPARATOR = ":";
   private static final Logger logger = getLogger(DefaultExpressionManager.class);
+  private static final Pattern SINGLE_EXPRESSION_REGEX_PATTERN = Pattern.compile("^#\\[(?:(?!#\\[).)*\\]$", DOTALL);
 
   private MuleContext muleContext;
   private ExtendedExpressionLanguage expressionLanguage;
@@ -285,6 +289,27 @@ public class DefaultExpressionManager implements ExtendedExpressionManager, Init
     return success();
   }
 
+  @Override
+  public CompiledExpression compile(String expression) {
+    if (expression == null || !isExpression(expression)) {
+      return new LiteralCompiledExpression(expression);
+    }
+
+    final ExtendedExpressionLanguageAdapter languageAdapter = (ExtendedExpressionLanguageAdapter) expressionLanguage;
+    final CompiledExpression fullExpression =
+        new LanguageCompiledExpression(expression, languageAdapter.selectExpressionLanguage(expression));
+    if (!SINGLE_EXPRESSION_REGEX_PATTERN.matcher(expression).matches() || !languageAdapter.isDataWeaveExpression(expression)) {
+      return fullExpression;
+    }
+
+    String path = expression
+        .substring(DEFAULT_EXPRESSION_PREFIX.length(), expression.length() - DEFAULT_EXPRESSION_POSTFIX.length()).trim();
+    if (path.startsWith(DW_PREFIX + PREFIX_EXPR_SEPARATOR)) {
+      path = path.substring((DW_PREFIX + PREFIX_EXPR_SEPARATOR).length()).trim();
+    }
+    return SimplePathCompiledExpression.forPath(expression, path, fullExpression).orElse(fullExpression);
+  }
+
   private boolean hasMelExpression(String expression) {
     return expression.contains(DEFAULT_EXPRESSION_PREFIX + MEL_PREFIX + PREFIX_EXPR_SEPARATOR);
   }
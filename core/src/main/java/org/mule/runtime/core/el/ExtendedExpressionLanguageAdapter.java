@@ -94,7 +94,13 @@ public class ExtendedExpressionLanguageAdapter implements ExtendedExpressionLang
     selectExpressionLanguage(expression).enrich(expression, event, eventBuilder, flowConstruct, value);
   }
 
-  private ExtendedExpressionLanguage selectExpressionLanguage(String expression) {
+  /**
+   * Selects the {@link ExtendedExpressionLanguage} that would be used to evaluate the given {@code expression}.
+   *
+   * @param expression the expression to analyze
+   * @return the {@link ExtendedExpressionLanguage} for the {@code expression}
+   */
+  ExtendedExpressionLanguage selectExpressionLanguage(String expression) {
     final String languagePrefix = getLanguagePrefix(expression);
     if (isEmpty(languagePrefix)) {
       if (melDefault) {
@@ -107,6 +113,14 @@ public class ExtendedExpressionLanguageAdapter implements ExtendedExpressionLang
     }
   }
 
+  /**
+   * @param expression the expression to analyze
+   * @return whether the given {@code expression} would be evaluated by DataWeave
+   */
+  boolean isDataWeaveExpression(String expression) {
+    return selectExpressionLanguage(expression) == expressionLanguages.get(DW_PREFIX);
+  }
+
   private String getLanguagePrefix(String expression) {
     final Matcher matcher = EXPR_PREFIX_PATTERN.matcher(expression);
     if (matcher.find()) {
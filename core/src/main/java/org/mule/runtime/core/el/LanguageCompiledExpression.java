@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.el;
+
+import static org.mule.runtime.core.api.el.CompiledExpression.Kind.FULL;
+
+import org.mule.runtime.api.el.BindingContext;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledExpression;
+import org.mule.runtime.core.api.el.ExtendedExpressionLanguage;
+
+/**
+ * A {@link CompiledExpression} which is evaluated by an {@link ExtendedExpressionLanguage}. The language is selected once, when
+ * the expression is compiled, instead of on each evaluation.
+ *
+ * @since 4.0
+ */
+final class LanguageCompiledExpression implements CompiledExpression {
+
+  private final String expression;
+  private final ExtendedExpressionLanguage expressionLanguage;
+  private final BindingContext emptyContext = BindingContext.builder().build();
+
+  LanguageCompiledExpression(String expression, ExtendedExpressionLanguage expressionLanguage) {
+    this.expression = expression;
+    this.expressionLanguage = expressionLanguage;
+  }
+
+  @Override
+  public String getExpression() {
+    return expression;
+  }
+
+  @Override
+  public Kind getKind() {
+    return FULL;
+  }
+
+  @Override
+  public TypedValue evaluate(Event event, Event.Builder eventBuilder, FlowConstruct flowConstruct) {
+    return expressionLanguage.evaluate(expression, event, eventBuilder, flowConstruct, emptyContext);
+  }
+
+  @Override
+  public String toString() {
+    return "Full[" + expression + "]";
+  }
+}
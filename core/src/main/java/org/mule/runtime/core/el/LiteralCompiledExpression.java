@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.el;
+
+import static org.mule.runtime.api.metadata.DataType.OBJECT;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+import static org.mule.runtime.core.api.el.CompiledExpression.Kind.LITERAL;
+
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledExpression;
+
+/**
+ * A {@link CompiledExpression} for values which contain no expression, so that they always resolve to themselves.
+ *
+ * @since 4.0
+ */
+final class LiteralCompiledExpression implements CompiledExpression {
+
+  private final String expression;
+  private final TypedValue value;
+
+  LiteralCompiledExpression(String expression) {
+    this.expression = expression;
+    this.value = new TypedValue(expression, expression == null ? OBJECT : STRING);
+  }
+
+  @Override
+  public String getExpression() {
+    return expression;
+  }
+
+  @Override
+  public Kind getKind() {
+    return LITERAL;
+  }
+
+  @Override
+  public TypedValue evaluate(Event event, Event.Builder eventBuilder, FlowConstruct flowConstruct) {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "Literal[" + expression + "]";
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.el;
+
+import static java.beans.Introspector.getBeanInfo;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.regex.Pattern.compile;
+import static org.mule.runtime.api.metadata.DataType.fromObject;
+import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.core.api.el.CompiledExpression.Kind.SIMPLE_PATH;
+import static org.mule.runtime.core.el.DataWeaveExpressionLanguage.ATTRIBUTES;
+import static org.mule.runtime.core.el.DataWeaveExpressionLanguage.DATA_TYPE;
+import static org.mule.runtime.core.el.DataWeaveExpressionLanguage.PAYLOAD;
+import static org.mule.runtime.core.el.DataWeaveExpressionLanguage.VARIABLES;
+
+import org.mule.runtime.api.message.Attributes;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.el.CompiledExpression;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link CompiledExpression} for expressions which just reference the payload, the attributes, the payload's
+ * {@link DataType} or a variable, such as {@code payload}, {@code attributes.method} or {@code variables.id}.
+ * <p>
+ * Those are resolved directly from the {@link Event}, without going through the expression language. Whenever the value
+ * cannot be obtained that way (i.e.: an undefined variable or an attribute with no getter), the evaluation is delegated to the
+ * given fallback so that the outcome is the same as the one of a full evaluation.
+ *
+ * @since 4.0
+ */
+final class SimplePathCompiledExpression implements CompiledExpression {
+
+  private static final Pattern SIMPLE_PATH_PATTERN =
+      compile("^(" + PAYLOAD + "|" + DATA_TYPE + "|" + ATTRIBUTES + "|" + VARIABLES + ")(?:\\.([A-Za-z_]\\w*))?$");
+
+  private enum Root {
+    PAYLOAD_ROOT, DATA_TYPE_ROOT, ATTRIBUTES_ROOT, VARIABLES_ROOT
+  }
+
+  private final String expression;
+  private final Root root;
+  private final String property;
+  private final CompiledExpression fallback;
+  private final ConcurrentMap<Class<?>, Optional<Method>> getters = new ConcurrentHashMap<>();
+
+  private SimplePathCompiledExpression(String expression, Root root, String property, CompiledExpression fallback) {
+    this.expression = expression;
+    this.root = root;
+    this.property = property;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Creates a {@link SimplePathCompiledExpression} if the given {@code path} is a simple one.
+   *
+   * @param expression the original expression
+   * @param path the expression without its delimiters nor its language prefix
+   * @param fallback the {@link CompiledExpression} to use when the path cannot be resolved directly
+   * @return an {@link Optional} {@link CompiledExpression}, empty if the {@code path} is not a simple one
+   */
+  static Optional<CompiledExpression> forPath(String expression, String path, CompiledExpression fallback) {
+    Matcher matcher = SIMPLE_PATH_PATTERN.matcher(path);
+    if (!matcher.matches()) {
+      return empty();
+    }
+
+    final String rootName = matcher.group(1);
+    final String property = matcher.group(2);
+    Root root;
+    if (VARIABLES.equals(rootName)) {
+      if (property == null) {
+        return empty();
+      }
+      root = Root.VARIABLES_ROOT;
+    } else if (ATTRIBUTES.equals(rootName)) {
+      root = Root.ATTRIBUTES_ROOT;
+    } else if (property != null) {
+      return empty();
+    } else {
+      root = PAYLOAD.equals(rootName) ? Root.PAYLOAD_ROOT : Root.DATA_TYPE_ROOT;
+    }
+
+    return of(new SimplePathCompiledExpression(expression, root, property, fallback));
+  }
+
+  @Override
+  public String getExpression() {
+    return expression;
+  }
+
+  @Override
+  public Kind getKind() {
+    return SIMPLE_PATH;
+  }
+
+  @Override
+  public TypedValue evaluate(Event event, Event.Builder eventBuilder, FlowConstruct flowConstruct) {
+    if (event == null) {
+      return fallback.evaluate(event, eventBuilder, flowConstruct);
+    }
+
+    switch (root) {
+      case PAYLOAD_ROOT:
+        return event.getMessage().getPayload();
+      case DATA_TYPE_ROOT:
+        return new TypedValue(event.getMessage().getPayload().getDataType(), fromType(DataType.class));
+      case VARIABLES_ROOT:
+        if (event.getVariableNames().contains(property)) {
+          return event.getVariable(property);
+        }
+        return fallback.evaluate(event, eventBuilder, flowConstruct);
+      default:
+        return resolveAttributes(event, eventBuilder, flowConstruct);
+    }
+  }
+
+  private TypedValue resolveAttributes(Event event, Event.Builder eventBuilder, FlowConstruct flowConstruct) {
+    Attributes attributes = event.getMessage().getAttributes();
+    if (property == null) {
+      return new TypedValue(attributes, fromType(attributes.getClass()));
+    }
+
+    Optional<Method> getter = getters.computeIfAbsent(attributes.getClass(), this::findGetter);
+    if (!getter.isPresent()) {
+      return fallback.evaluate(event, eventBuilder, flowConstruct);
+    }
+
+    try {
+      Object value = getter.get().invoke(attributes);
+      return new TypedValue(value, fromObject(value));
+    } catch (Exception e) {
+      return fallback.evaluate(event, eventBuilder, flowConstruct);
+    }
+  }
+
+  private Optional<Method> findGetter(Class<?> attributesType) {
+    try {
+      for (PropertyDescriptor descriptor : getBeanInfo(attributesType).getPropertyDescriptors()) {
+        if (descriptor.getName().equals(property) && descriptor.getReadMethod() != null) {
+          Method readMethod = descriptor.getReadMethod();
+          readMethod.setAccessible(true);
+          return of(readMethod);
+        }
+      }
+    } catch (IntrospectionException | SecurityException e) {
+      // fall through and let the expression language deal with it
+    }
+    return empty();
+  }
+
+  @Override
+  public String toString() {
+    return "SimplePath[" + expression + "]";
+  }
+}
@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.Math.min;
+import static java.lang.System.identityHashCode;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.connector.ConnectionPoolStatistics;
+import org.mule.runtime.core.management.stats.LatencyHistogram;
+
+import java.lang.ref.WeakReference;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.apache.commons.pool.BaseObjectPool;
+import org.apache.commons.pool.PoolableObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.commons.pool.ObjectPool} of connections designed for a high amount of concurrent borrowers, as an
+ * alternative to {@link org.apache.commons.pool.impl.GenericObjectPool} which serializes every borrow and return on a single
+ * monitor.
+ * <p>
+ * Borrowing a connection doesn't take any lock: the connection last returned by the current thread is tried first, then the
+ * shared list of connections is scanned claiming the first idle one with a compare and set. Only when the pool is exhausted and
+ * the {@link PoolingProfile#getExhaustedAction()} is to wait, the borrower parks until a returned connection is handed off to
+ * it.
+ * <p>
+ * A background task, run on the given {@link Scheduler}, keeps the pool filled up to the minimum amount of idle connections
+ * implied by the {@link PoolingProfile#getInitialisationPolicy()} and, when a leak detection threshold is set, logs where the
+ * connections that were not returned in time were borrowed. When eviction is enabled through
+ * {@link PoolingProfile#getEvictionCheckIntervalMillis()}, that task also evicts and validates the idle connections, so that
+ * borrowers don't have to validate them (see {@link #isValidatingIdleConnections()}).
+ * <p>
+ * As in {@link org.apache.commons.pool.impl.GenericObjectPool}, a non positive {@link PoolingProfile#getMaxActive()} means that
+ * there's no limit on the amount of connections.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.0
+ */
+final class ConcurrentConnectionPool<C> extends BaseObjectPool<C> implements ConnectionPoolStatistics {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentConnectionPool.class);
+
+  private static final int IDLE = 0;
+  private static final int IN_USE = 1;
+  private static final int RESERVED = 2;
+  private static final int REMOVED = -1;
+
+  private static final long DEFAULT_HOUSEKEEPING_INTERVAL_MILLIS = 30000;
+  private static final long MAX_HANDOFF_WAIT_NANOS = MILLISECONDS.toNanos(50);
+
+  private final PoolableObjectFactory<C> factory;
+  private final Predicate<C> validator;
+  private final int maxActive;
+  private final int maxIdle;
+  private final int minIdle;
+  private final long maxWaitNanos;
+  private final int exhaustedAction;
+  private final long minEvictionNanos;
+  private final long leakDetectionThresholdNanos;
+  private final boolean evictionEnabled;
+
+  private final CopyOnWriteArrayList<PooledConnection<C>> connections = new CopyOnWriteArrayList<>();
+  private final ConcurrentMap<ConnectionKey, PooledConnection<C>> connectionsByIdentity = new ConcurrentHashMap<>();
+  private final ThreadLocal<WeakReference<PooledConnection<C>>> lastReturned = new ThreadLocal<>();
+  private final SynchronousQueue<PooledConnection<C>> handoffQueue = new SynchronousQueue<>(true);
+  private final AtomicInteger totalCount = new AtomicInteger();
+  private final AtomicInteger activeCount = new AtomicInteger();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final LatencyHistogram borrowWaitTime = new LatencyHistogram();
+  private final Scheduler housekeeper;
+
+  /**
+   * Creates a new instance
+   *
+   * @param poolingProfile the {@link PoolingProfile} which configures this pool
+   * @param factory the factory used to create and destroy the connections
+   * @param validator a {@link Predicate} which tests whether an idle connection is still valid
+   * @param leakDetectionThresholdMillis the time after which a connection which was not returned is reported as leaked, or a
+   *        non positive value to disable leak detection
+   * @param housekeeper the {@link Scheduler} on which the housekeeping of the pool is performed. It is stopped when the pool is
+   *        closed
+   */
+  ConcurrentConnectionPool(PoolingProfile poolingProfile, PoolableObjectFactory<C> factory, Predicate<C> validator,
+                           long leakDetectionThresholdMillis, Scheduler housekeeper) {
+    this.factory = factory;
+    this.validator = validator;
+    this.maxActive = poolingProfile.getMaxActive();
+    this.maxIdle = poolingProfile.getMaxIdle();
+    this.maxWaitNanos = poolingProfile.getMaxWait() > 0 ? MILLISECONDS.toNanos(poolingProfile.getMaxWait()) : -1;
+    this.exhaustedAction = poolingProfile.getExhaustedAction();
+    this.minEvictionNanos = MILLISECONDS.toNanos(poolingProfile.getMinEvictionMillis());
+    this.leakDetectionThresholdNanos = leakDetectionThresholdMillis > 0 ? MILLISECONDS.toNanos(leakDetectionThresholdMillis) : -1;
+    this.minIdle = resolveMinIdle(poolingProfile);
+    this.evictionEnabled = poolingProfile.getEvictionCheckIntervalMillis() > 0;
+    this.housekeeper = housekeeper;
+
+    long housekeepingInterval =
+        evictionEnabled ? poolingProfile.getEvictionCheckIntervalMillis() : DEFAULT_HOUSEKEEPING_INTERVAL_MILLIS;
+    if (evictionEnabled || minIdle > 0 || leakDetectionThresholdNanos > 0) {
+      housekeeper.scheduleWithFixedDelay(this::houseKeep, housekeepingInterval, housekeepingInterval, MILLISECONDS);
+    }
+    if (minIdle > 0) {
+      housekeeper.execute(this::fillPool);
+    }
+  }
+
+  /**
+   * @return whether the idle connections are periodically validated in the background, discarding the invalid ones
+   */
+  boolean isValidatingIdleConnections() {
+    return evictionEnabled;
+  }
+
+  private int resolveMinIdle(PoolingProfile poolingProfile) {
+    int bound = maxIdle >= 0 ? maxIdle : maxActive;
+    if (poolingProfile.getInitialisationPolicy() == INITIALISE_ALL) {
+      return bound > 0 ? bound : 0;
+    } else if (poolingProfile.getInitialisationPolicy() == INITIALISE_ONE) {
+      return min(1, bound);
+    }
+    return 0;
+  }
+
+  @Override
+  public C borrowObject() throws Exception {
+    assertOpen();
+    final long start = nanoTime();
+
+    PooledConnection<C> pooled = takeIdle();
+    if (pooled == null) {
+      pooled = createOrWait(start);
+    }
+
+    pooled.borrowed(leakDetectionThresholdNanos > 0);
+    activeCount.incrementAndGet();
+    borrowWaitTime.record(nanoTime() - start);
+    return pooled.connection;
+  }
+
+  private PooledConnection<C> takeIdle() {
+    WeakReference<PooledConnection<C>> reference = lastReturned.get();
+    if (reference != null) {
+      PooledConnection<C> pooled = reference.get();
+      if (pooled != null && claim(pooled, IN_USE)) {
+        return pooled;
+      }
+    }
+
+    for (PooledConnection<C> pooled : connections) {
+      if (claim(pooled, IN_USE)) {
+        return pooled;
+      }
+    }
+    return null;
+  }
+
+  private boolean claim(PooledConnection<C> pooled, int newState) {
+    if (pooled.state.compareAndSet(IDLE, newState)) {
+      idleCount.decrementAndGet();
+      return true;
+    }
+    return false;
+  }
+
+  private void release(PooledConnection<C> pooled) {
+    pooled.state.set(IDLE);
+    idleCount.incrementAndGet();
+  }
+
+  private PooledConnection<C> createOrWait(long start) throws Exception {
+    if (reserveSlot()) {
+      return create(IN_USE);
+    }
+
+    if (exhaustedAction == WHEN_EXHAUSTED_FAIL) {
+      throw new NoSuchElementException("Pool exhausted");
+    } else if (exhaustedAction == WHEN_EXHAUSTED_GROW) {
+      totalCount.incrementAndGet();
+      return create(IN_USE);
+    }
+
+    waiters.incrementAndGet();
+    try {
+      while (true) {
+        PooledConnection<C> pooled = takeIdle();
+        if (pooled != null) {
+          return pooled;
+        }
+        // a slot may have been freed by an invalidated connection, which is not handed off
+        if (reserveSlot()) {
+          return create(IN_USE);
+        }
+
+        long waitNanos = MAX_HANDOFF_WAIT_NANOS;
+        if (maxWaitNanos > 0) {
+          long remaining = maxWaitNanos - (nanoTime() - start);
+          if (remaining <= 0) {
+            throw new NoSuchElementException("Timeout waiting for idle object");
+          }
+          waitNanos = min(remaining, waitNanos);
+        }
+
+        pooled = handoffQueue.poll(waitNanos, NANOSECONDS);
+        if (pooled != null && claim(pooled, IN_USE)) {
+          return pooled;
+        }
+        assertOpen();
+      }
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  private boolean reserveSlot() {
+    if (maxActive <= 0) {
+      totalCount.incrementAndGet();
+      return true;
+    }
+
+    int current = totalCount.get();
+    while (current < maxActive) {
+      if (totalCount.compareAndSet(current, current + 1)) {
+        return true;
+      }
+      current = totalCount.get();
+    }
+    return false;
+  }
+
+  private PooledConnection<C> create(int initialState) throws Exception {
+    C connection;
+    try {
+      connection = factory.makeObject();
+    } catch (Exception e) {
+      totalCount.decrementAndGet();
+      throw e;
+    }
+
+    PooledConnection<C> pooled = new PooledConnection<>(connection, initialState);
+    connectionsByIdentity.put(new ConnectionKey(connection), pooled);
+    connections.add(pooled);
+    if (initialState == IDLE) {
+      idleCount.incrementAndGet();
+    }
+    return pooled;
+  }
+
+  @Override
+  public void returnObject(C connection) throws Exception {
+    PooledConnection<C> pooled = connectionsByIdentity.get(new ConnectionKey(connection));
+    if (pooled == null) {
+      factory.destroyObject(connection);
+      return;
+    }
+    if (isClosed() || (maxIdle >= 0 && idleCount.get() >= maxIdle)) {
+      remove(pooled);
+      return;
+    }
+
+    activeCount.decrementAndGet();
+    pooled.returned();
+    release(pooled);
+    lastReturned.set(pooled.reference);
+
+    if (isClosed() && claim(pooled, RESERVED)) {
+      // the pool was closed while returning the connection, so it may have missed it
+      remove(pooled);
+      return;
+    }
+
+    for (int i = 0; waiters.get() > 0; ++i) {
+      if (pooled.state.get() != IDLE || handoffQueue.offer(pooled)) {
+        return;
+      } else if ((i & 0xff) == 0xff) {
+        parkNanos(MICROSECONDS.toNanos(10));
+      } else {
+        Thread.yield();
+      }
+    }
+  }
+
+  @Override
+  public void invalidateObject(C connection) throws Exception {
+    PooledConnection<C> pooled = connectionsByIdentity.get(new ConnectionKey(connection));
+    if (pooled == null) {
+      factory.destroyObject(connection);
+      return;
+    }
+    remove(pooled);
+  }
+
+  private void remove(PooledConnection<C> pooled) throws Exception {
+    int previousState = pooled.state.getAndSet(REMOVED);
+    if (previousState == REMOVED) {
+      return;
+    } else if (previousState == IN_USE) {
+      activeCount.decrementAndGet();
+    } else if (previousState == IDLE) {
+      idleCount.decrementAndGet();
+    }
+    connections.remove(pooled);
+    connectionsByIdentity.remove(new ConnectionKey(pooled.connection));
+    totalCount.decrementAndGet();
+    factory.destroyObject(pooled.connection);
+  }
+
+  private void removeQuietly(PooledConnection<C> pooled) {
+    try {
+      remove(pooled);
+    } catch (Exception e) {
+      LOGGER.warn("Exception was found trying to destroy connection of type " + pooled.connection.getClass().getName(), e);
+    }
+  }
+
+  @Override
+  public int getNumActive() {
+    return activeCount.get();
+  }
+
+  @Override
+  public int getNumIdle() {
+    return idleCount.get();
+  }
+
+  @Override
+  public int getNumLeaked() {
+    int leaked = 0;
+    for (PooledConnection<C> pooled : connections) {
+      if (pooled.leakReported) {
+        ++leaked;
+      }
+    }
+    return leaked;
+  }
+
+  @Override
+  public long getBorrowCount() {
+    return borrowWaitTime.getCount();
+  }
+
+  @Override
+  public long getMeanBorrowWaitTime() {
+    return borrowWaitTime.getMean();
+  }
+
+  @Override
+  public long getMaxBorrowWaitTime() {
+    return borrowWaitTime.getMax();
+  }
+
+  @Override
+  public long getBorrowWaitTimeAtPercentile(double percentile) {
+    return borrowWaitTime.getValueAtPercentile(percentile);
+  }
+
+  @Override
+  public void addObject() throws Exception {
+    assertOpen();
+    if (reserveSlot()) {
+      create(IDLE);
+    }
+  }
+
+  @Override
+  public void clear() throws Exception {
+    for (PooledConnection<C> pooled : connections) {
+      if (claim(pooled, RESERVED)) {
+        removeQuietly(pooled);
+      }
+    }
+  }
+
+  /**
+   * Closes the pool, destroying the idle connections. Connections which are still borrowed are destroyed as soon as they are
+   * returned.
+   */
+  @Override
+  public void close() throws Exception {
+    super.close();
+    housekeeper.shutdownNow();
+    clear();
+  }
+
+  private void houseKeep() {
+    try {
+      final long now = nanoTime();
+      for (PooledConnection<C> pooled : connections) {
+        if (pooled.state.get() == IN_USE) {
+          detectLeak(pooled, now);
+        } else if (evictionEnabled && claim(pooled, RESERVED)) {
+          if (minEvictionNanos > 0 && now - pooled.lastUsed > minEvictionNanos && connections.size() > minIdle) {
+            removeQuietly(pooled);
+          } else if (!isValid(pooled)) {
+            LOGGER.debug("Idle connection failed validation, destroying it");
+            removeQuietly(pooled);
+          } else {
+            release(pooled);
+          }
+        }
+      }
+      fillPool();
+    } catch (Exception e) {
+      LOGGER.warn("Exception found doing connection pool housekeeping", e);
+    }
+  }
+
+  private boolean isValid(PooledConnection<C> pooled) {
+    try {
+      return validator.test(pooled.connection);
+    } catch (Exception e) {
+      return false;
+    }
+  }
+
+  private void detectLeak(PooledConnection<C> pooled, long now) {
+    if (leakDetectionThresholdNanos > 0 && !pooled.leakReported && now - pooled.borrowedAt > leakDetectionThresholdNanos) {
+      pooled.leakReported = true;
+      LOGGER.warn("Connection of type " + pooled.connection.getClass().getName() + " was borrowed more than "
+          + NANOSECONDS.toMillis(leakDetectionThresholdNanos) + " ms ago and has not been returned, it may have leaked",
+                  pooled.borrowStack);
+    }
+  }
+
+  private void fillPool() {
+    while (!isClosed() && getNumIdle() < minIdle && reserveSlot()) {
+      try {
+        create(IDLE);
+      } catch (Exception e) {
+        LOGGER.debug("Could not create connection to fill the pool", e);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Tracks the state of a pooled connection.
+   */
+  private static final class PooledConnection<C> {
+
+    private final C connection;
+    private final AtomicInteger state;
+    private final WeakReference<PooledConnection<C>> reference;
+    private volatile long lastUsed = nanoTime();
+    private volatile long borrowedAt;
+    private volatile Throwable borrowStack;
+    private volatile boolean leakReported;
+
+    private PooledConnection(C connection, int initialState) {
+      this.connection = connection;
+      this.state = new AtomicInteger(initialState);
+      this.reference = new WeakReference<>(this);
+    }
+
+    private void borrowed(boolean captureStack) {
+      borrowedAt = nanoTime();
+      borrowStack = captureStack ? new Exception("Connection borrowed here") : null;
+      leakReported = false;
+    }
+
+    private void returned() {
+      lastUsed = nanoTime();
+      borrowStack = null;
+      leakReported = false;
+    }
+  }
+
+  /**
+   * Connections are tracked by identity, since their {@code equals} can't be trusted.
+   */
+  private static final class ConnectionKey {
+
+    private final Object connection;
+
+    private ConnectionKey(Object connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ConnectionKey && ((ConnectionKey) obj).connection == connection;
+    }
+
+    @Override
+    public int hashCode() {
+      return identityHashCode(connection);
+    }
+  }
+}
@@ -6,7 +6,12 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.Long.getLong;
+import static java.lang.System.getProperty;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_CONNECTION_POOL_IMPLEMENTATION;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_CONNECTION_POOL_LEAK_DETECTION_THRESHOLD;
+import static org.mule.runtime.core.api.scheduler.SchedulerConfig.config;
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
@@ -16,6 +21,7 @@ import org.mule.runtime.api.connection.PoolingListener;
 import org.mule.runtime.core.api.DefaultMuleException;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.connector.PoolStatisticsListener;
 
 import java.util.NoSuchElementException;
 
@@ -27,6 +33,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * A {@link ConnectionManagementStrategy} which returns connections obtained from a {@link #pool}
+ * <p>
+ * By default the pool is a commons-pool {@link GenericObjectPool}. Setting the
+ * {@link org.mule.runtime.core.api.config.MuleProperties#MULE_CONNECTION_POOL_IMPLEMENTATION} system property to
+ * {@value #CONCURRENT_POOL} uses a {@link ConcurrentConnectionPool} instead, which doesn't serialize borrowers and exposes its
+ * statistics to {@link PoolStatisticsListener}s. When that pool validates the idle connections in the background, they are not
+ * validated again when borrowed.
  *
  * @param <C> the generic type of the connections to be managed
  * @since 4.0
@@ -37,9 +49,12 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   private static final String NULL_VALIDATION_RESULT_ERROR_MESSAGE =
       "Error validating connection. ConnectionValidationResult can not be null";
 
+  static final String CONCURRENT_POOL = "concurrent";
+
   private final PoolingProfile poolingProfile;
   private final ObjectPool<C> pool;
   private final PoolingListener<C> poolingListener;
+  private final boolean validateOnBorrow;
 
   /**
    * Creates a new instance
@@ -55,6 +70,8 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     this.poolingProfile = poolingProfile;
     this.poolingListener = poolingListener;
     pool = createPool();
+    validateOnBorrow =
+        !(pool instanceof ConcurrentConnectionPool && ((ConcurrentConnectionPool<C>) pool).isValidatingIdleConnections());
   }
 
   /**
@@ -67,6 +84,10 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   public ConnectionHandler<C> getConnectionHandler() throws ConnectionException {
     try {
       C connection = borrowConnection();
+      if (!validateOnBorrow) {
+        return new PoolingConnectionHandler<>(connection, pool, poolingListener);
+      }
+
       ConnectionValidationResult validationResult = connectionProvider.validate(connection);
 
       if (validationResult == null) {
@@ -119,6 +140,18 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   }
 
   private ObjectPool<C> createPool() {
+    if (CONCURRENT_POOL.equals(getProperty(MULE_CONNECTION_POOL_IMPLEMENTATION))) {
+      ConcurrentConnectionPool<C> concurrentPool =
+          new ConcurrentConnectionPool<>(poolingProfile, new ObjectFactoryAdapter(), this::isValid,
+                                         getLong(MULE_CONNECTION_POOL_LEAK_DETECTION_THRESHOLD, 0L),
+                                         muleContext.getSchedulerService().ioScheduler(config()
+                                             .withName(muleContext.getConfiguration().getId() + ".pool.housekeeper")));
+      if (poolingListener instanceof PoolStatisticsListener) {
+        ((PoolStatisticsListener<?>) poolingListener).onPoolCreated(concurrentPool);
+      }
+      return concurrentPool;
+    }
+
     GenericObjectPool.Config config = new GenericObjectPool.Config();
     config.maxIdle = poolingProfile.getMaxIdle();
     config.maxActive = poolingProfile.getMaxActive();
@@ -131,6 +164,11 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
     return genericPool;
   }
 
+  private boolean isValid(C connection) {
+    ConnectionValidationResult validationResult = connectionProvider.validate(connection);
+    return validationResult != null && validationResult.isValid();
+  }
+
   public PoolingProfile getPoolingProfile() {
     return poolingProfile;
   }
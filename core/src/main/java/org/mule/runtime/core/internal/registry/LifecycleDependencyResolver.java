@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.registry;
+
+import org.mule.runtime.core.api.registry.Registry;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A {@link Registry} which knows the dependencies among its registered objects, so a lifecycle phase can be applied concurrently
+ * on the objects which don't depend on each other.
+ *
+ * @since 4.0
+ */
+public interface LifecycleDependencyResolver {
+
+  /**
+   * Finds which of the given objects depend on which other ones, either directly or through objects not included in
+   * {@code objects}.
+   *
+   * @param objects the registered objects on which a lifecycle phase is about to be applied
+   * @return an identity based map with the objects among {@code objects} that each of them depends on. Objects which are not
+   *         keys of the map have no known dependencies.
+   */
+  Map<Object, Collection<Object>> resolveLifecycleDependencies(Collection<?> objects);
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Constants shared by {@link BinaryObjectOutput} and {@link BinaryObjectInput} which define the format written by
+ * {@link BinarySerializationProtocol}.
+ * <p>
+ * Every value is written as a one byte tag followed by its contents. Core types have their own tag and a hand-written codec,
+ * while any other type is written with Java serialization. Strings and {@link org.mule.runtime.api.metadata.DataType}s are
+ * written once per stream, later occurrences being references to the first one.
+ * <p>
+ * The tags and the ids of {@link #REGISTERED_CLASSES} are part of the persisted format: they must never be reused or reordered,
+ * only appended.
+ *
+ * @since 4.0
+ */
+final class BinaryFormat {
+
+  static final byte MAGIC = (byte) 0xB5;
+  static final byte FORMAT_VERSION = 1;
+
+  static final byte NULL = 0;
+  static final byte JAVA = 1;
+  static final byte STRING = 2;
+  static final byte STRING_REF = 3;
+  static final byte TRUE = 4;
+  static final byte FALSE = 5;
+  static final byte INTEGER = 6;
+  static final byte LONG = 7;
+  static final byte DOUBLE = 8;
+  static final byte BYTES = 9;
+  static final byte DATA_TYPE = 10;
+  static final byte DATA_TYPE_REF = 11;
+  static final byte TYPED_VALUE = 12;
+  static final byte MESSAGE = 13;
+  static final byte EVENT = 14;
+  static final byte SESSION = 15;
+  static final byte STORE_VALUE = 16;
+  static final byte ARRAY_LIST = 17;
+  static final byte HASH_MAP = 18;
+  static final byte LINKED_HASH_MAP = 19;
+
+  static final byte MESSAGE_CODEC_VERSION = 1;
+  static final byte EVENT_CODEC_VERSION = 1;
+  static final byte SESSION_CODEC_VERSION = 1;
+
+  static final byte SIMPLE_DATA_TYPE = 0;
+  static final byte COLLECTION_DATA_TYPE = 1;
+
+  /**
+   * Classes that are written as a numeric id instead of by name. The id of each class is its index plus one, {@code 0} meaning
+   * that the class name follows.
+   */
+  static final Class<?>[] REGISTERED_CLASSES = new Class<?>[] {Object.class, String.class, byte[].class, Integer.class,
+      Long.class, Boolean.class, Double.class, Float.class, Short.class, Byte.class, Character.class, Serializable.class,
+      InputStream.class, Collection.class, List.class, ArrayList.class, Set.class, HashSet.class, Map.class, HashMap.class,
+      LinkedHashMap.class, Iterator.class, Date.class, BigDecimal.class, BigInteger.class};
+
+  static final Map<Class<?>, Integer> REGISTERED_CLASS_IDS = new IdentityHashMap<>();
+
+  static {
+    for (int i = 0; i < REGISTERED_CLASSES.length; ++i) {
+      REGISTERED_CLASS_IDS.put(REGISTERED_CLASSES[i], i + 1);
+    }
+  }
+
+  private BinaryFormat() {}
+}
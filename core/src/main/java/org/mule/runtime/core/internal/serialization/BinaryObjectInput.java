@@ -0,0 +1,363 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.ARRAY_LIST;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.BYTES;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.COLLECTION_DATA_TYPE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.DATA_TYPE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.DATA_TYPE_REF;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.DOUBLE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.EVENT;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.EVENT_CODEC_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.FALSE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.FORMAT_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.HASH_MAP;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.INTEGER;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.JAVA;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.LINKED_HASH_MAP;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.LONG;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.MAGIC;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.MESSAGE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.MESSAGE_CODEC_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.NULL;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.REGISTERED_CLASSES;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.SESSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.SESSION_CODEC_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.SIMPLE_DATA_TYPE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.STORE_VALUE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.STRING;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.STRING_REF;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.TRUE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.TYPED_VALUE;
+import static org.mule.runtime.core.internal.serialization.BinaryObjectOutput.MAX_INTERNED_STRING_BYTES;
+import org.mule.runtime.api.message.Attributes;
+import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.metadata.CollectionDataType;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.EventContext;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.MuleSession;
+import org.mule.runtime.core.api.connector.ReplyToHandler;
+import org.mule.runtime.core.api.construct.FlowConstruct;
+import org.mule.runtime.core.api.construct.Pipeline;
+import org.mule.runtime.core.api.context.notification.FlowCallStack;
+import org.mule.runtime.core.api.message.ExceptionPayload;
+import org.mule.runtime.core.api.message.InternalMessage;
+import org.mule.runtime.core.api.security.SecurityContext;
+import org.mule.runtime.core.api.serialization.SerializationException;
+import org.mule.runtime.core.message.DefaultEventBuilder;
+import org.mule.runtime.core.message.GroupCorrelation;
+import org.mule.runtime.core.session.DefaultMuleSession;
+import org.mule.runtime.core.util.SerializationUtils;
+import org.mule.runtime.core.util.store.PersistentObjectStorePartition.StoreValue;
+
+import java.io.ByteArrayInputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads objects written by {@link BinaryObjectOutput}. Instances are not thread safe and are meant to be used for reading a
+ * single object graph.
+ *
+ * @since 4.0
+ */
+final class BinaryObjectInput {
+
+  private final byte[] buffer;
+  private final ClassLoader classLoader;
+  private final MuleContext muleContext;
+
+  private final List<String> strings = new ArrayList<>();
+  private final List<DataType> dataTypes = new ArrayList<>();
+  private final Map<String, MediaType> mediaTypes = new HashMap<>();
+
+  private int position;
+
+  BinaryObjectInput(byte[] buffer, ClassLoader classLoader, MuleContext muleContext) {
+    this.buffer = buffer;
+    this.classLoader = classLoader;
+    this.muleContext = muleContext;
+
+    if (buffer.length < 2 || readByte() != MAGIC) {
+      throw new SerializationException("The given bytes were not written by " + BinarySerializationProtocol.class.getName());
+    }
+    checkVersion("format", readByte(), FORMAT_VERSION);
+  }
+
+  Object readValue() throws ClassNotFoundException {
+    byte tag = readByte();
+    switch (tag) {
+      case NULL:
+        return null;
+      case JAVA:
+        return readJava();
+      case STRING:
+      case STRING_REF:
+        return readString(tag);
+      case TRUE:
+        return Boolean.TRUE;
+      case FALSE:
+        return Boolean.FALSE;
+      case INTEGER:
+        return (int) unZigZag(readVarLong());
+      case LONG:
+        return unZigZag(readVarLong());
+      case DOUBLE:
+        return Double.longBitsToDouble(readFixedLong());
+      case BYTES:
+        return readBytes();
+      case DATA_TYPE:
+      case DATA_TYPE_REF:
+        return readDataType(tag);
+      case TYPED_VALUE:
+        return readTypedValue();
+      case MESSAGE:
+        return readMessage();
+      case EVENT:
+        return readEvent();
+      case SESSION:
+        return readSession();
+      case STORE_VALUE:
+        return new StoreValue<>((Serializable) readValue(), readValue());
+      case ARRAY_LIST:
+        int size = readVarInt();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; ++i) {
+          list.add(readValue());
+        }
+        return list;
+      case HASH_MAP:
+      case LINKED_HASH_MAP:
+        int entries = readVarInt();
+        int capacity = entries * 4 / 3 + 1;
+        Map<Object, Object> map = tag == HASH_MAP ? new HashMap<>(capacity) : new LinkedHashMap<>(capacity);
+        for (int i = 0; i < entries; ++i) {
+          map.put(readValue(), readValue());
+        }
+        return map;
+      default:
+        throw new SerializationException("Unknown value tag " + tag + " at position " + (position - 1));
+    }
+  }
+
+  private InternalMessage readMessage() throws ClassNotFoundException {
+    checkVersion("message codec", readByte(), MESSAGE_CODEC_VERSION);
+
+    Object payload = readValue();
+    DataType dataType = (DataType) readValue();
+    InternalMessage.Builder builder;
+    if (payload == null) {
+      builder = InternalMessage.builder().nullPayload().mediaType(dataType.getMediaType());
+    } else if (dataType instanceof CollectionDataType && payload instanceof Collection) {
+      DataType itemDataType = ((CollectionDataType) dataType).getItemDataType();
+      builder = InternalMessage.builder().collectionPayload((Collection) payload, itemDataType.getType())
+          .itemMediaType(itemDataType.getMediaType());
+    } else {
+      builder = InternalMessage.builder().payload(payload).mediaType(dataType.getMediaType());
+    }
+
+    Attributes attributes = (Attributes) readValue();
+    if (attributes != null) {
+      builder.attributes(attributes);
+    }
+    builder.exceptionPayload((ExceptionPayload) readValue());
+
+    int inboundProperties = readVarInt();
+    for (int i = 0; i < inboundProperties; ++i) {
+      builder.addInboundProperty(readString(readByte()), (Serializable) readValue(), (DataType) readValue());
+    }
+    int outboundProperties = readVarInt();
+    for (int i = 0; i < outboundProperties; ++i) {
+      builder.addOutboundProperty(readString(readByte()), (Serializable) readValue(), (DataType) readValue());
+    }
+
+    return builder.build();
+  }
+
+  private Object readEvent() throws ClassNotFoundException {
+    checkVersion("event codec", readByte(), EVENT_CODEC_VERSION);
+
+    String flowName = (String) readValue();
+    EventContext context = (EventContext) readValue();
+
+    FlowConstruct flowConstruct = flowName != null ? muleContext.getRegistry().lookupFlowConstruct(flowName) : null;
+    if (flowConstruct instanceof Pipeline) {
+      EventContext cachedValue = ((Pipeline) flowConstruct).getSerializationEventContextCache().remove(context.getId());
+      context = cachedValue != null ? cachedValue : context;
+    }
+
+    DefaultEventBuilder builder = new DefaultEventBuilder(context);
+    builder.flow(flowConstruct);
+    builder.message((InternalMessage) readValue());
+
+    int variables = readVarInt();
+    for (int i = 0; i < variables; ++i) {
+      String name = readString(readByte());
+      builder.addVariable(name, readValue(), (DataType) readValue());
+    }
+
+    builder.session((MuleSession) readValue());
+    builder.replyToHandler((ReplyToHandler) readValue());
+    builder.replyToDestination(readValue());
+    builder.error((Error) readValue());
+    builder.correlationId((String) readValue());
+
+    if (readByte() == TRUE) {
+      builder.groupCorrelation(new GroupCorrelation((Integer) readValue(), (Integer) readValue()));
+    } else {
+      builder.groupCorrelation(null);
+    }
+
+    FlowCallStack flowCallStack = (FlowCallStack) readValue();
+    if (flowCallStack != null) {
+      builder.flowCallStack(flowCallStack);
+    }
+
+    if (readByte() == FALSE) {
+      builder.disableNotifications();
+    }
+    return builder.build();
+  }
+
+  private MuleSession readSession() throws ClassNotFoundException {
+    checkVersion("session codec", readByte(), SESSION_CODEC_VERSION);
+
+    DefaultMuleSession session = new DefaultMuleSession();
+    session.setSecurityContext((SecurityContext) readValue());
+    int properties = readVarInt();
+    for (int i = 0; i < properties; ++i) {
+      String name = readString(readByte());
+      session.setProperty(name, readValue(), (DataType) readValue());
+    }
+    return session;
+  }
+
+  private TypedValue<?> readTypedValue() throws ClassNotFoundException {
+    Object value = readValue();
+    return new TypedValue<>(value, (DataType) readValue());
+  }
+
+  private DataType readDataType(byte tag) throws ClassNotFoundException {
+    if (tag == DATA_TYPE_REF) {
+      return dataTypes.get(readVarInt());
+    }
+
+    byte kind = readByte();
+    Class<?> type = readClass();
+    MediaType mediaType = readMediaType();
+
+    DataType dataType;
+    if (kind == SIMPLE_DATA_TYPE) {
+      dataType = DataType.builder().type(type).mediaType(mediaType).build();
+    } else if (kind == COLLECTION_DATA_TYPE) {
+      DataType itemDataType = (DataType) readValue();
+      DataType collectionDataType = Iterator.class.isAssignableFrom(type)
+          ? DataType.builder().streamType((Class<? extends Iterator>) type).itemType(itemDataType.getType())
+              .itemMediaType(itemDataType.getMediaType()).build()
+          : DataType.builder().collectionType((Class<? extends Collection>) type).itemType(itemDataType.getType())
+              .itemMediaType(itemDataType.getMediaType()).build();
+      dataType = DataType.builder(collectionDataType).mediaType(mediaType).build();
+    } else {
+      throw new SerializationException("Unknown data type kind " + kind);
+    }
+
+    dataTypes.add(dataType);
+    return dataType;
+  }
+
+  private Class<?> readClass() throws ClassNotFoundException {
+    int id = readVarInt();
+    if (id > 0) {
+      return REGISTERED_CLASSES[id - 1];
+    }
+    return Class.forName(readString(readByte()), false, classLoader);
+  }
+
+  private MediaType readMediaType() {
+    return mediaTypes.computeIfAbsent(readString(readByte()), MediaType::parse);
+  }
+
+  private String readString(byte tag) {
+    if (tag == STRING_REF) {
+      return strings.get(readVarInt());
+    } else if (tag != STRING) {
+      throw new SerializationException("Was expecting a string at position " + (position - 1));
+    }
+
+    int length = readVarInt();
+    String value = new String(buffer, position, length, UTF_8);
+    position += length;
+    if (length <= MAX_INTERNED_STRING_BYTES) {
+      strings.add(value);
+    }
+    return value;
+  }
+
+  private Object readJava() {
+    int length = readVarInt();
+    Object value = SerializationUtils.deserialize(new ByteArrayInputStream(buffer, position, length), classLoader, muleContext);
+    position += length;
+    return value;
+  }
+
+  private byte[] readBytes() {
+    int length = readVarInt();
+    byte[] bytes = new byte[length];
+    System.arraycopy(buffer, position, bytes, 0, length);
+    position += length;
+    return bytes;
+  }
+
+  private byte readByte() {
+    return buffer[position++];
+  }
+
+  private int readVarInt() {
+    return (int) readVarLong();
+  }
+
+  private long readVarLong() {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift += 7) {
+      byte b = buffer[position++];
+      value |= (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new SerializationException("Malformed variable length number at position " + position);
+  }
+
+  private long readFixedLong() {
+    long value = 0;
+    for (int i = 0; i < 8; ++i) {
+      value = (value << 8) | (buffer[position++] & 0xFF);
+    }
+    return value;
+  }
+
+  private static long unZigZag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  private static void checkVersion(String what, byte version, byte supportedVersion) {
+    if (version > supportedVersion) {
+      throw new SerializationException(String.format("Unsupported %s version %d, the highest supported one is %d", what,
+                                                     version, supportedVersion));
+    }
+  }
+}
@@ -0,0 +1,367 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.ARRAY_LIST;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.BYTES;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.COLLECTION_DATA_TYPE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.DATA_TYPE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.DATA_TYPE_REF;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.DOUBLE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.EVENT;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.EVENT_CODEC_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.FALSE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.FORMAT_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.HASH_MAP;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.INTEGER;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.JAVA;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.LINKED_HASH_MAP;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.LONG;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.MAGIC;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.MESSAGE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.MESSAGE_CODEC_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.NULL;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.REGISTERED_CLASS_IDS;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.SESSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.SESSION_CODEC_VERSION;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.SIMPLE_DATA_TYPE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.STORE_VALUE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.STRING;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.STRING_REF;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.TRUE;
+import static org.mule.runtime.core.internal.serialization.BinaryFormat.TYPED_VALUE;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.MuleSession;
+import org.mule.runtime.core.api.construct.Pipeline;
+import org.mule.runtime.core.api.message.InternalMessage;
+import org.mule.runtime.core.api.serialization.SerializationException;
+import org.mule.runtime.core.internal.metadata.DefaultCollectionDataType;
+import org.mule.runtime.core.internal.metadata.SimpleDataType;
+import org.mule.runtime.core.message.DefaultEventBuilder.EventImplementation;
+import org.mule.runtime.core.message.DefaultMessageBuilder.MessageImplementation;
+import org.mule.runtime.core.message.GroupCorrelation;
+import org.mule.runtime.core.session.DefaultMuleSession;
+import org.mule.runtime.core.util.SerializationUtils;
+import org.mule.runtime.core.util.store.PersistentObjectStorePartition.StoreValue;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes objects in the format defined by {@link BinaryFormat}. Instances are not thread safe and are meant to be used for
+ * writing a single object graph.
+ *
+ * @since 4.0
+ */
+final class BinaryObjectOutput {
+
+  static final int MAX_INTERNED_STRING_BYTES = 256;
+
+  private final Map<String, Integer> strings = new HashMap<>();
+  private final Map<DataType, Integer> dataTypes = new HashMap<>();
+
+  private byte[] buffer;
+  private int position;
+
+  BinaryObjectOutput(int initialCapacity) {
+    buffer = new byte[initialCapacity];
+    writeByte(MAGIC);
+    writeByte(FORMAT_VERSION);
+  }
+
+  byte[] toByteArray() {
+    return Arrays.copyOf(buffer, position);
+  }
+
+  void writeValue(Object value) {
+    if (value == null) {
+      writeByte(NULL);
+    } else if (value instanceof String) {
+      writeString((String) value);
+    } else if (value instanceof Boolean) {
+      writeByte((Boolean) value ? TRUE : FALSE);
+    } else if (value instanceof Integer) {
+      writeByte(INTEGER);
+      writeVarLong(zigZag((Integer) value));
+    } else if (value instanceof Long) {
+      writeByte(LONG);
+      writeVarLong(zigZag((Long) value));
+    } else if (value instanceof Double) {
+      writeByte(DOUBLE);
+      writeFixedLong(Double.doubleToRawLongBits((Double) value));
+    } else if (value instanceof byte[]) {
+      writeByte(BYTES);
+      writeBytes((byte[]) value);
+    } else if (value instanceof DataType) {
+      writeDataType((DataType) value);
+    } else if (value.getClass() == TypedValue.class) {
+      writeByte(TYPED_VALUE);
+      writeTypedValue((TypedValue) value);
+    } else if (value.getClass() == MessageImplementation.class && canWriteMessage((InternalMessage) value)) {
+      writeMessage((InternalMessage) value);
+    } else if (value.getClass() == EventImplementation.class && canWriteMessage(((Event) value).getMessage())) {
+      writeEvent((Event) value);
+    } else if (value.getClass() == DefaultMuleSession.class) {
+      writeSession((MuleSession) value);
+    } else if (value.getClass() == StoreValue.class) {
+      writeByte(STORE_VALUE);
+      writeValue(((StoreValue) value).getKey());
+      writeValue(((StoreValue) value).getValue());
+    } else if (value.getClass() == ArrayList.class) {
+      ArrayList<?> list = (ArrayList<?>) value;
+      writeByte(ARRAY_LIST);
+      writeVarInt(list.size());
+      for (Object item : list) {
+        writeValue(item);
+      }
+    } else if (value.getClass() == HashMap.class || value.getClass() == LinkedHashMap.class) {
+      Map<?, ?> map = (Map<?, ?>) value;
+      writeByte(value.getClass() == HashMap.class ? HASH_MAP : LINKED_HASH_MAP);
+      writeVarInt(map.size());
+      for (Map.Entry<?, ?> entry : map.entrySet()) {
+        writeValue(entry.getKey());
+        writeValue(entry.getValue());
+      }
+    } else {
+      writeJava(value);
+    }
+  }
+
+  /**
+   * The message codec only knows about the payload, attributes, exception payload and properties. Messages with attachments, or
+   * whose payload data type can't be rebuilt through the message builder, are left to Java serialization.
+   */
+  private boolean canWriteMessage(InternalMessage message) {
+    if (message == null) {
+      return true;
+    }
+    if (message.getClass() != MessageImplementation.class || !message.getInboundAttachmentNames().isEmpty()
+        || !message.getOutboundAttachmentNames().isEmpty()) {
+      return false;
+    }
+
+    TypedValue<?> payload = message.getPayload();
+    if (payload.getValue() != null && !(payload.getValue() instanceof Serializable)) {
+      return false;
+    }
+    DataType dataType = payload.getDataType();
+    return dataType.getClass() == SimpleDataType.class
+        || (dataType.getClass() == DefaultCollectionDataType.class && dataType.getMediaType().equals(MediaType.ANY));
+  }
+
+  private void writeMessage(InternalMessage message) {
+    writeByte(MESSAGE);
+    writeByte(MESSAGE_CODEC_VERSION);
+    writeTypedValue(message.getPayload());
+    writeValue(message.getAttributes());
+    writeValue(message.getExceptionPayload());
+
+    Set<String> inboundNames = message.getInboundPropertyNames();
+    writeVarInt(inboundNames.size());
+    for (String name : inboundNames) {
+      writeString(name);
+      writeValue(message.getInboundProperty(name));
+      writeValue(message.getInboundPropertyDataType(name));
+    }
+
+    Set<String> outboundNames = message.getOutboundPropertyNames();
+    writeVarInt(outboundNames.size());
+    for (String name : outboundNames) {
+      writeString(name);
+      writeValue(message.getOutboundProperty(name));
+      writeValue(message.getOutboundPropertyDataType(name));
+    }
+  }
+
+  private void writeEvent(Event event) {
+    writeByte(EVENT);
+    writeByte(EVENT_CODEC_VERSION);
+
+    String flowName = event.getFlowConstruct() != null ? event.getFlowConstruct().getName() : null;
+    if (flowName != null && event.getFlowConstruct() instanceof Pipeline) {
+      // Same as the Java serialization of the event, so that the subscribers of the context are kept when read back.
+      ((Pipeline) event.getFlowConstruct()).getSerializationEventContextCache().put(event.getContext().getId(),
+                                                                                     event.getContext());
+    }
+    writeValue(flowName);
+    writeValue(event.getContext());
+
+    InternalMessage message = event.getMessage();
+    if (message == null) {
+      writeByte(NULL);
+    } else {
+      writeMessage(message);
+    }
+
+    Set<String> variableNames = event.getVariableNames();
+    writeVarInt(variableNames.size());
+    for (String name : variableNames) {
+      writeString(name);
+      writeTypedValue(event.getVariable(name));
+    }
+
+    writeValue(event.getSession());
+    writeValue(event.getReplyToHandler());
+    writeValue(event.getReplyToDestination());
+    writeValue(event.getError().orElse(null));
+    writeValue(event.getLegacyCorrelationId());
+
+    GroupCorrelation groupCorrelation = event.getGroupCorrelation();
+    if (groupCorrelation == null) {
+      writeByte(FALSE);
+    } else {
+      writeByte(TRUE);
+      writeValue(groupCorrelation.getGroupSize().orElse(null));
+      writeValue(groupCorrelation.getSequence().orElse(null));
+    }
+
+    if (event.getFlowCallStack() == null || event.getFlowCallStack().getElements().isEmpty()) {
+      writeByte(NULL);
+    } else {
+      writeJava(event.getFlowCallStack());
+    }
+
+    writeByte(event.isNotificationsEnabled() ? TRUE : FALSE);
+  }
+
+  private void writeSession(MuleSession session) {
+    writeByte(SESSION);
+    writeByte(SESSION_CODEC_VERSION);
+    writeValue(session.getSecurityContext());
+
+    Set<String> names = session.getPropertyNamesAsSet();
+    writeVarInt(names.size());
+    for (String name : names) {
+      writeString(name);
+      writeValue(session.getProperty(name));
+      writeValue(session.getPropertyDataType(name));
+    }
+  }
+
+  private void writeTypedValue(TypedValue<?> typedValue) {
+    writeValue(typedValue.getValue());
+    writeValue(typedValue.getDataType());
+  }
+
+  private void writeDataType(DataType dataType) {
+    Integer reference = dataTypes.get(dataType);
+    if (reference != null) {
+      writeByte(DATA_TYPE_REF);
+      writeVarInt(reference);
+      return;
+    }
+
+    if (dataType.getClass() == SimpleDataType.class) {
+      writeByte(DATA_TYPE);
+      writeByte(SIMPLE_DATA_TYPE);
+      writeClass(dataType.getType());
+      writeMediaType(dataType.getMediaType());
+    } else if (dataType.getClass() == DefaultCollectionDataType.class) {
+      writeByte(DATA_TYPE);
+      writeByte(COLLECTION_DATA_TYPE);
+      writeClass(dataType.getType());
+      writeMediaType(dataType.getMediaType());
+      writeValue(((DefaultCollectionDataType) dataType).getItemDataType());
+    } else {
+      writeJava(dataType);
+      return;
+    }
+    dataTypes.put(dataType, dataTypes.size());
+  }
+
+  private void writeClass(Class<?> type) {
+    Integer id = REGISTERED_CLASS_IDS.get(type);
+    if (id != null) {
+      writeVarInt(id);
+    } else {
+      writeVarInt(0);
+      writeString(type.getName());
+    }
+  }
+
+  private void writeMediaType(MediaType mediaType) {
+    writeString(mediaType.toRfcString());
+  }
+
+  private void writeString(String value) {
+    if (value.length() <= MAX_INTERNED_STRING_BYTES) {
+      Integer reference = strings.get(value);
+      if (reference != null) {
+        writeByte(STRING_REF);
+        writeVarInt(reference);
+        return;
+      }
+    }
+
+    byte[] bytes = value.getBytes(UTF_8);
+    writeByte(STRING);
+    writeBytes(bytes);
+    if (bytes.length <= MAX_INTERNED_STRING_BYTES) {
+      strings.put(value, strings.size());
+    }
+  }
+
+  private void writeJava(Object value) {
+    if (!(value instanceof Serializable)) {
+      throw new SerializationException(String.format("Was expecting a Serializable type. %s was found instead",
+                                                     value.getClass().getName()));
+    }
+    writeByte(JAVA);
+    writeBytes(SerializationUtils.serialize((Serializable) value));
+  }
+
+  private void writeBytes(byte[] bytes) {
+    writeVarInt(bytes.length);
+    ensureCapacity(bytes.length);
+    System.arraycopy(bytes, 0, buffer, position, bytes.length);
+    position += bytes.length;
+  }
+
+  private void writeByte(byte value) {
+    ensureCapacity(1);
+    buffer[position++] = value;
+  }
+
+  private void writeVarInt(int value) {
+    writeVarLong(value & 0xFFFFFFFFL);
+  }
+
+  private void writeVarLong(long value) {
+    ensureCapacity(10);
+    while ((value & ~0x7FL) != 0) {
+      buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    buffer[position++] = (byte) value;
+  }
+
+  private void writeFixedLong(long value) {
+    ensureCapacity(8);
+    for (int shift = 56; shift >= 0; shift -= 8) {
+      buffer[position++] = (byte) (value >>> shift);
+    }
+  }
+
+  private static long zigZag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  private void ensureCapacity(int length) {
+    if (position + length > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + length));
+    }
+  }
+}
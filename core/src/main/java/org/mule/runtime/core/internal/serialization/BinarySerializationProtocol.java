@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.serialization;
+
+import org.mule.runtime.core.api.serialization.AbstractSerializationProtocol;
+import org.mule.runtime.core.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.util.IOUtils;
+
+import java.io.InputStream;
+import java.io.Serializable;
+
+/**
+ * Implementation of {@link SerializationProtocol} which writes the Mule core types that are usually persisted (events,
+ * messages, sessions, typed values, data types and object store entries) through hand-written codecs, in a compact binary
+ * format in which class names are replaced by pre-registered ids and repeated strings and data types are written only once.
+ * <p>
+ * Any other object is written using Java's default serialization mechanism, so exceptions will come from serializing such
+ * objects if they do not implement {@link Serializable}.
+ * <p>
+ * The output of this protocol can only be read by this protocol. Objects written by another protocol can't be read by this
+ * one, so switching the protocol used by an application requires its persistent stores to be empty.
+ *
+ * @since 4.0
+ */
+public class BinarySerializationProtocol extends AbstractSerializationProtocol {
+
+  private static final int INITIAL_BUFFER_SIZE = 512;
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected byte[] doSerialize(Object object) throws Exception {
+    BinaryObjectOutput output = new BinaryObjectOutput(INITIAL_BUFFER_SIZE);
+    output.writeValue(object);
+    return output.toByteArray();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected <T> T doDeserialize(InputStream inputStream, ClassLoader classLoader) throws Exception {
+    return (T) new BinaryObjectInput(IOUtils.toByteArray(inputStream), classLoader, muleContext).readValue();
+  }
+
+  @Override
+  protected <T> T postInitialize(T object) {
+    // does nothing since the codecs already initialize the objects they read, and the objects written with Java serialization
+    // are initialized by SerializationUtils
+    return object;
+  }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.lifecycle;
+
+import static java.lang.Math.min;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.synchronizedList;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.core.api.scheduler.SchedulerConfig.config;
+import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
+import org.mule.runtime.api.lifecycle.LifecycleException;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Applies a lifecycle step on a group of objects, running concurrently the steps of the objects which don't depend on each other.
+ * <p>
+ * The objects are arranged in levels: the first level has the objects without dependencies among the group, and each following
+ * level has the objects which dependencies are all in the previous ones. The objects of a level are processed concurrently, and
+ * each level is processed once the previous one has completed. Objects in a dependency cycle are processed last, one at a time,
+ * in the order they were given.
+ * <p>
+ * The objects are processed on an IO {@link Scheduler} of the {@link SchedulerService}, by at most {@code parallelism} tasks at a
+ * time. The {@link Scheduler} is stopped once the step has been applied on all the objects.
+ *
+ * @since 4.0
+ */
+final class ParallelLifecycleApplier {
+
+  /**
+   * A lifecycle step applied on a single object.
+   */
+  @FunctionalInterface
+  interface LifecycleStep {
+
+    void apply(Object target) throws LifecycleException;
+  }
+
+  private final int parallelism;
+  private final SchedulerService schedulerService;
+  private final String schedulerName;
+  private final long shutdownTimeout;
+
+  /**
+   * @param parallelism      the maximum amount of objects processed at the same time
+   * @param schedulerService the service providing the {@link Scheduler} on which the objects are processed
+   * @param schedulerName    the name for the {@link Scheduler} on which the objects are processed
+   * @param shutdownTimeout  the time in milliseconds to wait for the {@link Scheduler} to stop
+   */
+  ParallelLifecycleApplier(int parallelism, SchedulerService schedulerService, String schedulerName, long shutdownTimeout) {
+    this.parallelism = parallelism;
+    this.schedulerService = schedulerService;
+    this.schedulerName = schedulerName;
+    this.shutdownTimeout = shutdownTimeout;
+  }
+
+  /**
+   * Applies the {@code step} on each of the {@code objects}.
+   *
+   * @param objects      the objects to process, without duplicates
+   * @param dependencies an identity based map with the objects among {@code objects} that each of them depends on
+   * @param reverse      whether the objects which depend on others have to be processed first, as when stopping them
+   * @param step         the step to apply
+   * @throws LifecycleException if the step failed for any of the objects. The objects of the following levels are not processed.
+   */
+  void apply(List<?> objects, Map<Object, Collection<Object>> dependencies, boolean reverse, LifecycleStep step)
+      throws LifecycleException {
+    final List<List<Object>> levels = toLevels(objects, dependencies, reverse);
+    final int maxLevelSize = levels.stream().mapToInt(List::size).max().orElse(0);
+    if (maxLevelSize <= 1) {
+      for (List<Object> level : levels) {
+        for (Object object : level) {
+          step.apply(object);
+        }
+      }
+      return;
+    }
+
+    final Scheduler scheduler = schedulerService.ioScheduler(config().withName(schedulerName));
+    try {
+      for (List<Object> level : levels) {
+        if (level.size() == 1) {
+          step.apply(level.get(0));
+        } else {
+          applyConcurrently(scheduler, level, step);
+        }
+      }
+    } finally {
+      scheduler.stop(shutdownTimeout, MILLISECONDS);
+    }
+  }
+
+  private void applyConcurrently(Scheduler scheduler, List<Object> level, LifecycleStep step) throws LifecycleException {
+    // The scheduler is shared, so instead of a task per object only up to parallelism tasks take the objects one by one
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    final Queue<Object> pending = new ConcurrentLinkedQueue<>(level);
+    final List<Throwable> failures = synchronizedList(new ArrayList<>());
+    final List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < min(parallelism, level.size()); i++) {
+      results.add(scheduler.submit(() -> withContextClassLoader(contextClassLoader, () -> {
+        for (Object object = pending.poll(); object != null; object = pending.poll()) {
+          try {
+            step.apply(object);
+          } catch (LifecycleException | RuntimeException | Error e) {
+            failures.add(e);
+          }
+        }
+      })));
+    }
+
+    for (Future<?> result : results) {
+      try {
+        result.get();
+      } catch (ExecutionException e) {
+        failures.add(e.getCause());
+      } catch (InterruptedException e) {
+        currentThread().interrupt();
+        throw new LifecycleException(e, level);
+      }
+    }
+
+    Throwable failure = null;
+    for (Throwable objectFailure : failures) {
+      if (failure == null) {
+        failure = objectFailure;
+      } else {
+        failure.addSuppressed(objectFailure);
+      }
+    }
+
+    if (failure instanceof LifecycleException) {
+      throw (LifecycleException) failure;
+    } else if (failure instanceof RuntimeException) {
+      throw (RuntimeException) failure;
+    } else if (failure instanceof Error) {
+      throw (Error) failure;
+    } else if (failure != null) {
+      throw new LifecycleException(failure, level);
+    }
+  }
+
+  private List<List<Object>> toLevels(List<?> objects, Map<Object, Collection<Object>> dependencies, boolean reverse) {
+    final Map<Object, Integer> positions = new IdentityHashMap<>();
+    final Map<Object, List<Object>> successors = new IdentityHashMap<>();
+    final Map<Object, Integer> pendingPredecessors = new IdentityHashMap<>();
+    for (Object object : objects) {
+      positions.put(object, positions.size());
+      successors.put(object, new ArrayList<>());
+      pendingPredecessors.put(object, 0);
+    }
+
+    for (Object object : objects) {
+      for (Object dependency : dependencies.getOrDefault(object, emptyList())) {
+        if (dependency == object || !positions.containsKey(dependency)) {
+          continue;
+        }
+        final Object first = reverse ? object : dependency;
+        final Object second = reverse ? dependency : object;
+        successors.get(first).add(second);
+        pendingPredecessors.merge(second, 1, Integer::sum);
+      }
+    }
+
+    final List<List<Object>> levels = new ArrayList<>();
+    List<Object> level = new ArrayList<>();
+    for (Object object : objects) {
+      if (pendingPredecessors.get(object) == 0) {
+        level.add(object);
+      }
+    }
+
+    int leveled = 0;
+    while (!level.isEmpty()) {
+      levels.add(level);
+      leveled += level.size();
+
+      final List<Object> next = new ArrayList<>();
+      for (Object object : level) {
+        for (Object successor : successors.get(object)) {
+          if (pendingPredecessors.merge(successor, -1, Integer::sum) == 0) {
+            next.add(successor);
+          }
+        }
+      }
+      next.sort(comparing(positions::get));
+      level = next;
+    }
+
+    if (leveled < objects.size()) {
+      for (Object object : objects) {
+        if (pendingPredecessors.get(object) > 0) {
+          List<Object> cyclic = new ArrayList<>(1);
+          cyclic.add(object);
+          levels.add(cyclic);
+        }
+      }
+    }
+    return levels;
+  }
+}
@@ -6,17 +6,34 @@
  */
 package org.mule.runtime.core.lifecycle;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.System.nanoTime;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.synchronizedList;
+import static java.util.Collections.synchronizedSet;
+import static java.util.Comparator.comparing;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.joining;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.core.api.lifecycle.HasLifecycleInterceptor;
 import org.mule.runtime.core.api.lifecycle.LifecycleCallback;
 import org.mule.runtime.api.lifecycle.LifecycleException;
 import org.mule.runtime.core.api.lifecycle.LifecycleInterceptor;
 import org.mule.runtime.core.api.lifecycle.LifecyclePhase;
 import org.mule.runtime.core.api.registry.Registry;
+import org.mule.runtime.core.api.registry.RegistryProvider;
 import org.mule.runtime.core.internal.lifecycle.phases.ContainerManagedLifecyclePhase;
+import org.mule.runtime.core.internal.registry.LifecycleDependencyResolver;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.commons.collections.CollectionUtils;
@@ -25,15 +42,27 @@ import org.slf4j.LoggerFactory;
 
 /**
  * An implementation of {@link LifecycleCallback} for applying {@link Registry} lifecycles
+ * <p>
+ * When {@link #LIFECYCLE_PARALLELISM_PROPERTY} is greater than one, the {@link Startable} and {@link Stoppable} phases are
+ * applied concurrently on the objects of each {@link LifecycleObject} type which don't depend on each other, according to the
+ * {@link LifecycleDependencyResolver} registries. The types are still processed one after the other.
  *
  * @since 3.7.0
  */
 public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLifecycleInterceptor {
 
+  /**
+   * System property with the maximum amount of objects on which the start and stop phases are applied at the same time. The
+   * phases are applied one object at a time by default.
+   */
+  public static final String LIFECYCLE_PARALLELISM_PROPERTY = SYSTEM_PROPERTY_PREFIX + "lifecycle.parallelism";
+
   private static final Logger LOGGER = LoggerFactory.getLogger(RegistryLifecycleCallback.class);
+  private static final int SLOWEST_OBJECTS_REPORTED = 10;
 
   protected final RegistryLifecycleManager registryLifecycleManager;
   private LifecycleInterceptor interceptor = new NullLifecycleInterceptor();
+  private final int parallelism = getInteger(LIFECYCLE_PARALLELISM_PROPERTY, 1);
 
   public RegistryLifecycleCallback(RegistryLifecycleManager registryLifecycleManager) {
     this.registryLifecycleManager = registryLifecycleManager;
@@ -55,7 +84,7 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     // overlapping interfaces can cause duplicates
     // TODO: each LifecycleManager should keep this set per executing phase
     // and clear it when the phase is fully applied
-    Set<Object> duplicates = new HashSet<>();
+    Set<Object> duplicates = synchronizedSet(new HashSet<>());
 
     for (LifecycleObject lifecycleObject : phase.getOrderedLifecycleObjects()) {
       lifecycleObject.firePreNotification(registryLifecycleManager.muleContext);
@@ -76,29 +105,29 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
       return;
     }
 
+    final List<Object> targets = new ArrayList<>(targetObjects.size());
+    final Set<Object> distinctTargets = new HashSet<>();
     for (Object target : targetObjects) {
-      if (duplicates.contains(target)) {
-        continue;
-      }
-
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("lifecycle phase: " + phase.getName() + " for object: " + target);
+      if (!duplicates.contains(target) && distinctTargets.add(target)) {
+        targets.add(target);
       }
+    }
 
-      if (interceptor.beforeLifecycle(phase, target)) {
-        phase.applyLifecycle(target);
-        duplicates.add(target);
-        interceptor.afterLifecycle(phase, target);
-      } else {
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug(String.format(
-                                     "Skipping the application of the '%s' lifecycle phase over a certain object "
-                                         + "because a %s interceptor of type [%s] indicated so. Object is: %s",
-                                     phase.getName(), LifecycleInterceptor.class.getSimpleName(),
-                                     interceptor.getClass().getName(), target));
-        }
+    final List<Timing> timings = LOGGER.isDebugEnabled() ? synchronizedList(new ArrayList<>()) : null;
+    if (isParallel(phase) && targets.size() > 1) {
+      new ParallelLifecycleApplier(parallelism, registryLifecycleManager.muleContext.getSchedulerService(),
+                                   getSchedulerName(phase),
+                                   registryLifecycleManager.muleContext.getConfiguration().getShutdownTimeout())
+          .apply(targets, resolveLifecycleDependencies(targets), Stoppable.PHASE_NAME.equals(phase.getName()),
+                 target -> applyLifecycle(phase, duplicates, target, timings));
+    } else {
+      for (Object target : targets) {
+        applyLifecycle(phase, duplicates, target, timings);
       }
     }
+    if (timings != null) {
+      reportTimings(phase, lifecycleObject, timings);
+    }
 
     // the target object might have created and registered a new object
     // (e.g.: an endpoint which registers a connector)
@@ -110,6 +139,78 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
     }
   }
 
+  private void applyLifecycle(LifecyclePhase phase, Set<Object> duplicates, Object target, List<Timing> timings)
+      throws LifecycleException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("lifecycle phase: " + phase.getName() + " for object: " + target);
+    }
+
+    if (interceptor.beforeLifecycle(phase, target)) {
+      final long startTime = nanoTime();
+      phase.applyLifecycle(target);
+      if (timings != null) {
+        timings.add(new Timing(target, nanoTime() - startTime));
+      }
+      duplicates.add(target);
+      interceptor.afterLifecycle(phase, target);
+    } else {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(String.format(
+                                   "Skipping the application of the '%s' lifecycle phase over a certain object "
+                                       + "because a %s interceptor of type [%s] indicated so. Object is: %s",
+                                   phase.getName(), LifecycleInterceptor.class.getSimpleName(),
+                                   interceptor.getClass().getName(), target));
+      }
+    }
+  }
+
+  private boolean isParallel(LifecyclePhase phase) {
+    return parallelism > 1 && registryLifecycleManager.muleContext != null
+        && (Startable.PHASE_NAME.equals(phase.getName()) || Stoppable.PHASE_NAME.equals(phase.getName()));
+  }
+
+  private String getSchedulerName(LifecyclePhase phase) {
+    return "[" + registryLifecycleManager.muleContext.getConfiguration().getId() + "].lifecycle." + phase.getName();
+  }
+
+  /**
+   * Finds the dependencies among the given objects through the registries which can resolve them.
+   *
+   * @param objects the objects on which the lifecycle is about to be applied
+   * @return an identity based map with the objects among {@code objects} that each of them depends on
+   */
+  protected Map<Object, Collection<Object>> resolveLifecycleDependencies(Collection<?> objects) {
+    final Object registry = registryLifecycleManager.getLifecycleObject();
+    final Collection<?> registries =
+        registry instanceof RegistryProvider ? ((RegistryProvider) registry).getRegistries() : singletonList(registry);
+
+    final Map<Object, Collection<Object>> dependencies = new IdentityHashMap<>();
+    for (Object candidate : registries) {
+      if (candidate instanceof LifecycleDependencyResolver) {
+        ((LifecycleDependencyResolver) candidate).resolveLifecycleDependencies(objects)
+            .forEach((object, objectDependencies) -> dependencies
+                .computeIfAbsent(object, key -> new ArrayList<>()).addAll(objectDependencies));
+      }
+    }
+    return dependencies;
+  }
+
+  private void reportTimings(LifecyclePhase phase, LifecycleObject lifecycleObject, List<Timing> timings) {
+    if (timings.isEmpty()) {
+      return;
+    }
+
+    final long totalNanos = timings.stream().mapToLong(timing -> timing.nanos).sum();
+    final String slowest = timings.stream()
+        .sorted(comparing((Timing timing) -> timing.nanos).reversed())
+        .limit(SLOWEST_OBJECTS_REPORTED)
+        .map(timing -> timing.target + " (" + NANOSECONDS.toMillis(timing.nanos) + " ms)")
+        .collect(joining(", "));
+    LOGGER.debug(String.format("Applied lifecycle phase '%s' on %d objects of type %s, taking %d ms in total. "
+        + "Slowest objects: %s", phase.getName(), timings.size(), lifecycleObject.getType().getName(),
+                               NANOSECONDS.toMillis(totalNanos), slowest));
+  }
+
   protected Collection<?> lookupObjectsForLifecycle(LifecycleObject lo) {
     return registryLifecycleManager.getLifecycleObject().lookupObjectsForLifecycle(lo.getType());
   }
@@ -118,4 +219,15 @@ public class RegistryLifecycleCallback<T> implements LifecycleCallback<T>, HasLi
   public void setLifecycleInterceptor(LifecycleInterceptor interceptor) {
     this.interceptor = interceptor;
   }
+
+  private static final class Timing {
+
+    private final Object target;
+    private final long nanos;
+
+    private Timing(Object target, long nanos) {
+      this.target = target;
+      this.nanos = nanos;
+    }
+  }
 }
@@ -6,8 +6,13 @@
  */
 package org.mule.runtime.core.management.stats;
 
+import static java.util.Collections.unmodifiableMap;
+
 import org.mule.runtime.core.api.management.stats.Statistics;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 public class FlowConstructStatistics extends AbstractFlowConstructStatistics implements Statistics {
@@ -16,6 +21,8 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
   private final AtomicLong executionError = new AtomicLong(0);
   private final AtomicLong fatalError = new AtomicLong(0);
   protected final ComponentStatistics flowStatistics = new ComponentStatistics();
+  private final LatencyHistogram processingLatency = new LatencyHistogram();
+  private final ConcurrentMap<String, LatencyHistogram> processorsLatency = new ConcurrentHashMap<>();
 
   public FlowConstructStatistics(String flowConstructType, String name) {
     super(flowConstructType, name);
@@ -59,6 +66,10 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
     if (flowStatistics != null) {
       flowStatistics.clear();
     }
+    if (processingLatency != null) {
+      processingLatency.reset();
+      processorsLatency.values().forEach(LatencyHistogram::reset);
+    }
   }
 
   public void addCompleteFlowExecutionTime(long time) {
@@ -89,6 +100,35 @@ public class FlowConstructStatistics extends AbstractFlowConstructStatistics imp
     return flowStatistics.getTotalExecutionTime();
   }
 
+  /**
+   * @return the histogram of the time, in nanoseconds, elapsed from the reception of each event until each of its processing
+   *         branches completed
+   */
+  public LatencyHistogram getProcessingLatency() {
+    return processingLatency;
+  }
+
+  /**
+   * Obtains the histogram of execution times of the processor in the given path, creating it if necessary.
+   *
+   * @param processorPath the path of a processor of this flow
+   * @return the histogram of the execution times of the processor, in nanoseconds
+   */
+  public LatencyHistogram getProcessorLatency(String processorPath) {
+    LatencyHistogram histogram = processorsLatency.get(processorPath);
+    if (histogram == null) {
+      histogram = processorsLatency.computeIfAbsent(processorPath, path -> new LatencyHistogram());
+    }
+    return histogram;
+  }
+
+  /**
+   * @return the histograms of execution times of the processors of this flow, by processor path
+   */
+  public Map<String, LatencyHistogram> getProcessorsLatency() {
+    return unmodifiableMap(processorsLatency);
+  }
+
   public long getExecutionErrors() {
     return executionError.get();
   }
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of latencies, recorded in nanoseconds.
+ * <p>
+ * Values are grouped in log-linear buckets: values below {@value #SUB_BUCKET_COUNT} nanoseconds get a bucket each, and every
+ * power of two above that is split in {@value #HALF_SUB_BUCKET_COUNT} buckets, so the value reported for a percentile is within
+ * about 3% of the actual one. Values above {@link #MAX_TRACKABLE_VALUE} (a bit more than an hour) are recorded as that value.
+ * <p>
+ * Recording a value is a couple of atomic increments and does not allocate, so instances can be kept always enabled.
+ *
+ * @since 4.0
+ */
+public final class LatencyHistogram implements Serializable {
+
+  private static final long serialVersionUID = -1524861431066352315L;
+
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+  private static final int MAX_VALUE_BITS = 42;
+
+  /**
+   * The maximum value this histogram can tell apart from bigger ones.
+   */
+  public static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+
+  private static final int BUCKETS = SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+  private final AtomicLong maxValue = new AtomicLong(0);
+
+  /**
+   * Records a latency.
+   *
+   * @param nanos the latency to record, in nanoseconds. Negative values are recorded as {@code 0}.
+   */
+  public void record(long nanos) {
+    long value = min(max(nanos, 0), MAX_TRACKABLE_VALUE);
+    counts.incrementAndGet(indexFor(value));
+    count.increment();
+    total.add(value);
+
+    long currentMin = minValue.get();
+    while (value < currentMin && !minValue.compareAndSet(currentMin, value)) {
+      currentMin = minValue.get();
+    }
+    long currentMax = maxValue.get();
+    while (value > currentMax && !maxValue.compareAndSet(currentMax, value)) {
+      currentMax = maxValue.get();
+    }
+  }
+
+  /**
+   * @return the amount of recorded values
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return the sum of all the recorded values, in nanoseconds
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * @return the smallest recorded value in nanoseconds, or {@code 0} if nothing was recorded
+   */
+  public long getMin() {
+    long value = minValue.get();
+    return value == Long.MAX_VALUE ? 0 : value;
+  }
+
+  /**
+   * @return the largest recorded value in nanoseconds, or {@code 0} if nothing was recorded
+   */
+  public long getMax() {
+    return maxValue.get();
+  }
+
+  /**
+   * @return the mean of the recorded values in nanoseconds, or {@code 0} if nothing was recorded
+   */
+  public long getMean() {
+    long currentCount = getCount();
+    return currentCount == 0 ? 0 : getTotal() / currentCount;
+  }
+
+  /**
+   * Obtains the value below which the given percentage of the recorded values fall.
+   * <p>
+   * Values are being recorded concurrently, so the result is an approximation computed from a non atomic view of the histogram.
+   *
+   * @param percentile the percentile to obtain, between {@code 0} and {@code 100}
+   * @return the value for the given {@code percentile}, in nanoseconds
+   */
+  public long getValueAtPercentile(double percentile) {
+    long[] snapshot = new long[BUCKETS];
+    long snapshotCount = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      snapshot[i] = counts.get(i);
+      snapshotCount += snapshot[i];
+    }
+    if (snapshotCount == 0) {
+      return 0;
+    }
+
+    long target = max(1, (long) ceil(min(max(percentile, 0), 100) / 100 * snapshotCount));
+    long accumulated = 0;
+    for (int i = 0; i < BUCKETS; ++i) {
+      accumulated += snapshot[i];
+      if (accumulated >= target) {
+        return min(highestEquivalentValue(i), getMax());
+      }
+    }
+    return getMax();
+  }
+
+  /**
+   * Discards all the recorded values.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; ++i) {
+      counts.set(i, 0);
+    }
+    count.reset();
+    total.reset();
+    minValue.set(Long.MAX_VALUE);
+    maxValue.set(0);
+  }
+
+  static int indexFor(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int highestBit = 63 - numberOfLeadingZeros(value);
+    int shift = highestBit - (SUB_BUCKET_BITS - 1);
+    int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+    return SUB_BUCKET_COUNT + (highestBit - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long highestEquivalentValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int offset = index - SUB_BUCKET_COUNT;
+    int highestBit = offset / HALF_SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+    long mantissa = offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+    int shift = highestBit - (SUB_BUCKET_BITS - 1);
+    return ((mantissa + 1) << shift) - 1;
+  }
+}
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.management.stats;
 
+import static java.lang.System.nanoTime;
+
 import org.mule.runtime.core.api.construct.FlowConstruct;
 
 import java.io.Serializable;
@@ -23,6 +25,9 @@ public class ProcessingTime implements Serializable {
 
   private AtomicLong accumulator = new AtomicLong();
   private FlowConstructStatistics statistics;
+  // Nano times are only comparable within the JVM that took them, so they are not carried across serialization
+  private transient long startNanos = nanoTime();
+  private transient boolean startNanosSet = true;
 
   /**
    * Create a ProcessingTime for the specified MuleSession.
@@ -58,6 +63,9 @@ public class ProcessingTime implements Serializable {
     if (statistics.isEnabled()) {
       long elapsedTime = getEffectiveTime(System.currentTimeMillis() - startTime);
       statistics.addFlowExecutionBranchTime(elapsedTime, accumulator.addAndGet(elapsedTime));
+      if (startNanosSet) {
+        statistics.getProcessingLatency().record(nanoTime() - startNanos);
+      }
     }
   }
 
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.management.stats.printers;
+
+import org.mule.runtime.core.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.management.stats.LatencyHistogram;
+
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * <code>MetricsPrinter</code> prints the latency histograms of flows and processors in a line based text format, one metric per
+ * line with its labels, suitable to be periodically pulled by a metrics collector.
+ */
+public class MetricsPrinter extends PrintWriter {
+
+  private static final double[] PERCENTILES = new double[] {50, 90, 99, 99.9};
+
+  public MetricsPrinter(Writer out) {
+    super(out, true);
+  }
+
+  public MetricsPrinter(OutputStream out) {
+    super(out, true);
+  }
+
+  @Override
+  public void print(Object obj) {
+    if (obj instanceof FlowConstructStatistics) {
+      print((FlowConstructStatistics) obj);
+    } else {
+      super.print(obj);
+    }
+  }
+
+  public void print(FlowConstructStatistics stats) {
+    String flowLabels = "flow=\"" + escape(stats.getName()) + "\"";
+    println("mule_flow_events_received_total{" + flowLabels + "} " + stats.getTotalEventsReceived());
+    println("mule_flow_execution_errors_total{" + flowLabels + "} " + stats.getExecutionErrors());
+    println("mule_flow_fatal_errors_total{" + flowLabels + "} " + stats.getFatalErrors());
+    printHistogram("mule_flow_processing_time_nanos", flowLabels, stats.getProcessingLatency());
+
+    for (Map.Entry<String, LatencyHistogram> entry : new TreeMap<>(stats.getProcessorsLatency()).entrySet()) {
+      printHistogram("mule_processor_execution_time_nanos", flowLabels + ",processor=\"" + escape(entry.getKey()) + "\"",
+                     entry.getValue());
+    }
+  }
+
+  private void printHistogram(String name, String labels, LatencyHistogram histogram) {
+    for (double percentile : PERCENTILES) {
+      println(name + "{" + labels + ",quantile=\"" + percentile / 100 + "\"} " + histogram.getValueAtPercentile(percentile));
+    }
+    println(name + "_max{" + labels + "} " + histogram.getMax());
+    println(name + "_sum{" + labels + "} " + histogram.getTotal());
+    println(name + "_count{" + labels + "} " + histogram.getCount());
+  }
+
+  private String escape(String value) {
+    return value == null ? "" : value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
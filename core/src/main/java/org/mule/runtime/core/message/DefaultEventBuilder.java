@@ -182,6 +182,18 @@ public class DefaultEventBuilder implements Event.Builder {
     return this;
   }
 
+  /**
+   * Sets the {@link FlowCallStack} of the event to build. Only meant to be used when rebuilding a previously serialized event.
+   *
+   * @param flowCallStack the call stack of the event
+   * @return this builder
+   */
+  public DefaultEventBuilder flowCallStack(FlowCallStack flowCallStack) {
+    this.flowCallStack = flowCallStack;
+    this.modified = true;
+    return this;
+  }
+
   @Override
   public Builder disableNotifications() {
     this.notificationsEnabled = false;
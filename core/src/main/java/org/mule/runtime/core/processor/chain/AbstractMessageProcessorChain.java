@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.processor.chain;
 
+import static java.lang.System.nanoTime;
 import static org.mule.runtime.core.api.Event.setCurrentEvent;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -38,6 +39,8 @@ import org.mule.runtime.core.context.notification.MessageProcessorNotification;
 import org.mule.runtime.core.context.notification.ServerNotificationManager;
 import org.mule.runtime.core.exception.MessagingException;
 import org.mule.runtime.core.execution.MessageProcessorExecutionTemplate;
+import org.mule.runtime.core.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.management.stats.LatencyHistogram;
 import org.mule.runtime.core.processor.interceptor.ReactiveInterceptorAdapter;
 import org.mule.runtime.core.util.StringUtils;
 
@@ -92,7 +95,14 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
   protected Event doProcess(Event event) throws MuleException {
     for (Processor processor : getProcessorsToExecute()) {
       setCurrentEvent(event);
-      event = messageProcessorExecutionTemplate.execute(processor, event);
+      LatencyHistogram latency = resolveProcessorLatency(processor);
+      if (latency != null) {
+        long start = nanoTime();
+        event = messageProcessorExecutionTemplate.execute(processor, event);
+        latency.record(nanoTime() - start);
+      } else {
+        event = messageProcessorExecutionTemplate.execute(processor, event);
+      }
       if (event == null) {
         return null;
       }
@@ -120,6 +130,24 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
     List<BiFunction<Processor, Function<Publisher<Event>, Publisher<Event>>, Function<Publisher<Event>, Publisher<Event>>>> interceptors =
         new ArrayList<>();
 
+    // Track latency, resolving the processor path only once per processor
+    interceptors.add((processor, next) -> {
+      LatencyHistogram latency = resolveProcessorLatency(processor);
+      if (latency == null) {
+        return next;
+      }
+      FlowConstructStatistics statistics = flowConstruct.getStatistics();
+      ProcessorLatencyTracker tracker = new ProcessorLatencyTracker(latency);
+      return stream -> from(stream)
+          .doOnNext(event -> {
+            if (statistics.isEnabled()) {
+              tracker.start(event);
+            }
+          })
+          .transform(next)
+          .doOnNext(tracker::end)
+          .doOnError(MessagingException.class, exception -> tracker.end(exception.getEvent()));
+    });
     if (flowConstruct instanceof Pipeline) {
       interceptors.add((processor, next) -> ((Pipeline) flowConstruct).getProcessingStrategy().onProcessor(processor, next));
     }
@@ -153,6 +181,18 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
     return interceptorsToBeExecuted;
   }
 
+  private LatencyHistogram resolveProcessorLatency(Processor processor) {
+    if (flowConstruct == null || !(processor instanceof AnnotatedObject)
+        || ((AnnotatedObject) processor).getLocation() == null) {
+      return null;
+    }
+    FlowConstructStatistics statistics = flowConstruct.getStatistics();
+    if (statistics == null || !statistics.isEnabled()) {
+      return null;
+    }
+    return statistics.getProcessorLatency(((AnnotatedObject) processor).getLocation().getLocation());
+  }
+
   private Function<MessagingException, MessagingException> handleMessagingException(Processor processor) {
     return exception -> {
       Processor failing = exception.getFailingMessageProcessor();
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.processor.chain;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MINUTES;
+import static org.mule.runtime.core.api.config.MuleProperties.MULE_PROCESSOR_LATENCY_SAMPLE_RATE;
+
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.EventContext;
+import org.mule.runtime.core.management.stats.LatencyHistogram;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the execution time of a processor on a non-blocking chain into a {@link LatencyHistogram}.
+ * <p>
+ * Since the events that go into and come out of a processor are different instances, the start time of each sampled event is
+ * kept by its {@link EventContext} until the processor emits a result for it. Only one out of every
+ * {@link org.mule.runtime.core.api.config.MuleProperties#MULE_PROCESSOR_LATENCY_SAMPLE_RATE} events is timed so that the
+ * overhead is bounded regardless of the throughput.
+ *
+ * @since 4.0
+ */
+final class ProcessorLatencyTracker {
+
+  private static final int SAMPLE_RATE = Math.max(1, getInteger(MULE_PROCESSOR_LATENCY_SAMPLE_RATE, 16));
+  private static final int MAX_IN_FLIGHT = 1024;
+  private static final long STALE_NANOS = MINUTES.toNanos(10);
+
+  private final LatencyHistogram histogram;
+  private final ConcurrentMap<EventContext, Long> startTimes = new ConcurrentHashMap<>();
+  private final AtomicLong sampleCounter = new AtomicLong();
+
+  ProcessorLatencyTracker(LatencyHistogram histogram) {
+    this.histogram = histogram;
+  }
+
+  void start(Event event) {
+    if (sampleCounter.incrementAndGet() % SAMPLE_RATE != 0) {
+      return;
+    }
+
+    final long now = nanoTime();
+    if (startTimes.size() >= MAX_IN_FLIGHT) {
+      // events that were filtered out never come out of the processor
+      startTimes.values().removeIf(start -> now - start > STALE_NANOS);
+      if (startTimes.size() >= MAX_IN_FLIGHT) {
+        return;
+      }
+    }
+    startTimes.putIfAbsent(event.getContext(), now);
+  }
+
+  void end(Event event) {
+    if (startTimes.isEmpty() || event == null) {
+      return;
+    }
+
+    Long start = startTimes.remove(event.getContext());
+    if (start != null) {
+      histogram.record(nanoTime() - start);
+    }
+  }
+}
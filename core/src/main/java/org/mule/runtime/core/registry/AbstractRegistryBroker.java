@@ -6,6 +6,10 @@
  */
 package org.mule.runtime.core.registry;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableMap;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Disposable;
@@ -155,15 +159,33 @@ public abstract class AbstractRegistryBroker implements RegistryBroker, Registry
     return null;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The result is read-only. When the objects are found in a single registry, it is a view of that registry's result instead of
+   * a copy.
+   */
   @Override
   public <T> Collection<T> lookupObjects(Class<T> type) {
-    Collection<T> objects = new ArrayList<>();
-
+    Collection<T> objects = emptyList();
+    boolean copied = false;
     for (Registry registry : getRegistries()) {
-      objects.addAll(registry.lookupObjects(type));
+      Collection<T> found = registry.lookupObjects(type);
+      if (found.isEmpty()) {
+        continue;
+      }
+      if (objects.isEmpty()) {
+        objects = found;
+      } else {
+        if (!copied) {
+          objects = new ArrayList<>(objects);
+          copied = true;
+        }
+        objects.addAll(found);
+      }
     }
 
-    return objects;
+    return unmodifiableCollection(objects);
   }
 
   @Override
@@ -176,14 +198,33 @@ public abstract class AbstractRegistryBroker implements RegistryBroker, Registry
     return objects;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The result is read-only. When the objects are found in a single registry, it is a view of that registry's result instead of
+   * a copy.
+   */
   @Override
   public <T> Map<String, T> lookupByType(Class<T> type) {
-    Map<String, T> results = new HashMap<>();
+    Map<String, T> results = emptyMap();
+    boolean copied = false;
     for (Registry registry : getRegistries()) {
-      results.putAll(registry.lookupByType(type));
+      Map<String, T> found = registry.lookupByType(type);
+      if (found.isEmpty()) {
+        continue;
+      }
+      if (results.isEmpty()) {
+        results = found;
+      } else {
+        if (!copied) {
+          results = new HashMap<>(results);
+          copied = true;
+        }
+        results.putAll(found);
+      }
     }
 
-    return results;
+    return unmodifiableMap(results);
   }
 
   @Override
@@ -6,8 +6,12 @@
  */
 package org.mule.runtime.core.registry;
 
+import static java.lang.Boolean.getBoolean;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toMap;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.registry.TransformerResolver.RegistryAction.ADDED;
-
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Disposable;
 import org.mule.runtime.api.lifecycle.Initialisable;
@@ -40,10 +44,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -56,6 +62,12 @@ import org.slf4j.LoggerFactory;
  */
 public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
 
+  /**
+   * System property to count the lookups by type done through the registry, in order to find the callers which should keep the
+   * looked up objects instead of looking them up repeatedly. The counts are logged when the registry is disposed.
+   */
+  public static final String LOOKUP_STATISTICS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "registry.lookupStatistics";
+
   protected transient Logger logger = LoggerFactory.getLogger(MuleRegistryHelper.class);
 
   /**
@@ -89,6 +101,12 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   private Collection<Transformer> transformers = new CopyOnWriteArrayList<>();
 
+  /**
+   * The amount of lookups done for each type, only kept when {@link #LOOKUP_STATISTICS_PROPERTY} is set
+   */
+  private final Map<Class<?>, LongAdder> lookupsByType =
+      getBoolean(LOOKUP_STATISTICS_PROPERTY) ? new ConcurrentHashMap<>() : null;
+
   public MuleRegistryHelper(DefaultRegistryBroker registry, MuleContext muleContext) {
     this.registry = registry;
     this.muleContext = muleContext;
@@ -112,9 +130,31 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
   public void dispose() {
     transformerListCache.clear();
     exactTransformerCache.clear();
+    if (lookupsByType != null) {
+      logger.info("Registry lookups by type: " + getLookupStatistics());
+    }
     registry.dispose();
   }
 
+  /**
+   * @return the amount of lookups done for each type, from the most looked up one, if {@link #LOOKUP_STATISTICS_PROPERTY} is
+   *         set. Otherwise, an empty map.
+   */
+  public Map<Class<?>, Long> getLookupStatistics() {
+    if (lookupsByType == null) {
+      return Collections.emptyMap();
+    }
+    return unmodifiableMap(lookupsByType.entrySet().stream()
+        .sorted(comparing((Map.Entry<Class<?>, LongAdder> entry) -> entry.getValue().sum()).reversed())
+        .collect(toMap(Map.Entry::getKey, entry -> entry.getValue().sum(), (count, other) -> count, LinkedHashMap::new)));
+  }
+
+  private void countLookup(Class<?> type) {
+    if (lookupsByType != null) {
+      lookupsByType.computeIfAbsent(type, key -> new LongAdder()).increment();
+    }
+  }
+
   @Override
   public void fireLifecycle(String phase) throws LifecycleException {
     if (Initialisable.PHASE_NAME.equals(phase)) {
@@ -388,6 +428,7 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   @Override
   public <T> T lookupObject(Class<T> type) throws RegistrationException {
+    countLookup(type);
     return registry.lookupObject(type);
   }
 
@@ -413,11 +454,13 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   @Override
   public <T> Collection<T> lookupObjects(Class<T> type) {
+    countLookup(type);
     return registry.lookupObjects(type);
   }
 
   @Override
   public <T> Collection<T> lookupLocalObjects(Class<T> type) {
+    countLookup(type);
     return registry.lookupLocalObjects(type);
   }
 
@@ -437,6 +480,7 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
 
   @Override
   public <T> Map<String, T> lookupByType(Class<T> type) {
+    countLookup(type);
     return registry.lookupByType(type);
   }
 
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.registry;
 
+import static java.util.Collections.unmodifiableMap;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.core.api.agent.Agent;
@@ -25,6 +26,7 @@ import org.mule.runtime.core.util.CollectionUtils;
 import org.mule.runtime.core.util.ExceptionUtils;
 import org.mule.runtime.core.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -32,12 +34,13 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.commons.collections.Predicate;
-import org.apache.commons.collections.functors.InstanceofPredicate;
 import org.slf4j.Logger;
 
 /**
@@ -129,24 +132,15 @@ public class TransientRegistry extends AbstractRegistry {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned map is a read-only view shared by all the lookups of the same {@code type}, which reflects the objects of that
+   * type registered or unregistered afterwards.
+   */
   @Override
-  @SuppressWarnings("unchecked")
   public <T> Map<String, T> lookupByType(Class<T> type) {
-    final Map<String, T> results = new HashMap<String, T>();
-    try {
-      registryMap.lockForReading();
-
-      for (Map.Entry<String, Object> entry : registryMap.entrySet()) {
-        final Class<?> clazz = entry.getValue().getClass();
-        if (type.isAssignableFrom(clazz)) {
-          results.put(entry.getKey(), (T) entry.getValue());
-        }
-      }
-    } finally {
-      registryMap.unlockForReading();
-    }
-
-    return results;
+    return registryMap.selectByType(type);
   }
 
   @Override
@@ -159,10 +153,26 @@ public class TransientRegistry extends AbstractRegistry {
     return super.lookupObject(type);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned collection is a read-only view shared by all the lookups of the same {@code type}, which reflects the objects of
+   * that type registered or unregistered afterwards.
+   */
   @Override
-  @SuppressWarnings("unchecked")
   public <T> Collection<T> lookupObjects(Class<T> returntype) {
-    return (Collection<T>) registryMap.select(new InstanceofPredicate(returntype));
+    return registryMap.selectByType(returntype).values();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Unlike {@link #lookupObjects(Class)}, this returns a copy, so that the objects registered while applying the lifecycle can be
+   * told apart.
+   */
+  @Override
+  public <T> Collection<T> lookupObjectsForLifecycle(Class<T> type) {
+    return new ArrayList<>(lookupObjects(type));
   }
 
   @Override
@@ -303,10 +313,15 @@ public class TransientRegistry extends AbstractRegistry {
   /**
    * This class encapsulates the {@link HashMap} that's used for storing the objects in the transient registry and also shields
    * client code from having to deal with locking the {@link ReadWriteLock} for the exposed Map operations.
+   * <p>
+   * The objects are also indexed by each of the types they have been looked up by. The index is kept up to date as objects are
+   * registered and unregistered, so lookups by type don't need to iterate the registered objects nor to take the lock once a
+   * type has been looked up.
    */
   protected static class RegistryMap {
 
     private final Map<String, Object> registry = new HashMap<String, Object>();
+    private final ConcurrentMap<Class<?>, TypeIndex> objectsByType = new ConcurrentHashMap<>();
     private final ReadWriteLock registryLock = new ReentrantReadWriteLock();
     private final Set<Object> lostObjects = new TreeSet<Object>(new Comparator<Object>() {
 
@@ -327,6 +342,47 @@ public class TransientRegistry extends AbstractRegistry {
       logger = log;
     }
 
+    /**
+     * @param type the type of the objects to select
+     * @return a read-only view of the objects which are instances of {@code type}, by their key
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> selectByType(Class<T> type) {
+      TypeIndex objects = objectsByType.get(type);
+      if (objects == null) {
+        Lock readLock = registryLock.readLock();
+        try {
+          readLock.lock();
+          // Writers update the index while holding the write lock, so it can't miss an object registered meanwhile
+          objects = objectsByType.computeIfAbsent(type, this::index);
+        } finally {
+          readLock.unlock();
+        }
+      }
+      return (Map<String, T>) objects.view;
+    }
+
+    private TypeIndex index(Class<?> type) {
+      TypeIndex index = new TypeIndex();
+      for (Entry<String, Object> entry : registry.entrySet()) {
+        if (type.isInstance(entry.getValue())) {
+          index.objects.put(entry.getKey(), entry.getValue());
+        }
+      }
+      return index;
+    }
+
+    private void updateIndex(String key, Object previousObject, Object object) {
+      for (Entry<Class<?>, TypeIndex> indexed : objectsByType.entrySet()) {
+        final Class<?> type = indexed.getKey();
+        if (type.isInstance(object)) {
+          indexed.getValue().objects.put(key, object);
+        } else if (type.isInstance(previousObject)) {
+          indexed.getValue().objects.remove(key);
+        }
+      }
+    }
+
     public Collection<?> select(Predicate predicate) {
       Lock readLock = registryLock.readLock();
       try {
@@ -342,6 +398,7 @@ public class TransientRegistry extends AbstractRegistry {
       try {
         writeLock.lock();
         registry.clear();
+        objectsByType.clear();
         lostObjects.clear();
       } finally {
         writeLock.unlock();
@@ -354,6 +411,7 @@ public class TransientRegistry extends AbstractRegistry {
         writeLock.lock();
 
         final Object previousObject = registry.put(key, object);
+        updateIndex(key, previousObject, object);
         if (previousObject != null && previousObject != object) {
           if (previousObject instanceof Disposable) {
             lostObjects.add(previousObject);
@@ -375,6 +433,7 @@ public class TransientRegistry extends AbstractRegistry {
       try {
         writeLock.lock();
         registry.putAll(map);
+        objectsByType.clear();
       } finally {
         writeLock.unlock();
       }
@@ -395,7 +454,9 @@ public class TransientRegistry extends AbstractRegistry {
       Lock writeLock = registryLock.writeLock();
       try {
         writeLock.lock();
-        return registry.remove(key);
+        final Object previousObject = registry.remove(key);
+        updateIndex(key, previousObject, null);
+        return previousObject;
       } finally {
         writeLock.unlock();
       }
@@ -409,6 +470,15 @@ public class TransientRegistry extends AbstractRegistry {
       return lostObjects;
     }
 
+    /**
+     * The objects of a type, updated in place as objects are registered and unregistered
+     */
+    private static final class TypeIndex {
+
+      private final Map<String, Object> objects = new ConcurrentHashMap<>();
+      private final Map<String, Object> view = unmodifiableMap(objects);
+    }
+
     public void lockForReading() {
       registryLock.readLock().lock();
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps track of the failures of the calls to a target, so that once it is found to be failing no more calls are attempted
+ * against it for a while.
+ * <p>
+ * The circuit opens after {@code failureThreshold} consecutive failures. While open, {@link #tryAcquirePermission()} rejects
+ * every call until {@code openMillis} have elapsed, after which a single trial call is let through: if it succeeds the circuit
+ * closes again, if it fails it stays open for another period.
+ * <p>
+ * An instance is meant to be shared by every retry policy that targets the same backend, so that all of them back off together.
+ *
+ * @since 4.0
+ */
+public class CircuitBreaker {
+
+  public static final int DEFAULT_FAILURE_THRESHOLD = 5;
+  public static final long DEFAULT_OPEN_MILLIS = 30000;
+
+  /**
+   * The states of a {@link CircuitBreaker}.
+   */
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openNanos;
+
+  private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private volatile long openedAt;
+
+  public CircuitBreaker() {
+    this(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_MILLIS);
+  }
+
+  /**
+   * @param failureThreshold the amount of consecutive failures after which the circuit opens
+   * @param openMillis the time the circuit remains open before letting a trial call through
+   */
+  public CircuitBreaker(int failureThreshold, long openMillis) {
+    checkArgument(failureThreshold > 0, "failureThreshold must be greater than zero");
+    checkArgument(openMillis >= 0, "openMillis can't be negative");
+    this.failureThreshold = failureThreshold;
+    this.openNanos = MILLISECONDS.toNanos(openMillis);
+  }
+
+  /**
+   * @return {@code true} if a call may be attempted, {@code false} if the circuit is open
+   */
+  public boolean tryAcquirePermission() {
+    State current = state.get();
+    if (current == State.CLOSED) {
+      return true;
+    } else if (current == State.OPEN && nanoTime() - openedAt >= openNanos) {
+      return state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+    return false;
+  }
+
+  /**
+   * Records a successful call, closing the circuit.
+   */
+  public void onSuccess() {
+    consecutiveFailures.set(0);
+    if (state.get() != State.CLOSED) {
+      state.set(State.CLOSED);
+    }
+  }
+
+  /**
+   * Records a failed call, opening the circuit if it was a trial call or if the failure threshold was reached.
+   */
+  public void onFailure() {
+    if (consecutiveFailures.incrementAndGet() >= failureThreshold || state.get() == State.HALF_OPEN) {
+      openedAt = nanoTime();
+      state.set(State.OPEN);
+    }
+  }
+
+  public State getState() {
+    return state.get();
+  }
+
+  public int getFailureThreshold() {
+    return failureThreshold;
+  }
+
+  public long getOpenMillis() {
+    return NANOSECONDS.toMillis(openNanos);
+  }
+}
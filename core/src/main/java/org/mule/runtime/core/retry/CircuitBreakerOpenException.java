@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry;
+
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+/**
+ * This exception is thrown when an attempt is not performed because the {@link CircuitBreaker} of its target is open.
+ *
+ * @since 4.0
+ */
+public class CircuitBreakerOpenException extends RetryPolicyExhaustedException {
+
+  private static final long serialVersionUID = -6316582474468286117L;
+
+  public CircuitBreakerOpenException(Throwable cause, Object component) {
+    super(createStaticMessage("Circuit breaker is open, the attempt was not performed"), cause, component);
+  }
+}
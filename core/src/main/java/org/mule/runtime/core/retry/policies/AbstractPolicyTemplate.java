@@ -44,6 +44,10 @@ public abstract class AbstractPolicyTemplate implements RetryPolicyTemplate, Mul
     this.muleContext = context;
   }
 
+  protected MuleContext getMuleContext() {
+    return muleContext;
+  }
+
   public RetryContext execute(RetryCallback callback, Executor workManager) throws Exception {
     PolicyStatus status = null;
     RetryPolicy policy = createRetryInstance();
@@ -55,6 +59,7 @@ public abstract class AbstractPolicyTemplate implements RetryPolicyTemplate, Mul
       do {
         try {
           callback.doWork(context);
+          policy.onSuccess();
           if (notifier != null) {
             notifier.onSuccess(context);
           }
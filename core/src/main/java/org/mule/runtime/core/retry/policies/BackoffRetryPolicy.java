@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry.policies;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.core.retry.policies.SimpleRetryPolicyTemplate.RETRY_COUNT_FOREVER;
+import static reactor.core.publisher.Flux.defer;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.delayMillis;
+
+import org.mule.runtime.core.api.retry.BackoffStrategy;
+import org.mule.runtime.core.api.retry.RetryPolicy;
+import org.mule.runtime.core.retry.CircuitBreaker;
+import org.mule.runtime.core.retry.CircuitBreakerOpenException;
+import org.mule.runtime.core.retry.PolicyStatus;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * A {@link RetryPolicy} which waits between attempts as told by a {@link BackoffStrategy}, gives up after a maximum amount of
+ * retries or of elapsed time, and optionally reports the outcome of each attempt to a shared {@link CircuitBreaker}, not
+ * performing attempts while it is open.
+ * <p>
+ * When applied to a {@link Publisher}, the waits are scheduled on the given timer instead of blocking any thread, so a failing
+ * backend doesn't take threads away from unrelated work.
+ *
+ * @since 4.0
+ */
+public class BackoffRetryPolicy implements RetryPolicy {
+
+  protected static final Logger logger = LoggerFactory.getLogger(BackoffRetryPolicy.class);
+
+  private final BackoffStrategy backoffStrategy;
+  private final int maxRetries;
+  private final long maxElapsedMillis;
+  private final CircuitBreaker circuitBreaker;
+  private final ScheduledExecutorService timer;
+
+  private final long createdAt = nanoTime();
+  private int attempts = 0;
+  private long previousDelay = 0;
+
+  /**
+   * Creates a new instance
+   *
+   * @param backoffStrategy the {@link BackoffStrategy} which determines the time to wait between attempts
+   * @param maxRetries the maximum amount of retries, or {@link SimpleRetryPolicyTemplate#RETRY_COUNT_FOREVER}
+   * @param maxElapsedMillis the time after which no more retries are attempted, or a non positive value for no limit
+   * @param circuitBreaker the {@link CircuitBreaker} of the target of the attempts. May be {@code null}
+   * @param timer the executor on which non blocking waits are scheduled. If {@code null}, the reactor timer is used
+   */
+  public BackoffRetryPolicy(BackoffStrategy backoffStrategy, int maxRetries, long maxElapsedMillis,
+                            CircuitBreaker circuitBreaker, ScheduledExecutorService timer) {
+    this.backoffStrategy = backoffStrategy;
+    this.maxRetries = maxRetries;
+    this.maxElapsedMillis = maxElapsedMillis;
+    this.circuitBreaker = circuitBreaker;
+    this.timer = timer;
+  }
+
+  @Override
+  public <T> Publisher<T> applyPolicy(Publisher<T> publisher,
+                                      Predicate<Throwable> shouldRetry,
+                                      Consumer<Throwable> onExhausted) {
+    return defer(() -> {
+      final long start = nanoTime();
+      final AtomicInteger attempt = new AtomicInteger();
+      final AtomicLong lastDelay = new AtomicLong();
+
+      return guard(publisher).retryWhen(errors -> errors.concatMap(error -> {
+        long delay = error instanceof CircuitBreakerOpenException || !shouldRetry.test(error) ? -1
+            : nextDelay(attempt.incrementAndGet(), lastDelay.get(), start);
+        if (delay < 0) {
+          onExhausted.accept(error);
+          return Mono.<Long>error(error);
+        }
+        lastDelay.set(delay);
+        return delay(delay);
+      }));
+    });
+  }
+
+  private <T> Flux<T> guard(Publisher<T> publisher) {
+    if (circuitBreaker == null) {
+      return from(publisher);
+    }
+
+    return defer(() -> circuitBreaker.tryAcquirePermission() ? from(publisher)
+        : Flux.<T>error(new CircuitBreakerOpenException(null, null)))
+            .doOnNext(value -> circuitBreaker.onSuccess())
+            .doOnComplete(circuitBreaker::onSuccess)
+            .doOnError(error -> {
+              if (!(error instanceof CircuitBreakerOpenException)) {
+                circuitBreaker.onFailure();
+              }
+            });
+  }
+
+  private Mono<Long> delay(long millis) {
+    if (timer == null) {
+      return delayMillis(millis);
+    }
+
+    return Mono.create(sink -> {
+      try {
+        timer.schedule(() -> sink.success(millis), millis, MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        sink.error(e);
+      }
+    });
+  }
+
+  @Override
+  public PolicyStatus applyPolicy(Throwable cause) {
+    if (circuitBreaker != null) {
+      circuitBreaker.onFailure();
+    }
+
+    long delay = nextDelay(++attempts, previousDelay, createdAt);
+    if (delay < 0) {
+      return PolicyStatus.policyExhausted(cause);
+    }
+    previousDelay = delay;
+
+    if (logger.isInfoEnabled()) {
+      logger.info("Waiting for " + delay + "ms before reconnecting. Failed attempt " + attempts + " of "
+          + (maxRetries != RETRY_COUNT_FOREVER ? String.valueOf(maxRetries) : "unlimited"));
+    }
+
+    try {
+      Thread.sleep(delay);
+    } catch (InterruptedException e) {
+      // If we get an interrupt exception, some one is telling us to stop
+      return PolicyStatus.policyExhausted(e);
+    }
+
+    if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+      return PolicyStatus.policyExhausted(new CircuitBreakerOpenException(cause, null));
+    }
+    return PolicyStatus.policyOk();
+  }
+
+  @Override
+  public void onSuccess() {
+    if (circuitBreaker != null) {
+      circuitBreaker.onSuccess();
+    }
+  }
+
+  /**
+   * @return the time to wait before the given attempt, or {@code -1} if no more attempts are to be performed
+   */
+  private long nextDelay(int attempt, long lastDelay, long start) {
+    if (maxRetries != RETRY_COUNT_FOREVER && attempt > maxRetries) {
+      return -1;
+    }
+
+    long delay = Math.max(0, backoffStrategy.nextDelay(attempt, lastDelay));
+    if (maxElapsedMillis > 0 && NANOSECONDS.toMillis(nanoTime() - start) + delay > maxElapsedMillis) {
+      return -1;
+    }
+    return delay;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry.policies;
+
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
+import org.mule.runtime.core.api.retry.RetryCallback;
+import org.mule.runtime.core.api.retry.RetryContext;
+import org.mule.runtime.core.api.retry.RetryPolicy;
+import org.mule.runtime.core.retry.CircuitBreaker;
+import org.mule.runtime.core.retry.CircuitBreakerOpenException;
+
+import java.util.concurrent.Executor;
+
+/**
+ * A {@link org.mule.runtime.core.api.retry.RetryPolicyTemplate} which creates {@link BackoffRetryPolicy} instances.
+ * <p>
+ * When the policy is applied in a non blocking manner, the waits between attempts are scheduled on a
+ * {@link org.mule.runtime.core.api.scheduler.SchedulerService#ioScheduler()}, where the attempts are performed as well. The
+ * scheduler is released when this template is disposed.
+ *
+ * @since 4.0
+ */
+public class BackoffRetryPolicyTemplate extends AbstractPolicyTemplate implements Disposable {
+
+  public static final long DEFAULT_INITIAL_DELAY = 1000;
+  public static final long DEFAULT_MAX_DELAY = 60000;
+
+  private BackoffStrategy backoffStrategy = new ExponentialBackoffStrategy(DEFAULT_INITIAL_DELAY, DEFAULT_MAX_DELAY);
+  private int count = SimpleRetryPolicyTemplate.DEFAULT_RETRY_COUNT;
+  private long maxElapsedMillis = -1;
+  private CircuitBreaker circuitBreaker;
+  private volatile Scheduler timer;
+
+  public BackoffRetryPolicyTemplate() {
+    super();
+  }
+
+  public BackoffRetryPolicyTemplate(BackoffStrategy backoffStrategy, int retryCount) {
+    this.backoffStrategy = backoffStrategy;
+    this.count = retryCount;
+  }
+
+  @Override
+  public RetryPolicy createRetryInstance() {
+    return new BackoffRetryPolicy(backoffStrategy, count, maxElapsedMillis, circuitBreaker, getTimer());
+  }
+
+  @Override
+  public RetryContext execute(RetryCallback callback, Executor workManager) throws Exception {
+    if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+      throw new CircuitBreakerOpenException(null, callback.getWorkOwner());
+    }
+
+    return super.execute(callback, workManager);
+  }
+
+  private Scheduler getTimer() {
+    MuleContext muleContext = getMuleContext();
+    if (timer == null && muleContext != null && muleContext.getSchedulerService() != null) {
+      synchronized (this) {
+        if (timer == null) {
+          // the attempts are performed on the threads of the timer, and they may block
+          timer = muleContext.getSchedulerService().ioScheduler();
+        }
+      }
+    }
+    return timer;
+  }
+
+  @Override
+  public void dispose() {
+    if (timer != null) {
+      timer.shutdownNow();
+      timer = null;
+    }
+  }
+
+  public BackoffStrategy getBackoffStrategy() {
+    return backoffStrategy;
+  }
+
+  public void setBackoffStrategy(BackoffStrategy backoffStrategy) {
+    this.backoffStrategy = backoffStrategy;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public void setCount(int count) {
+    this.count = count;
+  }
+
+  public long getMaxElapsedMillis() {
+    return maxElapsedMillis;
+  }
+
+  /**
+   * @param maxElapsedMillis the time after which no more retries are attempted, or a non positive value for no limit
+   */
+  public void setMaxElapsedMillis(long maxElapsedMillis) {
+    this.maxElapsedMillis = maxElapsedMillis;
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  /**
+   * @param circuitBreaker the {@link CircuitBreaker} to share with the other policies that target the same backend
+   */
+  public void setCircuitBreaker(CircuitBreaker circuitBreaker) {
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public String toString() {
+    return "BackoffRetryPolicy{backoffStrategy=" + backoffStrategy + ", retryCount=" + count + ", maxElapsedMillis="
+        + maxElapsedMillis + '}';
+  }
+}
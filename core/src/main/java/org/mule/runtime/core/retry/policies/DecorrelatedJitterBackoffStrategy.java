@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry.policies;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.core.api.retry.BackoffStrategy;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A {@link BackoffStrategy} which waits a random time between the base delay and three times the previous delay, up to a
+ * maximum.
+ * <p>
+ * The randomness spreads the attempts of many clients that failed at the same time, so that they don't all retry against a
+ * recovering backend at once, while the time to wait still grows with the failed attempts.
+ *
+ * @since 4.0
+ */
+public class DecorrelatedJitterBackoffStrategy implements BackoffStrategy {
+
+  private final long baseDelay;
+  private final long maxDelay;
+
+  /**
+   * @param baseDelay the minimum time to wait between attempts, in milliseconds
+   * @param maxDelay the maximum time to wait between attempts, in milliseconds
+   */
+  public DecorrelatedJitterBackoffStrategy(long baseDelay, long maxDelay) {
+    checkArgument(baseDelay >= 0, "baseDelay can't be negative");
+    checkArgument(maxDelay >= baseDelay, "maxDelay can't be lower than baseDelay");
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+  }
+
+  @Override
+  public long nextDelay(int attempt, long previousDelay) {
+    long upperBound = Math.min(maxDelay, Math.max(baseDelay, previousDelay) * 3);
+    if (upperBound <= baseDelay) {
+      return baseDelay;
+    }
+    return ThreadLocalRandom.current().nextLong(baseDelay, upperBound + 1);
+  }
+
+  public long getBaseDelay() {
+    return baseDelay;
+  }
+
+  public long getMaxDelay() {
+    return maxDelay;
+  }
+
+  @Override
+  public String toString() {
+    return "DecorrelatedJitterBackoffStrategy{baseDelay=" + baseDelay + ", maxDelay=" + maxDelay + "}";
+  }
+}
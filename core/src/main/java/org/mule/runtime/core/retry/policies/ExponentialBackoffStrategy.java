@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry.policies;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import org.mule.runtime.core.api.retry.BackoffStrategy;
+
+/**
+ * A {@link BackoffStrategy} which multiplies the time to wait after each failed attempt, up to a maximum.
+ *
+ * @since 4.0
+ */
+public class ExponentialBackoffStrategy implements BackoffStrategy {
+
+  public static final double DEFAULT_MULTIPLIER = 2;
+
+  private final long initialDelay;
+  private final long maxDelay;
+  private final double multiplier;
+
+  /**
+   * @param initialDelay the time to wait after the first failed attempt, in milliseconds
+   * @param maxDelay the maximum time to wait between attempts, in milliseconds
+   */
+  public ExponentialBackoffStrategy(long initialDelay, long maxDelay) {
+    this(initialDelay, maxDelay, DEFAULT_MULTIPLIER);
+  }
+
+  /**
+   * @param initialDelay the time to wait after the first failed attempt, in milliseconds
+   * @param maxDelay the maximum time to wait between attempts, in milliseconds
+   * @param multiplier the factor by which the time to wait grows after each failed attempt
+   */
+  public ExponentialBackoffStrategy(long initialDelay, long maxDelay, double multiplier) {
+    checkArgument(initialDelay >= 0, "initialDelay can't be negative");
+    checkArgument(maxDelay >= initialDelay, "maxDelay can't be lower than initialDelay");
+    checkArgument(multiplier >= 1, "multiplier can't be lower than 1");
+    this.initialDelay = initialDelay;
+    this.maxDelay = maxDelay;
+    this.multiplier = multiplier;
+  }
+
+  @Override
+  public long nextDelay(int attempt, long previousDelay) {
+    double delay = initialDelay * Math.pow(multiplier, Math.max(0, attempt - 1));
+    return delay >= maxDelay ? maxDelay : (long) delay;
+  }
+
+  public long getInitialDelay() {
+    return initialDelay;
+  }
+
+  public long getMaxDelay() {
+    return maxDelay;
+  }
+
+  public double getMultiplier() {
+    return multiplier;
+  }
+
+  @Override
+  public String toString() {
+    return "ExponentialBackoffStrategy{initialDelay=" + initialDelay + ", maxDelay=" + maxDelay + ", multiplier=" + multiplier
+        + "}";
+  }
+}
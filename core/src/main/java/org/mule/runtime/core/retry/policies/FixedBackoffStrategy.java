@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.retry.policies;
+
+import org.mule.runtime.core.api.retry.BackoffStrategy;
+
+/**
+ * A {@link BackoffStrategy} which always waits the same time between attempts.
+ *
+ * @since 4.0
+ */
+public class FixedBackoffStrategy implements BackoffStrategy {
+
+  private final long delay;
+
+  /**
+   * @param delay the time to wait between attempts, in milliseconds
+   */
+  public FixedBackoffStrategy(long delay) {
+    this.delay = delay;
+  }
+
+  @Override
+  public long nextDelay(int attempt, long previousDelay) {
+    return delay;
+  }
+
+  public long getDelay() {
+    return delay;
+  }
+
+  @Override
+  public String toString() {
+    return "FixedBackoffStrategy{delay=" + delay + "}";
+  }
+}
@@ -14,6 +14,7 @@ import org.mule.runtime.core.api.message.InternalMessage;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.context.MuleContextAware;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
 import org.mule.runtime.api.i18n.I18nMessageFactory;
 import org.mule.runtime.core.exception.MessagingException;
 
@@ -87,6 +88,18 @@ public abstract class AbstractUntilSuccessfulProcessingStrategy implements Until
         .build()).build();
   }
 
+  /**
+   * @param retry the number of the attempt that failed, starting at {@code 1}
+   * @param previousDelay the delay used after the previous failed attempt, or {@code 0} if this is the first one
+   * @return the time to wait before the next attempt as given by the configured {@link BackoffStrategy}, or
+   *         {@link UntilSuccessfulConfiguration#getMillisBetweenRetries()} if there's none.
+   */
+  protected long getRetryDelay(int retry, long previousDelay) {
+    BackoffStrategy backoffStrategy = getUntilSuccessfulConfiguration().getBackoffStrategy();
+    return backoffStrategy != null ? backoffStrategy.nextDelay(retry, previousDelay)
+        : getUntilSuccessfulConfiguration().getMillisBetweenRetries();
+  }
+
   /**
    * @return configuration of the until-successful router.
    */
@@ -102,7 +115,7 @@ public abstract class AbstractUntilSuccessfulProcessingStrategy implements Until
 
   protected abstract Event doRoute(final Event event, FlowConstruct flow) throws MuleException;
 
-  private void prepareAndValidateEvent(final Event event) throws MessagingException {
+  protected void prepareAndValidateEvent(final Event event) throws MessagingException {
     try {
       final InternalMessage message = event.getMessage();
       if (message instanceof InternalMessage) {
@@ -12,6 +12,7 @@ import static org.mule.runtime.core.api.Event.getVariableValueOrNull;
 import static org.mule.runtime.core.api.scheduler.SchedulerConfig.config;
 import static org.mule.runtime.core.routing.UntilSuccessful.DEFAULT_PROCESS_ATTEMPT_COUNT_PROPERTY_VALUE;
 import static org.mule.runtime.core.routing.UntilSuccessful.PROCESS_ATTEMPT_COUNT_PROPERTY_NAME;
+import static org.mule.runtime.core.routing.UntilSuccessful.PROCESS_RETRY_DELAY_PROPERTY_NAME;
 import static org.mule.runtime.core.util.StringUtils.DASH;
 import static org.mule.runtime.core.util.concurrent.ThreadNameHelper.getPrefix;
 import static org.mule.runtime.core.util.store.QueuePersistenceObjectStore.DEFAULT_QUEUE_STORE;
@@ -29,6 +30,7 @@ import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.exception.MessagingExceptionHandler;
 import org.mule.runtime.core.api.exception.MessagingExceptionHandlerAware;
 import org.mule.runtime.core.api.message.InternalMessage;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
 import org.mule.runtime.core.api.store.ObjectStoreException;
 import org.mule.runtime.core.config.ExceptionHelper;
 import org.mule.runtime.core.config.i18n.CoreMessages;
@@ -51,6 +53,9 @@ import org.slf4j.LoggerFactory;
  * After that it will asynchronously try to process the message through the internal route. If route was not successfully executed
  * after the configured retry count then the message will be routed to the defined dead letter queue route or in case there is no
  * dead letter queue route then it will be handled by the flow exception strategy.
+ * <p>
+ * The time to wait between attempts is given by the configured {@link BackoffStrategy}. The last delay is kept along with the
+ * attempt count in the stored event.
  */
 public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntilSuccessfulProcessingStrategy
     implements Initialisable, Startable, Stoppable, MessagingExceptionHandlerAware {
@@ -89,7 +94,7 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
   protected Event doRoute(Event event, FlowConstruct flow) throws MuleException {
     try {
       final Serializable eventStoreKey = storeEvent(event, flow);
-      scheduleForProcessing(eventStoreKey, true);
+      submitForProcessing(eventStoreKey);
       if (getUntilSuccessfulConfiguration().getAckExpression() == null) {
         return event;
       }
@@ -106,7 +111,7 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
     try {
       for (final Serializable eventStoreKey : getUntilSuccessfulConfiguration().getObjectStore().allKeys()) {
         try {
-          scheduleForProcessing(eventStoreKey, true);
+          submitForProcessing(eventStoreKey);
         } catch (final Exception e) {
           logger.error(I18nMessageFactory
               .createStaticMessage("Failed to schedule for processing event stored with key: " + eventStoreKey).toString(), e);
@@ -120,13 +125,8 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
     }
   }
 
-  private void scheduleForProcessing(final Serializable eventStoreKey, boolean firstTime) {
-    if (firstTime) {
-      submitForProcessing(eventStoreKey);
-    } else {
-      this.pool.schedule(() -> doProcess(eventStoreKey), getUntilSuccessfulConfiguration().getMillisBetweenRetries(),
-                         MILLISECONDS);
-    }
+  private void scheduleForProcessing(final Serializable eventStoreKey, long delay) {
+    this.pool.schedule(() -> doProcess(eventStoreKey), delay, MILLISECONDS);
   }
 
   protected void submitForProcessing(final Serializable eventStoreKey) {
@@ -152,11 +152,15 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
 
       Event incrementedEvent = event;
       if (deliveryAttemptCount <= getUntilSuccessfulConfiguration().getMaxRetries()) {
+        final Long previousDelay = getVariableValueOrNull(PROCESS_RETRY_DELAY_PROPERTY_NAME, event);
+        final long delay = getRetryDelay(deliveryAttemptCount, previousDelay != null ? previousDelay : 0);
+
         // we store the incremented version unless the max attempt count has been reached
         incrementedEvent = Event.builder(incrementedEvent)
-            .addVariable(PROCESS_ATTEMPT_COUNT_PROPERTY_NAME, deliveryAttemptCount + 1).build();
+            .addVariable(PROCESS_ATTEMPT_COUNT_PROPERTY_NAME, deliveryAttemptCount + 1)
+            .addVariable(PROCESS_RETRY_DELAY_PROPERTY_NAME, delay).build();
         getUntilSuccessfulConfiguration().getObjectStore().store(eventStoreKey, incrementedEvent);
-        this.scheduleForProcessing(eventStoreKey, false);
+        this.scheduleForProcessing(eventStoreKey, delay);
       } else {
         abandonRetries(event, incrementedEvent, lastException);
       }
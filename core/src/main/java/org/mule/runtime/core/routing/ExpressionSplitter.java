@@ -8,15 +8,22 @@ package org.mule.runtime.core.routing;
 
 import static java.util.Collections.singletonList;
 import static org.mule.runtime.core.routing.MapSplitter.MAP_ENTRY_KEY;
+
+import org.mule.runtime.api.streaming.objects.CursorIteratorProvider;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.message.InternalMessage;
 import org.mule.runtime.api.el.ExpressionEvaluator;
 import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.expression.ExpressionConfig;
+import org.mule.runtime.core.routing.outbound.CollectionMessageSequence;
+import org.mule.runtime.core.routing.outbound.IteratorMessageSequence;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -29,6 +36,9 @@ import org.w3c.dom.NodeList;
 /**
  * Splits a message using the expression provided invoking the next message processor one for each split part.
  * <p>
+ * When the expression evaluates to a collection, array, {@link Iterator}, {@link Iterable} or {@link CursorIteratorProvider},
+ * the message for each part is created only when that part is about to be processed.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/Sequencer.html">http://www.eaipatterns.com/Sequencer.html</a>
  */
 public class ExpressionSplitter extends AbstractSplitter implements Initialisable {
@@ -50,11 +60,43 @@ public class ExpressionSplitter extends AbstractSplitter implements Initialisabl
     config.validate(expressionManager);
   }
 
+  @Override
+  protected MessageSequence<?> splitMessageIntoSequence(Event event) {
+    Object result = evaluate(event);
+    if (result instanceof Object[]) {
+      result = Arrays.asList((Object[]) result);
+    }
+
+    if (result instanceof Collection<?>) {
+      // only references are copied, so that the collection can be modified while its parts are processed
+      Object[] values = ((Collection<?>) result).toArray();
+      return lazySequence(Arrays.asList(values).iterator(), values.length);
+    } else if (result instanceof CursorIteratorProvider) {
+      return lazySequence(((CursorIteratorProvider) result).openCursor(), MessageSequence.UNKNOWN_SIZE);
+    } else if (result instanceof Iterable<?>) {
+      return lazySequence(((Iterable<?>) result).iterator(), MessageSequence.UNKNOWN_SIZE);
+    } else if (result instanceof Iterator<?>) {
+      return lazySequence((Iterator<?>) result, MessageSequence.UNKNOWN_SIZE);
+    } else {
+      return new CollectionMessageSequence(split(event, result));
+    }
+  }
+
+  private MessageSequence<?> lazySequence(Iterator<?> values, Integer size) {
+    return new IteratorMessageSequence(new PartMessageIterator(values), size);
+  }
+
   @Override
   protected List<Event> splitMessage(Event event) {
-    Object result =
-        muleContext.getExpressionManager().evaluate(config.getFullExpression(expressionManager), event, flowConstruct)
-            .getValue();
+    return split(event, evaluate(event));
+  }
+
+  private Object evaluate(Event event) {
+    return muleContext.getExpressionManager().evaluate(config.getFullExpression(expressionManager), event, flowConstruct)
+        .getValue();
+  }
+
+  private List<Event> split(Event event, Object result) {
     if (result instanceof Object[]) {
       result = Arrays.asList((Object[]) result);
     }
@@ -103,4 +145,32 @@ public class ExpressionSplitter extends AbstractSplitter implements Initialisabl
     this.config.setExpression(expression);
   }
 
+  /**
+   * Creates the message for each value only when it is requested.
+   */
+  private static final class PartMessageIterator implements Iterator<InternalMessage>, Closeable {
+
+    private final Iterator<?> values;
+
+    private PartMessageIterator(Iterator<?> values) {
+      this.values = values;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return values.hasNext();
+    }
+
+    @Override
+    public InternalMessage next() {
+      return InternalMessage.builder().payload(values.next()).build();
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (values instanceof Closeable) {
+        ((Closeable) values).close();
+      }
+    }
+  }
 }
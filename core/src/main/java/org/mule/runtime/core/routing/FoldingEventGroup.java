@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.store.ObjectStoreException;
+
+import java.util.Optional;
+
+/**
+ * An {@link EventGroup} that folds each event into a {@link ResultsAccumulator} as it arrives instead of keeping it in the
+ * events store, so the memory needed by the group doesn't depend on the amount of events in it.
+ * <p>
+ * Since the events are not kept, {@link #toArray(boolean)} and {@link #iterator(boolean)} return no events. The accumulated
+ * value is not serialized, so this group can only be kept in in-memory stores.
+ *
+ * @since 4.0
+ */
+public class FoldingEventGroup extends EventGroup {
+
+  private static final long serialVersionUID = -3307540420185386442L;
+
+  private final transient ResultsAccumulator<Object> accumulator;
+  private transient Object accumulated;
+  private transient Event lastEvent;
+  private int size = 0;
+
+  @SuppressWarnings("unchecked")
+  public FoldingEventGroup(Object groupId, MuleContext muleContext, Optional<Integer> expectedSize, String storePrefix,
+                           ResultsAccumulator<?> accumulator) {
+    super(groupId, muleContext, expectedSize, storePrefix);
+    this.accumulator = (ResultsAccumulator<Object>) accumulator;
+  }
+
+  @Override
+  public void addEvent(Event event) throws ObjectStoreException {
+    synchronized (this) {
+      try {
+        if (size == 0) {
+          accumulated = accumulator.create(event);
+        }
+        accumulated = accumulator.accumulate(accumulated, event);
+      } catch (MuleException e) {
+        throw new ObjectStoreException(e);
+      }
+      lastEvent = event;
+      ++size;
+    }
+  }
+
+  @Override
+  public int size() {
+    synchronized (this) {
+      return size;
+    }
+  }
+
+  @Override
+  public Event[] toArray(boolean sortByArrival) throws ObjectStoreException {
+    return EMPTY_EVENTS_ARRAY;
+  }
+
+  /**
+   * Creates the event that results from the events accumulated so far.
+   *
+   * @return the resulting event, or {@code null} if no event was added to this group
+   * @throws MuleException if the accumulator fails to create the result
+   */
+  public Event complete() throws MuleException {
+    synchronized (this) {
+      return size == 0 ? null : accumulator.complete(accumulated, lastEvent);
+    }
+  }
+
+  @Override
+  public Event getMessageCollectionEvent() {
+    try {
+      return complete();
+    } catch (MuleException e) {
+      // Nothing to do...
+      return null;
+    }
+  }
+
+  @Override
+  public void clear() throws ObjectStoreException {
+    synchronized (this) {
+      super.clear();
+      accumulated = null;
+      lastEvent = null;
+      size = 0;
+    }
+  }
+}
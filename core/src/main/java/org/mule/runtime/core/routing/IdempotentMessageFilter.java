@@ -9,6 +9,7 @@ package org.mule.runtime.core.routing;
 import static java.lang.String.format;
 import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_POSTFIX;
 import static org.mule.runtime.core.api.el.ExpressionManager.DEFAULT_EXPRESSION_PREFIX;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.util.concurrent.ThreadNameHelper.getPrefix;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.api.exception.MuleException;
@@ -26,6 +27,8 @@ import org.mule.runtime.core.exception.MessagingException;
 import org.mule.runtime.core.processor.AbstractFilteringMessageProcessor;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +38,14 @@ import org.slf4j.LoggerFactory;
  * the incoming message. Note that the underlying endpoint must support unique message IDs for this to work, otherwise a
  * <code>UniqueIdNotSupportedException</code> is thrown.<br>
  * <p>
+ * When {@link #setExpectedEntries(int) expectedEntries} is set, a Bloom filter sized for that amount of ids per
+ * {@link #setEntryTtl(long) entryTtl} is kept in front of the store. Ids that the filter has certainly not seen are stored right
+ * away, relying on {@link ObjectStore#store(java.io.Serializable, java.io.Serializable)} failing for existing keys, so new
+ * messages take a single store operation. Only the ids that may have been seen are looked up first.
+ * <p>
+ * The ids may also be spread among several {@link #setShards(int) shards}, each with its own store and filter, so that
+ * concurrent consumers don't contend on the same ones.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/IdempotentReceiver.html">
  * http://www.eaipatterns.com/IdempotentReceiver.html</a>
  */
@@ -42,9 +53,17 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
 
   private static final Logger LOGGER = LoggerFactory.getLogger(IdempotentMessageFilter.class);
 
+  private static final double BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY = 0.01;
+
   protected volatile ObjectStore<String> store;
   protected String storePrefix;
 
+  private volatile List<ObjectStore<String>> shardStores;
+  private MessageIdBloomFilter[] bloomFilters;
+  private int expectedEntries = 0;
+  private int shards = 1;
+  private long entryTtl = 60 * 5 * 1000;
+
   protected String idExpression = MessageFormat.format("{0}mel:message:id{1}", DEFAULT_EXPRESSION_PREFIX,
                                                        DEFAULT_EXPRESSION_POSTFIX);
 
@@ -60,21 +79,63 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
     if (storePrefix == null) {
       storePrefix = format("%s.%s.%s", getPrefix(muleContext), flowConstruct.getName(), this.getClass().getName());
     }
-    if (store == null) {
+    boolean createStores = store == null;
+    if (createStores) {
       this.store = createMessageIdStore();
     }
+    List<ObjectStore<String>> stores = createShards(createStores);
 
     LifecycleUtils.initialiseIfNeeded(store);
+    for (int i = 1; i < stores.size(); ++i) {
+      if (stores.get(i) != store) {
+        LifecycleUtils.initialiseIfNeeded(stores.get(i));
+      }
+    }
+    this.shardStores = stores;
+  }
+
+  private List<ObjectStore<String>> createShards(boolean createStores) throws InitialisationException {
+    if (shards < 1) {
+      throw new InitialisationException(createStaticMessage("shards must be greater than zero"), this);
+    }
+
+    List<ObjectStore<String>> stores = new ArrayList<>(shards);
+    stores.add(store);
+    for (int i = 1; i < shards; ++i) {
+      // a provided store is shared by all the shards
+      stores.add(createStores ? createMessageIdStore(storePrefix + "." + i) : store);
+    }
+
+    if (expectedEntries > 0) {
+      MessageIdBloomFilter[] filters = new MessageIdBloomFilter[shards];
+      for (int i = 0; i < shards; ++i) {
+        filters[i] = new MessageIdBloomFilter(Math.max(1, expectedEntries / shards), BLOOM_FILTER_FALSE_POSITIVE_PROBABILITY,
+                                              entryTtl);
+      }
+      bloomFilters = filters;
+    }
+    return stores;
   }
 
   @Override
   public void dispose() {
+    if (shardStores != null) {
+      for (int i = 1; i < shardStores.size(); ++i) {
+        if (shardStores.get(i) != store) {
+          LifecycleUtils.disposeIfNeeded(shardStores.get(i), LOGGER);
+        }
+      }
+    }
     LifecycleUtils.disposeIfNeeded(store, LOGGER);
   }
 
   protected ObjectStore<String> createMessageIdStore() throws InitialisationException {
+    return createMessageIdStore(storePrefix);
+  }
+
+  private ObjectStore<String> createMessageIdStore(String name) {
     ObjectStoreManager objectStoreManager = muleContext.getRegistry().get(MuleProperties.OBJECT_STORE_MANAGER);
-    return objectStoreManager.getObjectStore(storePrefix, false, -1, 60 * 5 * 1000, 6000);
+    return objectStoreManager.getObjectStore(name, false, -1, (int) entryTtl, 6000);
   }
 
   @Override
@@ -108,40 +169,59 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
 
   @Override
   protected boolean accept(Event event, Event.Builder builder) {
-    if (event != null && isNewMessage(event)) {
-      try {
-        String id = getIdForEvent(event);
-        String value = getValueForEvent(event);
-        try {
-          store.store(id, value);
-          return true;
-        } catch (ObjectAlreadyExistsException ex) {
-          return false;
-        } catch (ObjectStoreNotAvaliableException e) {
-          logger.error("ObjectStore not available: " + e.getMessage());
-          return false;
-        } catch (ObjectStoreException e) {
-          logger.warn("ObjectStore exception: " + e.getMessage());
-          return false;
-        }
-      } catch (MuleException e) {
-        logger.warn("Could not retrieve Id or Value for event: " + e.getMessage());
+    if (event == null) {
+      return false;
+    }
+
+    String id;
+    try {
+      id = getIdForEvent(event);
+    } catch (MuleException e) {
+      logger.warn("Could not retrieve Id or Value for event: " + e.getMessage());
+      return false;
+    }
+
+    try {
+      ensureInitialised();
+    } catch (MuleException e) {
+      logger.error("Exception attempting to determine idempotency of incoming message for " + flowConstruct.getName()
+          + " from the connector " + event.getContext().getOriginatingConnectorName(), e);
+      return false;
+    }
+
+    int shard = shardFor(id);
+    ObjectStore<String> shardStore = shardStores.get(shard);
+    MessageIdBloomFilter bloomFilter = bloomFilters != null ? bloomFilters[shard] : null;
+    try {
+      // without a filter, or when the filter says the id may have been seen, look it up before evaluating the value
+      if ((bloomFilter == null || bloomFilter.mightContain(id)) && shardStore.contains(id)) {
         return false;
       }
-    } else {
+      shardStore.store(id, getValueForEvent(event));
+      return true;
+    } catch (ObjectAlreadyExistsException ex) {
+      return false;
+    } catch (ObjectStoreNotAvaliableException e) {
+      logger.error("ObjectStore not available: " + e.getMessage());
+      return false;
+    } catch (ObjectStoreException e) {
+      logger.warn("ObjectStore exception: " + e.getMessage());
+      return false;
+    } catch (MuleException e) {
+      logger.warn("Could not retrieve Id or Value for event: " + e.getMessage());
       return false;
+    } finally {
+      if (bloomFilter != null) {
+        bloomFilter.put(id);
+      }
     }
   }
 
   protected boolean isNewMessage(Event event) {
     try {
       String id = this.getIdForEvent(event);
-      if (store == null) {
-        synchronized (this) {
-          initialise();
-        }
-      }
-      return !store.contains(id);
+      ensureInitialised();
+      return !shardStores.get(shardFor(id)).contains(id);
     } catch (MuleException e) {
       logger.error("Exception attempting to determine idempotency of incoming message for " + flowConstruct.getName()
           + " from the connector " + event.getContext().getOriginatingConnectorName(), e);
@@ -149,6 +229,22 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
     }
   }
 
+  private void ensureInitialised() throws InitialisationException {
+    if (shardStores == null) {
+      synchronized (this) {
+        if (store == null) {
+          initialise();
+        } else if (shardStores == null) {
+          shardStores = createShards(false);
+        }
+      }
+    }
+  }
+
+  private int shardFor(String id) {
+    return shards == 1 ? 0 : (id.hashCode() & Integer.MAX_VALUE) % shards;
+  }
+
   public String getValueExpression() {
     return valueExpression;
   }
@@ -160,4 +256,39 @@ public class IdempotentMessageFilter extends AbstractFilteringMessageProcessor i
   public void setStorePrefix(String storePrefix) {
     this.storePrefix = storePrefix;
   }
+
+  public int getExpectedEntries() {
+    return expectedEntries;
+  }
+
+  /**
+   * @param expectedEntries the amount of distinct ids expected during {@link #setEntryTtl(long) entryTtl}, used to size the Bloom
+   *        filter in front of the store. {@code 0}, the default, disables the filter.
+   */
+  public void setExpectedEntries(int expectedEntries) {
+    this.expectedEntries = expectedEntries;
+  }
+
+  public int getShards() {
+    return shards;
+  }
+
+  /**
+   * @param shards the amount of partitions the ids are spread among by their hash. Defaults to {@code 1}.
+   */
+  public void setShards(int shards) {
+    this.shards = shards;
+  }
+
+  public long getEntryTtl() {
+    return entryTtl;
+  }
+
+  /**
+   * @param entryTtl the time in milliseconds an id is remembered for, when the store is created by this filter. Defaults to five
+   *        minutes.
+   */
+  public void setEntryTtl(long entryTtl) {
+    this.entryTtl = entryTtl;
+  }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.message.InternalMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link ResultsAccumulator} that collects the messages of the accumulated events into a collection payload, the same way
+ * {@link DefaultRouterResultsHandler} and {@link EventGroup#getMessageCollectionEvent()} do, but keeping only the messages rather
+ * than every event.
+ *
+ * @since 4.0
+ */
+public class MessageCollectionAccumulator implements ResultsAccumulator<List<InternalMessage>> {
+
+  @Override
+  public List<InternalMessage> create(Event event) {
+    return new ArrayList<>();
+  }
+
+  @Override
+  public List<InternalMessage> accumulate(List<InternalMessage> accumulated, Event event) {
+    if (event.getMessage() != null) {
+      accumulated.add(event.getMessage());
+    }
+    return accumulated;
+  }
+
+  @Override
+  public Event complete(List<InternalMessage> accumulated, Event event) {
+    return Event.builder(event)
+        .message(InternalMessage.builder().collectionPayload(accumulated, InternalMessage.class).build()).build();
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.log;
+import static java.lang.Math.max;
+import static java.lang.Math.round;
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * A lock-free Bloom filter of message ids, used by {@link IdempotentMessageFilter} to avoid looking up in its store the ids that
+ * certainly were not seen before.
+ * <p>
+ * In order to keep its memory bounded while ids expire from the store, the filter keeps two generations of bits: ids are added
+ * to the current one and looked up in both. Every {@code windowMillis} the previous generation is discarded and the current one
+ * becomes the previous, so an id is reported as possibly seen for at least one window and at most two.
+ * <p>
+ * A positive answer may be wrong with a probability that is close to the configured one as long as no more than
+ * {@code expectedEntries} ids are added on each window. A negative answer is always right.
+ *
+ * @since 4.0
+ */
+final class MessageIdBloomFilter {
+
+  private static final double LN2 = log(2);
+
+  private final int bitCount;
+  private final int hashCount;
+  private final long windowNanos;
+  private final LongSupplier nanoClock;
+
+  private volatile AtomicLongArray current;
+  private volatile AtomicLongArray previous;
+  private volatile long rotateAt;
+
+  /**
+   * @param expectedEntries the amount of ids expected to be added during each window
+   * @param falsePositiveProbability the desired probability of a false positive, between {@code 0} and {@code 1}
+   * @param windowMillis the time after which added ids may be forgotten, or a non positive value to never forget them
+   */
+  MessageIdBloomFilter(int expectedEntries, double falsePositiveProbability, long windowMillis) {
+    this(expectedEntries, falsePositiveProbability, windowMillis, System::nanoTime);
+  }
+
+  /**
+   * @param expectedEntries the amount of ids expected to be added during each window
+   * @param falsePositiveProbability the desired probability of a false positive, between {@code 0} and {@code 1}
+   * @param windowMillis the time after which added ids may be forgotten, or a non positive value to never forget them
+   * @param nanoClock the source of the current time in nanoseconds, used to decide when the window elapses
+   */
+  MessageIdBloomFilter(int expectedEntries, double falsePositiveProbability, long windowMillis, LongSupplier nanoClock) {
+    checkArgument(expectedEntries > 0, "expectedEntries must be greater than zero");
+    checkArgument(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+                  "falsePositiveProbability must be between 0 and 1");
+
+    long bits = (long) ceil(-expectedEntries * log(falsePositiveProbability) / (LN2 * LN2));
+    this.bitCount = (int) Math.min(max(bits, 64), Integer.MAX_VALUE - 63);
+    this.hashCount = (int) max(1, round((double) bitCount / expectedEntries * LN2));
+    this.windowNanos = windowMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(windowMillis) : -1;
+    this.nanoClock = nanoClock;
+
+    this.current = newBits();
+    this.previous = newBits();
+    this.rotateAt = nanoClock.getAsLong() + windowNanos;
+  }
+
+  /**
+   * @param id a message id
+   * @return {@code false} if the id was certainly not added during the last window, {@code true} if it may have been
+   */
+  boolean mightContain(String id) {
+    rotateIfNeeded();
+    long hash = hash(id);
+    return contains(current, hash) || contains(previous, hash);
+  }
+
+  /**
+   * Adds the given id to the filter.
+   *
+   * @param id a message id
+   */
+  void put(String id) {
+    rotateIfNeeded();
+    AtomicLongArray bits = current;
+    long hash = hash(id);
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; ++i) {
+      int bit = bitIndex(h1 + i * h2);
+      int word = bit >>> 6;
+      long mask = 1L << bit;
+      long value = bits.get(word);
+      while ((value & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+        value = bits.get(word);
+      }
+    }
+  }
+
+  private boolean contains(AtomicLongArray bits, long hash) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    for (int i = 1; i <= hashCount; ++i) {
+      int bit = bitIndex(h1 + i * h2);
+      if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int bitIndex(int combinedHash) {
+    return (combinedHash & Integer.MAX_VALUE) % bitCount;
+  }
+
+  private void rotateIfNeeded() {
+    if (windowNanos > 0 && nanoClock.getAsLong() - rotateAt >= 0) {
+      synchronized (this) {
+        if (nanoClock.getAsLong() - rotateAt >= 0) {
+          previous = current;
+          current = newBits();
+          rotateAt = nanoClock.getAsLong() + windowNanos;
+        }
+      }
+    }
+  }
+
+  private AtomicLongArray newBits() {
+    return new AtomicLongArray((bitCount + 63) >>> 6);
+  }
+
+  /**
+   * 64 bit FNV-1a followed by the murmur3 finalizer, so that both halves of the result are well distributed.
+   */
+  private static long hash(String id) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < id.length(); ++i) {
+      hash ^= id.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
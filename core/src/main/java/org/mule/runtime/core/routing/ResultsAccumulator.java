@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.Event;
+
+/**
+ * Folds a sequence of {@link Event}s into a single one, one event at a time, so that the events don't have to be kept until the
+ * whole sequence is available.
+ * <p>
+ * Used by splitters to combine the results of processing each part, and by aggregators to combine the events of a correlation
+ * group. Implementations are invoked by a single thread at a time for a given accumulated value.
+ *
+ * @param <A> the type of the accumulated value
+ * @since 4.0
+ */
+public interface ResultsAccumulator<A> {
+
+  /**
+   * @param event the first event of the sequence, before it is accumulated
+   * @return the initial accumulated value
+   */
+  A create(Event event);
+
+  /**
+   * Folds an event into the accumulated value.
+   *
+   * @param accumulated the value accumulated so far
+   * @param event the event to accumulate
+   * @return the new accumulated value, which may be the same instance as {@code accumulated}
+   * @throws MuleException if the event cannot be accumulated
+   */
+  A accumulate(A accumulated, Event event) throws MuleException;
+
+  /**
+   * Creates the resulting event once all the events of the sequence were accumulated.
+   *
+   * @param accumulated the value accumulated from all the events
+   * @param event the event the result is based on. For a splitter it is the event that was split, for an aggregator it is the
+   *        last event of the group.
+   * @return the resulting event
+   * @throws MuleException if the result cannot be created
+   */
+  Event complete(A accumulated, Event event) throws MuleException;
+}
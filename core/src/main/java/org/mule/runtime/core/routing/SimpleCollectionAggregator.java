@@ -6,21 +6,51 @@
  */
 package org.mule.runtime.core.routing;
 
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+
+import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.routing.correlation.CollectionCorrelatorCallback;
 import org.mule.runtime.core.routing.correlation.EventCorrelatorCallback;
+import org.mule.runtime.core.routing.correlation.FoldingCorrelatorCallback;
 
 import java.util.Collection;
 
 /**
  * This router will return all aggregated events as a {@link Collection}. This allows the service itself to act upon the events
- * rather that the user having to write a custom aggregator. This may feel more natural for some users. <b>EIP Reference:</b>
- * <a href="http://www.eaipatterns.com/Aggregator.html" >http://www.eaipatterns.com/Aggregator.html</a>
+ * rather that the user having to write a custom aggregator. This may feel more natural for some users.
+ * <p>
+ * When a {@link ResultsAccumulator} is set, each event is folded into it as it arrives rather than kept until its group is
+ * complete. This requires in-memory stores.
+ * <p>
+ * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/Aggregator.html" >http://www.eaipatterns.com/Aggregator.html</a>
  */
 public class SimpleCollectionAggregator extends AbstractAggregator {
 
+  private ResultsAccumulator<?> resultsAccumulator;
+
+  @Override
+  public void initialise() throws InitialisationException {
+    if (resultsAccumulator != null && persistentStores) {
+      throw new InitialisationException(createStaticMessage("A resultsAccumulator can't be used with persistent stores"), this);
+    }
+    super.initialise();
+  }
+
   @Override
   protected EventCorrelatorCallback getCorrelatorCallback(MuleContext muleContext) {
+    if (resultsAccumulator != null) {
+      return new FoldingCorrelatorCallback(muleContext, storePrefix, resultsAccumulator);
+    }
     return new CollectionCorrelatorCallback(muleContext, storePrefix);
   }
+
+  /**
+   * Folds the events of each group into the given accumulator as they arrive instead of keeping all of them.
+   *
+   * @param resultsAccumulator the accumulator to use, or {@code null} to keep the events in the store
+   */
+  public void setResultsAccumulator(ResultsAccumulator<?> resultsAccumulator) {
+    this.resultsAccumulator = resultsAccumulator;
+  }
 }
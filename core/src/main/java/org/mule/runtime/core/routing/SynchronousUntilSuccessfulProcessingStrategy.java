@@ -7,6 +7,10 @@
 package org.mule.runtime.core.routing;
 
 import static org.mule.runtime.core.api.Event.setCurrentEvent;
+import static org.mule.runtime.core.api.rx.Exceptions.newEventDroppedException;
+import static reactor.core.publisher.Mono.defer;
+import static reactor.core.publisher.Mono.error;
+import static reactor.core.publisher.Mono.just;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.Initialisable;
@@ -15,17 +19,27 @@ import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.Event.Builder;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.message.InternalMessage;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
 import org.mule.runtime.core.api.routing.RoutingException;
+import org.mule.runtime.core.api.rx.Exceptions.EventDroppedException;
 import org.mule.runtime.core.config.i18n.CoreMessages;
+import org.mule.runtime.core.retry.policies.BackoffRetryPolicy;
 import org.mule.runtime.core.session.DefaultMuleSession;
 
 import java.io.NotSerializableException;
+import java.util.concurrent.ScheduledExecutorService;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 /**
  * Until successful synchronous processing strategy. It will execute the until-successful router within the callers thread.
+ * <p>
+ * The time to wait between attempts is given by the configured {@link BackoffStrategy}. When routing through
+ * {@link #route(Event, FlowConstruct, ScheduledExecutorService)} the waits are scheduled on a timer instead of keeping the
+ * caller's thread asleep.
  */
 public class SynchronousUntilSuccessfulProcessingStrategy extends AbstractUntilSuccessfulProcessingStrategy
     implements Initialisable {
@@ -36,6 +50,7 @@ public class SynchronousUntilSuccessfulProcessingStrategy extends AbstractUntilS
   protected Event doRoute(Event event, FlowConstruct flow) throws MuleException {
     Exception lastExecutionException = null;
     Event retryEvent = copyEventForRetry(event);
+    long delay = 0;
     try {
       for (int i = 0; i <= getUntilSuccessfulConfiguration().getMaxRetries(); i++) {
         try {
@@ -43,24 +58,13 @@ public class SynchronousUntilSuccessfulProcessingStrategy extends AbstractUntilS
           if (successEvent == null) {
             return null;
           }
-          Event finalEvent;
-          Builder builder = Event.builder(event).message(successEvent.getMessage());
-          for (String flowVar : successEvent.getVariableNames()) {
-            builder.addVariable(flowVar, successEvent.getVariable(flowVar).getValue());
-          }
-          event.getSession().merge(successEvent.getSession());
-          builder.session(event.getSession());
-          finalEvent = builder.build();
-          setCurrentEvent(finalEvent);
-          return finalEvent;
+          return buildFinalEvent(event, successEvent);
         } catch (Exception e) {
-          logger.info("Exception thrown inside until-successful " + e.getMessage());
-          if (logger.isDebugEnabled()) {
-            logger.debug("Exception thrown inside until-successful ", e);
-          }
+          logFailure(e);
           lastExecutionException = e;
           if (i < getUntilSuccessfulConfiguration().getMaxRetries()) {
-            Thread.sleep(getUntilSuccessfulConfiguration().getMillisBetweenRetries());
+            delay = getRetryDelay(i + 1, delay);
+            Thread.sleep(delay);
             retryEvent = copyEventForRetry(event);
           }
         }
@@ -71,6 +75,72 @@ public class SynchronousUntilSuccessfulProcessingStrategy extends AbstractUntilS
     }
   }
 
+  /**
+   * Routes the given {@code event} without blocking during the waits between attempts, which are scheduled on the given
+   * {@code timer}.
+   *
+   * @param event the event to route
+   * @param flow the flow the event is being processed in
+   * @param timer the executor on which the retries are scheduled and performed
+   * @return a {@link Publisher} which emits the result of the first successful attempt, or fails with a {@link RoutingException}
+   *         once the retries are exhausted
+   */
+  public Publisher<Event> route(Event event, FlowConstruct flow, ScheduledExecutorService timer) {
+    return defer(() -> {
+      try {
+        prepareAndValidateEvent(event);
+      } catch (MuleException e) {
+        return error(e);
+      }
+
+      Mono<Event> attempt = defer(() -> {
+        try {
+          Event successEvent = processResponseThroughAckResponseExpression(processEvent(copyEventForRetry(event)));
+          if (successEvent == null) {
+            return error(newEventDroppedException(event));
+          }
+          return just(buildFinalEvent(event, successEvent));
+        } catch (Exception e) {
+          logFailure(e);
+          return error(new RoutingException(getUntilSuccessfulConfiguration().getRouter(), e));
+        }
+      });
+
+      BackoffRetryPolicy retryPolicy =
+          new BackoffRetryPolicy(this::getRetryDelay, getUntilSuccessfulConfiguration().getMaxRetries(), -1, null, timer);
+      return Mono.from(retryPolicy.applyPolicy(attempt, e -> !(e instanceof EventDroppedException), this::logExhausted));
+    });
+  }
+
+  private Event buildFinalEvent(Event event, Event successEvent) {
+    Builder builder = Event.builder(event).message(successEvent.getMessage());
+    for (String flowVar : successEvent.getVariableNames()) {
+      builder.addVariable(flowVar, successEvent.getVariable(flowVar).getValue());
+    }
+    event.getSession().merge(successEvent.getSession());
+    builder.session(event.getSession());
+    Event finalEvent = builder.build();
+    setCurrentEvent(finalEvent);
+    return finalEvent;
+  }
+
+  private void logExhausted(Throwable e) {
+    if (e instanceof EventDroppedException) {
+      return;
+    }
+    logger.info("until-successful retries exhausted. Last exception message was: " + e.getMessage());
+    if (logger.isDebugEnabled()) {
+      logger.debug("until-successful retries exhausted", e);
+    }
+  }
+
+  private void logFailure(Exception e) {
+    logger.info("Exception thrown inside until-successful " + e.getMessage());
+    if (logger.isDebugEnabled()) {
+      logger.debug("Exception thrown inside until-successful ", e);
+    }
+  }
+
   private Event copyEventForRetry(Event event) {
     Event copy = Event.builder(event).session(new DefaultMuleSession(event.getSession())).build();
     setCurrentEvent(copy);
@@ -8,6 +8,10 @@ package org.mule.runtime.core.routing;
 
 import static org.mule.runtime.core.api.processor.MessageProcessors.newChain;
 import static org.mule.runtime.core.api.processor.MessageProcessors.newExplicitChain;
+import static org.mule.runtime.core.api.rx.Exceptions.newEventDroppedException;
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.publisher.Mono.error;
+import static reactor.core.publisher.Mono.just;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.i18n.I18nMessageFactory;
@@ -15,18 +19,24 @@ import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.util.Preconditions;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.exception.MessagingExceptionHandlerAware;
 import org.mule.runtime.core.api.processor.MessageProcessorChain;
 import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
 import org.mule.runtime.core.api.store.ListableObjectStore;
+import org.mule.runtime.core.retry.policies.FixedBackoffStrategy;
 import org.mule.runtime.core.routing.filters.ExpressionFilter;
 import org.mule.runtime.core.routing.outbound.AbstractOutboundRouter;
+import org.mule.runtime.core.transaction.TransactionCoordination;
 
 import java.util.concurrent.TimeUnit;
 
+import org.reactivestreams.Publisher;
+
 /**
  * UntilSuccessful attempts to route a message to the message processor it contains. Routing is considered successful if no
  * exception has been raised and, optionally, if the response matches an expression.
@@ -38,11 +48,16 @@ import java.util.concurrent.TimeUnit;
  * UntilSuccessful can optionally be configured to synchronously return an acknowledgment message when it has scheduled the event
  * for processing. UntilSuccessful is backed by a {@link ListableObjectStore} for storing the events that are pending
  * (re)processing.
+ * <p>
+ * The time to wait between retries is given by a {@link BackoffStrategy}, which defaults to waiting
+ * {@link #getMillisBetweenRetries()} every time. When synchronous and used in a non blocking flow, the waits are scheduled on an
+ * io scheduler instead of keeping a thread asleep, and each event is retried independently of the others.
  */
 public class UntilSuccessful extends AbstractOutboundRouter implements UntilSuccessfulConfiguration {
 
   public static final String PROCESS_ATTEMPT_COUNT_PROPERTY_NAME = "process.attempt.count";
   static final int DEFAULT_PROCESS_ATTEMPT_COUNT_PROPERTY_VALUE = 1;
+  public static final String PROCESS_RETRY_DELAY_PROPERTY_NAME = "process.retry.delay";
   private static final long DEFAULT_MILLIS_BETWEEN_RETRIES = 60 * 1000;
 
   private ListableObjectStore<Event> objectStore;
@@ -57,6 +72,8 @@ public class UntilSuccessful extends AbstractOutboundRouter implements UntilSucc
   protected Processor dlqMP;
   private boolean synchronous = false;
   private UntilSuccessfulProcessingStrategy untilSuccessfulStrategy;
+  private BackoffStrategy backoffStrategy;
+  private Scheduler retryTimer;
 
   @Override
   public void initialise() throws InitialisationException {
@@ -72,6 +89,9 @@ public class UntilSuccessful extends AbstractOutboundRouter implements UntilSucc
     }
 
     setWaitTime();
+    if (backoffStrategy == null) {
+      backoffStrategy = new FixedBackoffStrategy(millisBetweenRetries);
+    }
 
     super.initialise();
 
@@ -143,16 +163,44 @@ public class UntilSuccessful extends AbstractOutboundRouter implements UntilSucc
     if (untilSuccessfulStrategy instanceof Startable) {
       ((Startable) untilSuccessfulStrategy).start();
     }
+    if (synchronous) {
+      // the retries are performed on the threads of the timer, and the route may block
+      retryTimer = muleContext.getSchedulerService().ioScheduler();
+    }
   }
 
   @Override
   public void stop() throws MuleException {
+    if (retryTimer != null) {
+      retryTimer.shutdownNow();
+      retryTimer = null;
+    }
     if (untilSuccessfulStrategy instanceof Stoppable) {
       ((Stoppable) untilSuccessfulStrategy).stop();
     }
     super.stop();
   }
 
+  @Override
+  public Publisher<Event> apply(Publisher<Event> publisher) {
+    if (!(untilSuccessfulStrategy instanceof SynchronousUntilSuccessfulProcessingStrategy)) {
+      return super.apply(publisher);
+    }
+
+    return from(publisher).flatMap(event -> {
+      if (retryTimer == null || TransactionCoordination.getInstance().getTransaction() != null) {
+        // the transaction is bound to the current thread, so retries have to be performed on it
+        try {
+          Event result = process(event);
+          return result != null ? just(result) : error(newEventDroppedException(event));
+        } catch (MuleException e) {
+          return error(e);
+        }
+      }
+      return ((SynchronousUntilSuccessfulProcessingStrategy) untilSuccessfulStrategy).route(event, flowConstruct, retryTimer);
+    });
+  }
+
   @Override
   public boolean isMatch(final Event event, Event.Builder builder) throws MuleException {
     return true;
@@ -199,6 +247,18 @@ public class UntilSuccessful extends AbstractOutboundRouter implements UntilSucc
     this.millisBetweenRetries = millisBetweenRetries;
   }
 
+  @Override
+  public BackoffStrategy getBackoffStrategy() {
+    return backoffStrategy;
+  }
+
+  /**
+   * @param backoffStrategy the strategy which determines the time to wait between retries
+   */
+  public void setBackoffStrategy(BackoffStrategy backoffStrategy) {
+    this.backoffStrategy = backoffStrategy;
+  }
+
   public String getFailureExpression() {
     return failureExpression;
   }
@@ -10,6 +10,7 @@ import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.retry.BackoffStrategy;
 import org.mule.runtime.core.api.store.ListableObjectStore;
 import org.mule.runtime.core.routing.filters.ExpressionFilter;
 
@@ -53,6 +54,12 @@ public interface UntilSuccessfulConfiguration {
    */
   long getMillisBetweenRetries();
 
+  /**
+   * @return the strategy which determines the time to wait between retries, or {@code null} to always wait
+   *         {@link #getMillisBetweenRetries()}.
+   */
+  BackoffStrategy getBackoffStrategy();
+
   /**
    * @return the number of retries to process the route when failing. Default value is 5.
    */
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing.correlation;
+
+import static java.util.Optional.empty;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.routing.AggregationException;
+import org.mule.runtime.core.routing.EventGroup;
+import org.mule.runtime.core.routing.FoldingEventGroup;
+import org.mule.runtime.core.routing.ResultsAccumulator;
+
+/**
+ * A {@link CollectionCorrelatorCallback} that folds the events of each group into a {@link ResultsAccumulator} as they arrive,
+ * by means of {@link FoldingEventGroup}s.
+ *
+ * @since 4.0
+ */
+public class FoldingCorrelatorCallback extends CollectionCorrelatorCallback {
+
+  private final String storePrefix;
+  private final ResultsAccumulator<?> accumulator;
+
+  public FoldingCorrelatorCallback(MuleContext muleContext, String storePrefix, ResultsAccumulator<?> accumulator) {
+    super(muleContext, storePrefix);
+    this.storePrefix = storePrefix;
+    this.accumulator = accumulator;
+  }
+
+  @Override
+  public EventGroup createEventGroup(Event event, Object groupId) {
+    return new FoldingEventGroup(groupId, muleContext,
+                                 event.getGroupCorrelation() != null ? event.getGroupCorrelation().getGroupSize() : empty(),
+                                 storePrefix, accumulator);
+  }
+
+  @Override
+  public Event aggregateEvents(EventGroup events) throws AggregationException {
+    try {
+      return ((FoldingEventGroup) events).complete();
+    } catch (MuleException e) {
+      throw new AggregationException(events, null, e);
+    }
+  }
+}
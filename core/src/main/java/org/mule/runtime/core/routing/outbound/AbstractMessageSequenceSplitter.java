@@ -7,6 +7,7 @@
 package org.mule.runtime.core.routing.outbound;
 
 import static java.util.Collections.emptySet;
+import static org.mule.runtime.core.util.IOUtils.closeQuietly;
 
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.Event.Builder;
@@ -19,7 +20,9 @@ import org.mule.runtime.core.processor.AbstractInterceptingMessageProcessor;
 import org.mule.runtime.core.routing.AbstractSplitter;
 import org.mule.runtime.core.routing.DefaultRouterResultsHandler;
 import org.mule.runtime.core.routing.MessageSequence;
+import org.mule.runtime.core.routing.ResultsAccumulator;
 
+import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -28,6 +31,11 @@ import java.util.Set;
  * Base implementation of a {@link Message} splitter, that converts its payload in a {@link MessageSequence}, and process each
  * element of it. Implementations must implement {@link #splitMessageIntoSequence(Event)} and determine how the message is split.
  * <p>
+ * Parts are taken from the sequence one at a time, only once the previous one has been processed. By default the results of
+ * processing each part are collected and combined by the {@link RouterResultsHandler}. When a {@link ResultsAccumulator} is set,
+ * each result is folded into it as soon as it is available instead, so neither the parts nor the results need to be kept in
+ * memory at the same time.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/Sequencer.html">http://www .eaipatterns.com/Sequencer.html</a>
  * 
  * @author flbulgarelli
@@ -39,16 +47,26 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
   protected RouterResultsHandler resultsHandler = new DefaultRouterResultsHandler();
   protected int batchSize;
   protected String counterVariableName;
+  protected ResultsAccumulator<?> resultsAccumulator;
 
   @Override
   public final Event process(Event event) throws MuleException {
     if (isSplitRequired(event)) {
       MessageSequence<?> seq = splitMessageIntoSequence(event);
-      if (!seq.isEmpty()) {
-        return resultsHandler.aggregateResults(processParts(seq, event), event);
-      } else {
-        logger.warn("Splitter returned no results. If this is not expected, please check your split expression");
-        return event;
+      try {
+        if (!seq.isEmpty()) {
+          if (resultsAccumulator != null) {
+            return accumulateParts(seq, event, resultsAccumulator);
+          }
+          return resultsHandler.aggregateResults(processParts(seq, event), event);
+        } else {
+          logger.warn("Splitter returned no results. If this is not expected, please check your split expression");
+          return event;
+        }
+      } finally {
+        if (seq instanceof Closeable) {
+          closeQuietly((Closeable) seq);
+        }
       }
     } else {
       return processNext(event);
@@ -69,7 +87,21 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
   protected abstract MessageSequence<?> splitMessageIntoSequence(Event event) throws MuleException;
 
   protected List<Event> processParts(MessageSequence<?> seq, Event originalEvent) throws MuleException {
-    List<Event> resultEvents = new ArrayList<>();
+    return foldParts(seq, originalEvent, new ArrayList<>(), (resultEvents, resultEvent) -> {
+      resultEvents.add(resultEvent);
+      return resultEvents;
+    });
+  }
+
+  private <A> Event accumulateParts(MessageSequence<?> seq, Event originalEvent, ResultsAccumulator<A> accumulator)
+      throws MuleException {
+    A accumulated = foldParts(seq, originalEvent, accumulator.create(originalEvent), accumulator::accumulate);
+    return accumulator.complete(accumulated, originalEvent);
+  }
+
+  private <A> A foldParts(MessageSequence<?> seq, Event originalEvent, A initial, PartResultFolder<A> folder)
+      throws MuleException {
+    A accumulated = initial;
     int correlationSequence = 0;
     MessageSequence<?> messageSequence = seq;
     if (batchSize > 1) {
@@ -92,14 +124,14 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
       final Event event = builder.build();
       Event resultEvent = processNext(event);
       if (resultEvent != null) {
-        resultEvents.add(resultEvent);
+        accumulated = folder.fold(accumulated, resultEvent);
         lastResult = resultEvent;
       }
     }
     if (correlationSequence == 1) {
       logger.debug("Splitter only returned a single result. If this is not expected, please check your split expression");
     }
-    return resultEvents;
+    return accumulated;
   }
 
   protected Set<String> resolvePropagatedFlowVars(Event lastResult) {
@@ -139,4 +171,19 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
   public void setCounterVariableName(String counterVariableName) {
     this.counterVariableName = counterVariableName;
   }
+
+  /**
+   * Folds the result of processing each part into the given accumulator instead of collecting all of them.
+   *
+   * @param resultsAccumulator the accumulator to use, or {@code null} to collect the results
+   */
+  public void setResultsAccumulator(ResultsAccumulator<?> resultsAccumulator) {
+    this.resultsAccumulator = resultsAccumulator;
+  }
+
+  @FunctionalInterface
+  private interface PartResultFolder<A> {
+
+    A fold(A accumulated, Event resultEvent) throws MuleException;
+  }
 }
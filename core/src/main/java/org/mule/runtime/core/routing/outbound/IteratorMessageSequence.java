@@ -9,29 +9,41 @@ package org.mule.runtime.core.routing.outbound;
 import org.mule.runtime.core.routing.AbstractMessageSequence;
 import org.mule.runtime.core.routing.MessageSequence;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.Iterator;
 
 import org.apache.commons.lang.Validate;
 
 /**
  * A {@link MessageSequence} that delegates its {@link #hasNext()} and {@link #next()} methods to an {@link Iterator}, and has no
- * estimated size
+ * estimated size unless one is given. Closing the sequence closes the iterator if it is {@link Closeable}.
  * 
  * @author flbulgarelli
  * @param <T>
  */
-public final class IteratorMessageSequence extends AbstractMessageSequence {
+public final class IteratorMessageSequence extends AbstractMessageSequence implements Closeable {
 
   private final Iterator iter;
+  private Integer remaining;
 
   public IteratorMessageSequence(Iterator iter) {
+    this(iter, UNKNOWN_SIZE);
+  }
+
+  /**
+   * @param iter the iterator to delegate to
+   * @param size the amount of elements {@code iter} will return, or {@link #UNKNOWN_SIZE}
+   */
+  public IteratorMessageSequence(Iterator iter, Integer size) {
     Validate.notNull(iter);
     this.iter = iter;
+    this.remaining = size;
   }
 
   @Override
   public Integer size() {
-    return UNKNOWN_SIZE;
+    return remaining;
   }
 
   @Override
@@ -41,6 +53,9 @@ public final class IteratorMessageSequence extends AbstractMessageSequence {
 
   @Override
   public Object next() {
+    if (remaining != UNKNOWN_SIZE) {
+      remaining--;
+    }
     if (iter instanceof EventBuilderConfigurerIterator) {
       return ((EventBuilderConfigurerIterator) iter).nextEventBuilderConfigurer();
     } else {
@@ -48,4 +63,10 @@ public final class IteratorMessageSequence extends AbstractMessageSequence {
     }
   }
 
+  @Override
+  public void close() throws IOException {
+    if (iter instanceof Closeable) {
+      ((Closeable) iter).close();
+    }
+  }
 }
@@ -6,48 +6,61 @@
  */
 package org.mule.runtime.core.transformer.graph;
 
+import static java.util.Optional.ofNullable;
+
 import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.core.api.registry.ResolverException;
 import org.mule.runtime.core.api.registry.TransformerResolver;
 import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.api.util.Pair;
 import org.mule.runtime.core.config.i18n.CoreMessages;
 
+import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
-import org.apache.commons.collections.map.LRUMap;
-
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Resolves {@link Converter}s between {@link DataType}s by looking for conversion paths in a {@link TransformationGraph}.
+ * <p>
+ * Resolutions are cached per (source, result) pair, including the pairs for which no converter was found, keeping up to
+ * {@link #CACHE_SIZE} of the most recently used ones. Lookups on the cache do not take a global lock. When a converter is added
+ * or removed, only the pairs whose resolution may be affected by it are invalidated: those whose source reaches any of the
+ * converter's source types and whose result is reachable from the converter's return type.
+ */
 public class GraphTransformerResolver implements TransformerResolver {
 
-  private ReentrantReadWriteLock readWriteLock;
+  static final int CACHE_SIZE = 100;
+
   private TransformationGraph graph;
   private CompositeConverterFilter converterFilter;
-  private LRUMap cache;
+  private final Cache<Pair<DataType, DataType>, Optional<Transformer>> cache =
+      CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build();
+  private final AtomicLong graphVersion = new AtomicLong();
   private TransformationGraphLookupStrategy lookupStrategyTransformation;
 
   public GraphTransformerResolver() {
-    this.readWriteLock = new ReentrantReadWriteLock();
     this.graph = new TransformationGraph();
     lookupStrategyTransformation = new TransformationGraphLookupStrategy(graph);
     converterFilter = new CompositeConverterFilter(new TransformationLengthConverterFilter(),
                                                    new PriorityWeightingConverterFilter(), new NameConverterFilter());
-    cache = new LRUMap();
   }
 
   @Override
   public Transformer resolve(DataType source, DataType result) throws ResolverException {
-    String cacheKey = getDataTypeSourceResultPairHash(source, result);
-
-    readWriteLock.readLock().lock();
-    try {
-      if (cache.containsKey(cacheKey)) {
-        return (Converter) cache.get(cacheKey);
-      }
-    } finally {
-      readWriteLock.readLock().unlock();
+    Pair<DataType, DataType> cacheKey = new Pair<>(source, result);
+    Optional<Transformer> cached = cache.getIfPresent(cacheKey);
+    if (cached != null) {
+      return cached.orElse(null);
     }
 
+    final long version = graphVersion.get();
     List<Converter> converters =
         converterFilter.filter(lookupStrategyTransformation.lookupConverters(source, result), source, result);
 
@@ -56,47 +69,65 @@ public class GraphTransformerResolver implements TransformerResolver {
     }
 
     Transformer converter = (converters.size() == 0) ? null : converters.get(0);
+    Optional<Transformer> resolution = ofNullable(converter);
 
-
-    readWriteLock.writeLock().lock();
-    try {
-      cache.put(cacheKey, converter);
-    } finally {
-      readWriteLock.writeLock().unlock();
+    cache.put(cacheKey, resolution);
+    if (graphVersion.get() != version) {
+      // the graph changed while resolving, so this resolution may be stale
+      cache.asMap().remove(cacheKey, resolution);
     }
 
     return converter;
   }
 
-  private String getDataTypeSourceResultPairHash(DataType source, DataType result) {
-    StringBuilder builder = new StringBuilder();
-    builder.append(source.getClass().getName());
-    builder.append(source.hashCode());
-    builder.append(":");
-    builder.append(result.getClass().getName());
-    builder.append(result.hashCode());
+  @Override
+  public synchronized void transformerChange(Transformer transformer, RegistryAction registryAction) {
+    if (!(transformer instanceof Converter)) {
+      return;
+    }
+
+    Converter converter = (Converter) transformer;
+    Set<DataType> affectedSources = new HashSet<>();
+    Set<DataType> affectedResults = new HashSet<>();
+    if (registryAction == RegistryAction.ADDED) {
+      graph.addConverter(converter);
+      graphVersion.incrementAndGet();
+      collectAffectedDataTypes(converter, affectedSources, affectedResults);
+    } else if (registryAction == RegistryAction.REMOVED) {
+      // paths going through the converter have to be computed before it is removed from the graph
+      collectAffectedDataTypes(converter, affectedSources, affectedResults);
+      graph.removeConverter(converter);
+      graphVersion.incrementAndGet();
+    }
 
-    return builder.toString();
+    cache.asMap().keySet()
+        .removeIf(cacheKey -> affectedSources.contains(cacheKey.getFirst()) && affectedResults.contains(cacheKey.getSecond()));
   }
 
-  @Override
-  public void transformerChange(Transformer transformer, RegistryAction registryAction) {
-    readWriteLock.writeLock().lock();
+  long getCachedResolutionsCount() {
+    return cache.size();
+  }
 
-    try {
-      if (!(transformer instanceof Converter)) {
-        return;
-      }
+  private void collectAffectedDataTypes(Converter converter, Set<DataType> affectedSources, Set<DataType> affectedResults) {
+    for (DataType sourceDataType : converter.getSourceDataTypes()) {
+      collectReachable(sourceDataType, affectedSources, false);
+    }
+    collectReachable(converter.getReturnDataType(), affectedResults, true);
+  }
 
-      cache.clear();
+  private void collectReachable(DataType dataType, Set<DataType> reachable, boolean forward) {
+    LinkedList<DataType> pending = new LinkedList<>();
+    pending.add(dataType);
+    while (!pending.isEmpty()) {
+      DataType current = pending.removeFirst();
+      if (!reachable.add(current) || !graph.containsVertex(current)) {
+        continue;
+      }
 
-      if (registryAction == RegistryAction.ADDED) {
-        graph.addConverter((Converter) transformer);
-      } else if (registryAction == RegistryAction.REMOVED) {
-        graph.removeConverter((Converter) transformer);
+      Set<TransformationEdge> edges = forward ? graph.outgoingEdgesOf(current) : graph.incomingEdgesOf(current);
+      for (TransformationEdge edge : edges) {
+        pending.add(forward ? graph.getEdgeTarget(edge) : graph.getEdgeSource(edge));
       }
-    } finally {
-      readWriteLock.writeLock().unlock();
     }
   }
 }
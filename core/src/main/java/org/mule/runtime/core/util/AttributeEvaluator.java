@@ -11,6 +11,7 @@ import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.TypedValue;
 import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.el.CompiledExpression;
 import org.mule.runtime.core.api.el.ExtendedExpressionManager;
 import org.mule.runtime.core.config.i18n.CoreMessages;
 
@@ -31,6 +32,7 @@ public class AttributeEvaluator {
   private final String attributeValue;
   private ExtendedExpressionManager expressionManager;
   private AttributeType attributeType;
+  private CompiledExpression compiledExpression;
 
   public AttributeEvaluator(String attributeValue) {
     this.attributeValue = sanitize(attributeValue);
@@ -39,6 +41,9 @@ public class AttributeEvaluator {
   public AttributeEvaluator initialize(final ExtendedExpressionManager expressionManager) {
     this.expressionManager = expressionManager;
     resolveAttributeType();
+    if (isExpression()) {
+      compiledExpression = expressionManager.compile(attributeValue);
+    }
     return this;
   }
 
@@ -78,7 +83,9 @@ public class AttributeEvaluator {
   }
 
   public TypedValue resolveTypedValue(Event event, Event.Builder eventBuilder) {
-    if (isExpression()) {
+    if (compiledExpression != null) {
+      return compiledExpression.evaluate(event, eventBuilder, null);
+    } else if (isExpression()) {
       return expressionManager.evaluate(attributeValue, event, eventBuilder, null);
     } else if (isParseExpression()) {
       final String value = expressionManager.parse(attributeValue, event, null);
@@ -90,7 +97,9 @@ public class AttributeEvaluator {
   }
 
   public Object resolveValue(Event event) {
-    if (isExpression()) {
+    if (compiledExpression != null) {
+      return compiledExpression.evaluate(event, Event.builder(event), null).getValue();
+    } else if (isExpression()) {
       return expressionManager.evaluate(attributeValue, event).getValue();
     } else if (isParseExpression()) {
       return expressionManager.parse(attributeValue, event, null);
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.util.collection;
 
+import org.mule.runtime.api.streaming.objects.CursorIteratorProvider;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.message.InternalMessage;
 import org.mule.runtime.core.api.util.Copiable;
@@ -35,6 +36,10 @@ public class EventToMessageSequenceSplittingStrategy implements SplittingStrateg
     if (payload instanceof Iterator<?>) {
       return new IteratorMessageSequence(((Iterator<Object>) payload));
     }
+    if (payload instanceof CursorIteratorProvider) {
+      // items are read from the cursor as they are needed, the splitter closes it once it's done
+      return new IteratorMessageSequence(((CursorIteratorProvider) payload).openCursor());
+    }
     if (payload instanceof Collection) {
       return new CollectionMessageSequence(copyCollection((Collection) payload));
     }
@@ -48,7 +53,8 @@ public class EventToMessageSequenceSplittingStrategy implements SplittingStrateg
     } else {
       throw new IllegalArgumentException(CoreMessages
           .objectNotOfCorrectType(payload != null ? payload.getClass() : null,
-                                  new Class[] {Iterable.class, Iterator.class, MessageSequence.class, Collection.class})
+                                  new Class[] {Iterable.class, Iterator.class, MessageSequence.class, Collection.class,
+                                      CursorIteratorProvider.class})
           .getMessage());
     }
   }
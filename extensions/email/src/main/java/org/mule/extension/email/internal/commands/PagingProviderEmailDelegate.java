@@ -6,10 +6,16 @@
  */
 package org.mule.extension.email.internal.commands;
 
+import static java.lang.Math.max;
 import static java.lang.Math.min;
 import static java.util.Collections.emptyList;
 import static javax.mail.Folder.READ_ONLY;
+import static javax.mail.FetchProfile.Item.CONTENT_INFO;
+import static javax.mail.FetchProfile.Item.ENVELOPE;
+import static javax.mail.FetchProfile.Item.FLAGS;
+import static javax.mail.FetchProfile.Item.SIZE;
 import static javax.mail.Folder.READ_WRITE;
+import static javax.mail.UIDFolder.LASTUID;
 import static org.apache.commons.lang.StringUtils.EMPTY;
 import static org.mule.runtime.core.message.DefaultMultiPartPayload.BODY_ATTRIBUTES;
 import org.mule.extension.email.api.attributes.BaseEmailAttributes;
@@ -18,6 +24,7 @@ import org.mule.extension.email.api.exception.EmailException;
 import org.mule.extension.email.api.predicate.BaseEmailPredicateBuilder;
 import org.mule.extension.email.internal.mailbox.MailboxAccessConfiguration;
 import org.mule.extension.email.internal.mailbox.MailboxConnection;
+import org.mule.extension.email.internal.mailbox.imap.IMAPFolderSyncStore;
 import org.mule.extension.email.internal.util.EmailContentProcessor;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.core.message.DefaultMultiPartPayload;
@@ -32,8 +39,12 @@ import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import com.sun.mail.imap.IMAPFolder;
+
+import javax.mail.FetchProfile;
 import javax.mail.Folder;
 import javax.mail.MessagingException;
+import javax.mail.UIDFolder;
 
 
 /**
@@ -54,6 +65,10 @@ public final class PagingProviderEmailDelegate<T extends BaseEmailAttributes>
   private final boolean deleteAfterRetrieve;
   private final Consumer<BaseEmailAttributes> deleteAfterReadCallback;
   private final ExpungeCommand expungeCommand = new ExpungeCommand();
+  private final IMAPFolderSyncStore folderSyncStore;
+  private boolean started;
+  private long uidValidity;
+  private long lastUid;
 
   /**
    * @param configuration The {@link MailboxAccessConfiguration} associated to this operation.
@@ -69,6 +84,25 @@ public final class PagingProviderEmailDelegate<T extends BaseEmailAttributes>
                                      BaseEmailPredicateBuilder matcherBuilder,
                                      int pageSize,
                                      boolean deleteAfterRetrieve, Consumer<BaseEmailAttributes> deleteAfterReadCallback) {
+    this(configuration, folderName, matcherBuilder, pageSize, deleteAfterRetrieve, deleteAfterReadCallback, null);
+  }
+
+  /**
+   * @param configuration The {@link MailboxAccessConfiguration} associated to this operation.
+   * @param folderName the name of the folder where the emails are stored.
+   * @param matcherBuilder a {@link Predicate} of {@link BaseEmailAttributes} used to filter the output list
+   * @param pageSize size of the block that would be retrieved from the email server.
+   * @param deleteAfterRetrieve whether the emails should be deleted after retrieval
+   * @param deleteAfterReadCallback callback for deleting each email
+   * @param folderSyncStore the store of the last retrieved UID of each folder, used to only retrieve the emails that arrived
+   *        after the ones of the previous listing, or {@code null} if every email in the folder should be retrieved.
+   */
+  public PagingProviderEmailDelegate(MailboxAccessConfiguration configuration, String folderName,
+                                     BaseEmailPredicateBuilder matcherBuilder,
+                                     int pageSize,
+                                     boolean deleteAfterRetrieve, Consumer<BaseEmailAttributes> deleteAfterReadCallback,
+                                     IMAPFolderSyncStore folderSyncStore) {
+    this.folderSyncStore = folderSyncStore;
     this.configuration = configuration;
     this.folderName = folderName;
     this.matcherBuilder = matcherBuilder;
@@ -87,12 +121,20 @@ public final class PagingProviderEmailDelegate<T extends BaseEmailAttributes>
    * For folder implementations (like IMAP) that support fetching without reading the content, if the content should NOT be read
    * ({@code shouldReadContent} = false) the SEEN flag is not going to be set. If {@code deleteAfterRead} flag is set to true, the
    * callback {@code deleteAfterReadCallback} is applied to each email.
+   * <p>
+   * The envelope, flags and size of all the emails in the page are fetched in bulk before parsing their attributes, instead of
+   * issuing a request to the server per email.
    */
   private <T extends BaseEmailAttributes> List<Result<Object, T>> list(int startIndex, int endIndex) {
     Predicate<BaseEmailAttributes> matcher = matcherBuilder != null ? matcherBuilder.build() : e -> true;
     try {
       List<Result<Object, T>> retrievedEmails = new LinkedList<>();
-      for (javax.mail.Message m : folder.getMessages(startIndex, endIndex)) {
+      javax.mail.Message[] messages = folder.getMessages(startIndex, endIndex);
+      folder.fetch(messages, createFetchProfile());
+      for (javax.mail.Message m : messages) {
+        if (isIncremental()) {
+          lastUid = max(lastUid, ((UIDFolder) folder).getUID(m));
+        }
         Object emailContent = EMPTY;
         T attributes = configuration.parseAttributesFromMessage(m, folder);
         if (matcher.test(attributes)) {
@@ -122,6 +164,50 @@ public final class PagingProviderEmailDelegate<T extends BaseEmailAttributes>
     }
   }
 
+  private FetchProfile createFetchProfile() {
+    FetchProfile profile = new FetchProfile();
+    profile.add(ENVELOPE);
+    profile.add(FLAGS);
+    profile.add(SIZE);
+    if (folder instanceof UIDFolder) {
+      profile.add(UIDFolder.FetchProfileItem.UID);
+    }
+    if (folder instanceof IMAPFolder) {
+      // The attributes carry all the headers of the email
+      profile.add(IMAPFolder.FetchProfileItem.HEADERS);
+    }
+    if (configuration.isEagerlyFetchContent()) {
+      profile.add(CONTENT_INFO);
+    }
+    return profile;
+  }
+
+  private boolean isIncremental() {
+    return folderSyncStore != null && folder instanceof UIDFolder;
+  }
+
+  /**
+   * Moves the start of the listing to the first email which UID is higher than the last one retrieved from the folder.
+   */
+  private void skipRetrievedEmails() throws MessagingException {
+    UIDFolder uidFolder = (UIDFolder) folder;
+    uidValidity = uidFolder.getUIDValidity();
+    lastUid = folderSyncStore.getLastUid(folderName, uidValidity);
+    if (lastUid == 0) {
+      return;
+    }
+
+    startIndex = folder.getMessageCount() + 1;
+    // When there are no newer emails, the server answers with the last one instead of an empty response
+    for (javax.mail.Message m : uidFolder.getMessagesByUID(lastUid + 1, LASTUID)) {
+      if (uidFolder.getUID(m) > lastUid) {
+        startIndex = m.getMessageNumber();
+        break;
+      }
+    }
+    endIndex = startIndex + pageSize - 1;
+  }
+
   private Object readContent(javax.mail.Message m) {
     Object emailContent;
     EmailContentProcessor processor = EmailContentProcessor.getInstance(m);
@@ -148,10 +234,20 @@ public final class PagingProviderEmailDelegate<T extends BaseEmailAttributes>
         return emptyList();
       }
 
+      if (!started) {
+        started = true;
+        if (isIncremental()) {
+          skipRetrievedEmails();
+        }
+      }
+
       endIndex = min(endIndex, folder.getMessageCount());
 
       while (startIndex <= endIndex) {
         List<Result<Object, T>> emails = list(startIndex, endIndex);
+        if (isIncremental()) {
+          folderSyncStore.setLastUid(folderName, uidValidity, lastUid);
+        }
         startIndex += pageSize;
         endIndex = min(endIndex + pageSize, folder.getMessageCount());
 
@@ -6,18 +6,23 @@
  */
 package org.mule.extension.email.internal.mailbox.imap;
 
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED_TAB;
 import org.mule.extension.email.api.attributes.BaseEmailAttributes;
 import org.mule.extension.email.api.attributes.IMAPEmailAttributes;
 import org.mule.extension.email.internal.mailbox.MailboxAccessConfiguration;
+import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.extension.api.annotation.Configuration;
 import org.mule.runtime.extension.api.annotation.Operations;
+import org.mule.runtime.extension.api.annotation.param.ConfigName;
 import org.mule.runtime.extension.api.annotation.param.Parameter;
 import org.mule.runtime.extension.api.annotation.connectivity.ConnectionProviders;
 import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
 
 import com.sun.mail.imap.IMAPFolder;
 
+import javax.inject.Inject;
 import javax.mail.Folder;
 import javax.mail.Message;
 
@@ -39,6 +44,24 @@ public class IMAPConfiguration implements MailboxAccessConfiguration {
   @Optional(defaultValue = "true")
   private boolean eagerlyFetchContent;
 
+  /**
+   * Indicates whether each listing should only retrieve the emails that arrived after the ones retrieved by the previous
+   * listing of the same folder. The last retrieved UID of each folder is kept in a persistent object store, and is discarded
+   * when the UIDVALIDITY of the folder changes. The default value is "false".
+   */
+  @Parameter
+  @Optional(defaultValue = "false")
+  @Placement(tab = ADVANCED_TAB)
+  private boolean incrementalSync;
+
+  @ConfigName
+  private String configName;
+
+  @Inject
+  private MuleContext muleContext;
+
+  private IMAPFolderSyncStore folderSyncStore;
+
   /**
    * {@inheritDoc}
    */
@@ -51,4 +74,18 @@ public class IMAPConfiguration implements MailboxAccessConfiguration {
   public <T extends BaseEmailAttributes> T parseAttributesFromMessage(Message message, Folder folder) {
     return (T) new IMAPEmailAttributes(message, (IMAPFolder) folder);
   }
+
+  /**
+   * @return the store of the last retrieved UID of each folder, or {@code null} if the listings are not incremental.
+   */
+  public synchronized IMAPFolderSyncStore getFolderSyncStore() {
+    if (!incrementalSync) {
+      return null;
+    }
+    if (folderSyncStore == null) {
+      folderSyncStore = new IMAPFolderSyncStore(muleContext.getObjectStoreManager().getObjectStore("email-imap-sync-" + configName,
+                                                                                                  true));
+    }
+    return folderSyncStore;
+  }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.email.internal.mailbox.imap;
+
+import java.io.Serializable;
+
+/**
+ * The last UID seen in an IMAP folder, along with the UIDVALIDITY of the folder when it was seen.
+ * <p>
+ * UIDs are only meaningful for a given UIDVALIDITY, so the state must be discarded once the server reports a different one.
+ *
+ * @since 4.0
+ */
+public final class IMAPFolderSyncState implements Serializable {
+
+  private static final long serialVersionUID = -3462512447163574818L;
+
+  private final long uidValidity;
+  private final long lastUid;
+
+  public IMAPFolderSyncState(long uidValidity, long lastUid) {
+    this.uidValidity = uidValidity;
+    this.lastUid = lastUid;
+  }
+
+  public long getUidValidity() {
+    return uidValidity;
+  }
+
+  public long getLastUid() {
+    return lastUid;
+  }
+}
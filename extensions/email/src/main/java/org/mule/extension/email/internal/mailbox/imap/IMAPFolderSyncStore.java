@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.email.internal.mailbox.imap;
+
+import static java.lang.String.format;
+import org.mule.extension.email.api.exception.EmailException;
+import org.mule.runtime.core.api.store.ObjectStore;
+import org.mule.runtime.core.api.store.ObjectStoreException;
+
+/**
+ * Keeps track, per folder, of the last email UID that was retrieved, so listings can skip the emails that were already seen.
+ *
+ * @since 4.0
+ */
+public final class IMAPFolderSyncStore {
+
+  private final ObjectStore<IMAPFolderSyncState> objectStore;
+
+  public IMAPFolderSyncStore(ObjectStore<IMAPFolderSyncState> objectStore) {
+    this.objectStore = objectStore;
+  }
+
+  /**
+   * @param folderName  the name of the folder
+   * @param uidValidity the current UIDVALIDITY of the folder
+   * @return the last UID retrieved from the folder, or {@code 0} if none was retrieved or the UIDVALIDITY of the folder changed
+   *         since the last one was.
+   */
+  public long getLastUid(String folderName, long uidValidity) {
+    try {
+      if (!objectStore.contains(folderName)) {
+        return 0;
+      }
+      IMAPFolderSyncState state = objectStore.retrieve(folderName);
+      return state.getUidValidity() == uidValidity ? state.getLastUid() : 0;
+    } catch (ObjectStoreException e) {
+      throw new EmailException(format("Could not read the last retrieved UID of the [%s] folder", folderName), e);
+    }
+  }
+
+  /**
+   * Records the last UID retrieved from a folder.
+   *
+   * @param folderName  the name of the folder
+   * @param uidValidity the current UIDVALIDITY of the folder
+   * @param lastUid     the highest UID retrieved
+   */
+  public void setLastUid(String folderName, long uidValidity, long lastUid) {
+    try {
+      if (objectStore.contains(folderName)) {
+        objectStore.remove(folderName);
+      }
+      objectStore.store(folderName, new IMAPFolderSyncState(uidValidity, lastUid));
+    } catch (ObjectStoreException e) {
+      throw new EmailException(format("Could not record the last retrieved UID of the [%s] folder", folderName), e);
+    }
+  }
+}
@@ -58,6 +58,9 @@ public class IMAPOperations {
   /**
    * List all the emails (with pagination) in the configured imap mailBoxFolder that match with the specified {@code imapMatcher}
    * criteria.
+   * <p>
+   * If the {@link IMAPConfiguration} is incremental, only the emails that arrived after the ones retrieved by the previous
+   * listing of the same folder are listed.
    *
    * @param config The {@link MailboxAccessConfiguration} associated to this operation.
    * @param connection The corresponding {@link MailboxConnection} instance.
@@ -84,7 +87,8 @@ public class IMAPOperations {
     checkArgument(pageSize > 0, format(PAGE_SIZE_ERROR_MESSAGE, pageSize));
     return new PagingProviderEmailDelegate<>(config, mailboxFolder, imapMatcher, pageSize, deleteAfterRetrieve,
                                              attributes -> setFlagCommand.setByUID(connection, mailboxFolder, DELETED,
-                                                                                   attributes.getId()));
+                                                                                   attributes.getId()),
+                                             config.getFolderSyncStore());
   }
 
   /**
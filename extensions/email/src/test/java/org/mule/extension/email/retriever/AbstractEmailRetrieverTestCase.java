@@ -168,7 +168,7 @@ public abstract class AbstractEmailRetrieverTestCase extends EmailConnectorTestC
     }
   }
 
-  private void sendEmails(int amount) throws MessagingException {
+  protected void sendEmails(int amount) throws MessagingException {
     for (int i = 0; i < amount; i++) {
       user.deliver(getMimeMessage(JUANI_EMAIL, ALE_EMAIL, EMAIL_CONTENT, EMAIL_SUBJECT, ESTEBAN_EMAIL));
     }
@@ -54,6 +54,7 @@ public class IMAPTestCase extends AbstractEmailRetrieverTestCase {
   private static final String RETRIEVE_MATCH_RECENT = "retrieveOnlyRecentEmails";
   private static final String FAIL_MARKING_FLAG = "failMarkingEmail";
   private static final String RETRIEVE_DELETE_SELECTED = "retrieveAndDeleteSelected";
+  private static final String RETRIEVE_INCREMENTALLY = "retrieveIncrementally";
 
   @Parameterized.Parameter
   public String protocol;
@@ -176,6 +177,16 @@ public class IMAPTestCase extends AbstractEmailRetrieverTestCase {
     assertThat(server.getReceivedMessages(), arrayWithSize(5));
   }
 
+  @Test
+  public void retrieveIncrementally() throws Exception {
+    assertThat(paginationSize(runFlowAndGetMessages(RETRIEVE_INCREMENTALLY)), is(pageSize));
+    assertThat(paginationSize(runFlowAndGetMessages(RETRIEVE_INCREMENTALLY)), is(0));
+
+    sendEmails(3);
+    assertThat(paginationSize(runFlowAndGetMessages(RETRIEVE_INCREMENTALLY)), is(3));
+    assertThat(server.getReceivedMessages(), arrayWithSize(pageSize + 3));
+  }
+
   private void testMatcherFlag(String flowName, Flag flag, boolean flagState) throws Exception {
     for (int i = 0; i < 3; i++) {
       MimeMessage message = server.getReceivedMessages()[i];
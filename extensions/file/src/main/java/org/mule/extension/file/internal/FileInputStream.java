@@ -29,6 +29,8 @@ import java.nio.file.Path;
  */
 public final class FileInputStream extends AbstractFileInputStream {
 
+  private final Path path;
+
   /**
    * Creates a new instance
    *
@@ -43,6 +45,14 @@ public final class FileInputStream extends AbstractFileInputStream {
         throw new MuleRuntimeException(e);
       }
     }), lock);
+    this.path = path;
+  }
+
+  /**
+   * @return the {@link Path} to the file which content is read by {@code this} stream
+   */
+  public Path getPath() {
+    return path;
   }
 
 }
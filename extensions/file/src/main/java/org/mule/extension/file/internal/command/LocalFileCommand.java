@@ -13,6 +13,8 @@ import org.mule.extension.file.common.api.command.FileCommand;
 import org.mule.extension.file.internal.LocalFileSystem;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -63,4 +65,28 @@ abstract class LocalFileCommand extends FileCommand<LocalFileSystem> {
       throw exception(format("Exception was found creating directory '%s'", target), e);
     }
   }
+
+  /**
+   * Transfers the content of the {@code source} channel starting at the given {@code position} into the {@code target} one,
+   * through {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)} so that the operating system can
+   * move the bytes without copying them into user space.
+   *
+   * @param source   the channel to read from
+   * @param position the position of the {@code source} from which to start reading
+   * @param target   the channel to write to
+   * @return the amount of transferred bytes
+   * @throws IOException if the transfer fails
+   */
+  protected long transfer(FileChannel source, long position, FileChannel target) throws IOException {
+    final long size = source.size();
+    long current = position;
+    while (current < size) {
+      long transferred = source.transferTo(current, size - current, target);
+      if (transferred <= 0) {
+        break;
+      }
+      current += transferred;
+    }
+    return current - position;
+  }
 }
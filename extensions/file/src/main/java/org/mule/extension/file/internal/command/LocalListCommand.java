@@ -10,19 +10,23 @@ import static java.lang.String.format;
 import org.mule.extension.file.api.LocalFileAttributes;
 import org.mule.extension.file.common.api.FileAttributes;
 import org.mule.extension.file.common.api.FileConnectorConfig;
+import org.mule.extension.file.common.api.FileListPagingProvider;
+import org.mule.extension.file.common.api.FileSystem;
 import org.mule.extension.file.common.api.command.ListCommand;
 import org.mule.extension.file.common.api.exceptions.FileAccessDeniedException;
 import org.mule.extension.file.internal.LocalFileSystem;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
-import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * A {@link LocalFileCommand} which implements the {@link ListCommand}
@@ -42,51 +46,44 @@ public final class LocalListCommand extends LocalFileCommand implements ListComm
    * {@inheritDoc}
    */
   @Override
-  public List<Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
-                                                        String directoryPath,
-                                                        boolean recursive,
-                                                        MediaType mediaType,
-                                                        Predicate<FileAttributes> matcher) {
+  public PagingProvider<FileSystem, Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
+                                                                              String directoryPath,
+                                                                              boolean recursive,
+                                                                              MediaType mediaType,
+                                                                              Predicate<FileAttributes> matcher) {
     Path path = resolveExistingPath(directoryPath);
     if (!Files.isDirectory(path)) {
       throw cannotListFileException(path);
     }
+    if (!Files.isReadable(path)) {
+      throw accessDeniedException(path);
+    }
 
-    List<Result<InputStream, FileAttributes>> accumulator = new LinkedList<>();
-    doList(config, path.toFile(), accumulator, recursive, mediaType, matcher);
-
-    return accumulator;
+    return new FileListPagingProvider(config, path.toAbsolutePath(), recursive, mediaType, matcher);
   }
 
-  private void doList(FileConnectorConfig config,
-                      File parent,
-                      List<Result<InputStream, FileAttributes>> accumulator,
-                      boolean recursive,
-                      MediaType mediaType,
-                      Predicate<FileAttributes> matcher) {
-
-    if (!parent.canRead()) {
-      throw new FileAccessDeniedException(
-                                          format("Could not list files from directory '%s' because access was denied by the operating system",
-                                                 parent.getAbsolutePath()));
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The children are read through a {@link DirectoryStream}, so they're fetched from the operating system as they're consumed.
+   */
+  @Override
+  public Stream<FileAttributes> listDirectory(Path directory) {
+    if (!Files.isReadable(directory)) {
+      throw accessDeniedException(directory);
     }
 
-    for (File child : parent.listFiles()) {
-      Path path = child.toPath();
-      FileAttributes attributes = new LocalFileAttributes(path);
-      if (!matcher.test(attributes)) {
-        continue;
-      }
-
-      if (child.isDirectory()) {
-        accumulator.add(Result.<InputStream, FileAttributes>builder().output(null).attributes(attributes).build());
-
-        if (recursive) {
-          doList(config, child, accumulator, recursive, mediaType, matcher);
-        }
-      } else {
-        accumulator.add(fileSystem.read(config, child.getAbsolutePath(), mediaType, false));
-      }
+    try {
+      return Files.list(directory).map(LocalFileAttributes::new);
+    } catch (AccessDeniedException e) {
+      throw accessDeniedException(directory);
+    } catch (IOException e) {
+      throw exception(format("Could not list files from directory '%s'", directory), e);
     }
   }
+
+  private RuntimeException accessDeniedException(Path directory) {
+    return new FileAccessDeniedException(format("Could not list files from directory '%s' because access was denied by the operating system",
+                                                directory.toAbsolutePath()));
+  }
 }
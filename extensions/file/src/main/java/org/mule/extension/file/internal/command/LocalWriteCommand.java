@@ -8,6 +8,7 @@ package org.mule.extension.file.internal.command;
 
 import static java.lang.String.format;
 import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
 import static java.nio.file.StandardOpenOption.WRITE;
 import org.mule.extension.file.common.api.FileWriteMode;
@@ -15,16 +16,17 @@ import org.mule.extension.file.common.api.command.WriteCommand;
 import org.mule.extension.file.common.api.exceptions.FileAccessDeniedException;
 import org.mule.extension.file.common.api.lock.NullPathLock;
 import org.mule.extension.file.common.api.lock.PathLock;
+import org.mule.extension.file.internal.FileInputStream;
 import org.mule.extension.file.internal.LocalFileSystem;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.util.IOUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.FileAlreadyExistsException;
-import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -36,6 +38,8 @@ import java.nio.file.StandardOpenOption;
  */
 public final class LocalWriteCommand extends LocalFileCommand implements WriteCommand {
 
+  private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
   private final MuleContext muleContext;
 
   /**
@@ -58,8 +62,8 @@ public final class LocalWriteCommand extends LocalFileCommand implements WriteCo
     final OpenOption[] openOptions = getOpenOptions(mode);
     PathLock pathLock = lock ? fileSystem.lock(path, openOptions) : new NullPathLock();
 
-    try (OutputStream out = getOutputStream(path, openOptions, mode)) {
-      IOUtils.copy(content, out);
+    try (FileChannel out = getChannel(path, openOptions, mode)) {
+      write(content, out);
     } catch (AccessDeniedException e) {
       throw new FileAccessDeniedException(format("Could not write to file '%s' because access was denied by the operating system",
                                                  path),
@@ -73,9 +77,32 @@ public final class LocalWriteCommand extends LocalFileCommand implements WriteCo
     }
   }
 
-  private OutputStream getOutputStream(Path path, OpenOption[] openOptions, FileWriteMode mode) throws IOException {
+  /**
+   * Writes the {@code content} into the {@code out} channel.
+   * <p>
+   * When the {@code content} is backed by a local file, its bytes are transferred by the operating system without passing
+   * through user space. Any other content is copied through a large buffer, since its bytes have to be read into the heap
+   * anyway.
+   */
+  private void write(InputStream content, FileChannel out) throws IOException {
+    if (content instanceof FileInputStream && !((FileInputStream) content).isOpened()) {
+      try (FileChannel source = FileChannel.open(((FileInputStream) content).getPath(), READ)) {
+        transfer(source, 0, out);
+      } finally {
+        // Releases the lock of the source file, since the stream will never be consumed
+        content.close();
+      }
+    } else if (content instanceof java.io.FileInputStream) {
+      FileChannel source = ((java.io.FileInputStream) content).getChannel();
+      source.position(source.position() + transfer(source, source.position(), out));
+    } else {
+      IOUtils.copyLarge(content, Channels.newOutputStream(out), new byte[WRITE_BUFFER_SIZE]);
+    }
+  }
+
+  private FileChannel getChannel(Path path, OpenOption[] openOptions, FileWriteMode mode) throws IOException {
     try {
-      return Files.newOutputStream(path, openOptions);
+      return FileChannel.open(path, openOptions);
     } catch (FileAlreadyExistsException e) {
       throw new org.mule.extension.file.common.api.exceptions.FileAlreadyExistsException(format(
                                                                                                 "Cannot write to path '%s' because it already exists and write mode '%s' was selected. "
@@ -12,21 +12,30 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.Assert.assertThat;
+import static org.junit.rules.ExpectedException.none;
+import static org.mule.extension.file.common.api.FileListPagingProvider.LIST_PAGE_SIZE;
 import static org.mule.extension.file.common.api.exceptions.FileError.ACCESS_DENIED;
 import static org.mule.extension.file.common.api.exceptions.FileError.ILLEGAL_PATH;
 import org.mule.extension.file.common.api.FileAttributes;
 import org.mule.extension.file.common.api.exceptions.FileAccessDeniedException;
 import org.mule.extension.file.common.api.exceptions.IllegalPathException;
-import org.mule.runtime.api.message.Message;
+import org.mule.runtime.extension.api.runtime.operation.Result;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class FileListTestCase extends FileConnectorTestCase {
 
+  @Rule
+  public ExpectedException expectedException = none();
+
   @Override
   protected String getConfigFile() {
     return "file-list-config.xml";
@@ -40,7 +49,7 @@ public class FileListTestCase extends FileConnectorTestCase {
 
   @Test
   public void listNotRecursive() throws Exception {
-    List<Message> messages = doList(".", false);
+    List<Result> messages = doList(".", false);
 
     assertThat(messages, hasSize(6));
     assertThat(assertListedFiles(messages), is(true));
@@ -48,7 +57,7 @@ public class FileListTestCase extends FileConnectorTestCase {
 
   @Test
   public void listRecursive() throws Exception {
-    List<Message> messages = doList(".", true);
+    List<Result> messages = doList(".", true);
     assertRecursiveTreeNode(messages);
   }
 
@@ -57,17 +66,38 @@ public class FileListTestCase extends FileConnectorTestCase {
     expectedError.expectError(NAMESPACE, ACCESS_DENIED, FileAccessDeniedException.class,
                               "access was denied by the operating system");
 
+    File forbiddenDirectory = temporaryFolder.newFolder("forbiddenDirectory");
+    forbiddenDirectory.setReadable(false);
+    doList(forbiddenDirectory.getName(), false);
+  }
+
+  @Test
+  public void listSubDirectoryWithoutReadPermission() throws Exception {
+    expectedException.expect(FileAccessDeniedException.class);
+    expectedException.expectMessage("access was denied by the operating system");
+
     temporaryFolder.newFolder("forbiddenDirectory").setReadable(false);
     doList(".", true);
   }
 
-  private void assertRecursiveTreeNode(List<Message> messages) throws Exception {
+  @Test
+  public void listSeveralPages() throws Exception {
+    int amount = LIST_PAGE_SIZE * 2 + 3;
+    createTestFiles(temporaryFolder.newFolder("paged"), 0, amount);
+
+    List<Result> messages = doList("paged", false);
+
+    assertThat(messages, hasSize(amount));
+    assertThat(assertListedFiles(messages), is(false));
+  }
+
+  private void assertRecursiveTreeNode(List<Result> messages) throws Exception {
     assertThat(messages, hasSize(8));
     assertThat(assertListedFiles(messages), is(true));
 
-    List<Message> subDirectories =
+    List<Result> subDirectories =
         messages.stream()
-            .filter(message -> ((FileAttributes) message.getAttributes()).isDirectory())
+            .filter(result -> ((FileAttributes) result.getAttributes().get()).isDirectory())
             .collect(Collectors.toList());
 
     assertThat(subDirectories, hasSize(1));
@@ -88,7 +118,7 @@ public class FileListTestCase extends FileConnectorTestCase {
 
   @Test
   public void listWithEmbeddedMatcher() throws Exception {
-    List<Message> messages = doList("listWithEmbeddedPredicate", ".", false);
+    List<Result> messages = doList("listWithEmbeddedPredicate", ".", false);
 
     assertThat(messages, hasSize(2));
     assertThat(assertListedFiles(messages), is(false));
@@ -96,27 +126,27 @@ public class FileListTestCase extends FileConnectorTestCase {
 
   @Test
   public void listWithGlobalMatcher() throws Exception {
-    List<Message> messages = doList("listWithGlobalMatcher", ".", true);
+    List<Result> messages = doList("listWithGlobalMatcher", ".", true);
 
     assertThat(messages, hasSize(1));
 
-    FileAttributes file = (FileAttributes) messages.get(0).getAttributes();
+    FileAttributes file = (FileAttributes) messages.get(0).getAttributes().get();
     assertThat(file.isDirectory(), is(true));
     assertThat(file.getName(), equalTo(SUB_DIRECTORY_NAME));
   }
 
-  private boolean assertListedFiles(List<Message> messages) throws Exception {
+  private boolean assertListedFiles(List<Result> messages) throws Exception {
     boolean directoryWasFound = false;
 
-    for (Message message : messages) {
-      FileAttributes attributes = (FileAttributes) message.getAttributes();
+    for (Result result : messages) {
+      FileAttributes attributes = (FileAttributes) result.getAttributes().get();
       if (attributes.isDirectory()) {
         assertThat("two directories found", directoryWasFound, is(false));
         directoryWasFound = true;
         assertThat(attributes.getName(), equalTo(SUB_DIRECTORY_NAME));
       } else {
         assertThat(attributes.getName(), endsWith(".html"));
-        assertThat(toString(message.getPayload().getValue()), equalTo(CONTENT));
+        assertThat(toString(result.getOutput()), equalTo(CONTENT));
         assertThat(attributes.getSize(), is(new Long(CONTENT.length())));
       }
     }
@@ -124,17 +154,19 @@ public class FileListTestCase extends FileConnectorTestCase {
     return directoryWasFound;
   }
 
-  private List<Message> doList(String path, boolean recursive) throws Exception {
+  private List<Result> doList(String path, boolean recursive) throws Exception {
     return doList("list", path, recursive);
   }
 
-  private List<Message> doList(String flowName, String path, boolean recursive) throws Exception {
-    List<Message> messages =
-        (List<Message>) flowRunner(flowName).withVariable("path", path).withVariable("recursive", recursive).run()
+  private List<Result> doList(String flowName, String path, boolean recursive) throws Exception {
+    Iterator<Result> iterator =
+        (Iterator<Result>) flowRunner(flowName).withVariable("path", path).withVariable("recursive", recursive).run()
             .getMessage().getPayload().getValue();
 
-    assertThat(messages, is(notNullValue()));
+    assertThat(iterator, is(notNullValue()));
 
+    List<Result> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
     return messages;
   }
 }
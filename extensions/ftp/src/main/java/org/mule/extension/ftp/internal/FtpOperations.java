@@ -33,9 +33,9 @@ import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
 import org.mule.runtime.extension.api.annotation.param.display.Placement;
 import org.mule.runtime.extension.api.annotation.param.display.Summary;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import java.io.InputStream;
-import java.util.List;
 
 import javax.activation.MimetypesFileTypeMap;
 
@@ -59,20 +59,20 @@ public final class FtpOperations extends BaseFileSystemOperations {
    * @param directoryPath the path to the directory to be listed
    * @param recursive     whether to include the contents of sub-directories. Defaults to false.
    * @param matchWith     a matcher used to filter the output list
-   * @return a {@link List} of {@link Message messages} each one containing each file's content in the payload and metadata in the attributes
+   * @return a {@link PagingProvider} of {@link Result results} each one containing each file's content in the payload and metadata in the attributes
    * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
    * @oaram mediaType the {@link MediaType} of the message which entered the operation
    */
   @Summary("List all the files from given directory")
   @Throws(FileListErrorTypeProvider.class)
-  public List<Result<InputStream, FtpFileAttributes>> list(@UseConfig FileConnectorConfig config,
-                                                           @Connection FtpFileSystem fileSystem,
-                                                           String directoryPath,
-                                                           @Optional(defaultValue = "false") boolean recursive,
-                                                           MediaType mediaType,
-                                                           @Optional @DisplayName("File Matching Rules") @Summary("Matcher to filter the listed files") FilePredicateBuilder matchWith) {
-    List result = doList(config, fileSystem, directoryPath, recursive, mediaType, matchWith);
-    return (List<Result<InputStream, FtpFileAttributes>>) result;
+  public PagingProvider<FtpFileSystem, Result<InputStream, FtpFileAttributes>> list(@UseConfig FileConnectorConfig config,
+                                                                                    @Connection FtpFileSystem fileSystem,
+                                                                                    String directoryPath,
+                                                                                    @Optional(defaultValue = "false") boolean recursive,
+                                                                                    MediaType mediaType,
+                                                                                    @Optional @DisplayName("File Matching Rules") @Summary("Matcher to filter the listed files") FilePredicateBuilder matchWith) {
+    PagingProvider result = doList(config, fileSystem, directoryPath, recursive, mediaType, matchWith);
+    return (PagingProvider<FtpFileSystem, Result<InputStream, FtpFileAttributes>>) result;
   }
 
   /**
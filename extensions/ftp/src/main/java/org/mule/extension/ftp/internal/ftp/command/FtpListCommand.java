@@ -7,29 +7,35 @@
 package org.mule.extension.ftp.internal.ftp.command;
 
 import static java.lang.String.format;
-import static org.slf4j.LoggerFactory.getLogger;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
 import org.mule.extension.file.common.api.FileAttributes;
 import org.mule.extension.file.common.api.FileConnectorConfig;
+import org.mule.extension.file.common.api.FileListPagingProvider;
+import org.mule.extension.file.common.api.FileSystem;
 import org.mule.extension.file.common.api.command.ListCommand;
 import org.mule.extension.ftp.api.ftp.ClassicFtpFileAttributes;
 import org.mule.extension.ftp.internal.ftp.connection.ClassicFtpFileSystem;
 import org.mule.runtime.api.metadata.MediaType;
-import org.mule.runtime.core.util.ArrayUtils;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPFile;
 import org.apache.commons.net.ftp.FTPListParseEngine;
 import org.apache.commons.net.ftp.FTPReply;
-import org.slf4j.Logger;
 
 /**
  * A {@link ClassicFtpCommand} which implements the {@link ListCommand} contract
@@ -38,7 +44,6 @@ import org.slf4j.Logger;
  */
 public final class FtpListCommand extends ClassicFtpCommand implements ListCommand {
 
-  private static final Logger LOGGER = getLogger(FtpListCommand.class);
   private static final int FTP_LIST_PAGE_SIZE = 25;
 
   /**
@@ -52,11 +57,11 @@ public final class FtpListCommand extends ClassicFtpCommand implements ListComma
    * {@inheritDoc}
    */
   @Override
-  public List<Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
-                                                        String directoryPath,
-                                                        boolean recursive,
-                                                        MediaType mediaType,
-                                                        Predicate<FileAttributes> matcher) {
+  public PagingProvider<FileSystem, Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
+                                                                              String directoryPath,
+                                                                              boolean recursive,
+                                                                              MediaType mediaType,
+                                                                              Predicate<FileAttributes> matcher) {
 
     FileAttributes directoryAttributes = getExistingFile(directoryPath);
     Path path = Paths.get(directoryAttributes.getPath());
@@ -65,70 +70,68 @@ public final class FtpListCommand extends ClassicFtpCommand implements ListComma
       throw cannotListFileException(path);
     }
 
-    if (!tryChangeWorkingDirectory(path.toString())) {
-      throw exception(format("Could not change working directory to '%s' while trying to list that directory", path));
-    }
+    return new FileListPagingProvider(config, path, recursive, mediaType, matcher);
+  }
 
-    List<Result<InputStream, FileAttributes>> accumulator = new LinkedList<>();
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The whole listing is read from the server when this method is called, and only its entries are parsed in batches as they're
+   * consumed. The LIST data connection can't be kept open while the returned {@link Stream} is consumed, because the same control
+   * connection is used meanwhile to read the listed files and to list sub-directories, and FTP doesn't allow issuing commands
+   * while a transfer is in progress. The memory used by a listing therefore grows with the amount of entries of the directory.
+   */
+  @Override
+  public Stream<FileAttributes> listDirectory(Path directory) {
+    String workingDirectory = getCurrentWorkingDirectory();
+    if (!tryChangeWorkingDirectory(directory.toString())) {
+      throw exception(format("Could not change working directory to '%s' while trying to list that directory", directory));
+    }
 
+    FTPListParseEngine engine;
     try {
-      doList(config, path, accumulator, recursive, mediaType, matcher);
-
+      engine = client.initiateListParsing();
       if (!FTPReply.isPositiveCompletion(client.getReplyCode())) {
-        throw exception(format("Failed to list files on directory '%s'", path));
+        throw exception(format("Failed to list files on directory '%s'", directory));
       }
-
-      changeWorkingDirectory(path);
-    } catch (Exception e) {
-      throw exception(format("Failed to list files on directory '%s'", path), e);
+    } catch (IOException e) {
+      throw exception(format("Failed to list files on directory '%s'", directory), e);
+    } finally {
+      changeWorkingDirectory(workingDirectory);
     }
 
-    return accumulator;
+    return stream(spliteratorUnknownSize(new ListingIterator(engine, directory), ORDERED), false);
   }
 
-  private void doList(FileConnectorConfig config,
-                      Path path,
-                      List<Result<InputStream, FileAttributes>> accumulator,
-                      boolean recursive,
-                      MediaType mediaType,
-                      Predicate<FileAttributes> matcher)
-      throws IOException {
-    LOGGER.debug("Listing directory {}", path);
-
-    FTPListParseEngine engine = client.initiateListParsing();
-    while (engine.hasNext()) {
-      FTPFile[] files = engine.getNext(FTP_LIST_PAGE_SIZE);
-      if (ArrayUtils.isEmpty(files)) {
-        return;
-      }
+  private class ListingIterator implements Iterator<FileAttributes> {
 
-      for (FTPFile file : files) {
-        final Path filePath = path.resolve(file.getName());
-        FileAttributes attributes = new ClassicFtpFileAttributes(filePath, file);
+    private final FTPListParseEngine engine;
+    private final Path directory;
+    private final Deque<FileAttributes> batch = new ArrayDeque<>(FTP_LIST_PAGE_SIZE);
 
-        if (isVirtualDirectory(attributes.getName()) || !matcher.test(attributes)) {
-          continue;
-        }
+    private ListingIterator(FTPListParseEngine engine, Path directory) {
+      this.engine = engine;
+      this.directory = directory;
+    }
 
-        if (attributes.isDirectory()) {
-          accumulator.add(Result.<InputStream, FileAttributes>builder().output(null).attributes(attributes).build());
-
-          if (recursive) {
-            Path recursionPath = path.resolve(attributes.getName());
-            if (!client.changeWorkingDirectory(attributes.getName())) {
-              throw exception(format("Could not change working directory to '%s' while performing recursion on list operation",
-                                     recursionPath));
-            }
-            doList(config, recursionPath, accumulator, recursive, mediaType, matcher);
-            if (!client.changeToParentDirectory()) {
-              throw exception(format("Could not return to parent working directory '%s' while performing recursion on list operation",
-                                     recursionPath.getParent()));
-            }
+    @Override
+    public boolean hasNext() {
+      while (batch.isEmpty() && engine.hasNext()) {
+        for (FTPFile file : engine.getNext(FTP_LIST_PAGE_SIZE)) {
+          if (file != null && !isVirtualDirectory(file.getName())) {
+            batch.add(new ClassicFtpFileAttributes(directory.resolve(file.getName()), file));
           }
-        } else {
-          accumulator.add(fileSystem.read(config, filePath.toString(), mediaType, false));
         }
       }
+      return !batch.isEmpty();
+    }
+
+    @Override
+    public FileAttributes next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return batch.poll();
     }
   }
 }
@@ -6,24 +6,22 @@
  */
 package org.mule.extension.ftp.internal.sftp.command;
 
-import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.extension.file.common.api.FileAttributes;
 import org.mule.extension.file.common.api.FileConnectorConfig;
+import org.mule.extension.file.common.api.FileListPagingProvider;
+import org.mule.extension.file.common.api.FileSystem;
 import org.mule.extension.file.common.api.command.ListCommand;
-import org.mule.extension.ftp.api.sftp.SftpFileAttributes;
 import org.mule.extension.ftp.internal.sftp.connection.SftpClient;
 import org.mule.extension.ftp.internal.sftp.connection.SftpFileSystem;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.function.Predicate;
-
-import org.slf4j.Logger;
+import java.util.stream.Stream;
 
 /**
  * A {@link SftpCommand} which implements the {@link ListCommand} contract
@@ -32,8 +30,6 @@ import org.slf4j.Logger;
  */
 public final class SftpListCommand extends SftpCommand implements ListCommand {
 
-  private static final Logger LOGGER = getLogger(SftpListCommand.class);
-
   /**
    * {@inheritDoc}
    */
@@ -45,11 +41,11 @@ public final class SftpListCommand extends SftpCommand implements ListCommand {
    * {@inheritDoc}
    */
   @Override
-  public List<Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
-                                                        String directoryPath,
-                                                        boolean recursive,
-                                                        MediaType mediaType,
-                                                        Predicate<FileAttributes> matcher) {
+  public PagingProvider<FileSystem, Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
+                                                                              String directoryPath,
+                                                                              boolean recursive,
+                                                                              MediaType mediaType,
+                                                                              Predicate<FileAttributes> matcher) {
 
     FileAttributes directoryAttributes = getExistingFile(directoryPath);
     Path path = Paths.get(directoryAttributes.getPath());
@@ -58,34 +54,16 @@ public final class SftpListCommand extends SftpCommand implements ListCommand {
       throw cannotListFileException(path);
     }
 
-    List<Result<InputStream, FileAttributes>> accumulator = new LinkedList<>();
-    doList(config, directoryAttributes.getPath(), accumulator, recursive, mediaType, matcher);
-
-    return accumulator;
+    return new FileListPagingProvider(config, path, recursive, mediaType, matcher);
   }
 
-  private void doList(FileConnectorConfig config,
-                      String path,
-                      List<Result<InputStream, FileAttributes>> accumulator,
-                      boolean recursive,
-                      MediaType mediaType,
-                      Predicate<FileAttributes> matcher) {
-
-    LOGGER.debug("Listing directory {}", path);
-    for (SftpFileAttributes file : client.list(path)) {
-      if (isVirtualDirectory(file.getName()) || !matcher.test(file)) {
-        continue;
-      }
-
-      if (file.isDirectory()) {
-        accumulator.add(Result.<InputStream, FileAttributes>builder().output(null).attributes(file).build());
-
-        if (recursive) {
-          doList(config, file.getPath(), accumulator, recursive, mediaType, matcher);
-        }
-      } else {
-        accumulator.add(fileSystem.read(config, file.getPath(), mediaType, false));
-      }
-    }
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<FileAttributes> listDirectory(Path directory) {
+    return client.list(directory.toString()).stream()
+        .filter(file -> !isVirtualDirectory(file.getName()))
+        .map(file -> (FileAttributes) file);
   }
 }
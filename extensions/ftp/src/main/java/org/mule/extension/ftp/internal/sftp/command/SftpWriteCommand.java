@@ -31,6 +31,12 @@ public final class SftpWriteCommand extends SftpCommand implements WriteCommand
 
   private static final Logger LOGGER = getLogger(SftpWriteCommand.class);
 
+  /**
+   * The size of the chunks in which the content is written. Each chunk is sent as a write request without waiting for the
+   * previous ones to be acknowledged, so it matches the largest write request that SFTP servers are required to accept.
+   */
+  private static final int WRITE_BUFFER_SIZE = 32 * 1024;
+
   private final MuleContext muleContext;
 
   /**
@@ -62,7 +68,7 @@ public final class SftpWriteCommand extends SftpCommand implements WriteCommand
     }
 
     try (OutputStream outputStream = getOutputStream(path, mode)) {
-      IOUtils.copy(content, outputStream);
+      IOUtils.copyLarge(content, outputStream, new byte[WRITE_BUFFER_SIZE]);
       LOGGER.debug("Successfully wrote to path {}", path.toString());
     } catch (Exception e) {
       throw exception(format("Exception was found writing to file '%s'", path), e);
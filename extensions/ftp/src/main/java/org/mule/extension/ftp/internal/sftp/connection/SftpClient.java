@@ -56,6 +56,7 @@ public class SftpClient {
   private String knownHostsFile;
   private String preferredAuthenticationMethods;
   private long connectionTimeoutMillis = 0; // No timeout by default
+  private int maxOutstandingRequests = 0; // Use the library's default
 
   /**
    * Creates a new instance which connects to a server on a given {@code host} and {@code port}
@@ -153,6 +154,9 @@ public class SftpClient {
     channel.connect();
 
     sftp = (ChannelSftp) channel;
+    if (maxOutstandingRequests > 0) {
+      sftp.setBulkRequests(maxOutstandingRequests);
+    }
   }
 
   private void configureSession(String user) throws JSchException {
@@ -361,4 +365,14 @@ public class SftpClient {
   public void setConnectionTimeoutMillis(long connectionTimeoutMillis) {
     this.connectionTimeoutMillis = connectionTimeoutMillis;
   }
+
+  /**
+   * Sets the maximum amount of requests which are kept in flight while transferring the contents of a file, so that the
+   * transfer is not limited to one packet per round trip. Must be set before {@link #login(String)}.
+   *
+   * @param maxOutstandingRequests the amount of outstanding requests, or {@code 0} to use the default of the underlying library
+   */
+  public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+    this.maxOutstandingRequests = maxOutstandingRequests;
+  }
 }
@@ -8,6 +8,7 @@ package org.mule.extension.ftp.internal.sftp.connection;
 
 import static java.lang.String.format;
 import static org.mule.runtime.extension.api.annotation.param.ParameterGroup.CONNECTION;
+import static org.mule.runtime.extension.api.annotation.param.display.Placement.ADVANCED_TAB;
 import com.jcraft.jsch.JSchException;
 import org.mule.extension.file.common.api.exceptions.FileError;
 import org.mule.extension.ftp.api.FTPConnectionException;
@@ -21,6 +22,7 @@ import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.Parameter;
 import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
 import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
+import org.mule.runtime.extension.api.annotation.param.display.Placement;
 
 import com.google.common.base.Joiner;
 
@@ -61,6 +63,16 @@ public class SftpConnectionProvider extends AbstractFtpConnectionProvider<SftpFi
   @Optional
   private String knownHostsFile;
 
+  /**
+   * The maximum amount of read requests which are kept in flight while transferring a file. Keeping several requests
+   * outstanding allows the server to keep sending data while the previous responses travel through the network, which is
+   * what limits the throughput of high latency links.
+   */
+  @Parameter
+  @Optional(defaultValue = "64")
+  @Placement(tab = ADVANCED_TAB)
+  private int maxOutstandingRequests = 64;
+
   private SftpClientFactory clientFactory = new SftpClientFactory();
 
   @Override
@@ -73,6 +85,7 @@ public class SftpConnectionProvider extends AbstractFtpConnectionProvider<SftpFi
       client.setPreferredAuthenticationMethods(Joiner.on(",").join(preferredAuthenticationMethods));
     }
     client.setKnownHostsFile(knownHostsFile);
+    client.setMaxOutstandingRequests(maxOutstandingRequests);
     try {
       client.login(connectionSettings.getUsername());
     } catch (JSchException e) {
@@ -116,6 +129,10 @@ public class SftpConnectionProvider extends AbstractFtpConnectionProvider<SftpFi
     this.knownHostsFile = knownHostsFile;
   }
 
+  void setMaxOutstandingRequests(int maxOutstandingRequests) {
+    this.maxOutstandingRequests = maxOutstandingRequests;
+  }
+
   void setClientFactory(SftpClientFactory clientFactory) {
     this.clientFactory = clientFactory;
   }
@@ -18,10 +18,12 @@ import static org.mule.extension.file.common.api.exceptions.FileError.ILLEGAL_PA
 import org.mule.extension.FtpTestHarness;
 import org.mule.extension.file.common.api.FileAttributes;
 import org.mule.extension.file.common.api.exceptions.IllegalPathException;
-import org.mule.runtime.api.message.Message;
+import org.mule.runtime.extension.api.runtime.operation.Result;
 
 import java.io.InputStream;
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.junit.Test;
@@ -49,7 +51,7 @@ public class FtpListTestCase extends FtpConnectorTestCase {
 
   @Test
   public void listNotRecursive() throws Exception {
-    List<Message> messages = doList(".", false);
+    List<Result> messages = doList(".", false);
 
     assertThat(messages, hasSize(6));
     assertThat(assertListedFiles(messages), is(true));
@@ -57,13 +59,13 @@ public class FtpListTestCase extends FtpConnectorTestCase {
 
   @Test
   public void listRecursive() throws Exception {
-    List<Message> messages = doList(".", true);
+    List<Result> messages = doList(".", true);
 
     assertThat(messages, hasSize(8));
     assertThat(assertListedFiles(messages), is(true));
 
-    List<Message> subDirectories = messages.stream()
-        .filter(message -> ((FileAttributes) message.getAttributes()).isDirectory())
+    List<Result> subDirectories = messages.stream()
+        .filter(result -> ((FileAttributes) result.getAttributes().get()).isDirectory())
         .collect(toList());
 
     assertThat(subDirectories, hasSize(1));
@@ -85,7 +87,7 @@ public class FtpListTestCase extends FtpConnectorTestCase {
 
   @Test
   public void listWithEmbeddedMatcher() throws Exception {
-    List<Message> messages = doList("listWithEmbeddedPredicate", ".", false);
+    List<Result> messages = doList("listWithEmbeddedPredicate", ".", false);
 
     assertThat(messages, hasSize(2));
     assertThat(assertListedFiles(messages), is(false));
@@ -93,27 +95,27 @@ public class FtpListTestCase extends FtpConnectorTestCase {
 
   @Test
   public void listWithGlobalMatcher() throws Exception {
-    List<Message> messages = doList("listWithGlobalMatcher", ".", true);
+    List<Result> messages = doList("listWithGlobalMatcher", ".", true);
 
     assertThat(messages, hasSize(1));
 
-    FileAttributes file = (FileAttributes) messages.get(0).getAttributes();
+    FileAttributes file = (FileAttributes) messages.get(0).getAttributes().get();
     assertThat(file.isDirectory(), is(true));
     assertThat(file.getName(), equalTo(SUB_DIRECTORY_NAME));
   }
 
-  private boolean assertListedFiles(List<Message> messages) throws Exception {
+  private boolean assertListedFiles(List<Result> messages) throws Exception {
     boolean directoryWasFound = false;
 
-    for (Message message : messages) {
-      FileAttributes attributes = (FileAttributes) message.getAttributes();
+    for (Result result : messages) {
+      FileAttributes attributes = (FileAttributes) result.getAttributes().get();
       if (attributes.isDirectory()) {
         assertThat("two directories found", directoryWasFound, is(false));
         directoryWasFound = true;
         assertThat(attributes.getName(), equalTo(SUB_DIRECTORY_NAME));
       } else {
         assertThat(attributes.getName(), endsWith(".html"));
-        assertThat(toString(message.getPayload().getValue()), equalTo(CONTENT));
+        assertThat(toString(result.getOutput()), equalTo(CONTENT));
         assertThat(attributes.getSize(), is(new Long(CONTENT.length())));
       }
     }
@@ -121,16 +123,19 @@ public class FtpListTestCase extends FtpConnectorTestCase {
     return directoryWasFound;
   }
 
-  private List<Message> doList(String path, boolean recursive) throws Exception {
+  private List<Result> doList(String path, boolean recursive) throws Exception {
     return doList("list", path, recursive);
   }
 
-  private List<Message> doList(String flowName, String path, boolean recursive) throws Exception {
-    List<Message> messages =
-        (List<Message>) flowRunner(flowName).withVariable("path", path).withVariable("recursive", recursive).run()
+  private List<Result> doList(String flowName, String path, boolean recursive) throws Exception {
+    Iterator<Result> iterator =
+        (Iterator<Result>) flowRunner(flowName).withVariable("path", path).withVariable("recursive", recursive).run()
             .getMessage().getPayload().getValue();
 
-    assertThat(messages, is(notNullValue()));
+    assertThat(iterator, is(notNullValue()));
+
+    List<Result> messages = new ArrayList<>();
+    iterator.forEachRemaining(messages::add);
     return messages;
   }
 
@@ -8,6 +8,7 @@ package org.mule.extension.ftp;
 
 import com.jcraft.jsch.ChannelSftp;
 import com.jcraft.jsch.JSch;
+import com.jcraft.jsch.Session;
 import com.jcraft.jsch.SftpException;
 import org.junit.Before;
 import org.junit.Rule;
@@ -31,6 +32,10 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SmallTest
@@ -51,6 +56,9 @@ public class SftpClientTestCase {
   @Mock
   private ChannelSftp channel;
 
+  @Mock
+  private Session session;
+
   @InjectMocks
   private SftpClient client = new SftpClient(EMPTY, 0, () -> jsch);;
 
@@ -72,4 +80,23 @@ public class SftpClientTestCase {
     when(channel.stat(any())).thenThrow(new SftpException(SSH_FX_PERMISSION_DENIED, EMPTY));
     client.getAttributes(path);
   }
+
+  @Test
+  public void maxOutstandingRequestsAreConfiguredOnLogin() throws Exception {
+    when(jsch.getSession(anyString(), anyString())).thenReturn(session);
+    when(session.openChannel(any())).thenReturn(channel);
+    client.setMaxOutstandingRequests(64);
+
+    client.login(EMPTY);
+    verify(channel).setBulkRequests(64);
+  }
+
+  @Test
+  public void defaultOutstandingRequestsAreKeptWhenNotConfigured() throws Exception {
+    when(jsch.getSession(anyString(), anyString())).thenReturn(session);
+    when(session.openChannel(any())).thenReturn(channel);
+
+    client.login(EMPTY);
+    verify(channel, never()).setBulkRequests(anyInt());
+  }
 }
@@ -16,9 +16,9 @@ import org.slf4j.Logger;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Session;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manager that takes the responsibility of register the session information to be able to execute a manual
@@ -30,7 +30,7 @@ import java.util.Optional;
 public class JmsSessionManager {
 
   private static final Logger LOGGER = getLogger(JmsSessionManager.class);
-  private final Map<String, SessionInformation> pendingSessions = new HashMap<>();
+  private final Map<String, SessionInformation> pendingSessions = new ConcurrentHashMap<>();
 
   /**
    * Registers the {@link Message} to the {@link Session} using the {@code ackId} in order to being
@@ -42,9 +42,7 @@ public class JmsSessionManager {
    * @throws IllegalArgumentException if no Session was registered with the given AckId
    */
   public void registerMessageForAck(String ackId, Message message, Session session, JmsListenerLock jmsLock) {
-    if (!pendingSessions.containsKey(ackId)) {
-      pendingSessions.put(ackId, new SessionInformation(message, session, jmsLock));
-    }
+    pendingSessions.putIfAbsent(ackId, new SessionInformation(message, session, jmsLock));
 
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Registered Message for Session AckId [" + ackId + "]");
@@ -127,6 +127,34 @@ public class JmsProducerConfig {
   @Summary("The message type identifier to be set in the JMSType Header when a message is sent")
   private String jmsType;
 
+  /**
+   * How the messages are handed to the JMS provider. Defaults to {@link PublishMode#SYNCHRONOUS}
+   */
+  @Parameter
+  @Optional(defaultValue = "SYNCHRONOUS")
+  @Expression(NOT_SUPPORTED)
+  @Summary("How the messages are handed to the JMS provider")
+  private PublishMode publishMode;
+
+  /**
+   * The maximum amount of messages committed together when using the {@link PublishMode#TRANSACTED_BATCH} mode.
+   */
+  @Parameter
+  @Optional(defaultValue = "100")
+  @Expression(NOT_SUPPORTED)
+  @Summary("Only used in TRANSACTED_BATCH publish mode: the maximum amount of messages committed together")
+  private int batchSize;
+
+  /**
+   * The maximum time in milliseconds that a not full batch waits to be committed when using the
+   * {@link PublishMode#TRANSACTED_BATCH} mode.
+   */
+  @Parameter
+  @Optional(defaultValue = "100")
+  @Expression(NOT_SUPPORTED)
+  @Summary("Only used in TRANSACTED_BATCH publish mode: the maximum time in milliseconds a batch waits to be committed")
+  private long batchTimeout;
+
   public boolean isPersistentDelivery() {
     return persistentDelivery;
   }
@@ -163,4 +191,16 @@ public class JmsProducerConfig {
     return jmsType;
   }
 
+  public PublishMode getPublishMode() {
+    return publishMode;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public long getBatchTimeout() {
+    return batchTimeout;
+  }
+
 }
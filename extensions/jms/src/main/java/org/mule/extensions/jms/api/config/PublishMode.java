@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.api.config;
+
+import javax.jms.CompletionListener;
+import javax.jms.Session;
+
+/**
+ * The ways in which the messages can be handed to the JMS provider when publishing them.
+ *
+ * @since 4.0
+ */
+public enum PublishMode {
+
+  /**
+   * Each message is sent on its own, and the publish waits until the provider accepts it.
+   */
+  SYNCHRONOUS,
+
+  /**
+   * Each message is sent without blocking, and the publish completes when the provider notifies its {@link CompletionListener}.
+   * Only providers supporting JMS 2.0 send messages asynchronously, the rest fall back to {@link #SYNCHRONOUS}.
+   */
+  ASYNCHRONOUS,
+
+  /**
+   * The messages sent to the same destination are accumulated in a {@link Session#SESSION_TRANSACTED transacted session}
+   * which is committed once per batch, and each publish completes when the batch it belongs to is committed. If the commit
+   * fails, all the publishes of the batch fail.
+   * <p>
+   * Each connection keeps its own batches, which are committed when the connection is closed. Since the batches are committed
+   * on their own, this mode can't be used within a transaction.
+   */
+  TRANSACTED_BATCH
+}
@@ -49,6 +49,7 @@ public final class JmsConnection implements Stoppable, Disposable {
   private final List<JmsMessageConsumer> createdConsumers = new LinkedList<>();
   private final List<JmsMessageProducer> createdProducers = new LinkedList<>();
   private final List<JmsSession> createdSessions = new LinkedList<>();
+  private final List<AutoCloseable> boundResources = new LinkedList<>();
 
   public JmsConnection(JmsSupport jmsSupport, Connection connection) {
     this.jmsSupport = jmsSupport;
@@ -126,6 +127,27 @@ public final class JmsConnection implements Stoppable, Disposable {
     return wrapper;
   }
 
+  /**
+   * Binds the given {@code resource} to the lifecycle of this connection. Unlike the sessions and producers created through
+   * this connection, it is not released when the connection is returned but closed right before the connection is, so it can
+   * be reused by the following operations executed with this connection.
+   *
+   * @param resource the resource to close when this connection is disposed
+   */
+  public void bindResource(AutoCloseable resource) {
+    boundResources.add(resource);
+  }
+
+  /**
+   * Removes a resource previously bound through {@link #bindResource(AutoCloseable)}, which will no longer be closed by this
+   * connection.
+   *
+   * @param resource a bound resource
+   */
+  public void unbindResource(AutoCloseable resource) {
+    boundResources.remove(resource);
+  }
+
   /**
    * Temporarily stops a connection's delivery of incoming messages. Delivery
    * can be restarted using the connection's {@code start} method. When
@@ -159,6 +181,7 @@ public final class JmsConnection implements Stoppable, Disposable {
         LOGGER.debug("Closing JMS Connection: " + connection);
       }
 
+      closeBoundResources();
       releaseResources();
       connection.close();
     } catch (javax.jms.IllegalStateException ex) {
@@ -196,6 +219,14 @@ public final class JmsConnection implements Stoppable, Disposable {
     createdSessions.removeAll(closed);
   }
 
+  private void closeBoundResources() {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Closing bound resources");
+    }
+    boundResources.forEach(this::closeQuietly);
+    boundResources.clear();
+  }
+
   private void closeConsumers() {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Closing Consumers");
@@ -68,6 +68,16 @@ public final class ActiveMQConnectionFactoryConfiguration {
   @Expression(NOT_SUPPORTED)
   private int maxRedelivery;
 
+  /**
+   * Used to configure the {@code PrefetchPolicy#getQueuePrefetch()}, the maximum amount of messages the broker sends to each
+   * queue consumer ahead of them being processed. Lower values spread the messages more evenly across the concurrent consumers
+   * of a listener, higher ones reduce the round trips to the broker. A negative value keeps the ActiveMQ default.
+   */
+  @Parameter
+  @Optional(defaultValue = "-1")
+  @Expression(NOT_SUPPORTED)
+  private int queuePrefetch;
+
   public int getMaxRedelivery() {
     return maxRedelivery;
   }
@@ -87,4 +97,8 @@ public final class ActiveMQConnectionFactoryConfiguration {
   public long getRedeliveryDelay() {
     return redeliveryDelay;
   }
+
+  public int getQueuePrefetch() {
+    return queuePrefetch;
+  }
 }
@@ -7,18 +7,32 @@
 package org.mule.extensions.jms.api.operation;
 
 import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.extensions.jms.api.config.AckMode.AUTO;
+import static org.mule.extensions.jms.api.config.AckMode.TRANSACTED;
+import static org.mule.extensions.jms.api.config.PublishMode.ASYNCHRONOUS;
+import static org.mule.extensions.jms.api.config.PublishMode.TRANSACTED_BATCH;
 import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.extensions.jms.api.config.JmsConfig;
 import org.mule.extensions.jms.api.config.JmsProducerConfig;
+import org.mule.extensions.jms.api.config.PublishMode;
 import org.mule.extensions.jms.api.connection.JmsConnection;
 import org.mule.extensions.jms.api.connection.JmsSession;
 import org.mule.extensions.jms.api.destination.DestinationType;
-import org.mule.extensions.jms.api.exception.JmsExtensionException;
 import org.mule.extensions.jms.api.exception.JmsPublishException;
 import org.mule.extensions.jms.api.exception.JmsPublisherErrorTypeProvider;
 import org.mule.extensions.jms.api.message.MessageBuilder;
+import org.mule.extensions.jms.internal.publish.JmsMessageProducer;
+import org.mule.extensions.jms.internal.publish.JmsPublishBatch;
 import org.mule.extensions.jms.internal.publish.JmsPublishParameters;
+import org.mule.extensions.jms.internal.support.JmsSupport;
+import org.mule.runtime.api.lifecycle.Disposable;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
+import org.mule.runtime.core.transaction.TransactionCoordination;
 import org.mule.runtime.extension.api.annotation.dsl.xml.XmlHints;
 import org.mule.runtime.extension.api.annotation.error.Throws;
 import org.mule.runtime.extension.api.annotation.param.Connection;
@@ -27,21 +41,56 @@ import org.mule.runtime.extension.api.annotation.param.Optional;
 import org.mule.runtime.extension.api.annotation.param.ParameterGroup;
 import org.mule.runtime.extension.api.annotation.param.UseConfig;
 import org.mule.runtime.extension.api.annotation.param.display.Summary;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.process.CompletionCallback;
 import org.slf4j.Logger;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+
+import javax.inject.Inject;
+import javax.jms.CompletionListener;
 import javax.jms.DeliveryMode;
 import javax.jms.Destination;
+import javax.jms.JMSException;
 import javax.jms.Message;
+import javax.jms.Session;
 
 /**
  * Operation that allows the user to send a message to a JMS {@link Destination}
  *
  * @since 4.0
  */
-public final class JmsPublish {
+public final class JmsPublish implements Initialisable, Disposable {
 
   private static final Logger LOGGER = getLogger(JmsPublish.class);
 
+  @Inject
+  private SchedulerService schedulerService;
+
+  @Inject
+  private MuleContext muleContext;
+
+  private Scheduler batchScheduler;
+
+  private final ConcurrentMap<BatchKey, ScheduledBatch> batches = new ConcurrentHashMap<>();
+
+  @Override
+  public void initialise() throws InitialisationException {
+    batchScheduler = schedulerService.ioScheduler();
+  }
+
+  @Override
+  public void dispose() {
+    batches.values().forEach(ScheduledBatch::close);
+    batches.clear();
+    if (batchScheduler != null) {
+      batchScheduler.stop(muleContext.getConfiguration().getShutdownTimeout(), MILLISECONDS);
+    }
+  }
+
   /**
    * Operation that allows the user to send a {@link Message} to a JMS {@link Destination
    *
@@ -56,6 +105,8 @@ public final class JmsPublish {
    * @param timeToLiveUnit     unit to be used in the timeToLive configurations
    * @param deliveryDelay      Only used by JMS 2.0. Sets the delivery delay to be applied in order to postpone the Message delivery
    * @param deliveryDelayUnit  Time unit to be used in the deliveryDelay configurations
+   * @param callback           the callback notified when the message is accepted by the provider, according to the
+   *                           {@link PublishMode} of the {@link JmsProducerConfig}
    * @throws JmsPublishException if an error occurs
    */
   @Throws(JmsPublisherErrorTypeProvider.class)
@@ -64,16 +115,33 @@ public final class JmsPublish {
                           allowReferences = false) @Summary("The name of the Destination where the Message should be sent") String destination,
                       @Optional(defaultValue = "QUEUE") @Summary("The type of the Destination") DestinationType destinationType,
                       @Optional @NullSafe @Summary("A builder for the message that will be published") MessageBuilder messageBuilder,
-                      @ParameterGroup(name = "Publish Configuration") JmsPublishParameters overrides)
-
-      throws JmsExtensionException {
+                      @ParameterGroup(name = "Publish Configuration") JmsPublishParameters overrides,
+                      CompletionCallback<Void, Void> callback) {
 
     JmsProducerConfig producerConfig = config.getProducerConfig();
+    PublishMode publishMode = producerConfig.getPublishMode();
     try {
       if (LOGGER.isDebugEnabled()) {
         LOGGER.debug("Begin publish");
       }
 
+      if (TRANSACTED_BATCH.equals(publishMode)) {
+        if (TransactionCoordination.getInstance().getTransaction() != null) {
+          // the batch commits on its own session, so it can't take part of the current transaction
+          throw new JmsPublishException(format("The %s publish mode can't be used within a transaction", TRANSACTED_BATCH));
+        }
+        getBatch(config, connection, destination, destinationType)
+            .publish(session -> messageBuilder.build(connection.getJmsSupport(), session, config), producerConfig, overrides)
+            .whenComplete((v, e) -> {
+              if (e != null) {
+                onPublishError(destination, e, callback);
+              } else {
+                onPublished(callback);
+              }
+            });
+        return;
+      }
+
       JmsSession session = connection.createSession(AUTO, destinationType.isTopic());
       Message message = messageBuilder.build(connection.getJmsSupport(), session.get(), config);
 
@@ -84,15 +152,144 @@ public final class JmsPublish {
       Destination jmsDestination = connection.getJmsSupport()
           .createDestination(session.get(), destination, destinationType.isTopic());
 
-      connection.createProducer(session.get(), jmsDestination, destinationType.isTopic())
-          .publish(message, producerConfig, overrides);
+      JmsMessageProducer producer = connection.createProducer(session.get(), jmsDestination, destinationType.isTopic());
+      if (ASYNCHRONOUS.equals(publishMode)) {
+        producer.publish(message, producerConfig, overrides, new CompletionListener() {
 
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug("Finished publish");
+          @Override
+          public void onCompletion(Message message) {
+            onPublished(callback);
+          }
+
+          @Override
+          public void onException(Message message, Exception exception) {
+            onPublishError(destination, exception, callback);
+          }
+        });
+      } else {
+        producer.publish(message, producerConfig, overrides);
+        onPublished(callback);
       }
     } catch (Exception e) {
-      LOGGER.error(format("An error occurred while sending a message to [%s]: ", destination), e);
-      throw new JmsPublishException(format("An error occurred while sending a message to [%s]: ", destination), e);
+      onPublishError(destination, e, callback);
+    }
+  }
+
+  private void onPublished(CompletionCallback<Void, Void> callback) {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Finished publish");
+    }
+    callback.success(Result.<Void, Void>builder().build());
+  }
+
+  private void onPublishError(String destination, Throwable error, CompletionCallback<Void, Void> callback) {
+    LOGGER.error(format("An error occurred while sending a message to [%s]: ", destination), error);
+    callback.error(new JmsPublishException(format("An error occurred while sending a message to [%s]: ", destination),
+                                           error instanceof Exception ? (Exception) error : new Exception(error)));
+  }
+
+  /**
+   * Returns the batch bound to the given {@code connection} for the destination, creating it if there's none or the current
+   * one is broken. The batch owns a session of the {@code connection}, so it is closed, and committed, when the connection is.
+   * <p>
+   * The JMS resources are created and released outside of the {@link #batches} map operations, which are just the swap of the
+   * entry.
+   */
+  private JmsPublishBatch getBatch(JmsConfig config, JmsConnection connection, String destination,
+                                   DestinationType destinationType) {
+    BatchKey key = new BatchKey(config, connection, destination, destinationType.isTopic());
+    while (true) {
+      ScheduledBatch current = batches.get(key);
+      if (current != null && !current.batch.isBroken()) {
+        return current.batch;
+      }
+
+      ScheduledBatch created = createBatch(key, config, connection, destination, destinationType);
+      boolean swapped = current == null ? batches.putIfAbsent(key, created) == null : batches.replace(key, current, created);
+      if (swapped) {
+        if (current != null) {
+          connection.unbindResource(current);
+          current.close();
+        }
+        connection.bindResource(created);
+        return created.batch;
+      }
+      // some other publish beat us to it
+      created.close();
+    }
+  }
+
+  private ScheduledBatch createBatch(BatchKey key, JmsConfig config, JmsConnection connection, String destination,
+                                     DestinationType destinationType) {
+    try {
+      JmsProducerConfig producerConfig = config.getProducerConfig();
+      JmsSupport jmsSupport = connection.getJmsSupport();
+      // not created through the connection, since those are released every time the connection is returned
+      Session session = jmsSupport.createSession(connection.get(), destinationType.isTopic(), true, TRANSACTED.getAckMode());
+      Destination jmsDestination = jmsSupport.createDestination(session, destination, destinationType.isTopic());
+      JmsMessageProducer producer =
+          new JmsMessageProducer(jmsSupport, jmsSupport.createProducer(session, jmsDestination, destinationType.isTopic()),
+                                 destinationType.isTopic());
+      JmsPublishBatch batch =
+          new JmsPublishBatch(session, producer, producerConfig.getBatchSize(), producerConfig.getBatchTimeout());
+      ScheduledFuture<?> timer = batchScheduler.scheduleAtFixedRate(batch::commitIfExpired, producerConfig.getBatchTimeout(),
+                                                                    producerConfig.getBatchTimeout(), MILLISECONDS);
+      return new ScheduledBatch(key, batch, timer);
+    } catch (JMSException e) {
+      throw new JmsPublishException(format("An error occurred while creating a batch for destination [%s]: ", destination), e);
+    }
+  }
+
+  /**
+   * A {@link JmsPublishBatch} along with its commit timer. Closing it commits the pending messages and releases the batch.
+   */
+  private final class ScheduledBatch implements AutoCloseable {
+
+    private final BatchKey key;
+    private final JmsPublishBatch batch;
+    private final ScheduledFuture<?> timer;
+
+    private ScheduledBatch(BatchKey key, JmsPublishBatch batch, ScheduledFuture<?> timer) {
+      this.key = key;
+      this.batch = batch;
+      this.timer = timer;
+    }
+
+    @Override
+    public void close() {
+      timer.cancel(false);
+      batches.remove(key, this);
+      batch.close();
+    }
+  }
+
+  private static final class BatchKey {
+
+    private final JmsConfig config;
+    private final JmsConnection connection;
+    private final String destination;
+    private final boolean topic;
+
+    private BatchKey(JmsConfig config, JmsConnection connection, String destination, boolean topic) {
+      this.config = config;
+      this.connection = connection;
+      this.destination = destination;
+      this.topic = topic;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof BatchKey)) {
+        return false;
+      }
+      BatchKey other = (BatchKey) obj;
+      return config == other.config && connection == other.connection && destination.equals(other.destination)
+          && topic == other.topic;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(config), System.identityHashCode(connection), destination, topic);
     }
   }
 
@@ -7,9 +7,12 @@
 package org.mule.extensions.jms.api.source;
 
 import static java.lang.String.format;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.extensions.jms.api.config.AckMode.AUTO;
 import static org.mule.extensions.jms.api.config.AckMode.DUPS_OK;
 import static org.mule.extensions.jms.api.config.AckMode.MANUAL;
+import static org.mule.extensions.jms.api.config.AckMode.TRANSACTED;
 import static org.mule.extensions.jms.internal.common.JmsCommons.EXAMPLE_CONTENT_TYPE;
 import static org.mule.extensions.jms.internal.common.JmsCommons.EXAMPLE_ENCODING;
 import static org.mule.extensions.jms.internal.common.JmsCommons.evaluateMessageAck;
@@ -31,10 +34,16 @@ import org.mule.extensions.jms.internal.consume.JmsMessageConsumer;
 import org.mule.extensions.jms.internal.message.JmsResultFactory;
 import org.mule.extensions.jms.internal.metadata.JmsOutputResolver;
 import org.mule.extensions.jms.internal.publish.JmsPublishParameters;
+import org.mule.extensions.jms.internal.source.JmsBatchAcknowledger;
+import org.mule.extensions.jms.internal.source.JmsConsumerStatistics;
+import org.mule.extensions.jms.internal.source.JmsListenerConsumer;
 import org.mule.extensions.jms.internal.support.Jms102bSupport;
 import org.mule.extensions.jms.internal.support.JmsSupport;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.message.Error;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
 import org.mule.runtime.core.util.StringMessageUtils;
 import org.mule.runtime.extension.api.annotation.Alias;
 import org.mule.runtime.extension.api.annotation.dsl.xml.XmlHints;
@@ -54,6 +63,11 @@ import org.mule.runtime.extension.api.runtime.source.SourceCallback;
 import org.mule.runtime.extension.api.runtime.source.SourceCallbackContext;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
 import javax.inject.Inject;
 import javax.jms.Destination;
 import javax.jms.JMSException;
@@ -70,26 +84,34 @@ import javax.jms.Topic;
 @Alias("listener")
 @EmitsResponse
 @MetadataScope(outputResolver = JmsOutputResolver.class)
-//TODO - MULE-11964 : Review JMS Listener's consumers usage implementation
 public class JmsListener extends Source<Object, JmsAttributes> {
 
   private static final Logger LOGGER = getLogger(JmsListener.class);
   private static final String REPLY_TO_DESTINATION = "REPLY_TO_DESTINATION";
+  private static final String LISTENER_CONSUMER = "LISTENER_CONSUMER";
   private final JmsResultFactory resultFactory = new JmsResultFactory();
 
   @Inject
   private JmsSessionManager sessionManager;
 
+  @Inject
+  private SchedulerService schedulerService;
+
+  @Inject
+  private MuleContext muleContext;
+
   @UseConfig
   private JmsConfig config;
 
   @Connection
   private JmsConnection connection;
 
-  private JmsSession session;
-
   private JmsSupport jmsSupport;
 
+  private final List<JmsListenerConsumer> consumers = new CopyOnWriteArrayList<>();
+
+  private Scheduler batchFlushScheduler;
+
   /**
    * The name of the Destination from where the Message should be consumed
    */
@@ -142,12 +164,35 @@ public class JmsListener extends Source<Object, JmsAttributes> {
   @Optional(defaultValue = "true")
   private boolean synchronous;
 
-  private JmsListenerLock jmsLock;
+  /**
+   * The number of concurrent consumers, each one with its own session, that will receive messages from the destination. Only
+   * queues are consumed concurrently, topic subscriptions always use a single consumer so messages are not received twice.
+   * <p>
+   * Note that the broker may prefetch messages to each consumer, so a large prefetch limit on the connection factory may keep
+   * messages waiting on a busy consumer while others are idle.
+   */
+  @Parameter
+  @Optional(defaultValue = "1")
+  private int numberOfConsumers;
+
+  /**
+   * When greater than 1, the messages received with the {@link AckMode#AUTO}, {@link AckMode#DUPS_OK} or
+   * {@link AckMode#TRANSACTED} modes by a {@link #synchronous} listener are acknowledged or committed in batches of this
+   * size instead of one by one. If a message of a batch fails, all the pending messages of the batch are redelivered.
+   */
+  @Parameter
+  @Optional(defaultValue = "1")
+  private int ackBatchSize;
+
+  /**
+   * The maximum time in milliseconds that a batch of messages waits to be acknowledged or committed if it is not full.
+   */
+  @Parameter
+  @Optional(defaultValue = "1000")
+  private long ackBatchTimeout;
 
   @Override
   public void onStart(SourceCallback<Object, JmsAttributes> sourceCallback) throws MuleException {
-    jmsLock = synchronous ? new DefaultJmsListenerLock() : new NullJmsListenerLock();
-
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Starting message listener");
     }
@@ -157,74 +202,179 @@ public class JmsListener extends Source<Object, JmsAttributes> {
     selector = resolveOverride(consumerConfig.getSelector(), selector);
     consumerType = resolveOverride(config.getConsumerConfig().getConsumerType(), consumerType);
 
+    final boolean batched = isBatchedAck();
+    final int consumersCount = consumerType.isTopic() ? 1 : Math.max(1, numberOfConsumers);
+    if (consumerType.isTopic() && numberOfConsumers > 1 && LOGGER.isWarnEnabled()) {
+      LOGGER.warn(format("Destination [%s] is a topic, it will be consumed by only one consumer instead of the [%s] configured",
+                         destination, numberOfConsumers));
+    }
+    if (ackBatchSize > 1 && !batched && LOGGER.isWarnEnabled()) {
+      LOGGER.warn(format("Batched acknowledgement is only supported by synchronous listeners with AUTO, DUPS_OK or TRANSACTED "
+          + "ack mode, messages from destination [%s] will be acknowledged one by one", destination));
+    }
+
     try {
-      session = connection.createSession(ackMode, consumerType.isTopic());
       jmsSupport = connection.getJmsSupport();
-      final Destination jmsDestination = jmsSupport.createDestination(session.get(), destination, consumerType.isTopic());
-      final JmsMessageConsumer consumer = connection.createConsumer(session.get(), jmsDestination, selector, consumerType);
 
-      if (LOGGER.isDebugEnabled()) {
-        LOGGER.debug(format("Starting Message listener on destination [%s] of type [%s]",
-                            destination, consumerType.isTopic() ? "TOPIC" : "QUEUE"));
+      for (int i = 0; i < consumersCount; i++) {
+        startConsumer(sourceCallback, i, batched);
       }
-      consumer.listen(message -> {
-        SourceCallbackContext context = sourceCallback.createContext();
-
-        if (message != null) {
-          evaluateAckAction(sourceCallback, session, message, jmsLock);
-          encoding = resolveEncoding(message);
-          contentType = resolveContentType(message);
-          saveReplyToDestination(sourceCallback, message, context);
-        }
 
-        produceMessageResult(sourceCallback, jmsSupport, session, message, context);
-        waitForMessageToBeProcesed();
-      });
+      if (batched) {
+        batchFlushScheduler = schedulerService.ioScheduler();
+        batchFlushScheduler.scheduleAtFixedRate(() -> consumers
+            .forEach(consumer -> consumer.getAcknowledger().ifPresent(JmsBatchAcknowledger::flushIfExpired)),
+                                                ackBatchTimeout, ackBatchTimeout, MILLISECONDS);
+      }
 
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(format("Started Message listener on destination [%s] of type [%s] with [%s] consumers",
+                            destination, consumerType.isTopic() ? "TOPIC" : "QUEUE", consumersCount));
+      }
     } catch (Exception e) {
       LOGGER.error("An error occurred while consuming a message: ", e);
       sourceCallback.onSourceException(new JmsExtensionException(e, "An error occurred while consuming a message: "));
     }
   }
 
+  private void startConsumer(SourceCallback<Object, JmsAttributes> sourceCallback, int index, boolean batched)
+      throws JMSException {
+    // Batches of non transacted sessions are acknowledged explicitly, so the session can't acknowledge each message on its own
+    final AckMode sessionAckMode = batched && !ackMode.equals(TRANSACTED) ? MANUAL : ackMode;
+    final JmsSession session = connection.createSession(sessionAckMode, consumerType.isTopic());
+    final Destination jmsDestination = jmsSupport.createDestination(session.get(), destination, consumerType.isTopic());
+    final JmsMessageConsumer consumer = connection.createConsumer(session.get(), jmsDestination, selector, consumerType);
+
+    final JmsListenerLock jmsLock = synchronous ? new DefaultJmsListenerLock() : new NullJmsListenerLock();
+    final JmsBatchAcknowledger acknowledger = batched
+        ? new JmsBatchAcknowledger(session.get(), ackMode.equals(TRANSACTED), ackBatchSize, ackBatchTimeout)
+        : null;
+    final JmsListenerConsumer listenerConsumer = new JmsListenerConsumer(session, jmsLock, acknowledger, index);
+    consumers.add(listenerConsumer);
+
+    consumer.listen(message -> {
+      if (acknowledger == null) {
+        onMessage(sourceCallback, listenerConsumer, message);
+        return;
+      }
+
+      // The session can't be used by anyone else, including the timed acknowledgement of the batch, until the message is done
+      final ReentrantLock sessionLock = acknowledger.getSessionLock();
+      sessionLock.lock();
+      try {
+        onMessage(sourceCallback, listenerConsumer, message);
+        acknowledger.onSuccess(message);
+      } catch (RuntimeException e) {
+        recoverBatch(sourceCallback, acknowledger);
+      } catch (JMSException e) {
+        LOGGER.error("An error occurred while acknowledging a batch of messages: ", e);
+        sourceCallback.onSourceException(new JmsExtensionException(e, "An error occurred while acknowledging a batch of messages: "));
+      } finally {
+        sessionLock.unlock();
+      }
+    });
+  }
+
+  private void onMessage(SourceCallback<Object, JmsAttributes> sourceCallback, JmsListenerConsumer listenerConsumer,
+                         Message message) {
+    SourceCallbackContext context = sourceCallback.createContext();
+    context.addVariable(LISTENER_CONSUMER, listenerConsumer);
+
+    String messageEncoding = encoding;
+    String messageContentType = contentType;
+    if (message != null) {
+      evaluateAckAction(sourceCallback, listenerConsumer.getSession(), message, listenerConsumer.getLock());
+      messageEncoding = resolveEncoding(message);
+      messageContentType = resolveContentType(message);
+      saveReplyToDestination(sourceCallback, message, context);
+    }
+
+    listenerConsumer.onDelivered();
+    produceMessageResult(sourceCallback, jmsSupport, listenerConsumer.getSession(), message, context, messageContentType,
+                         messageEncoding);
+    waitForMessageToBeProcesed(listenerConsumer.getLock());
+  }
+
+  private void recoverBatch(SourceCallback<Object, JmsAttributes> sourceCallback, JmsBatchAcknowledger acknowledger) {
+    try {
+      acknowledger.onFailure();
+    } catch (JMSException e) {
+      LOGGER.error("An error occurred while recovering a batch of messages: ", e);
+      sourceCallback.onSourceException(new JmsExtensionException(e, "An error occurred while recovering a batch of messages: "));
+    }
+  }
+
   @Override
   public void onStop() {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Stopping JMSSubscriber source");
+      consumers.forEach(consumer -> LOGGER.debug("JMS listener " + consumer.getStatistics()));
     }
 
-    jmsLock.unlock();
+    if (batchFlushScheduler != null) {
+      batchFlushScheduler.stop(muleContext.getConfiguration().getShutdownTimeout(), MILLISECONDS);
+      batchFlushScheduler = null;
+    }
 
     try {
-      if (ackMode.equals(AUTO) || ackMode.equals(DUPS_OK) || ackMode.equals(MANUAL)) {
-        session.get().recover();
+      for (JmsListenerConsumer consumer : consumers) {
+        consumer.getLock().unlock();
+        final JmsBatchAcknowledger acknowledger = consumer.getAcknowledger().orElse(null);
+        if (acknowledger != null) {
+          // Messages already processed are acknowledged, the rest will be redelivered when the session is recovered
+          acknowledger.flush();
+        }
+        if (ackMode.equals(AUTO) || ackMode.equals(DUPS_OK) || ackMode.equals(MANUAL)) {
+          consumer.getSession().get().recover();
+        }
       }
     } catch (JMSException e) {
       throw new JmsExtensionException(e, "A problem occurred recovering the session before returning the session to the pool");
+    } finally {
+      consumers.clear();
     }
   }
 
   @OnSuccess
   public void onSuccess(@Optional @NullSafe JmsListenerResponseBuilder response,
                         SourceCallbackContext callbackContext) {
-    jmsLock.unlock();
+    JmsListenerConsumer listenerConsumer = callbackContext.getVariable(LISTENER_CONSUMER);
+    listenerConsumer.onProcessed(false);
+    listenerConsumer.getLock().unlock();
     Destination replyTo = callbackContext.getVariable(REPLY_TO_DESTINATION);
     if (replyTo != null) {
-      doReply(response.getMessageBuilder(), response.getOverrides(), callbackContext, replyTo);
+      doReply(response.getMessageBuilder(), response.getOverrides(), callbackContext, replyTo,
+              listenerConsumer.getSession());
     }
   }
 
   @OnError
-  public void onError(Error error) {
-    if (ackMode.equals(AUTO) || ackMode.equals(DUPS_OK)) {
-      jmsLock.unlockWithFailure(error);
+  public void onError(Error error, SourceCallbackContext callbackContext) {
+    JmsListenerConsumer listenerConsumer = callbackContext.getVariable(LISTENER_CONSUMER);
+    listenerConsumer.onProcessed(true);
+    if (ackMode.equals(AUTO) || ackMode.equals(DUPS_OK) || listenerConsumer.getAcknowledger().isPresent()) {
+      listenerConsumer.getLock().unlockWithFailure(error);
     } else {
-      jmsLock.unlock();
+      listenerConsumer.getLock().unlock();
     }
   }
 
+  /**
+   * @return the statistics of each of the consumers of this listener.
+   */
+  public List<JmsConsumerStatistics> getConsumerStatistics() {
+    List<JmsConsumerStatistics> statistics = new ArrayList<>(consumers.size());
+    consumers.forEach(consumer -> statistics.add(consumer.getStatistics()));
+    return statistics;
+  }
+
+  private boolean isBatchedAck() {
+    return synchronous && ackBatchSize > 1
+        && (ackMode.equals(AUTO) || ackMode.equals(DUPS_OK) || ackMode.equals(TRANSACTED));
+  }
+
   private void doReply(MessageBuilder messageBuilder, JmsPublishParameters overrides,
-                       SourceCallbackContext callbackContext, Destination replyTo) {
+                       SourceCallbackContext callbackContext, Destination replyTo, JmsSession session) {
     try {
       boolean replyToTopic = replyDestinationIsTopic(replyTo);
       String destinationName = replyToTopic ? ((Topic) replyTo).getTopicName() : ((Queue) replyTo).getQueueName();
@@ -250,12 +400,13 @@ public class JmsListener extends Source<Object, JmsAttributes> {
   }
 
   private void produceMessageResult(SourceCallback<Object, JmsAttributes> sourceCallback, JmsSupport jmsSupport,
-                                    JmsSession session, Message message, SourceCallbackContext context) {
+                                    JmsSession session, Message message, SourceCallbackContext context,
+                                    String contentType, String encoding) {
     try {
-
-      Result<Object, JmsAttributes> result = resultFactory.createResult(message, jmsSupport.getSpecification(), contentType,
-                                                                        encoding,
-                                                                        session.getAckId());
+      // Sessions created to acknowledge batches have an AckId, but it's not meant to be used by the flow
+      Result<Object, JmsAttributes> result =
+          resultFactory.createResult(message, jmsSupport.getSpecification(), contentType, encoding,
+                                     ackMode.equals(MANUAL) ? session.getAckId() : empty());
       sourceCallback.handle(result, context);
 
     } catch (Exception e) {
@@ -318,7 +469,7 @@ public class JmsListener extends Source<Object, JmsAttributes> {
     return destination instanceof Topic;
   }
 
-  private void waitForMessageToBeProcesed() {
+  private void waitForMessageToBeProcesed(JmsListenerLock jmsLock) {
     if (synchronous) {
       jmsLock.lock();
     }
@@ -91,6 +91,22 @@ public class ActiveMQConnectionFactoryProvider {
     } catch (Exception e) {
       LOGGER.error("Failed to set custom ConnectionFactoryProperties for ActiveMQ RedeliveryPolicy ", e);
     }
+
+    if (factoryConfiguration.getQueuePrefetch() >= 0) {
+      try {
+        Method getPrefetchPolicyMethod = connectionFactory.getClass().getMethod("getPrefetchPolicy");
+        Object prefetchPolicy = getPrefetchPolicyMethod.invoke(connectionFactory);
+        setQueuePrefetch(prefetchPolicy);
+      } catch (Exception e) {
+        LOGGER.error("Failed to set custom ConnectionFactoryProperties for ActiveMQ PrefetchPolicy ", e);
+      }
+    }
+  }
+
+  private void setQueuePrefetch(Object prefetchPolicy)
+      throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+    Method setQueuePrefetchMethod = prefetchPolicy.getClass().getMethod("setQueuePrefetch", Integer.TYPE);
+    setQueuePrefetchMethod.invoke(prefetchPolicy, factoryConfiguration.getQueuePrefetch());
   }
 
   private void setMaximumRedeliveries(Object redeliveryPolicy)
@@ -19,6 +19,7 @@ import org.mule.extensions.jms.internal.support.JmsSupport;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
+import javax.jms.CompletionListener;
 import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.MessageProducer;
@@ -49,6 +50,21 @@ public final class JmsMessageProducer implements AutoCloseable {
 
   public void publish(Message message, JmsProducerConfig config, JmsPublishParameters overrides)
       throws JMSException {
+    publish(message, config, overrides, null);
+  }
+
+  /**
+   * Publishes the given {@link Message} without waiting for the provider to confirm it, if the {@link JmsSupport} allows it.
+   *
+   * @param message            the {@link Message} to publish
+   * @param config             the default publishing configuration
+   * @param overrides          the publishing parameters that override the ones in the {@code config}
+   * @param completionListener the listener to notify when the publish completes, or {@code null} to publish synchronously
+   * @throws JMSException if an error occurs before the message is handed to the provider
+   */
+  public void publish(Message message, JmsProducerConfig config, JmsPublishParameters overrides,
+                      CompletionListener completionListener)
+      throws JMSException {
 
     java.util.Optional<Long> delay = resolveDeliveryDelay(config, overrides.getDeliveryDelay(), overrides.getDeliveryDelayUnit());
     Boolean disableMessageId = resolveOverride(config.isDisableMessageId(), overrides.isDisableMessageId());
@@ -61,7 +77,11 @@ public final class JmsMessageProducer implements AutoCloseable {
 
     configureProducer(delay, disableMessageId, disableMessageTimestamp);
 
-    jmsSupport.send(producer, message, persistentDelivery, priority, timeToLive, isTopic);
+    if (completionListener == null) {
+      jmsSupport.send(producer, message, persistentDelivery, priority, timeToLive, isTopic);
+    } else {
+      jmsSupport.send(producer, message, persistentDelivery, priority, timeToLive, isTopic, completionListener);
+    }
   }
 
   @Override
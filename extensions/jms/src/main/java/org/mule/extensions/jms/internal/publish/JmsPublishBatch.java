@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.internal.publish;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+import org.mule.extensions.jms.api.config.JmsProducerConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.slf4j.Logger;
+
+/**
+ * Accumulates the {@link Message}s published to a destination in a transacted {@link Session}, committing them once every
+ * {@code batchSize} messages or {@code batchTimeout} milliseconds, whichever comes first.
+ * <p>
+ * Each publish gets a future which is completed when the batch it belongs to is committed, or completed exceptionally if the
+ * message could not be sent or the batch could not be committed, so failures are reported back to each of the publishers of
+ * the batch.
+ * <p>
+ * The {@link Session} is only used while holding the lock of the batch, since JMS sessions are not thread safe. It is owned by
+ * the batch, which closes it along with the producer on {@link #close()}.
+ *
+ * @since 4.0
+ */
+public final class JmsPublishBatch implements AutoCloseable {
+
+  private static final Logger LOGGER = getLogger(JmsPublishBatch.class);
+
+  /**
+   * Creates the {@link Message} to publish using the {@link Session} of the batch.
+   */
+  @FunctionalInterface
+  public interface MessageFactory {
+
+    Message create(Session session) throws JMSException;
+  }
+
+  private final Session session;
+  private final JmsMessageProducer producer;
+  private final int batchSize;
+  private final long batchTimeoutNanos;
+  private final ReentrantLock lock = new ReentrantLock();
+
+  private List<CompletableFuture<Void>> pending = new ArrayList<>();
+  private long batchStart;
+  private boolean broken;
+  private boolean closed;
+
+  /**
+   * @param session            a transacted session, used only by this batch
+   * @param producer           a producer created by the given {@code session}
+   * @param batchSize          the maximum amount of messages per commit
+   * @param batchTimeoutMillis the maximum time a not full batch waits to be committed
+   */
+  public JmsPublishBatch(Session session, JmsMessageProducer producer, int batchSize, long batchTimeoutMillis) {
+    this.session = session;
+    this.producer = producer;
+    this.batchSize = batchSize;
+    this.batchTimeoutNanos = MILLISECONDS.toNanos(batchTimeoutMillis);
+  }
+
+  /**
+   * Sends a message as part of the current batch.
+   *
+   * @param messageFactory creates the message to send with the session of this batch
+   * @param config         the default publishing configuration
+   * @param overrides      the publishing parameters that override the ones in the {@code config}
+   * @return a future completed when the message is committed
+   */
+  public CompletableFuture<Void> publish(MessageFactory messageFactory, JmsProducerConfig config,
+                                         JmsPublishParameters overrides) {
+    final CompletableFuture<Void> result = new CompletableFuture<>();
+    lock.lock();
+    try {
+      if (broken || closed) {
+        result.completeExceptionally(new IllegalStateException("The batch was discarded after a failure or closed"));
+        return result;
+      }
+
+      try {
+        producer.publish(messageFactory.create(session), config, overrides);
+      } catch (JMSException | RuntimeException e) {
+        // The transaction may be unusable after a failed send, so the messages already sent in it are discarded as well
+        result.completeExceptionally(e);
+        rollback(e);
+        return result;
+      }
+
+      if (pending.isEmpty()) {
+        batchStart = nanoTime();
+      }
+      pending.add(result);
+      if (pending.size() >= batchSize || isExpired()) {
+        commit();
+      }
+    } finally {
+      lock.unlock();
+    }
+    return result;
+  }
+
+  /**
+   * Commits the current batch if it has been waiting for longer than the batch timeout.
+   */
+  public void commitIfExpired() {
+    lock.lock();
+    try {
+      if (!pending.isEmpty() && isExpired()) {
+        commit();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Commits the current batch, if any.
+   */
+  public void commit() {
+    lock.lock();
+    try {
+      if (pending.isEmpty()) {
+        return;
+      }
+      List<CompletableFuture<Void>> committed = pending;
+      pending = new ArrayList<>();
+      try {
+        session.commit();
+      } catch (JMSException | RuntimeException e) {
+        LOGGER.error("Could not commit a batch of " + committed.size() + " published messages", e);
+        broken = true;
+        committed.forEach(future -> future.completeExceptionally(e));
+        return;
+      }
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Committed batch of " + committed.size() + " published messages");
+      }
+      committed.forEach(future -> future.complete(null));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Commits the current batch, if any, and closes the producer and the session. Once closed, the batch can't be used anymore.
+   */
+  @Override
+  public void close() {
+    lock.lock();
+    try {
+      if (closed) {
+        return;
+      }
+      commit();
+      closed = true;
+      try {
+        producer.close();
+      } catch (JMSException | RuntimeException e) {
+        LOGGER.warn("Could not close the producer of a batch of published messages", e);
+      }
+      try {
+        session.close();
+      } catch (JMSException | RuntimeException e) {
+        LOGGER.warn("Could not close the session of a batch of published messages", e);
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * @return whether the batch can't be used anymore because its session failed or it was closed.
+   */
+  public boolean isBroken() {
+    return broken || closed;
+  }
+
+  private void rollback(Exception cause) {
+    List<CompletableFuture<Void>> discarded = pending;
+    pending = new ArrayList<>();
+    discarded.forEach(future -> future.completeExceptionally(cause));
+    try {
+      session.rollback();
+    } catch (JMSException | RuntimeException e) {
+      LOGGER.error("Could not rollback a batch of published messages", e);
+      broken = true;
+    }
+  }
+
+  private boolean isExpired() {
+    return nanoTime() - batchStart >= batchTimeoutNanos;
+  }
+}
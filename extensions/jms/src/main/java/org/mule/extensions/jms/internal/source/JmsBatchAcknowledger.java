@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.internal.source;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.slf4j.Logger;
+
+/**
+ * Acknowledges the {@link Message}s consumed from a {@link Session} in batches instead of one by one.
+ * <p>
+ * Successfully processed messages are accumulated until either {@code batchSize} of them were processed or
+ * {@code batchTimeout} milliseconds passed since the first of them, and then the whole batch is committed, if the session is
+ * transacted, or acknowledged through the last message of the batch, which in {@link Session#CLIENT_ACKNOWLEDGE} mode
+ * acknowledges all the messages previously consumed by the session.
+ * <p>
+ * When a message fails, the session is rolled back or recovered, so all the pending messages of the batch are redelivered,
+ * including the ones that were successfully processed.
+ * <p>
+ * JMS sessions are not thread safe, so the consumer thread must hold the {@link #getSessionLock() session lock} while it
+ * handles a message. {@link #flushIfExpired()} may be called from any other thread and does nothing if the lock is busy.
+ *
+ * @since 4.0
+ */
+public final class JmsBatchAcknowledger {
+
+  private static final Logger LOGGER = getLogger(JmsBatchAcknowledger.class);
+
+  private final Session session;
+  private final boolean transacted;
+  private final int batchSize;
+  private final long batchTimeoutNanos;
+  private final ReentrantLock sessionLock = new ReentrantLock();
+
+  private Message lastMessage;
+  private int pending;
+  private long batchStart;
+
+  public JmsBatchAcknowledger(Session session, boolean transacted, int batchSize, long batchTimeoutMillis) {
+    this.session = session;
+    this.transacted = transacted;
+    this.batchSize = batchSize;
+    this.batchTimeoutNanos = MILLISECONDS.toNanos(batchTimeoutMillis);
+  }
+
+  /**
+   * @return the lock to hold while using the {@link Session} of this acknowledger.
+   */
+  public ReentrantLock getSessionLock() {
+    return sessionLock;
+  }
+
+  /**
+   * Adds the given successfully processed {@link Message} to the current batch, acknowledging the batch if it is full or
+   * expired.
+   *
+   * @param message the processed message
+   * @throws JMSException if the batch could not be acknowledged
+   */
+  public void onSuccess(Message message) throws JMSException {
+    sessionLock.lock();
+    try {
+      if (pending == 0) {
+        batchStart = nanoTime();
+      }
+      lastMessage = message;
+      pending++;
+      if (pending >= batchSize || isExpired()) {
+        flush();
+      }
+    } finally {
+      sessionLock.unlock();
+    }
+  }
+
+  /**
+   * Discards the current batch so all of its messages are redelivered.
+   *
+   * @throws JMSException if the session could not be rolled back or recovered
+   */
+  public void onFailure() throws JMSException {
+    sessionLock.lock();
+    try {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Message processing failed, discarding batch of " + (pending + 1) + " messages");
+      }
+      reset();
+      if (transacted) {
+        session.rollback();
+      } else {
+        session.recover();
+      }
+    } finally {
+      sessionLock.unlock();
+    }
+  }
+
+  /**
+   * Acknowledges the current batch if it has been pending for longer than the batch timeout, unless the session is being used
+   * by the consumer at the moment, in which case the batch is checked when that message is done.
+   */
+  public void flushIfExpired() {
+    if (!sessionLock.tryLock()) {
+      return;
+    }
+    try {
+      if (pending > 0 && isExpired()) {
+        flush();
+      }
+    } catch (JMSException e) {
+      LOGGER.warn("Could not acknowledge the pending batch of messages", e);
+    } finally {
+      sessionLock.unlock();
+    }
+  }
+
+  /**
+   * Acknowledges the current batch, if any.
+   *
+   * @throws JMSException if the batch could not be acknowledged
+   */
+  public void flush() throws JMSException {
+    sessionLock.lock();
+    try {
+      if (pending == 0) {
+        return;
+      }
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Acknowledging batch of " + pending + " messages");
+      }
+      Message message = lastMessage;
+      reset();
+      if (transacted) {
+        session.commit();
+      } else {
+        message.acknowledge();
+      }
+    } finally {
+      sessionLock.unlock();
+    }
+  }
+
+  private boolean isExpired() {
+    return nanoTime() - batchStart >= batchTimeoutNanos;
+  }
+
+  private void reset() {
+    pending = 0;
+    lastMessage = null;
+  }
+}
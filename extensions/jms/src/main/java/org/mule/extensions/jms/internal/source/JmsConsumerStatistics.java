@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.internal.source;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of one of the consumers of a {@link org.mule.extensions.jms.api.source.JmsListener}: how many messages it
+ * delivered, how many of those are still being processed and its throughput.
+ *
+ * @since 4.0
+ */
+public final class JmsConsumerStatistics {
+
+  private final int consumerIndex;
+  private final long startNanos = nanoTime();
+  private final LongAdder delivered = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final AtomicInteger inFlight = new AtomicInteger();
+
+  public JmsConsumerStatistics(int consumerIndex) {
+    this.consumerIndex = consumerIndex;
+  }
+
+  void onDelivered() {
+    delivered.increment();
+    inFlight.incrementAndGet();
+  }
+
+  void onProcessed(boolean failure) {
+    inFlight.decrementAndGet();
+    if (failure) {
+      failed.increment();
+    }
+  }
+
+  /**
+   * @return the index of the consumer within its listener, starting from 0.
+   */
+  public int getConsumerIndex() {
+    return consumerIndex;
+  }
+
+  /**
+   * @return the amount of messages delivered to the flow by the consumer.
+   */
+  public long getDeliveredCount() {
+    return delivered.sum();
+  }
+
+  /**
+   * @return the amount of delivered messages which processing failed.
+   */
+  public long getFailedCount() {
+    return failed.sum();
+  }
+
+  /**
+   * @return the amount of delivered messages which are still being processed.
+   */
+  public int getInFlightCount() {
+    return inFlight.get();
+  }
+
+  /**
+   * @return the average amount of messages delivered per second since the consumer started.
+   */
+  public double getThroughput() {
+    long elapsed = nanoTime() - startNanos;
+    return elapsed == 0 ? 0 : delivered.sum() * (double) SECONDS.toNanos(1) / elapsed;
+  }
+
+  @Override
+  public String toString() {
+    return "consumer " + consumerIndex + ": delivered=" + getDeliveredCount() + ", failed=" + getFailedCount() + ", inFlight="
+        + getInFlightCount() + ", throughput=" + String.format("%.2f", getThroughput()) + " msg/s";
+  }
+}
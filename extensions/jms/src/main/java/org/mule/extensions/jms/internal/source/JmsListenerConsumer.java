@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.internal.source;
+
+import static java.util.Optional.ofNullable;
+
+import org.mule.extensions.jms.api.connection.JmsSession;
+import org.mule.extensions.jms.api.source.JmsListenerLock;
+
+import java.util.Optional;
+
+/**
+ * One of the consumers of a {@link org.mule.extensions.jms.api.source.JmsListener}, each with its own {@link JmsSession} so
+ * they can receive messages concurrently.
+ *
+ * @since 4.0
+ */
+public final class JmsListenerConsumer {
+
+  private final JmsSession session;
+  private final JmsListenerLock lock;
+  private final JmsBatchAcknowledger acknowledger;
+  private final JmsConsumerStatistics statistics;
+
+  /**
+   * @param session      the session of the consumer
+   * @param lock         the lock used to wait for each message to be processed
+   * @param acknowledger the acknowledger for the batches of messages, or {@code null} if they are not acknowledged in batches
+   * @param index        the index of the consumer within its listener
+   */
+  public JmsListenerConsumer(JmsSession session, JmsListenerLock lock, JmsBatchAcknowledger acknowledger, int index) {
+    this.session = session;
+    this.lock = lock;
+    this.acknowledger = acknowledger;
+    this.statistics = new JmsConsumerStatistics(index);
+  }
+
+  public JmsSession getSession() {
+    return session;
+  }
+
+  public JmsListenerLock getLock() {
+    return lock;
+  }
+
+  public Optional<JmsBatchAcknowledger> getAcknowledger() {
+    return ofNullable(acknowledger);
+  }
+
+  public JmsConsumerStatistics getStatistics() {
+    return statistics;
+  }
+
+  /**
+   * Registers that a message was delivered to the flow.
+   */
+  public void onDelivered() {
+    statistics.onDelivered();
+  }
+
+  /**
+   * Registers that the processing of a delivered message finished.
+   *
+   * @param failure whether the processing failed
+   */
+  public void onProcessed(boolean failure) {
+    statistics.onProcessed(failure);
+  }
+}
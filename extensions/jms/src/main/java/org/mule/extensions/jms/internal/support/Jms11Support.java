@@ -15,9 +15,12 @@ import org.mule.extensions.jms.api.destination.TopicConsumer;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javax.jms.CompletionListener;
 import javax.jms.Destination;
 import javax.jms.JMSException;
+import javax.jms.Message;
 import javax.jms.MessageConsumer;
+import javax.jms.MessageProducer;
 import javax.jms.Session;
 import javax.jms.Topic;
 
@@ -50,6 +53,18 @@ public class Jms11Support extends Jms20Support {
     return JMS_1_1;
   }
 
+  /**
+   * Asynchronous sends were introduced in JMS 2.0, so the message is sent synchronously before notifying the
+   * {@code completionListener}
+   */
+  @Override
+  public void send(MessageProducer producer, Message message, boolean persistent, int priority, long ttl, boolean topic,
+                   CompletionListener completionListener)
+      throws JMSException {
+    send(producer, message, persistent, priority, ttl, topic);
+    completionListener.onCompletion(message);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -27,6 +27,7 @@ import org.mule.extensions.jms.api.exception.DestinationNotFoundException;
 import java.util.Optional;
 import java.util.function.Function;
 
+import javax.jms.CompletionListener;
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
@@ -241,6 +242,25 @@ public class Jms20Support implements JmsSupport {
     producer.send(message, (persistent ? PERSISTENT : NON_PERSISTENT), priority, ttl);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void send(MessageProducer producer, Message message, boolean persistent, int priority, long ttl, boolean topic,
+                   CompletionListener completionListener)
+      throws JMSException {
+    try {
+      producer.send(message, (persistent ? PERSISTENT : NON_PERSISTENT), priority, ttl, completionListener);
+    } catch (AbstractMethodError | UnsupportedOperationException e) {
+      // Providers compiled against previous specifications may not implement asynchronous sends
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Asynchronous send is not supported by the JMS provider, sending synchronously");
+      }
+      send(producer, message, persistent, priority, ttl, topic);
+      completionListener.onCompletion(message);
+    }
+  }
+
   private Function<String, Optional<Destination>> getJndiObjectSupplier() {
     return jndiObjectSupplier;
   }
@@ -12,6 +12,7 @@ import org.mule.extensions.jms.api.connection.LookupJndiDestination;
 import org.mule.extensions.jms.api.destination.ConsumerType;
 import org.mule.extensions.jms.api.exception.DestinationNotFoundException;
 
+import javax.jms.CompletionListener;
 import javax.jms.Connection;
 import javax.jms.ConnectionFactory;
 import javax.jms.DeliveryMode;
@@ -127,6 +128,25 @@ public interface JmsSupport {
             long ttl, boolean topic)
       throws JMSException;
 
+  /**
+   * Sends the given {@link Message} to the indicated {@link Destination} without waiting for the provider to confirm it,
+   * notifying the given {@link CompletionListener} once it does. Specifications or providers that don't support asynchronous
+   * sends perform a regular {@link #send} and notify the {@code completionListener} right after it.
+   *
+   * @param producer the {@link MessageProducer} to use for sending the message
+   * @param message the {@link Message} to send
+   * @param persistent {@code true} if {@link DeliveryMode#PERSISTENT} should be used
+   * @param priority the {@link Message#getJMSPriority} to be set on send
+   * @param ttl the message's lifetime (in milliseconds)
+   * @param topic used by {@link JmsSpecification#JMS_1_0_2b} to decide whether to use the {@link MessageProducer}
+   *              as {@link TopicPublisher} or a {@link QueueSender}
+   * @param completionListener the listener to notify when the send completes or fails
+   * @throws JMSException if an error occurs before the message is handed to the provider
+   */
+  void send(MessageProducer producer, Message message, boolean persistent, int priority,
+            long ttl, boolean topic, CompletionListener completionListener)
+      throws JMSException;
+
   /**
    * Creates a new JMS {@link MessageConsumer} using the given {@link Session}
    *
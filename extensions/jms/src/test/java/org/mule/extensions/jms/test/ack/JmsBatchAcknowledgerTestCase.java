@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.test.ack;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import org.mule.extensions.jms.internal.source.JmsBatchAcknowledger;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import javax.jms.Message;
+import javax.jms.Session;
+
+import org.junit.Test;
+
+public class JmsBatchAcknowledgerTestCase extends AbstractMuleTestCase {
+
+  private static final long NEVER = Long.MAX_VALUE / 2;
+
+  private final Session session = mock(Session.class);
+
+  @Test
+  public void acknowledgesLastMessageWhenBatchIsFull() throws Exception {
+    JmsBatchAcknowledger acknowledger = new JmsBatchAcknowledger(session, false, 3, NEVER);
+    Message first = mock(Message.class);
+    Message last = mock(Message.class);
+
+    acknowledger.onSuccess(first);
+    acknowledger.onSuccess(first);
+    verify(first, never()).acknowledge();
+
+    acknowledger.onSuccess(last);
+    verify(last).acknowledge();
+    verify(first, never()).acknowledge();
+  }
+
+  @Test
+  public void commitsTransactedBatch() throws Exception {
+    JmsBatchAcknowledger acknowledger = new JmsBatchAcknowledger(session, true, 2, NEVER);
+
+    acknowledger.onSuccess(mock(Message.class));
+    verify(session, never()).commit();
+    acknowledger.onSuccess(mock(Message.class));
+    verify(session).commit();
+  }
+
+  @Test
+  public void acknowledgesExpiredBatch() throws Exception {
+    JmsBatchAcknowledger acknowledger = new JmsBatchAcknowledger(session, true, 10, 0);
+
+    acknowledger.onSuccess(mock(Message.class));
+    verify(session).commit();
+  }
+
+  @Test
+  public void flushesPendingMessages() throws Exception {
+    JmsBatchAcknowledger acknowledger = new JmsBatchAcknowledger(session, true, 10, NEVER);
+
+    acknowledger.flush();
+    verify(session, never()).commit();
+
+    acknowledger.onSuccess(mock(Message.class));
+    acknowledger.flush();
+    acknowledger.flush();
+    verify(session, times(1)).commit();
+  }
+
+  @Test
+  public void failureDiscardsBatch() throws Exception {
+    JmsBatchAcknowledger acknowledger = new JmsBatchAcknowledger(session, false, 2, NEVER);
+    Message message = mock(Message.class);
+
+    acknowledger.onSuccess(message);
+    acknowledger.onFailure();
+    verify(session).recover();
+
+    acknowledger.flush();
+    verify(message, never()).acknowledge();
+  }
+}
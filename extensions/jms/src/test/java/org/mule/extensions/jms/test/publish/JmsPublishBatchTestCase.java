@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extensions.jms.test.publish;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.extensions.jms.api.connection.JmsSpecification.JMS_2_0;
+import org.mule.extensions.jms.api.config.JmsProducerConfig;
+import org.mule.extensions.jms.internal.publish.JmsMessageProducer;
+import org.mule.extensions.jms.internal.publish.JmsPublishBatch;
+import org.mule.extensions.jms.internal.publish.JmsPublishParameters;
+import org.mule.extensions.jms.internal.support.JmsSupport;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.util.concurrent.CompletableFuture;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class JmsPublishBatchTestCase extends AbstractMuleTestCase {
+
+  private static final long NEVER = Long.MAX_VALUE / 2;
+
+  private final Session session = mock(Session.class);
+  private final JmsSupport jmsSupport = mock(JmsSupport.class);
+  private final JmsProducerConfig config = mock(JmsProducerConfig.class);
+  private final JmsPublishParameters overrides = new JmsPublishParameters();
+  private JmsMessageProducer producer;
+
+  @Before
+  public void before() {
+    when(jmsSupport.getSpecification()).thenReturn(JMS_2_0);
+    when(config.getTimeToLiveUnit()).thenReturn(MILLISECONDS);
+    producer = new JmsMessageProducer(jmsSupport, mock(MessageProducer.class), false);
+  }
+
+  @Test
+  public void commitsOncePerBatch() throws Exception {
+    JmsPublishBatch batch = new JmsPublishBatch(session, producer, 2, NEVER);
+
+    CompletableFuture<Void> first = publish(batch);
+    assertThat(first.isDone(), is(false));
+    verify(session, never()).commit();
+
+    CompletableFuture<Void> second = publish(batch);
+    verify(session).commit();
+    assertThat(first.isDone() && !first.isCompletedExceptionally(), is(true));
+    assertThat(second.isDone() && !second.isCompletedExceptionally(), is(true));
+  }
+
+  @Test
+  public void commitsExpiredBatch() throws Exception {
+    JmsPublishBatch batch = new JmsPublishBatch(session, producer, 10, 0);
+
+    CompletableFuture<Void> published = publish(batch);
+    batch.commitIfExpired();
+
+    verify(session).commit();
+    assertThat(published.isDone(), is(true));
+  }
+
+  @Test
+  public void failedCommitFailsEveryPublishOfTheBatch() throws Exception {
+    doThrow(new JMSException("commit failed")).when(session).commit();
+    JmsPublishBatch batch = new JmsPublishBatch(session, producer, 2, NEVER);
+
+    CompletableFuture<Void> first = publish(batch);
+    CompletableFuture<Void> second = publish(batch);
+
+    assertThat(first.isCompletedExceptionally(), is(true));
+    assertThat(second.isCompletedExceptionally(), is(true));
+    assertThat(batch.isBroken(), is(true));
+  }
+
+  @Test
+  public void failedSendRollsBackTheBatch() throws Exception {
+    JmsPublishBatch batch = new JmsPublishBatch(session, producer, 3, NEVER);
+    CompletableFuture<Void> first = publish(batch);
+
+    doThrow(new JMSException("send failed")).when(jmsSupport)
+        .send(any(), any(), anyBoolean(), anyInt(), anyLong(), anyBoolean());
+    CompletableFuture<Void> second = publish(batch);
+
+    verify(session).rollback();
+    assertThat(first.isCompletedExceptionally(), is(true));
+    assertThat(second.isCompletedExceptionally(), is(true));
+    assertThat(batch.isBroken(), is(false));
+  }
+
+  @Test
+  public void closeCommitsPendingBatchAndReleasesSession() throws Exception {
+    JmsPublishBatch batch = new JmsPublishBatch(session, producer, 10, NEVER);
+    CompletableFuture<Void> published = publish(batch);
+
+    batch.close();
+
+    verify(session).commit();
+    verify(session).close();
+    assertThat(published.isDone() && !published.isCompletedExceptionally(), is(true));
+    assertThat(batch.isBroken(), is(true));
+    assertThat(publish(batch).isCompletedExceptionally(), is(true));
+  }
+
+  private CompletableFuture<Void> publish(JmsPublishBatch batch) {
+    return batch.publish(session -> mock(Message.class), config, overrides);
+  }
+}
@@ -35,7 +35,9 @@ public class ActiveMQBasicQueueTestCase extends JmsBaseQueuePublishAndConsumeTes
         {"activemq-default", "config/activemq/activemq-default.xml"},
         {"activemq-default-no-caching", "config/activemq/activemq-default-no-caching.xml"},
         {"activemq-default-user-pass", "config/activemq/activemq-default-user-pass.xml"},
-        {"activemq-with-overrides", "config/activemq/activemq-with-overrides.xml"}
+        {"activemq-with-overrides", "config/activemq/activemq-with-overrides.xml"},
+        {"activemq-transacted-batch", "config/activemq/activemq-transacted-batch.xml"},
+        {"activemq-async-publish", "config/activemq/activemq-async-publish.xml"}
     });
   }
 
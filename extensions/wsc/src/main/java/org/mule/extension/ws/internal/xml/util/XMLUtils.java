@@ -52,17 +52,16 @@ import org.xml.sax.InputSource;
  */
 public class XMLUtils {
 
+  // Factories are thread safe and expensive to look up, so they are shared. The transformers they create are not.
+  private static final TransformerFactory TRANSFORMER_FACTORY = TransformerFactory.newInstance();
+  private static final TransformerFactory IDENTITY_TRANSFORMER_FACTORY = new SaxonTransformerFactory();
+
   /**
    * @return a new XSLT transformer
    * @throws TransformerConfigurationException if no TransformerFactory can be located in the runtime environment.
    */
   public static Transformer getTransformer() throws TransformerConfigurationException {
-    TransformerFactory tf = TransformerFactory.newInstance();
-    if (tf != null) {
-      return tf.newTransformer();
-    } else {
-      throw new TransformerConfigurationException("Unable to instantiate a TransformerFactory");
-    }
+    return TRANSFORMER_FACTORY.newTransformer();
   }
 
   /**
@@ -193,8 +192,7 @@ public class XMLUtils {
     StringWriter writer = new StringWriter();
     DOMSource source = new DOMSource(node);
     StreamResult result = new StreamResult(writer);
-    TransformerFactory idTransformer = new SaxonTransformerFactory();
-    Transformer transformer = idTransformer.newTransformer();
+    Transformer transformer = IDENTITY_TRANSFORMER_FACTORY.newTransformer();
     transformer.transform(source, result);
     return writer.toString();
   }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.plugin;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPlugin;
+import org.mule.runtime.module.artifact.classloader.ArtifactClassLoader;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+
+/**
+ * Keeps the {@link ExtensionModel}s loaded from {@link ArtifactPlugin}s, so that artifacts which are created again on top of
+ * the same plugin class loaders (policies applied to many applications, applications being restarted) don't have to introspect
+ * the plugins again.
+ * <p>
+ * {@link ExtensionModel}s reference classes of the plugin they were loaded from, so they are only reused by artifacts working
+ * with the same plugin class loader. Since a model keeps its class loader reachable, the models are discarded when their class
+ * loader is shut down rather than relying on weak references. They are softly referenced, so they may also be discarded under
+ * memory pressure.
+ *
+ * @since 4.0
+ */
+public class PluginExtensionModelCache {
+
+  private static final Logger LOGGER = getLogger(PluginExtensionModelCache.class);
+
+  private final Cache<ClassLoader, ExtensionModel> extensionModels = CacheBuilder.newBuilder().weakKeys().softValues().build();
+
+  /**
+   * Returns the {@link ExtensionModel} of the given {@code artifactPlugin}, using the {@code loader} only if it has not been
+   * loaded yet for its class loader.
+   *
+   * @param artifactPlugin the plugin that defines the extension
+   * @param loader         loads the {@link ExtensionModel} by introspecting the plugin
+   * @return the {@link ExtensionModel} of the plugin
+   */
+  public ExtensionModel get(ArtifactPlugin artifactPlugin, Supplier<ExtensionModel> loader) {
+    final ArtifactClassLoader artifactClassLoader = artifactPlugin.getArtifactClassLoader();
+    final ClassLoader classLoader = artifactClassLoader.getClassLoader();
+    try {
+      return extensionModels.get(classLoader, () -> {
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("Loading extension model for plugin " + artifactPlugin.getArtifactName());
+        }
+        ExtensionModel extensionModel = loader.get();
+        artifactClassLoader.addShutdownListener(() -> extensionModels.invalidate(classLoader));
+        return extensionModel;
+      });
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new MuleRuntimeException(e.getCause());
+    } catch (ExecutionException e) {
+      throw new MuleRuntimeException(e.getCause());
+    }
+  }
+
+  /**
+   * Discards all the cached {@link ExtensionModel}s.
+   */
+  public void invalidateAll() {
+    extensionModels.invalidateAll();
+  }
+}
@@ -21,6 +21,7 @@ import org.mule.runtime.deployment.model.api.plugin.ArtifactPlugin;
 import org.mule.runtime.deployment.model.api.plugin.ArtifactPluginDescriptor;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
 import org.mule.runtime.extension.api.manifest.ExtensionManifest;
+import org.mule.runtime.module.deployment.impl.internal.plugin.PluginExtensionModelCache;
 import org.mule.runtime.module.extension.internal.loader.ExtensionModelLoaderRepository;
 import org.mule.runtime.module.extension.internal.loader.java.JavaExtensionModelLoader;
 import org.mule.runtime.module.extension.internal.manager.ExtensionManagerFactory;
@@ -39,6 +40,11 @@ public class ArtifactExtensionManagerFactory implements ExtensionManagerFactory
 
   private static Logger LOGGER = getLogger(ArtifactExtensionManagerFactory.class);
 
+  /**
+   * Shared by all the artifacts of the container, as the same plugin class loaders may be used by several of them.
+   */
+  private static final PluginExtensionModelCache EXTENSION_MODEL_CACHE = new PluginExtensionModelCache();
+
   private final ExtensionModelLoaderRepository extensionModelLoaderRepository;
   private final List<ArtifactPlugin> artifactPlugins;
   private final ExtensionManagerFactory extensionManagerFactory;
@@ -69,16 +75,16 @@ public class ArtifactExtensionManagerFactory implements ExtensionManagerFactory
         if (LOGGER.isDebugEnabled()) {
           LOGGER.debug("Discovered extension " + artifactPlugin.getArtifactName());
         }
-        //TODO: Remove when MULE-11136
-        ExtensionManifest extensionManifest = extensionManager.parseExtensionManifestXml(manifestUrl);
-        Map<String, Object> params = new HashMap<>();
-        params.put(TYPE_PROPERTY_NAME, extensionManifest.getDescriberManifest().getProperties().get("type"));
-        params.put(VERSION, extensionManifest.getVersion());
+        extensionManager.registerExtension(EXTENSION_MODEL_CACHE.get(artifactPlugin, () -> {
+          //TODO: Remove when MULE-11136
+          ExtensionManifest extensionManifest = extensionManager.parseExtensionManifestXml(manifestUrl);
+          Map<String, Object> params = new HashMap<>();
+          params.put(TYPE_PROPERTY_NAME, extensionManifest.getDescriberManifest().getProperties().get("type"));
+          params.put(VERSION, extensionManifest.getVersion());
 
-        extensionManager.registerExtension(
-                                           new JavaExtensionModelLoader()
-                                               .loadExtensionModel(artifactPlugin.getArtifactClassLoader().getClassLoader(),
-                                                                   params));
+          return new JavaExtensionModelLoader().loadExtensionModel(artifactPlugin.getArtifactClassLoader().getClassLoader(),
+                                                                   params);
+        }));
       } else {
         discoverExtensionThroughJsonDescriber(artifactPlugin, extensionManager);
       }
@@ -104,8 +110,8 @@ public class ArtifactExtensionManagerFactory implements ExtensionManagerFactory
                                                                  "The identifier '%s' does not match with the describers available to generate an ExtensionModel (working with the plugin '%s')",
                                                                  descriptorProperty.getId(),
                                                                  artifactPlugin.getDescriptor().getName())));
-      final ExtensionModel extensionModel = extensionModelLoader
-          .loadExtensionModel(artifactPlugin.getArtifactClassLoader().getClassLoader(), descriptorProperty.getAttributes());
+      final ExtensionModel extensionModel = EXTENSION_MODEL_CACHE.get(artifactPlugin, () -> extensionModelLoader
+          .loadExtensionModel(artifactPlugin.getArtifactClassLoader().getClassLoader(), descriptorProperty.getAttributes()));
       extensionManager.registerExtension(extensionModel);
     });
   }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.runtime.module.deployment.impl.internal.plugin;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.deployment.model.api.plugin.ArtifactPlugin;
+import org.mule.runtime.module.artifact.classloader.ArtifactClassLoader;
+import org.mule.runtime.module.artifact.classloader.ShutdownListener;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
+
+@SmallTest
+public class PluginExtensionModelCacheTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final PluginExtensionModelCache cache = new PluginExtensionModelCache();
+  private final AtomicInteger loads = new AtomicInteger();
+
+  @Test
+  public void reusesModelForSameClassLoader() {
+    ClassLoader classLoader = new URLClassLoader(new URL[0]);
+    ExtensionModel first = cache.get(plugin(classLoader), this::load);
+    ExtensionModel second = cache.get(plugin(classLoader), this::load);
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(loads.get(), is(1));
+  }
+
+  @Test
+  public void loadsModelForEachClassLoader() {
+    ExtensionModel first = cache.get(plugin(new URLClassLoader(new URL[0])), this::load);
+    ExtensionModel second = cache.get(plugin(new URLClassLoader(new URL[0])), this::load);
+
+    assertThat(second == first, is(false));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void discardsModelWhenClassLoaderIsShutdown() {
+    ClassLoader classLoader = new URLClassLoader(new URL[0]);
+    ArtifactPlugin plugin = plugin(classLoader);
+    ExtensionModel first = cache.get(plugin, this::load);
+
+    ArgumentCaptor<ShutdownListener> listener = forClass(ShutdownListener.class);
+    verify(plugin.getArtifactClassLoader()).addShutdownListener(listener.capture());
+    listener.getValue().execute();
+
+    assertThat(cache.get(plugin(classLoader), this::load) == first, is(false));
+    assertThat(loads.get(), is(2));
+  }
+
+  @Test
+  public void loadingFailureIsPropagated() {
+    expectedException.expect(IllegalArgumentException.class);
+    cache.get(plugin(new URLClassLoader(new URL[0])), () -> {
+      throw new IllegalArgumentException();
+    });
+  }
+
+  private ExtensionModel load() {
+    loads.incrementAndGet();
+    return mock(ExtensionModel.class);
+  }
+
+  private ArtifactPlugin plugin(ClassLoader classLoader) {
+    ArtifactClassLoader artifactClassLoader = mock(ArtifactClassLoader.class);
+    when(artifactClassLoader.getClassLoader()).thenReturn(classLoader);
+    ArtifactPlugin plugin = mock(ArtifactPlugin.class);
+    when(plugin.getArtifactClassLoader()).thenReturn(artifactClassLoader);
+    when(plugin.getArtifactName()).thenReturn("test-plugin");
+    return plugin;
+  }
+}
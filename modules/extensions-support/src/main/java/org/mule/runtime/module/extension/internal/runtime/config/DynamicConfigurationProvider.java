@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static java.lang.Math.max;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
@@ -21,10 +22,10 @@ import org.mule.runtime.api.lifecycle.Initialisable;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.util.Pair;
-import org.mule.runtime.core.util.collection.ImmutableListCollector;
 import org.mule.runtime.extension.api.runtime.ConfigurationInstance;
 import org.mule.runtime.extension.api.runtime.ConfigurationProvider;
 import org.mule.runtime.extension.api.runtime.ConfigurationStats;
@@ -35,23 +36,31 @@ import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 
 /**
- * A {@link ConfigurationProvider} which continuously evaluates the same {@link ResolverSet} and then uses the resulting
- * {@link ResolverSetResult} to build an instance of type {@code T}
+ * A {@link ConfigurationProvider} which evaluates the same {@link ResolverSet} to build instances of type {@code T}, keeping one
+ * instance per distinct evaluation.
  * <p>
- * Although each invocation to {@link #get(Object)} is guaranteed to end up in an invocation to
- * {@link #resolverSet#resolve(Object)}, the resulting {@link ResolverSetResult} might not end up generating a new instance.
- * This is so because {@link ResolverSetResult} instances are put in a cache to guarantee that equivalent evaluations of the
- * {@code resolverSet} return the same instance.
+ * Each invocation to {@link #get(Object)} only evaluates the dynamic {@link ValueResolver}s of the configuration's
+ * {@link ResolverSet} and of the connection provider's {@link ResolverSet}. The obtained values are the key of a cache which
+ * guarantees that equivalent evaluations return the same instance. When no instance exists yet for the key, it is built from
+ * those same values plus the static {@link ValueResolver}s of the configuration, so the dynamic ones are never evaluated twice
+ * for the same event. Cache hits don't acquire any lock.
+ * <p>
+ * Unused instances are expired according to the {@link #expirationPolicy}. Instead of checking all the cached instances on each
+ * {@link #getExpired()} invocation, they are scheduled in slots of time based on when they were last used, so that only the
+ * instances which could have reached the maximum idle time are checked.
  *
  * @since 4.0.0
  */
@@ -60,15 +69,25 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   private static final Logger LOGGER = getLogger(DynamicConfigurationProvider.class);
 
+  /**
+   * The amount of slots in which the max idle time of the {@link #expirationPolicy} is divided to schedule the expiration checks
+   */
+  private static final int EXPIRATION_SLOTS = 16;
+
   private final ConfigurationInstanceFactory configurationInstanceFactory;
-  private final ResolverSet resolverSet;
   private final ConnectionProviderValueResolver connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
+  private final Map<String, ValueResolver> configResolvers;
+  private final ValueResolver[] keyResolvers;
+  private final long expirationSlotMillis;
+
+  private final ConcurrentMap<ConfigurationKey, ConfigurationInstance> cache = new ConcurrentHashMap<>();
+  private final Object creationLock = new Object();
+  private final TreeMap<Long, List<Pair<ConfigurationKey, ConfigurationInstance>>> expirationSchedule = new TreeMap<>();
 
-  private final Map<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> cache = new ConcurrentHashMap<>();
-  private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
-  private final Lock cacheReadLock = cacheLock.readLock();
-  private final Lock cacheWriteLock = cacheLock.writeLock();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
 
   /**
    * Creates a new instance
@@ -90,59 +109,117 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     super(name, extensionModel, configurationModel);
     configurationInstanceFactory =
         new ConfigurationInstanceFactory<>(extensionModel, configurationModel, resolverSet, muleContext);
-    this.resolverSet = resolverSet;
     this.connectionProviderResolver = connectionProviderResolver;
     this.expirationPolicy = expirationPolicy;
+    configResolvers = resolverSet.getResolvers();
+    keyResolvers = getKeyResolvers(configResolvers, connectionProviderResolver);
+    expirationSlotMillis =
+        max(1, expirationPolicy.getTimeUnit().toMillis(expirationPolicy.getMaxIdleTime()) / EXPIRATION_SLOTS);
+  }
+
+  /**
+   * The dynamic resolvers of the configuration come first and in the same order as in {@code configResolvers}, so that
+   * {@link #resolveParameters(ConfigurationKey, Event)} can match the key values back to their parameters.
+   */
+  private static ValueResolver[] getKeyResolvers(Map<String, ValueResolver> configResolvers,
+                                                 ConnectionProviderValueResolver connectionProviderResolver) {
+    List<ValueResolver> keyResolvers = new ArrayList<>();
+    configResolvers.values().stream().filter(ValueResolver::isDynamic).forEach(keyResolvers::add);
+    connectionProviderResolver.getResolverSet()
+        .ifPresent(providerResolverSet -> ((ResolverSet) providerResolverSet).getResolvers().values().stream()
+            .filter(ValueResolver::isDynamic).forEach(keyResolvers::add));
+
+    return keyResolvers.toArray(new ValueResolver[keyResolvers.size()]);
   }
 
   /**
-   * Evaluates {@link #resolverSet} using the given {@code event} and returns an instance produced with the result. For
-   * equivalent {@link ResolverSetResult}s it will return the same instance.
+   * Evaluates the dynamic parameters of the configuration using the given {@code event} and returns the instance associated to
+   * the resulting values, creating it if needed. For equivalent evaluations it will return the same instance.
    *
    * @param event the current {@code event}
    * @return the resolved {@link ConfigurationInstance}
    */
   @Override
   public ConfigurationInstance get(Object event) {
-    return withContextClassLoader(getExtensionClassLoader(), () -> {
-      ResolverSetResult result = resolverSet.resolve((Event) event);
-      ResolverSetResult providerResult = null;
-      if (connectionProviderResolver.getResolverSet().isPresent()) {
-        providerResult = ((ResolverSet) connectionProviderResolver.getResolverSet().get()).resolve((Event) event);
+    return withContextClassLoader(getExtensionClassLoader(), () -> getConfiguration(resolveKey((Event) event), (Event) event));
+  }
+
+  private ConfigurationKey resolveKey(Event event) throws MuleException {
+    Object[] values = new Object[keyResolvers.length];
+    for (int i = 0; i < keyResolvers.length; i++) {
+      values[i] = resolveKeyValue(keyResolvers[i], event);
+    }
+
+    return new ConfigurationKey(values);
+  }
+
+  private Object resolveKeyValue(ValueResolver<?> resolver, Event event) throws MuleException {
+    Object value = resolver.resolve(event);
+    if (value instanceof ValueResolver) {
+      return resolveKeyValue((ValueResolver<?>) value, event);
+    }
+
+    return value;
+  }
+
+  /**
+   * Builds the configuration's {@link ResolverSetResult} taking the values of the dynamic parameters from the given {@code key}
+   * and only evaluating the static ones.
+   */
+  private ResolverSetResult resolveParameters(ConfigurationKey key, Event event) throws MuleException {
+    ResolverSetResult.Builder builder = ResolverSetResult.newBuilder();
+    int keyIndex = 0;
+    for (Map.Entry<String, ValueResolver> entry : configResolvers.entrySet()) {
+      Object value = entry.getValue().isDynamic() ? key.values[keyIndex++] : resolveKeyValue(entry.getValue(), event);
+      if (value instanceof CursorStreamProvider) {
+        value = ((CursorStreamProvider) value).openCursor();
       }
-      return getConfiguration(new Pair<>(result, providerResult), (Event) event);
-    });
+      builder.add(entry.getKey(), value);
+    }
+
+    return builder.build();
   }
 
-  private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult, Event event)
-      throws Exception {
-    ConfigurationInstance configuration;
-    cacheReadLock.lock();
-    try {
-      configuration = cache.get(resolverSetResult);
+  private ConfigurationInstance getConfiguration(ConfigurationKey key, Event event) throws Exception {
+    while (true) {
+      ConfigurationInstance configuration = cache.get(key);
       if (configuration != null) {
-        // important to account between the boundaries of the lock to prevent race condition
-        updateUsageStatistic(configuration);
+        hits.increment();
+      } else {
+        configuration = getOrCreateConfiguration(key, event);
+      }
+
+      updateUsageStatistic(configuration);
+
+      // the instance could have been expired before being marked as used, in which case it can no longer be returned
+      if (cache.get(key) == configuration) {
         return configuration;
       }
-    } finally {
-      cacheReadLock.unlock();
     }
+  }
 
-    cacheWriteLock.lock();
-    try {
+  private ConfigurationInstance getOrCreateConfiguration(ConfigurationKey key, Event event) throws MuleException {
+    synchronized (creationLock) {
       // re-check in case some other thread beat us to it...
-      configuration = cache.get(resolverSetResult);
-      if (configuration == null) {
-        configuration = createConfiguration(resolverSetResult.getFirst(), event);
-        cache.put(resolverSetResult, configuration);
+      ConfigurationInstance configuration = cache.get(key);
+      if (configuration != null) {
+        return configuration;
       }
 
-      // accounting here for the same reasons as above
-      updateUsageStatistic(configuration);
+      misses.increment();
+      configuration = createConfiguration(resolveParameters(key, event), event);
+
+      // an instance being evicted could have been put back in the meantime, in which case that one has to be kept
+      ConfigurationInstance existing = cache.putIfAbsent(key, configuration);
+      if (existing != null) {
+        discard(configuration);
+        return existing;
+      }
+
+      synchronized (expirationSchedule) {
+        scheduleExpiration(key, configuration);
+      }
       return configuration;
-    } finally {
-      cacheWriteLock.unlock();
     }
   }
 
@@ -160,6 +237,17 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     return configuration;
   }
 
+  private void discard(ConfigurationInstance configuration) {
+    withContextClassLoader(getExtensionClassLoader(), () -> {
+      try {
+        stopIfNeeded(configuration);
+      } catch (Exception e) {
+        LOGGER.warn("Exception while stopping " + configuration.toString(), e);
+      }
+      disposeIfNeeded(configuration, LOGGER);
+    });
+  }
+
   @Override
   protected void registerConfiguration(ConfigurationInstance configuration) {
     try {
@@ -197,21 +285,124 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     super.registerConfiguration(configuration);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Only the instances scheduled in slots old enough to have reached the max idle time of the {@link #expirationPolicy} are
+   * checked. Instances which were used since they were scheduled are moved to the slot of their last usage.
+   */
   @Override
   public List<ConfigurationInstance> getExpired() {
-    cacheWriteLock.lock();
-    try {
-      return cache.entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
-        cache.remove(entry.getKey());
-        return entry.getValue();
-      }).collect(new ImmutableListCollector<>());
-    } finally {
-      cacheWriteLock.unlock();
+    List<ConfigurationInstance> expired = new LinkedList<>();
+    List<Pair<ConfigurationKey, ConfigurationInstance>> rescheduled = new LinkedList<>();
+
+    synchronized (expirationSchedule) {
+      boolean due = true;
+      while (due && !expirationSchedule.isEmpty()) {
+        Map.Entry<Long, List<Pair<ConfigurationKey, ConfigurationInstance>>> slot = expirationSchedule.pollFirstEntry();
+        for (Pair<ConfigurationKey, ConfigurationInstance> scheduled : slot.getValue()) {
+          ConfigurationKey key = scheduled.getFirst();
+          ConfigurationInstance configuration = scheduled.getSecond();
+          if (cache.get(key) != configuration) {
+            continue;
+          }
+
+          ConfigurationStats stats = configuration.getStatistics();
+          if (getExpirationSlot(stats) > slot.getKey()) {
+            rescheduled.add(scheduled);
+          } else if (!expirationPolicy.isExpired(stats.getLastUsedMillis(), MILLISECONDS)) {
+            // the following slots were used even later, so they can't be expired either
+            due = false;
+            rescheduled.add(scheduled);
+          } else if (stats.getInflightOperations() == 0 && evict(key, configuration)) {
+            expired.add(configuration);
+          } else {
+            rescheduled.add(scheduled);
+          }
+        }
+      }
+
+      for (Pair<ConfigurationKey, ConfigurationInstance> scheduled : rescheduled) {
+        if (cache.get(scheduled.getFirst()) == scheduled.getSecond()) {
+          scheduleExpiration(scheduled.getFirst(), scheduled.getSecond());
+        }
+      }
+    }
+
+    return expired;
+  }
+
+  private boolean evict(ConfigurationKey key, ConfigurationInstance configuration) {
+    if (!cache.remove(key, configuration)) {
+      return false;
     }
+
+    // the instance could have been obtained while being removed
+    if (!isExpired(configuration) && cache.putIfAbsent(key, configuration) == null) {
+      return false;
+    }
+
+    evictions.increment();
+    return true;
   }
 
   private boolean isExpired(ConfigurationInstance configuration) {
     ConfigurationStats stats = configuration.getStatistics();
     return stats.getInflightOperations() == 0 && expirationPolicy.isExpired(stats.getLastUsedMillis(), MILLISECONDS);
   }
+
+  private void scheduleExpiration(ConfigurationKey key, ConfigurationInstance configuration) {
+    expirationSchedule.computeIfAbsent(getExpirationSlot(configuration.getStatistics()), slot -> new LinkedList<>())
+        .add(new Pair<>(key, configuration));
+  }
+
+  private long getExpirationSlot(ConfigurationStats stats) {
+    return stats.getLastUsedMillis() / expirationSlotMillis;
+  }
+
+  /**
+   * @return the amount of invocations to {@link #get(Object)} which found an existing instance
+   */
+  public long getCacheHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the amount of invocations to {@link #get(Object)} which had to create a new instance
+   */
+  public long getCacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the amount of instances which have been returned by {@link #getExpired()}
+   */
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * The values of the dynamic parameters of a configuration, with a precomputed hash code
+   */
+  private static final class ConfigurationKey {
+
+    private final Object[] values;
+    private final int hashCode;
+
+    private ConfigurationKey(Object[] values) {
+      this.values = values;
+      hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof ConfigurationKey && hashCode == ((ConfigurationKey) obj).hashCode
+          && Arrays.equals(values, ((ConfigurationKey) obj).values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
 }
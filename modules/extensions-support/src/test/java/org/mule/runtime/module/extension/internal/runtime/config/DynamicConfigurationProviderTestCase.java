@@ -12,11 +12,11 @@ import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertThat;
 import static org.junit.internal.matchers.ThrowableMessageMatcher.hasMessage;
 import static org.junit.rules.ExpectedException.none;
-import static org.mockito.Answers.RETURNS_DEEP_STUBS;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -40,7 +40,7 @@ import org.mule.runtime.extension.api.runtime.ExpirationPolicy;
 import org.mule.runtime.module.extension.internal.runtime.ImmutableExpirationPolicy;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ConnectionProviderResolver;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
-import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
+import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 import org.mule.tck.size.SmallTest;
 import org.mule.test.heisenberg.extension.HeisenbergExtension;
 
@@ -56,7 +56,6 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 
 @SmallTest
@@ -64,18 +63,22 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class DynamicConfigurationProviderTestCase extends AbstractConfigurationProviderTestCase<HeisenbergExtension> {
 
   private static final Class MODULE_CLASS = HeisenbergExtension.class;
+  private static final String DYNAMIC_PARAMETER = "dynamicParameter";
+  private static final String STATIC_PARAMETER = "staticParameter";
 
   @Rule
   public ExpectedException expected = none();
 
-  @Mock
   private ResolverSet resolverSet;
 
   @Mock
-  private OperationModel operationModel;
+  private ValueResolver dynamicResolver;
 
-  @Mock(answer = RETURNS_DEEP_STUBS)
-  private ResolverSetResult resolverSetResult;
+  @Mock
+  private ValueResolver staticResolver;
+
+  @Mock
+  private OperationModel operationModel;
 
   @Mock
   private ConnectionProviderResolver connectionProviderResolver;
@@ -98,7 +101,12 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     when(configurationModel.getOperationModels()).thenReturn(asList(operationModel));
     when(configurationModel.getSourceModels()).thenReturn(ImmutableList.of());
 
-    when(resolverSet.resolve(event)).thenReturn(resolverSetResult);
+    when(dynamicResolver.isDynamic()).thenReturn(true);
+    when(dynamicResolver.resolve(event)).thenReturn("value");
+    when(staticResolver.resolve(event)).thenReturn("static");
+    resolverSet = new ResolverSet();
+    resolverSet.add(DYNAMIC_PARAMETER, dynamicResolver);
+    resolverSet.add(STATIC_PARAMETER, staticResolver);
     visitableMock(operationModel);
 
 
@@ -106,14 +114,29 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
 
     when(connectionProviderResolver.getResolverSet()).thenReturn(empty());
     when(connectionProviderResolver.resolve(any())).thenReturn(null);
-    provider = new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet,
-                                                connectionProviderResolver, expirationPolicy, muleContext);
+    provider = createProvider();
 
     super.before();
     provider.initialise();
     provider.start();
   }
 
+  private DynamicConfigurationProvider createProvider() {
+    return new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet,
+                                            connectionProviderResolver, expirationPolicy, muleContext);
+  }
+
+  private void restartWithProviderResolverSet(ResolverSet providerResolverSet) throws Exception {
+    provider.stop();
+    provider.dispose();
+
+    when(connectionProviderResolver.getResolverSet()).thenReturn(Optional.of(providerResolverSet));
+    provider = createProvider();
+    muleContext.getInjector().inject(provider);
+    provider.initialise();
+    provider.start();
+  }
+
   @After
   public void after() throws MuleException {
     provider.stop();
@@ -128,14 +151,18 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
       assertThat(provider.get(event).getValue(), is(sameInstance(config)));
     }
 
-    verify(resolverSet, times(count)).resolve(event);
+    verify(dynamicResolver, times(count)).resolve(event);
+    verify(staticResolver, times(1)).resolve(event);
+    assertThat(((DynamicConfigurationProvider) provider).getCacheHits(), is((long) count - 1));
+    assertThat(((DynamicConfigurationProvider) provider).getCacheMisses(), is(1L));
   }
 
   @Test
   public void resolveCachedWithProviderParams() throws Exception {
-    ResolverSet providerResolverSet = mock(ResolverSet.class);
-    when(connectionProviderResolver.getResolverSet()).thenReturn(Optional.of(providerResolverSet));
-    when(providerResolverSet.resolve(event)).thenReturn(mock(ResolverSetResult.class));
+    ValueResolver providerResolver = mock(ValueResolver.class);
+    when(providerResolver.isDynamic()).thenReturn(true);
+    when(providerResolver.resolve(event)).thenReturn("providerValue");
+    restartWithProviderResolverSet(new ResolverSet().add("providerParameter", providerResolver));
 
     final int count = 10;
     HeisenbergExtension config = (HeisenbergExtension) provider.get(event).getValue();
@@ -143,22 +170,25 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
       assertThat(provider.get(event).getValue(), is(sameInstance(config)));
     }
 
-    verify(providerResolverSet, times(count)).resolve(event);
-    verify(resolverSet, times(count)).resolve(event);
+    verify(providerResolver, times(count)).resolve(event);
+    verify(dynamicResolver, times(count)).resolve(event);
+    verify(connectionProviderResolver, times(1)).resolve(event);
   }
 
   @Test
   public void resolveProviderParamsDifferentInstance() throws Exception {
+    ValueResolver providerResolver = mock(ValueResolver.class);
+    when(providerResolver.isDynamic()).thenReturn(true);
+    when(providerResolver.resolve(event)).thenReturn("providerValue");
+    restartWithProviderResolverSet(new ResolverSet().add("providerParameter", providerResolver));
+
     HeisenbergExtension config = (HeisenbergExtension) provider.get(event).getValue();
     mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
 
-    ResolverSet providerResolverSet = mock(ResolverSet.class);
-    when(connectionProviderResolver.getResolverSet()).thenReturn(Optional.of(providerResolverSet));
-    when(providerResolverSet.resolve(event)).thenReturn(mock(ResolverSetResult.class));
+    when(providerResolver.resolve(event)).thenReturn("otherProviderValue");
     assertThat(provider.get(event).getValue(), is(not(sameInstance(config))));
 
-    verify(resolverSet, times(2)).resolve(event);
-    verify(providerResolverSet, times(1)).resolve(event);
+    verify(providerResolver, times(2)).resolve(event);
     verify(connectionProviderResolver, times(2)).resolve(event);
   }
 
@@ -188,12 +218,45 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
 
     List<Object> configs = expired.stream().map(config -> config.getValue()).collect(new ImmutableListCollector<>());
     assertThat(configs, containsInAnyOrder(instance1, instance2));
+    assertThat(provider.getEvictions(), is(2L));
+    assertThat(provider.getExpired().isEmpty(), is(true));
+  }
+
+  @Test
+  public void usedInstanceIsNotExpired() throws Exception {
+    HeisenbergExtension instance1 = (HeisenbergExtension) provider.get(event).getValue();
+    HeisenbergExtension instance2 = makeAlternateInstance();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    timeSupplier.move(4, MINUTES);
+    assertThat(provider.get(event).getValue(), is(sameInstance(instance2)));
+
+    timeSupplier.move(2, MINUTES);
+    List<Object> configs =
+        provider.getExpired().stream().map(config -> config.getValue()).collect(new ImmutableListCollector<>());
+    assertThat(configs, contains(instance1));
+
+    timeSupplier.move(5, MINUTES);
+    configs = provider.getExpired().stream().map(config -> config.getValue()).collect(new ImmutableListCollector<>());
+    assertThat(configs, contains(instance2));
+  }
+
+  @Test
+  public void expiredInstanceIsRecreated() throws Exception {
+    HeisenbergExtension instance = (HeisenbergExtension) provider.get(event).getValue();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    timeSupplier.move(10, MINUTES);
+    assertThat(provider.getExpired().size(), is(1));
+
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    assertThat(provider.get(event).getValue(), is(not(sameInstance(instance))));
+    assertThat(provider.getCacheMisses(), is(2L));
   }
 
   private HeisenbergExtension makeAlternateInstance() throws Exception {
-    ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
-    when(resolverSet.resolve(event)).thenReturn(alternateResult);
+    when(dynamicResolver.resolve(event)).thenReturn("alternateValue");
 
     return (HeisenbergExtension) provider.get(event).getValue();
   }
@@ -207,7 +270,7 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
   public void resolveDynamicConfigWithDifferentEvent() throws Exception {
     Object config1 = provider.get(event);
 
-    when(resolverSet.resolve(event)).thenReturn(mock(ResolverSetResult.class));
+    when(dynamicResolver.resolve(event)).thenReturn("otherValue");
     Object config2 = provider.get(event);
 
     assertThat(config1, is(not(sameInstance(config2))));
@@ -20,14 +20,15 @@ import org.mule.extension.file.common.api.lock.PathLock;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import javax.activation.MimetypesFileTypeMap;
 import javax.inject.Inject;
 import java.io.InputStream;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Base class for implementations of {@link FileSystem}
@@ -91,14 +92,22 @@ public abstract class AbstractFileSystem implements FileSystem {
    * {@inheritDoc}
    */
   @Override
-  public List<Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
-                                                        String directoryPath,
-                                                        boolean recursive,
-                                                        MediaType mediaType,
-                                                        Predicate<FileAttributes> matcher) {
+  public PagingProvider<FileSystem, Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
+                                                                              String directoryPath,
+                                                                              boolean recursive,
+                                                                              MediaType mediaType,
+                                                                              Predicate<FileAttributes> matcher) {
     return getListCommand().list(config, directoryPath, recursive, mediaType, matcher);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Stream<FileAttributes> listDirectory(Path directory) {
+    return getListCommand().listDirectory(directory);
+  }
+
   /**
    * {@inheritDoc}
    */
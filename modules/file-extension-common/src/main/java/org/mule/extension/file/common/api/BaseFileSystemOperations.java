@@ -21,9 +21,9 @@ import org.mule.runtime.extension.api.annotation.param.UseConfig;
 import org.mule.runtime.extension.api.annotation.param.display.DisplayName;
 import org.mule.runtime.extension.api.annotation.param.display.Placement;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import java.io.InputStream;
-import java.util.List;
 import java.util.function.Predicate;
 
 import javax.activation.MimetypesFileTypeMap;
@@ -50,15 +50,15 @@ public abstract class BaseFileSystemOperations {
    * @param recursive     whether to include the contents of sub-directories. Defaults to false.
    * @param mediaType     The {@link MediaType} of the message that on which this operations is being executed
    * @param matchWith     a matcher used to filter the output list
-   * @return a {@link List} of {@link Result} objects each one containing each file's content in the payload and metadata in the attributes
+   * @return a {@link PagingProvider} of {@link Result} objects each one containing each file's content in the payload and metadata in the attributes
    * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
    */
-  protected List<Result<InputStream, FileAttributes>> doList(FileConnectorConfig config,
-                                                             FileSystem fileSystem,
-                                                             String directoryPath,
-                                                             boolean recursive,
-                                                             MediaType mediaType,
-                                                             FilePredicateBuilder matchWith) {
+  protected PagingProvider<FileSystem, Result<InputStream, FileAttributes>> doList(FileConnectorConfig config,
+                                                                                   FileSystem fileSystem,
+                                                                                   String directoryPath,
+                                                                                   boolean recursive,
+                                                                                   MediaType mediaType,
+                                                                                   FilePredicateBuilder matchWith) {
     fileSystem.changeToBaseDir();
     return fileSystem.list(config, directoryPath, recursive, mediaType, getPredicate(matchWith));
   }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.extension.file.common.api;
+
+import static org.slf4j.LoggerFactory.getLogger;
+import org.mule.runtime.api.metadata.MediaType;
+import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+
+/**
+ * {@link PagingProvider} which walks a directory tree as its pages are requested, following the contract of
+ * {@link FileSystem#list(FileConnectorConfig, String, boolean, MediaType, Predicate)}.
+ * <p>
+ * The children of each directory are obtained through {@link FileSystem#listDirectory(Path)} of the connection used to fetch
+ * each page, and the {@code matcher} is applied to each of them as they arrive. Only the directories which are being walked are
+ * kept open, so the memory used by the listing doesn't grow with the amount of listed files.
+ *
+ * @since 4.0
+ */
+public final class FileListPagingProvider implements PagingProvider<FileSystem, Result<InputStream, FileAttributes>> {
+
+  private static final Logger LOGGER = getLogger(FileListPagingProvider.class);
+
+  /**
+   * The amount of listed files that are included on each page
+   */
+  public static final int LIST_PAGE_SIZE = 100;
+
+  private final FileConnectorConfig config;
+  private final Path directory;
+  private final boolean recursive;
+  private final MediaType mediaType;
+  private final Predicate<FileAttributes> matcher;
+  private final Deque<DirectoryCursor> cursors = new ArrayDeque<>();
+  private boolean started = false;
+
+  /**
+   * @param config    the config that is parameterizing the list operation
+   * @param directory the path to the directory to be listed
+   * @param recursive whether to include the contents of sub-directories
+   * @param mediaType the {@link MediaType} of the message which entered the operation
+   * @param matcher   a {@link Predicate} of {@link FileAttributes} used to filter the output list
+   */
+  public FileListPagingProvider(FileConnectorConfig config, Path directory, boolean recursive, MediaType mediaType,
+                                Predicate<FileAttributes> matcher) {
+    this.config = config;
+    this.directory = directory;
+    this.recursive = recursive;
+    this.mediaType = mediaType;
+    this.matcher = matcher;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<Result<InputStream, FileAttributes>> getPage(FileSystem fileSystem) {
+    if (!started) {
+      started = true;
+      open(fileSystem, directory);
+    }
+
+    List<Result<InputStream, FileAttributes>> page = new ArrayList<>(LIST_PAGE_SIZE);
+    while (page.size() < LIST_PAGE_SIZE && !cursors.isEmpty()) {
+      Iterator<FileAttributes> children = cursors.peek().iterator;
+      if (!children.hasNext()) {
+        cursors.pop().close();
+        continue;
+      }
+
+      FileAttributes attributes = children.next();
+      if (!matcher.test(attributes)) {
+        continue;
+      }
+
+      if (attributes.isDirectory()) {
+        page.add(Result.<InputStream, FileAttributes>builder().output(null).attributes(attributes).build());
+
+        if (recursive) {
+          open(fileSystem, Paths.get(attributes.getPath()));
+        }
+      } else {
+        page.add(fileSystem.read(config, attributes.getPath(), mediaType, false));
+      }
+    }
+
+    return page;
+  }
+
+  private void open(FileSystem fileSystem, Path path) {
+    LOGGER.debug("Listing directory {}", path);
+    cursors.push(new DirectoryCursor(fileSystem.listDirectory(path)));
+  }
+
+  /**
+   * @param fileSystem The connection to be used to do the query.
+   * @return {@link Optional#empty()} because the size of the tree is not known until it has been walked
+   */
+  @Override
+  public Optional<Integer> getTotalResults(FileSystem fileSystem) {
+    return Optional.empty();
+  }
+
+  /**
+   * Closes all the directories which were not fully walked
+   */
+  @Override
+  public void close() {
+    while (!cursors.isEmpty()) {
+      cursors.pop().close();
+    }
+  }
+
+  private static final class DirectoryCursor {
+
+    private final Stream<FileAttributes> children;
+    private final Iterator<FileAttributes> iterator;
+
+    private DirectoryCursor(Stream<FileAttributes> children) {
+      this.children = children;
+      this.iterator = children.iterator();
+    }
+
+    private void close() {
+      try {
+        children.close();
+      } catch (Exception e) {
+        LOGGER.warn("Found exception closing directory listing", e);
+      }
+    }
+  }
+}
@@ -12,14 +12,15 @@ import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.core.message.OutputHandler;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import javax.activation.MimetypesFileTypeMap;
 import java.io.InputStream;
 import java.nio.file.Path;
 import java.util.Iterator;
-import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Represents an abstract file system and the operations which can be performed on it.
@@ -40,20 +41,33 @@ public interface FileSystem {
    * <p>
    * If {@code recursive} is set to {@code true} but a found directory is rejected by the {@code matcher}, then there won't be any
    * recursion into such directory.
+   * <p>
+   * The directory tree is walked lazily, as the pages of the returned {@link PagingProvider} are requested.
    *
    * @param config        the config that is parameterizing this operation
    * @param directoryPath the path to the directory to be listed
    * @param recursive     whether to include the contents of sub-directories
    * @param matcher       a {@link Predicate} of {@link FileAttributes} used to filter the output list
-   * @return a {@link List} of {@link Result} objects, each one containing each file's content in the payload and metadata in the attributes
+   * @return a {@link PagingProvider} of {@link Result} objects, each one containing each file's content in the payload and metadata in the attributes
    * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
    * @oaram mediaType the {@link MediaType} of the message which entered the operation
    */
-  List<Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
-                                                 String directoryPath,
-                                                 boolean recursive,
-                                                 MediaType mediaType,
-                                                 Predicate<FileAttributes> matcher);
+  PagingProvider<FileSystem, Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
+                                                                       String directoryPath,
+                                                                       boolean recursive,
+                                                                       MediaType mediaType,
+                                                                       Predicate<FileAttributes> matcher);
+
+  /**
+   * Lists the direct children of the given {@code directory}, obtaining them as the returned {@link Stream} is consumed.
+   * Virtual directories such as {@code .} and {@code ..} are not included.
+   * <p>
+   * The returned {@link Stream} has to be closed once it's no longer needed.
+   *
+   * @param directory the path to an existing directory
+   * @return a {@link Stream} with the {@link FileAttributes} of each child
+   */
+  Stream<FileAttributes> listDirectory(Path directory);
 
   /**
    * Obtains the content and metadata of a file at a given path.
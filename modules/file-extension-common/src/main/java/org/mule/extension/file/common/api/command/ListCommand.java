@@ -11,10 +11,12 @@ import org.mule.extension.file.common.api.FileConnectorConfig;
 import org.mule.extension.file.common.api.FileSystem;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.extension.api.runtime.operation.Result;
+import org.mule.runtime.extension.api.runtime.streaming.PagingProvider;
 
 import java.io.InputStream;
-import java.util.List;
+import java.nio.file.Path;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Command design pattern for listing files
@@ -30,13 +32,24 @@ public interface ListCommand {
    * @param directoryPath the path to the directory to be listed
    * @param recursive     whether to include the contents of sub-directories
    * @param matcher       a {@link Predicate} of {@link FileAttributes} used to filter the output list
-   * @return a {@link List} of {@link Result} objects each one containing each file's content in the payload and metadata in the attributes
+   * @return a {@link PagingProvider} of {@link Result} objects each one containing each file's content in the payload and metadata in the attributes
    * @throws IllegalArgumentException if {@code directoryPath} points to a file which doesn't exists or is not a directory
    * @oaram mediaType the {@link MediaType} of the message which entered the operation
    */
-  List<Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
-                                                 String directoryPath,
-                                                 boolean recursive,
-                                                 MediaType mediaType,
-                                                 Predicate<FileAttributes> matcher);
+  PagingProvider<FileSystem, Result<InputStream, FileAttributes>> list(FileConnectorConfig config,
+                                                                       String directoryPath,
+                                                                       boolean recursive,
+                                                                       MediaType mediaType,
+                                                                       Predicate<FileAttributes> matcher);
+
+  /**
+   * Lists the direct children of the given {@code directory}, obtaining them from the file system as the returned {@link Stream}
+   * is consumed. Virtual directories such as {@code .} and {@code ..} are not included.
+   * <p>
+   * The returned {@link Stream} has to be closed once it's no longer needed.
+   *
+   * @param directory the path to an existing directory
+   * @return a {@link Stream} with the {@link FileAttributes} of each child
+   */
+  Stream<FileAttributes> listDirectory(Path directory);
 }
@@ -78,4 +78,11 @@ public abstract class AbstractFileInputStream extends AutoCloseInputStream {
   public boolean isLocked() {
     return lock.isLocked();
   }
+
+  /**
+   * @return whether the actual stream has been opened, which happens the first time that {@code this} stream is used
+   */
+  public boolean isOpened() {
+    return streamSupplier.isSupplied();
+  }
 }
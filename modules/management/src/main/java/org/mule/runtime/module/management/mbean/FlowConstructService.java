@@ -13,6 +13,9 @@ import org.mule.runtime.module.management.support.AutoDiscoveryJmxSupportFactory
 import org.mule.runtime.module.management.support.JmxSupport;
 import org.mule.runtime.module.management.support.JmxSupportFactory;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 import javax.management.MBeanRegistration;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
@@ -118,6 +121,34 @@ public class FlowConstructService implements FlowConstructServiceMBean, MBeanReg
     return statistics.getFatalErrors();
   }
 
+  @Override
+  public long getProcessingTimeP50Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(50);
+  }
+
+  @Override
+  public long getProcessingTimeP90Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(90);
+  }
+
+  @Override
+  public long getProcessingTimeP99Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(99);
+  }
+
+  @Override
+  public long getProcessingTimeP999Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(99.9);
+  }
+
+  @Override
+  public Map<String, Long> getProcessorsLatencyNanos(double percentile) {
+    Map<String, Long> latencies = new TreeMap<>();
+    statistics.getProcessorsLatency()
+        .forEach((path, histogram) -> latencies.put(path, histogram.getValueAtPercentile(percentile)));
+    return latencies;
+  }
+
   @Override
   public ObjectName preRegister(MBeanServer server, ObjectName name) throws Exception {
     this.server = server;
@@ -8,6 +8,9 @@ package org.mule.runtime.module.management.mbean;
 
 import org.mule.runtime.core.management.stats.FlowConstructStatistics;
 
+import java.util.Map;
+import java.util.TreeMap;
+
 import javax.management.MBeanRegistration;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
@@ -73,6 +76,34 @@ public class FlowConstructStats implements FlowConstructStatsMBean, MBeanRegistr
     return statistics.getFatalErrors();
   }
 
+  @Override
+  public long getProcessingTimeP50Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(50);
+  }
+
+  @Override
+  public long getProcessingTimeP90Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(90);
+  }
+
+  @Override
+  public long getProcessingTimeP99Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(99);
+  }
+
+  @Override
+  public long getProcessingTimeP999Nanos() {
+    return statistics.getProcessingLatency().getValueAtPercentile(99.9);
+  }
+
+  @Override
+  public Map<String, Long> getProcessorsLatencyNanos(double percentile) {
+    Map<String, Long> latencies = new TreeMap<>();
+    statistics.getProcessorsLatency()
+        .forEach((path, histogram) -> latencies.put(path, histogram.getValueAtPercentile(percentile)));
+    return latencies;
+  }
+
   @Override
   public ObjectName preRegister(MBeanServer server, ObjectName name) throws Exception {
     this.server = server;
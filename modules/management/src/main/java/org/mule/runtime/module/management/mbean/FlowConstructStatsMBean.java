@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.module.management.mbean;
 
+import java.util.Map;
 
 /**
  * <code>FlowConstructStatsMBean</code> defines the management interface for a mule managed flow.
@@ -29,4 +30,30 @@ public interface FlowConstructStatsMBean {
   long getFatalErrors();
 
   long getExecutionErrors();
+
+  /**
+   * @return the median time elapsed since an event is received until it is processed, in nanoseconds
+   */
+  long getProcessingTimeP50Nanos();
+
+  /**
+   * @return the 90th percentile of the time elapsed since an event is received until it is processed, in nanoseconds
+   */
+  long getProcessingTimeP90Nanos();
+
+  /**
+   * @return the 99th percentile of the time elapsed since an event is received until it is processed, in nanoseconds
+   */
+  long getProcessingTimeP99Nanos();
+
+  /**
+   * @return the 99.9th percentile of the time elapsed since an event is received until it is processed, in nanoseconds
+   */
+  long getProcessingTimeP999Nanos();
+
+  /**
+   * @param percentile the percentile to obtain, between {@code 0} and {@code 100}
+   * @return the given percentile of the execution time of each processor of the flow in nanoseconds, by processor path
+   */
+  Map<String, Long> getProcessorsLatencyNanos(double percentile);
 }
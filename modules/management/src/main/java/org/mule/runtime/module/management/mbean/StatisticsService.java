@@ -11,6 +11,7 @@ import org.mule.runtime.core.management.stats.AllStatistics;
 import org.mule.runtime.core.management.stats.FlowConstructStatistics;
 import org.mule.runtime.core.management.stats.printers.CSVPrinter;
 import org.mule.runtime.core.management.stats.printers.HtmlTablePrinter;
+import org.mule.runtime.core.management.stats.printers.MetricsPrinter;
 import org.mule.runtime.core.management.stats.printers.XMLPrinter;
 
 import java.io.StringWriter;
@@ -97,4 +98,11 @@ public class StatisticsService implements StatisticsServiceMBean {
     stats.logSummary(printer);
     return w.toString();
   }
+
+  public String printMetricsSummary() {
+    StringWriter w = new StringWriter(8192);
+    MetricsPrinter printer = new MetricsPrinter(w);
+    stats.logSummary(printer);
+    return w.toString();
+  }
 }
@@ -20,4 +20,6 @@ public interface StatisticsServiceMBean extends Statistics {
   String printHtmlSummary();
 
   String printXmlSummary();
+
+  String printMetricsSummary();
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static javax.xml.XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI;
+import static javax.xml.stream.XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES;
+import static javax.xml.stream.XMLInputFactory.SUPPORT_DTD;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.springframework.util.xml.XmlValidationModeDetector.VALIDATION_XSD;
+
+import java.io.BufferedInputStream;
+import java.io.InputStream;
+import java.util.Optional;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.validation.Schema;
+
+import org.springframework.beans.factory.xml.DefaultDocumentLoader;
+import org.springframework.beans.factory.xml.DocumentLoader;
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+
+/**
+ * {@link DocumentLoader} which validates XSD based documents against a {@link Schema} obtained from the {@link XmlSchemaCache},
+ * so the XSDs referenced by the document don't have to be read and compiled for each document.
+ * <p>
+ * Documents which are not validated through XSDs, or which schemas can't be compiled in advance, are loaded through Spring's
+ * {@link DefaultDocumentLoader}.
+ *
+ * @since 4.0
+ */
+final class CachedSchemaDocumentLoader implements DocumentLoader {
+
+  private static final String SCHEMA_LOCATION = "schemaLocation";
+  private static final int MAX_ROOT_ELEMENT_LENGTH = 64 * 1024;
+
+  private final DocumentLoader defaultLoader = new DefaultDocumentLoader();
+  private final XmlSchemaCache schemaCache;
+
+  CachedSchemaDocumentLoader(XmlSchemaCache schemaCache) {
+    this.schemaCache = schemaCache;
+  }
+
+  @Override
+  public Document loadDocument(InputSource inputSource, EntityResolver entityResolver, ErrorHandler errorHandler,
+                               int validationMode, boolean namespaceAware)
+      throws Exception {
+    if (validationMode != VALIDATION_XSD || !namespaceAware || inputSource.getByteStream() == null) {
+      return defaultLoader.loadDocument(inputSource, entityResolver, errorHandler, validationMode, namespaceAware);
+    }
+
+    if (!inputSource.getByteStream().markSupported()) {
+      // The root element has to be read ahead to find the schemas, and then read again when parsing the whole document
+      inputSource.setByteStream(new BufferedInputStream(inputSource.getByteStream()));
+    }
+    final InputStream inputStream = inputSource.getByteStream();
+
+    inputStream.mark(MAX_ROOT_ELEMENT_LENGTH);
+    final String schemaLocation = readSchemaLocation(inputStream);
+    inputStream.reset();
+
+    final Optional<Schema> schema = schemaCache.getSchema(schemaLocation, entityResolver);
+    if (!schema.isPresent()) {
+      return defaultLoader.loadDocument(inputSource, entityResolver, errorHandler, validationMode, namespaceAware);
+    }
+
+    DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+    factory.setNamespaceAware(true);
+    factory.setSchema(schema.get());
+    DocumentBuilder documentBuilder = factory.newDocumentBuilder();
+    documentBuilder.setEntityResolver(entityResolver);
+    documentBuilder.setErrorHandler(errorHandler);
+    return documentBuilder.parse(inputSource);
+  }
+
+  private String readSchemaLocation(InputStream inputStream) {
+    XMLInputFactory factory = XMLInputFactory.newInstance();
+    factory.setProperty(SUPPORT_DTD, false);
+    factory.setProperty(IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    XMLStreamReader reader = null;
+    try {
+      reader = factory.createXMLStreamReader(inputStream);
+      while (reader.hasNext()) {
+        if (reader.next() == START_ELEMENT) {
+          return reader.getAttributeValue(W3C_XML_SCHEMA_INSTANCE_NS_URI, SCHEMA_LOCATION);
+        }
+      }
+      return null;
+    } catch (XMLStreamException e) {
+      // The document is loaded as usual, which reports the problem
+      return null;
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException e) {
+          // Nothing to do
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static org.mule.runtime.config.spring.dsl.processor.xml.XmlApplicationParser.XSD_DEFAULT_ATTRIBUTES_KEY;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.xml.XmlValidationModeDetector.VALIDATION_NONE;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.xml.bind.DatatypeConverter;
+
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Snapshots of the configuration files of an artifact as they are once validated against their XSDs, so an unchanged
+ * configuration doesn't have to be validated again when the artifact is restarted or redeployed.
+ * <p>
+ * XSD validation is what makes a document differ from its plain parsing: it adds the attributes with default values and
+ * normalizes the values of some others. A snapshot keeps those differences, along with the digest of every XSD that was
+ * resolved to validate the document. When the same configuration file is loaded again and all those XSDs still resolve to the
+ * same content, the document is parsed without validation and the differences are applied to it. Otherwise, the document goes
+ * through the full validation and its snapshot is replaced.
+ * <p>
+ * Snapshots are stored in a folder of the artifact, in files named after the digest of the runtime version and the content of
+ * the configuration file.
+ *
+ * @since 4.0
+ */
+final class ConfigDocumentSnapshots {
+
+  private static final Logger LOGGER = getLogger(ConfigDocumentSnapshots.class);
+
+  static final String SNAPSHOTS_FOLDER = "config-snapshots";
+  private static final String SNAPSHOT_EXTENSION = ".snapshot";
+  private static final int FORMAT_VERSION = 1;
+
+  private final File snapshotsFolder;
+  private final String runtimeVersion;
+  private final Set<String> usedSnapshots = new HashSet<>();
+
+  /**
+   * @param snapshotsFolder the folder where the snapshots of the artifact are kept
+   * @param runtimeVersion  the version of the runtime, since a different runtime may load documents differently
+   */
+  ConfigDocumentSnapshots(File snapshotsFolder, String runtimeVersion) {
+    this.snapshotsFolder = snapshotsFolder;
+    this.runtimeVersion = runtimeVersion;
+  }
+
+  /**
+   * Loads a document from its snapshot, without validating it.
+   *
+   * @param content        the content of the configuration file
+   * @param entityResolver the resolver for the XSDs of the document
+   * @return the loaded document, or {@link Optional#empty()} if there's no snapshot for it or it is outdated
+   */
+  Optional<Document> restore(byte[] content, EntityResolver entityResolver) {
+    final Optional<Path> snapshotFile = getSnapshotFile(content);
+    if (!snapshotFile.isPresent() || !Files.isRegularFile(snapshotFile.get())) {
+      return empty();
+    }
+
+    try {
+      final Snapshot snapshot = read(snapshotFile.get());
+      for (ResolvedEntity dependency : snapshot.dependencies) {
+        if (!Objects.equals(dependency.digest, resolveEntity(entityResolver, dependency.publicId, dependency.systemId).digest)) {
+          LOGGER.debug("Schema {} changed since the configuration snapshot was taken", dependency.systemId);
+          return empty();
+        }
+      }
+
+      final Document document = loadWithoutValidation(content, entityResolver);
+      final NodeList elements = document.getElementsByTagName("*");
+      for (AttributeOverride override : snapshot.overrides) {
+        if (override.elementIndex >= elements.getLength()) {
+          return empty();
+        }
+        override.applyTo((Element) elements.item(override.elementIndex));
+      }
+      return of(document);
+    } catch (Exception e) {
+      LOGGER.warn("Could not restore configuration snapshot " + snapshotFile.get() + ", the configuration will be validated",
+                  e);
+      return empty();
+    }
+  }
+
+  /**
+   * Takes the snapshot of a document which has just been validated.
+   *
+   * @param content           the content of the configuration file
+   * @param validatedDocument the document, as loaded with XSD validation
+   * @param dependencies      the XSDs that were resolved to validate the document
+   * @param entityResolver    the resolver for the XSDs of the document
+   */
+  void store(byte[] content, Document validatedDocument, Collection<ResolvedEntity> dependencies,
+             EntityResolver entityResolver) {
+    final Optional<Path> snapshotFile = getSnapshotFile(content);
+    if (!snapshotFile.isPresent()) {
+      return;
+    }
+
+    try {
+      final Optional<List<AttributeOverride>> overrides =
+          diff(validatedDocument, loadWithoutValidation(content, entityResolver));
+      if (!overrides.isPresent()) {
+        LOGGER.debug("Configuration can't be restored without validation, no snapshot will be taken");
+        return;
+      }
+      write(snapshotFile.get(), new Snapshot(dependencies, overrides.get()));
+    } catch (Exception e) {
+      LOGGER.warn("Could not store configuration snapshot " + snapshotFile.get(), e);
+    }
+  }
+
+  /**
+   * Deletes the snapshots of configuration files which were not loaded through this instance, since they belong to previous
+   * versions of the configuration of the artifact.
+   */
+  void deleteUnused() {
+    if (!snapshotsFolder.isDirectory()) {
+      return;
+    }
+
+    try (DirectoryStream<Path> snapshots = Files.newDirectoryStream(snapshotsFolder.toPath())) {
+      for (Path snapshot : snapshots) {
+        if (!isUsed(snapshot.getFileName().toString())) {
+          Files.deleteIfExists(snapshot);
+        }
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Could not delete unused configuration snapshots at " + snapshotsFolder, e);
+    }
+  }
+
+  private synchronized boolean isUsed(String fileName) {
+    return usedSnapshots.contains(fileName);
+  }
+
+  private Optional<Path> getSnapshotFile(byte[] content) {
+    final String fileName;
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      digest.update(runtimeVersion.getBytes(UTF_8));
+      digest.update(content);
+      fileName = DatatypeConverter.printHexBinary(digest.digest()) + SNAPSHOT_EXTENSION;
+    } catch (NoSuchAlgorithmException e) {
+      return empty();
+    }
+
+    synchronized (this) {
+      usedSnapshots.add(fileName);
+    }
+    return of(new File(snapshotsFolder, fileName).toPath());
+  }
+
+  private Document loadWithoutValidation(byte[] content, EntityResolver entityResolver) throws Exception {
+    return new MuleDocumentLoader().loadDocument(new InputSource(new ByteArrayInputStream(content)), entityResolver,
+                                                 new DefaultHandler(), VALIDATION_NONE, true);
+  }
+
+  /**
+   * Finds the attributes of the {@code validatedDocument} which are missing or have a different value in the
+   * {@code plainDocument}.
+   *
+   * @return the differences, or {@link Optional#empty()} if the documents differ in something other than attributes
+   */
+  private Optional<List<AttributeOverride>> diff(Document validatedDocument, Document plainDocument) {
+    final NodeList validatedElements = validatedDocument.getElementsByTagName("*");
+    final NodeList plainElements = plainDocument.getElementsByTagName("*");
+    if (validatedElements.getLength() != plainElements.getLength()) {
+      return empty();
+    }
+
+    final List<AttributeOverride> overrides = new ArrayList<>();
+    for (int i = 0; i < validatedElements.getLength(); i++) {
+      Element validated = (Element) validatedElements.item(i);
+      Element plain = (Element) plainElements.item(i);
+      if (!Objects.equals(validated.getNamespaceURI(), plain.getNamespaceURI())
+          || !Objects.equals(validated.getTagName(), plain.getTagName())
+          || !getText(validated).equals(getText(plain))
+          || validated.getAttributes().getLength() < plain.getAttributes().getLength()) {
+        return empty();
+      }
+
+      NamedNodeMap attributes = validated.getAttributes();
+      for (int j = 0; j < attributes.getLength(); j++) {
+        Attr attribute = (Attr) attributes.item(j);
+        Attr plainAttribute = attribute.getNamespaceURI() == null ? plain.getAttributeNode(attribute.getName())
+            : plain.getAttributeNodeNS(attribute.getNamespaceURI(), attribute.getLocalName());
+        if (!attribute.getSpecified() || plainAttribute == null || !attribute.getValue().equals(plainAttribute.getValue())) {
+          overrides.add(new AttributeOverride(i, attribute.getNamespaceURI(), attribute.getName(), attribute.getValue(),
+                                              !attribute.getSpecified()));
+        }
+      }
+    }
+    return of(overrides);
+  }
+
+  private String getText(Element element) {
+    final StringBuilder text = new StringBuilder();
+    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+      if (child.getNodeType() == Node.TEXT_NODE || child.getNodeType() == Node.CDATA_SECTION_NODE) {
+        text.append(child.getNodeValue());
+      }
+    }
+    return text.toString();
+  }
+
+  private Snapshot read(Path snapshotFile) throws IOException {
+    try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(snapshotFile)))) {
+      if (input.readInt() != FORMAT_VERSION) {
+        throw new IOException("Unsupported snapshot format");
+      }
+
+      final List<ResolvedEntity> dependencies = new ArrayList<>();
+      for (int i = input.readInt(); i > 0; i--) {
+        dependencies.add(new ResolvedEntity(readNullable(input), readNullable(input), readNullable(input)));
+      }
+      final List<AttributeOverride> overrides = new ArrayList<>();
+      for (int i = input.readInt(); i > 0; i--) {
+        overrides.add(new AttributeOverride(input.readInt(), readNullable(input), input.readUTF(), input.readUTF(),
+                                            input.readBoolean()));
+      }
+      return new Snapshot(dependencies, overrides);
+    }
+  }
+
+  private void write(Path snapshotFile, Snapshot snapshot) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (DataOutputStream output = new DataOutputStream(bytes)) {
+      output.writeInt(FORMAT_VERSION);
+      output.writeInt(snapshot.dependencies.size());
+      for (ResolvedEntity dependency : snapshot.dependencies) {
+        writeNullable(output, dependency.publicId);
+        writeNullable(output, dependency.systemId);
+        writeNullable(output, dependency.digest);
+      }
+      output.writeInt(snapshot.overrides.size());
+      for (AttributeOverride override : snapshot.overrides) {
+        output.writeInt(override.elementIndex);
+        writeNullable(output, override.namespaceUri);
+        output.writeUTF(override.name);
+        output.writeUTF(override.value);
+        output.writeBoolean(override.fromXsd);
+      }
+    }
+
+    Files.createDirectories(snapshotFile.getParent());
+    // The snapshot is moved into place once fully written, so a partially written one is never read
+    Path temp = Files.createTempFile(snapshotFile.getParent(), "snapshot", ".tmp");
+    try {
+      Files.write(temp, bytes.toByteArray());
+      Files.move(temp, snapshotFile, ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private String readNullable(DataInputStream input) throws IOException {
+    return input.readBoolean() ? input.readUTF() : null;
+  }
+
+  private void writeNullable(DataOutputStream output, String value) throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  private static ResolvedEntity resolveEntity(EntityResolver entityResolver, String publicId, String systemId)
+      throws IOException, SAXException {
+    final InputSource inputSource = entityResolver.resolveEntity(publicId, systemId);
+    if (inputSource == null) {
+      return new ResolvedEntity(publicId, systemId, null);
+    }
+    return new ResolvedEntity(publicId, systemId, digest(readContent(inputSource)));
+  }
+
+  private static byte[] readContent(InputSource inputSource) throws IOException {
+    if (inputSource.getByteStream() != null) {
+      try (InputStream stream = inputSource.getByteStream()) {
+        return IOUtils.toByteArray(stream);
+      }
+    } else if (inputSource.getCharacterStream() != null) {
+      try (Reader reader = inputSource.getCharacterStream()) {
+        return IOUtils.toString(reader).getBytes(UTF_8);
+      }
+    }
+    throw new IOException("Resolved schema " + inputSource.getSystemId() + " has no content");
+  }
+
+  private static String digest(byte[] content) {
+    try {
+      return DatatypeConverter.printHexBinary(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * An XSD resolved while validating a document.
+   */
+  static final class ResolvedEntity {
+
+    private final String publicId;
+    private final String systemId;
+    private final String digest;
+
+    private ResolvedEntity(String publicId, String systemId, String digest) {
+      this.publicId = publicId;
+      this.systemId = systemId;
+      this.digest = digest;
+    }
+  }
+
+  /**
+   * {@link EntityResolver} which keeps track of all the XSDs it resolves, so they can be checked when restoring the snapshot of
+   * the document validated with them.
+   */
+  static final class RecordingEntityResolver implements EntityResolver {
+
+    private final EntityResolver delegate;
+    private final Map<String, ResolvedEntity> resolved = new LinkedHashMap<>();
+
+    RecordingEntityResolver(EntityResolver delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public InputSource resolveEntity(String publicId, String systemId) throws SAXException, IOException {
+      final InputSource inputSource = delegate.resolveEntity(publicId, systemId);
+      if (inputSource == null) {
+        record(new ResolvedEntity(publicId, systemId, null));
+        return null;
+      }
+
+      final byte[] content = readContent(inputSource);
+      record(new ResolvedEntity(publicId, systemId, digest(content)));
+      final InputSource recorded = new InputSource(new ByteArrayInputStream(content));
+      recorded.setPublicId(inputSource.getPublicId());
+      recorded.setSystemId(inputSource.getSystemId());
+      return recorded;
+    }
+
+    private synchronized void record(ResolvedEntity entity) {
+      resolved.put(entity.systemId, entity);
+    }
+
+    synchronized Collection<ResolvedEntity> getResolved() {
+      return new ArrayList<>(resolved.values());
+    }
+  }
+
+  private static final class Snapshot {
+
+    private final Collection<ResolvedEntity> dependencies;
+    private final List<AttributeOverride> overrides;
+
+    private Snapshot(Collection<ResolvedEntity> dependencies, List<AttributeOverride> overrides) {
+      this.dependencies = dependencies;
+      this.overrides = overrides;
+    }
+  }
+
+  /**
+   * An attribute that the XSD validation added to an element, or which value it changed.
+   */
+  private static final class AttributeOverride {
+
+    private final int elementIndex;
+    private final String namespaceUri;
+    private final String name;
+    private final String value;
+    private final boolean fromXsd;
+
+    private AttributeOverride(int elementIndex, String namespaceUri, String name, String value, boolean fromXsd) {
+      this.elementIndex = elementIndex;
+      this.namespaceUri = namespaceUri;
+      this.name = name;
+      this.value = value;
+      this.fromXsd = fromXsd;
+    }
+
+    private void applyTo(Element element) {
+      element.setAttributeNS(namespaceUri, name, value);
+      if (fromXsd) {
+        Set<String> xsdDefaultAttributes = (Set<String>) element.getUserData(XSD_DEFAULT_ATTRIBUTES_KEY);
+        if (xsdDefaultAttributes == null) {
+          xsdDefaultAttributes = new HashSet<>();
+          element.setUserData(XSD_DEFAULT_ATTRIBUTES_KEY, xsdDefaultAttributes, null);
+        }
+        xsdDefaultAttributes.add(name);
+      }
+    }
+  }
+}
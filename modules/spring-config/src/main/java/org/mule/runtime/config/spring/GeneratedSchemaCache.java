@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.util.Arrays.sort;
+import static java.util.Comparator.comparingLong;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.joining;
+import static javax.xml.bind.DatatypeConverter.printHexBinary;
+import static org.mule.runtime.core.config.MuleManifest.getProductVersion;
+import static org.mule.runtime.core.util.StandaloneServerUtils.getMuleBase;
+import static org.slf4j.LoggerFactory.getLogger;
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.slf4j.Logger;
+
+/**
+ * On-disk cache of the schemas generated for {@link ExtensionModel}s which don't provide one, shared by all the artifacts
+ * deployed in the same runtime.
+ * <p>
+ * Each schema is stored in a file named after a digest of everything that affects its content: the runtime version and the
+ * serialized content of the extension and of all the other extensions it is generated along with. Since the key is derived
+ * from the content rather than from the coordinates of the extensions, a re-published {@code SNAPSHOT} extension gets a new
+ * schema, and a hit only requires checking that the file exists.
+ * <p>
+ * Hits refresh the modification time of the file, and once there are more than {@link #MAX_CACHED_SCHEMAS} files the least
+ * recently used ones are deleted.
+ *
+ * @since 4.0
+ */
+final class GeneratedSchemaCache {
+
+  private static final Logger LOGGER = getLogger(GeneratedSchemaCache.class);
+
+  static final String SCHEMAS_CACHE_FOLDER = ".mule" + File.separator + "extension-schemas";
+  static final int MAX_CACHED_SCHEMAS = 256;
+  private static final String SCHEMA_FILE_EXTENSION = ".xsd";
+
+  private final File cacheFolder;
+  private final String runtimeVersion;
+  private final Function<ExtensionModel, byte[]> serializer;
+  private final int maxCachedSchemas;
+  // models are immutable once loaded, so each one is only serialized once
+  private final Cache<ExtensionModel, String> modelDigests = CacheBuilder.newBuilder().weakKeys().build();
+
+  /**
+   * @return a cache in the base folder of the runtime, or {@link Optional#empty()} if not running in a standalone runtime
+   */
+  static Optional<GeneratedSchemaCache> forRuntime() {
+    String runtimeVersion = getProductVersion();
+    if (runtimeVersion == null) {
+      return empty();
+    }
+    return getMuleBase().map(muleBase -> new GeneratedSchemaCache(new File(muleBase, SCHEMAS_CACHE_FOLDER), runtimeVersion));
+  }
+
+  GeneratedSchemaCache(File cacheFolder, String runtimeVersion) {
+    this(cacheFolder, runtimeVersion, extensionModel -> new ExtensionModelJsonSerializer(false).serialize(extensionModel)
+        .getBytes(UTF_8), MAX_CACHED_SCHEMAS);
+  }
+
+  /**
+   * @param cacheFolder      the folder where the schemas are stored
+   * @param runtimeVersion   the version of the runtime generating the schemas
+   * @param serializer       provides the content of an {@link ExtensionModel} from which its digest is calculated
+   * @param maxCachedSchemas the amount of schemas to keep in the {@code cacheFolder}
+   */
+  GeneratedSchemaCache(File cacheFolder, String runtimeVersion, Function<ExtensionModel, byte[]> serializer,
+                       int maxCachedSchemas) {
+    this.cacheFolder = cacheFolder;
+    this.runtimeVersion = runtimeVersion;
+    this.serializer = serializer;
+    this.maxCachedSchemas = maxCachedSchemas;
+  }
+
+  /**
+   * Returns the schema for the given {@code extensionModel}, generating it only if it is not cached yet.
+   *
+   * @param extensionModel the extension which schema is requested
+   * @param extensions     all the extensions the schema is generated along with
+   * @param generator      generates the schema when it is not in the cache
+   * @return the content of the schema
+   */
+  byte[] get(ExtensionModel extensionModel, Collection<ExtensionModel> extensions, Supplier<byte[]> generator) {
+    final Optional<String> key = getKey(extensionModel, extensions);
+    if (!key.isPresent()) {
+      return generator.get();
+    }
+
+    final Path cached = new File(cacheFolder, key.get() + SCHEMA_FILE_EXTENSION).toPath();
+    if (Files.isRegularFile(cached)) {
+      try {
+        byte[] schema = Files.readAllBytes(cached);
+        Files.setLastModifiedTime(cached, FileTime.fromMillis(currentTimeMillis()));
+        return schema;
+      } catch (IOException e) {
+        LOGGER.warn(format("Could not read cached schema for extension '%s', it will be generated again",
+                           extensionModel.getName()),
+                    e);
+      }
+    }
+
+    final byte[] schema = generator.get();
+    store(cached, schema);
+    trim();
+    return schema;
+  }
+
+  private void store(Path cached, byte[] schema) {
+    try {
+      Files.createDirectories(cached.getParent());
+      // The schema is moved into place once fully written, since other artifacts may be reading it concurrently
+      Path temp = Files.createTempFile(cached.getParent(), "schema", ".tmp");
+      try {
+        Files.write(temp, schema);
+        Files.move(temp, cached, ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(temp);
+      }
+    } catch (IOException e) {
+      LOGGER.warn("Could not cache generated schema at " + cached, e);
+    }
+  }
+
+  /**
+   * Deletes the least recently used schemas beyond {@link #maxCachedSchemas}.
+   */
+  private void trim() {
+    File[] schemas = cacheFolder.listFiles((dir, name) -> name.endsWith(SCHEMA_FILE_EXTENSION));
+    if (schemas == null || schemas.length <= maxCachedSchemas) {
+      return;
+    }
+
+    sort(schemas, comparingLong(File::lastModified));
+    for (int i = 0; i < schemas.length - maxCachedSchemas; i++) {
+      // another artifact may have deleted it already
+      if (!schemas[i].delete() && schemas[i].exists() && LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Could not delete cached schema " + schemas[i]);
+      }
+    }
+  }
+
+  private Optional<String> getKey(ExtensionModel extensionModel, Collection<ExtensionModel> extensions) {
+    try {
+      final String key = runtimeVersion + "|" + getDigest(extensionModel) + "|"
+          + extensions.stream().map(this::getDigest).sorted(naturalOrder()).collect(joining(","));
+      return of(digest(key.getBytes(UTF_8)));
+    } catch (RuntimeException e) {
+      // The schema is generated as usual, it just can't be cached
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(format("Could not calculate the cache key for the schema of extension '%s'", extensionModel.getName()), e);
+      }
+      return empty();
+    }
+  }
+
+  private String getDigest(ExtensionModel extensionModel) {
+    try {
+      return modelDigests.get(extensionModel, () -> digest(serializer.apply(extensionModel)));
+    } catch (ExecutionException | UncheckedExecutionException e) {
+      throw new MuleRuntimeException(e.getCause());
+    }
+  }
+
+  private static String digest(byte[] content) {
+    try {
+      return printHexBinary(MessageDigest.getInstance("SHA-256").digest(content));
+    } catch (NoSuchAlgorithmException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+}
@@ -35,7 +35,8 @@ import org.xml.sax.SAXException;
  * implementation for the XSDs.
  *
  * <p>If not found, it will go over the {@link ExtensionManager} and see if there is any <module>s that map to
- * it, and if it does, it will generate an XSD on the fly through {@link SchemaResourceFactory}.
+ * it, and if it does, it will generate an XSD on the fly through {@link SchemaResourceFactory}. When running in a standalone
+ * runtime, the generated XSDs are kept in a {@link GeneratedSchemaCache} shared by all the deployed artifacts.
  *
  * @since 4.0
  */
@@ -47,6 +48,7 @@ public class ModuleDelegatingEntityResolver implements EntityResolver {
   private final EntityResolver entityResolver;
   // TODO(fernandezlautaro): MULE-11024 once implemented, schemaResourceFactory must not be Optional
   private Optional<SchemaResourceFactory> schemaResourceFactory;
+  private final Optional<GeneratedSchemaCache> schemaCache = GeneratedSchemaCache.forRuntime();
 
   /**
    * Returns an instance of {@link ModuleDelegatingEntityResolver}
@@ -112,6 +114,14 @@ public class ModuleDelegatingEntityResolver implements EntityResolver {
    * @return the bytes that represent the schema for the {@code extensionModel}
    */
   private InputStream getSchema(ExtensionModel extensionModel) {
+    if (schemaCache.isPresent()) {
+      return new ByteArrayInputStream(schemaCache.get().get(extensionModel, extensionManager.get().getExtensions(),
+                                                            () -> generateSchema(extensionModel)));
+    }
+    return new ByteArrayInputStream(generateSchema(extensionModel));
+  }
+
+  private byte[] generateSchema(ExtensionModel extensionModel) {
     Optional<GeneratedResource> generatedResource =
         schemaResourceFactory.get().generateResource(extensionModel,
                                                      DslResolvingContext.getDefault(extensionManager.get().getExtensions()));
@@ -119,6 +129,6 @@ public class ModuleDelegatingEntityResolver implements EntityResolver {
       throw new IllegalStateException(format("There were no schema generators available when trying to work with the extension '%s'",
                                              extensionModel.getName()));
     }
-    return new ByteArrayInputStream(generatedResource.get().getContent());
+    return generatedResource.get().getContent();
   }
 }
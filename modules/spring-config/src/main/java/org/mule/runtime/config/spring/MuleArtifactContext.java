@@ -6,13 +6,20 @@
  */
 package org.mule.runtime.config.spring;
 
+import static java.lang.Boolean.getBoolean;
 import static java.lang.Thread.currentThread;
 import static java.util.Arrays.asList;
+import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang.StringUtils.join;
 import static org.apache.commons.lang3.ArrayUtils.addAll;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.config.spring.ConfigDocumentSnapshots.SNAPSHOTS_FOLDER;
+import static org.mule.runtime.config.spring.XmlConfigurationDocumentLoader.ENABLE_CONFIG_SNAPSHOTS_PROPERTY;
 import static org.mule.runtime.config.spring.dsl.model.ApplicationModel.CONFIGURATION_IDENTIFIER;
 import static org.mule.runtime.config.spring.dsl.model.ApplicationModel.MULE_IDENTIFIER;
 import static org.mule.runtime.config.spring.dsl.spring.BeanDefinitionFactory.SPRING_SINGLETON_OBJECT;
@@ -21,6 +28,10 @@ import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_CONNECTIVIT
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_METADATA_SERVICE;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONFIGURATION;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_MULE_CONTEXT;
+import static org.mule.runtime.core.api.scheduler.SchedulerConfig.config;
+import static org.mule.runtime.core.config.MuleManifest.getProductVersion;
+import static org.mule.runtime.core.util.ClassUtils.withContextClassLoader;
+import static org.mule.runtime.core.util.concurrent.ThreadNameHelper.getPrefix;
 import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
 import static org.springframework.context.annotation.AnnotationConfigUtils.AUTOWIRED_ANNOTATION_PROCESSOR_BEAN_NAME;
 import static org.springframework.context.annotation.AnnotationConfigUtils.CONFIGURATION_ANNOTATION_PROCESSOR_BEAN_NAME;
@@ -31,6 +42,7 @@ import org.mule.runtime.api.component.location.Location;
 import org.mule.runtime.api.dsl.DslResolvingContext;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.metadata.MetadataService;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.config.spring.dsl.model.ApplicationModel;
 import org.mule.runtime.config.spring.dsl.model.ComponentBuildingDefinitionRegistry;
 import org.mule.runtime.config.spring.dsl.model.ComponentModel;
@@ -63,11 +75,15 @@ import org.mule.runtime.core.registry.SpiServiceRegistry;
 import org.mule.runtime.core.util.IOUtils;
 import org.mule.runtime.dsl.api.component.ComponentBuildingDefinitionProvider;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.RequiredAnnotationBeanPostProcessor;
@@ -199,14 +215,9 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
     try {
       ArtifactConfig.Builder applicationConfigBuilder = new ArtifactConfig.Builder();
       applicationConfigBuilder.setApplicationProperties(this.artifactProperties);
-      for (Resource springResource : artifactConfigResources) {
-        Document document =
-            xmlConfigurationDocumentLoader.loadDocument(ofNullable(muleContext.getExtensionManager()),
-                                                        springResource.getFilename(),
-                                                        springResource.getInputStream());
-        ConfigLine mainConfigLine = xmlApplicationParser.parse(document.getDocumentElement()).get();
-        applicationConfigBuilder.addConfigFile(new ConfigFile(getFilename(springResource), asList(mainConfigLine)));
-      }
+      final Optional<ConfigDocumentSnapshots> snapshots = createConfigDocumentSnapshots();
+      parseConfigFiles(snapshots).forEach(applicationConfigBuilder::addConfigFile);
+      snapshots.ifPresent(ConfigDocumentSnapshots::deleteUnused);
       applicationConfigBuilder.setApplicationName(muleContext.getConfiguration().getId());
       applicationModel = new ApplicationModel(applicationConfigBuilder.build(), artifactDeclaration,
                                               ofNullable(muleContext.getExtensionManager()),
@@ -216,6 +227,63 @@ public class MuleArtifactContext extends AbstractXmlApplicationContext {
     }
   }
 
+  private Optional<ConfigDocumentSnapshots> createConfigDocumentSnapshots() {
+    final String runtimeVersion = getProductVersion();
+    if (!getBoolean(ENABLE_CONFIG_SNAPSHOTS_PROPERTY) || runtimeVersion == null) {
+      return empty();
+    }
+    return of(new ConfigDocumentSnapshots(new File(muleContext.getConfiguration().getWorkingDirectory(), SNAPSHOTS_FOLDER),
+                                          runtimeVersion));
+  }
+
+  /**
+   * Parses each of the config files of the artifact. As they are independent from each other, they are parsed in parallel when
+   * there are several of them, using an IO {@link Scheduler} from the {@link MuleContext#getSchedulerService()}.
+   *
+   * @param snapshots the snapshots to restore the validated config files from, if enabled
+   * @return the {@link ConfigFile}s, in the same order as the {@link #artifactConfigResources}
+   */
+  private List<ConfigFile> parseConfigFiles(Optional<ConfigDocumentSnapshots> snapshots) {
+    if (artifactConfigResources.length == 1) {
+      return asList(parseConfigFile(artifactConfigResources[0], snapshots));
+    }
+
+    // The schemas are resolved through the artifact's class loader, no matter the thread that parses the config file
+    final ClassLoader artifactClassLoader = currentThread().getContextClassLoader();
+    Scheduler scheduler =
+        muleContext.getSchedulerService().ioScheduler(config().withName(getPrefix(muleContext) + "config-parser"));
+    try {
+      List<CompletableFuture<ConfigFile>> configFiles = Stream.of(artifactConfigResources)
+          .map(resource -> supplyAsync(() -> withContextClassLoader(artifactClassLoader,
+                                                                    () -> parseConfigFile(resource, snapshots)),
+                                       scheduler))
+          .collect(toList());
+      return configFiles.stream().map(CompletableFuture::join).collect(toList());
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    } finally {
+      scheduler.stop(muleContext.getConfiguration().getShutdownTimeout(), MILLISECONDS);
+    }
+  }
+
+  private ConfigFile parseConfigFile(Resource springResource, Optional<ConfigDocumentSnapshots> snapshots) {
+    try {
+      Document document = snapshots.isPresent()
+          ? xmlConfigurationDocumentLoader.loadDocument(ofNullable(muleContext.getExtensionManager()),
+                                                        springResource.getFilename(), springResource.getInputStream(),
+                                                        snapshots.get())
+          : xmlConfigurationDocumentLoader.loadDocument(ofNullable(muleContext.getExtensionManager()),
+                                                        springResource.getFilename(), springResource.getInputStream());
+      ConfigLine mainConfigLine = xmlApplicationParser.parse(document.getDocumentElement()).get();
+      return new ConfigFile(getFilename(springResource), asList(mainConfigLine));
+    } catch (IOException e) {
+      throw new MuleRuntimeException(e);
+    }
+  }
+
   private String getFilename(Resource resource) {
     if (resource instanceof ByteArrayResource) {
       return resource.getDescription();
@@ -57,14 +57,23 @@ final public class MuleDocumentLoader implements DocumentLoader {
     }
   };
 
-  private final DocumentLoader defaultLoader = new DefaultDocumentLoader();
+  private final DocumentLoader defaultLoader;
   private final XmlMetadataAnnotationsFactory metadataFactory;
 
   public MuleDocumentLoader(XmlMetadataAnnotationsFactory metadataFactory) {
+    this.defaultLoader = new DefaultDocumentLoader();
     this.metadataFactory = metadataFactory;
   }
 
   public MuleDocumentLoader() {
+    this(new DefaultDocumentLoader());
+  }
+
+  /**
+   * @param defaultLoader the {@link DocumentLoader} used to build the {@link Document}s before annotating them
+   */
+  public MuleDocumentLoader(DocumentLoader defaultLoader) {
+    this.defaultLoader = defaultLoader;
     this.metadataFactory = new DefaultXmlMetadataFactory();
   }
 
@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.config.spring;
 
+import static java.util.Collections.newSetFromMap;
 import static org.apache.commons.lang.StringUtils.EMPTY;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.springframework.beans.factory.support.BeanDefinitionBuilder.genericBeanDefinition;
@@ -20,14 +21,19 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.registry.LifecycleRegistry;
 import org.mule.runtime.core.api.registry.RegistrationException;
 import org.mule.runtime.core.internal.lifecycle.phases.NotInLifecyclePhase;
+import org.mule.runtime.core.internal.registry.LifecycleDependencyResolver;
 import org.mule.runtime.core.lifecycle.RegistryLifecycleManager;
 import org.mule.runtime.core.registry.AbstractRegistry;
 import org.mule.runtime.core.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.springframework.beans.BeansException;
@@ -43,7 +49,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.AbstractApplicationContext;
 
-public class SpringRegistry extends AbstractRegistry implements LifecycleRegistry, Injector {
+public class SpringRegistry extends AbstractRegistry implements LifecycleRegistry, Injector, LifecycleDependencyResolver {
 
   public static final String REGISTRY_ID = "org.mule.Registry.Spring";
 
@@ -337,6 +343,43 @@ public class SpringRegistry extends AbstractRegistry implements LifecycleRegistr
     return internalLookupByTypeWithoutAncestors(type, false, false);
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The dependencies are the ones Spring tracked while creating the beans, followed transitively through the beans which are not
+   * among {@code objects}.
+   */
+  @Override
+  public Map<Object, Collection<Object>> resolveLifecycleDependencies(Collection<?> objects) {
+    final Map<Object, Collection<Object>> dependencies = new IdentityHashMap<>();
+    if (readOnly) {
+      return dependencies;
+    }
+
+    final Set<Object> targets = newSetFromMap(new IdentityHashMap<>());
+    targets.addAll(objects);
+    for (Map.Entry<String, Object> entry : lookupEntriesForLifecycle(Object.class).entrySet()) {
+      if (targets.contains(entry.getValue())) {
+        final Collection<Object> objectDependencies = new ArrayList<>();
+        collectLifecycleDependencies(entry.getKey(), targets, objectDependencies, new HashSet<>());
+        dependencies.put(entry.getValue(), objectDependencies);
+      }
+    }
+    return dependencies;
+  }
+
+  private void collectLifecycleDependencies(String key, Set<Object> targets, Collection<Object> found, Set<String> visited) {
+    for (Map.Entry<String, Object> dependency : getDependencies(key).entrySet()) {
+      if (visited.add(dependency.getKey())) {
+        if (targets.contains(dependency.getValue())) {
+          found.add(dependency.getValue());
+        } else {
+          collectLifecycleDependencies(dependency.getKey(), targets, found, visited);
+        }
+      }
+    }
+  }
+
   protected Map<String, Object> getDependencies(String key) {
     if (!readOnly) {
       Map<String, Object> dependents = new HashMap<>();
@@ -10,15 +10,21 @@ import static java.lang.String.format;
 import static java.lang.System.lineSeparator;
 import static java.util.Optional.empty;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.config.spring.ConfigDocumentSnapshots.RecordingEntityResolver;
 import org.mule.runtime.core.api.extension.ExtensionManager;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
 
+import org.apache.commons.io.IOUtils;
 import org.springframework.beans.factory.xml.DocumentLoader;
 import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
 import org.xml.sax.ErrorHandler;
 import org.xml.sax.InputSource;
 import org.xml.sax.SAXParseException;
@@ -40,6 +46,17 @@ public class XmlConfigurationDocumentLoader {
    */
   private static final int VALIDATION_XSD = 3;
 
+  /**
+   * System property to disable the reuse of compiled XSDs among the loaded documents.
+   */
+  public static final String DISABLE_SCHEMA_CACHE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "xml.disableSchemaCache";
+
+  /**
+   * System property to keep snapshots of the validated configuration files of the artifacts, so they are not validated again
+   * when the artifacts are restarted or redeployed without changes.
+   */
+  public static final String ENABLE_CONFIG_SNAPSHOTS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "xml.enableConfigSnapshots";
+
   private final XmlGathererErrorHandlerFactory xmlGathererErrorHandlerFactory;
 
   /**
@@ -96,13 +113,49 @@ public class XmlConfigurationDocumentLoader {
    * @see {@link DefaultXmlLoggerErrorHandler#getErrors()}
    */
   public Document loadDocument(Optional<ExtensionManager> extensionManager, String filename, InputStream inputStream) {
+    return loadDocument(new ModuleDelegatingEntityResolver(extensionManager), filename, inputStream);
+  }
+
+  /**
+   * Creates a {@link Document} from an {@link InputStream} like {@link #loadDocument(Optional, String, InputStream)} does, but
+   * restoring it from its {@link ConfigDocumentSnapshots snapshot} when the configuration and its XSDs didn't change since it
+   * was taken, instead of validating it again.
+   *
+   * @param extensionManager if the current {@code inputStream} relies in other schemas pending to be loaded from an
+   * @param filename name of the file to display a better error messages (if there are any). Non null.
+   * @param inputStream the input stream with the XML configuration content.
+   * @param snapshots the snapshots of the configuration files of the artifact
+   * @return a new {@link Document} object with the provided content.
+   * @throws MuleRuntimeException if an error occurs in {@link DocumentLoader} factory, or if the current {@code filename}
+   * contains 1 or more errors.
+   */
+  Document loadDocument(Optional<ExtensionManager> extensionManager, String filename, InputStream inputStream,
+                        ConfigDocumentSnapshots snapshots) {
+    final byte[] content;
+    try {
+      content = IOUtils.toByteArray(inputStream);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(e);
+    }
+
+    final EntityResolver entityResolver = new ModuleDelegatingEntityResolver(extensionManager);
+    final Optional<Document> restored = snapshots.restore(content, entityResolver);
+    if (restored.isPresent()) {
+      return restored.get();
+    }
+
+    final RecordingEntityResolver recordingEntityResolver = new RecordingEntityResolver(entityResolver);
+    final Document document = loadDocument(recordingEntityResolver, filename, new ByteArrayInputStream(content));
+    snapshots.store(content, document, recordingEntityResolver.getResolved(), entityResolver);
+    return document;
+  }
+
+  private Document loadDocument(EntityResolver entityResolver, String filename, InputStream inputStream) {
     final XmlGathererErrorHandler errorHandler = xmlGathererErrorHandlerFactory.create();
     Document document;
     try {
-      document = new MuleDocumentLoader()
-          .loadDocument(new InputSource(inputStream),
-                        new ModuleDelegatingEntityResolver(extensionManager), errorHandler,
-                        VALIDATION_XSD, true);
+      document = createDocumentLoader()
+          .loadDocument(new InputSource(inputStream), entityResolver, errorHandler, VALIDATION_XSD, true);
     } catch (Exception e) {
       throw new MuleRuntimeException(e);
     }
@@ -110,6 +163,13 @@ public class XmlConfigurationDocumentLoader {
     return document;
   }
 
+  private MuleDocumentLoader createDocumentLoader() {
+    if (Boolean.getBoolean(DISABLE_SCHEMA_CACHE_PROPERTY)) {
+      return new MuleDocumentLoader();
+    }
+    return new MuleDocumentLoader(new CachedSchemaDocumentLoader(XmlSchemaCache.getInstance()));
+  }
+
   private void throwExceptionIfErrorsWereFound(XmlGathererErrorHandler errorHandler, String filename) {
     final List<SAXParseException> errors = errorHandler.getErrors();
     if (!errors.isEmpty()) {
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static javax.xml.XMLConstants.W3C_XML_SCHEMA_NS_URI;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import javax.xml.bind.DatatypeConverter;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.io.IOUtils;
+import org.slf4j.Logger;
+import org.w3c.dom.ls.LSInput;
+import org.w3c.dom.ls.LSResourceResolver;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Runtime-wide cache of the {@link Schema}s compiled to validate configuration files, so that the XSDs of a set of namespaces
+ * are compiled once instead of once for each parsed document.
+ * <p>
+ * Schemas are looked up by the namespaces and locations declared in the {@code xsi:schemaLocation} of the document. As the same
+ * locations may be resolved to different XSDs by different artifacts (for instance, when they use different versions of an
+ * extension), a compiled {@link Schema} keeps the digest of every XSD that was resolved to compile it, and it is only reused when
+ * the {@link EntityResolver} of the document resolves all of them to the same content.
+ *
+ * @since 4.0
+ */
+final class XmlSchemaCache {
+
+  private static final Logger LOGGER = getLogger(XmlSchemaCache.class);
+
+  private static final XmlSchemaCache INSTANCE = new XmlSchemaCache();
+
+  private static final int MAX_SCHEMA_LOCATIONS = 64;
+  private static final int MAX_VARIANTS = 4;
+
+  private final Cache<String, List<CompiledSchema>> schemas =
+      CacheBuilder.newBuilder().maximumSize(MAX_SCHEMA_LOCATIONS).build();
+
+  /**
+   * @return the instance shared by all the artifacts of the runtime
+   */
+  static XmlSchemaCache getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns a {@link Schema} which validates documents against the XSDs at the given {@code schemaLocation}.
+   *
+   * @param schemaLocation the value of the {@code xsi:schemaLocation} attribute of a document
+   * @param entityResolver the resolver for the XSDs
+   * @return the compiled {@link Schema}, or {@link Optional#empty()} if the XSDs could not be compiled in advance
+   */
+  Optional<Schema> getSchema(String schemaLocation, EntityResolver entityResolver) {
+    final Map<String, String> locations = parseLocations(schemaLocation);
+    if (locations.isEmpty()) {
+      return empty();
+    }
+
+    final List<CompiledSchema> variants;
+    try {
+      variants = schemas.get(locations.toString(), CopyOnWriteArrayList::new);
+    } catch (ExecutionException e) {
+      return empty();
+    }
+
+    for (CompiledSchema compiled : variants) {
+      if (compiled.isValidFor(entityResolver)) {
+        return of(compiled.schema);
+      }
+    }
+
+    try {
+      CompiledSchema compiled = compile(locations, entityResolver);
+      // reads don't lock, but adding and trimming must not interleave with another thread doing the same
+      synchronized (variants) {
+        variants.add(0, compiled);
+        while (variants.size() > MAX_VARIANTS) {
+          variants.remove(variants.size() - 1);
+        }
+      }
+      return of(compiled.schema);
+    } catch (Exception e) {
+      // The document is validated as usual, which reports the problems with the XSDs
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Could not compile schemas for locations " + locations, e);
+      }
+      return empty();
+    }
+  }
+
+  private Map<String, String> parseLocations(String schemaLocation) {
+    final Map<String, String> locations = new TreeMap<>();
+    if (schemaLocation == null) {
+      return locations;
+    }
+
+    String[] tokens = schemaLocation.trim().split("\\s+");
+    if (tokens.length % 2 != 0) {
+      locations.clear();
+      return locations;
+    }
+    for (int i = 0; i < tokens.length; i += 2) {
+      locations.put(tokens[i], tokens[i + 1]);
+    }
+    return locations;
+  }
+
+  private CompiledSchema compile(Map<String, String> locations, EntityResolver entityResolver) throws Exception {
+    final RecordingResourceResolver resolver = new RecordingResourceResolver(entityResolver);
+    final SchemaFactory schemaFactory = SchemaFactory.newInstance(W3C_XML_SCHEMA_NS_URI);
+    schemaFactory.setResourceResolver(resolver);
+
+    final List<Source> sources = new ArrayList<>(locations.size());
+    for (String location : locations.values()) {
+      ResolvedEntity entity = resolver.resolve(null, location);
+      if (entity.content == null) {
+        throw new IllegalStateException("Could not resolve schema " + location);
+      }
+      sources.add(new StreamSource(new ByteArrayInputStream(entity.content), location));
+    }
+
+    Schema schema = schemaFactory.newSchema(sources.toArray(new Source[sources.size()]));
+    return new CompiledSchema(schema, resolver.resolved.values());
+  }
+
+  private static ResolvedEntity resolveEntity(EntityResolver entityResolver, String publicId, String systemId)
+      throws IOException, SAXException {
+    final InputSource inputSource = entityResolver.resolveEntity(publicId, systemId);
+    if (inputSource == null) {
+      return new ResolvedEntity(publicId, systemId, null);
+    }
+
+    final byte[] content;
+    if (inputSource.getByteStream() != null) {
+      try (InputStream stream = inputSource.getByteStream()) {
+        content = IOUtils.toByteArray(stream);
+      }
+    } else if (inputSource.getCharacterStream() != null) {
+      try (Reader reader = inputSource.getCharacterStream()) {
+        content = IOUtils.toString(reader).getBytes(UTF_8);
+      }
+    } else {
+      throw new IllegalStateException("Resolved schema " + systemId + " has no content");
+    }
+    return new ResolvedEntity(publicId, systemId, content);
+  }
+
+  private static final class CompiledSchema {
+
+    private final Schema schema;
+    private final List<ResolvedEntity> dependencies = new ArrayList<>();
+
+    private CompiledSchema(Schema schema, Collection<ResolvedEntity> dependencies) {
+      this.schema = schema;
+      // Only the digests are needed to validate the schema
+      dependencies.forEach(dependency -> this.dependencies
+          .add(new ResolvedEntity(dependency.publicId, dependency.systemId, null, dependency.digest)));
+    }
+
+    private boolean isValidFor(EntityResolver entityResolver) {
+      try {
+        for (ResolvedEntity dependency : dependencies) {
+          ResolvedEntity current = resolveEntity(entityResolver, dependency.publicId, dependency.systemId);
+          if (!Objects.equals(current.digest, dependency.digest)) {
+            return false;
+          }
+        }
+        return true;
+      } catch (Exception e) {
+        return false;
+      }
+    }
+  }
+
+  private static final class ResolvedEntity {
+
+    private final String publicId;
+    private final String systemId;
+    private final byte[] content;
+    private final String digest;
+
+    private ResolvedEntity(String publicId, String systemId, byte[] content) {
+      this(publicId, systemId, content, content == null ? null : digest(content));
+    }
+
+    private ResolvedEntity(String publicId, String systemId, byte[] content, String digest) {
+      this.publicId = publicId;
+      this.systemId = systemId;
+      this.content = content;
+      this.digest = digest;
+    }
+
+    private static String digest(byte[] content) {
+      try {
+        return DatatypeConverter.printHexBinary(MessageDigest.getInstance("SHA-256").digest(content));
+      } catch (NoSuchAlgorithmException e) {
+        // Without a digest the content itself has to be compared
+        return Arrays.toString(content);
+      }
+    }
+  }
+
+  /**
+   * Resolves the XSDs imported or included while compiling a {@link Schema} through the {@link EntityResolver} of the document,
+   * keeping track of all of them.
+   */
+  private static final class RecordingResourceResolver implements LSResourceResolver {
+
+    private final EntityResolver entityResolver;
+    private final Map<String, ResolvedEntity> resolved = new LinkedHashMap<>();
+
+    private RecordingResourceResolver(EntityResolver entityResolver) {
+      this.entityResolver = entityResolver;
+    }
+
+    private ResolvedEntity resolve(String publicId, String systemId) throws IOException, SAXException {
+      ResolvedEntity entity = resolveEntity(entityResolver, publicId, systemId);
+      resolved.put(systemId, entity);
+      return entity;
+    }
+
+    @Override
+    public LSInput resolveResource(String type, String namespaceURI, String publicId, String systemId, String baseURI) {
+      if (systemId == null) {
+        return null;
+      }
+
+      final String absoluteSystemId = baseURI != null ? URI.create(baseURI).resolve(systemId).toString() : systemId;
+      final ResolvedEntity entity;
+      try {
+        entity = resolve(publicId, absoluteSystemId);
+      } catch (IOException | SAXException e) {
+        throw new IllegalStateException("Could not resolve schema " + absoluteSystemId, e);
+      }
+      if (entity.content == null) {
+        // Schemas which can't be resolved locally would be fetched from their location, so they are not compiled in advance
+        throw new IllegalStateException("Could not resolve schema " + absoluteSystemId);
+      }
+      return new ResolvedInput(publicId, absoluteSystemId, baseURI, entity.content);
+    }
+  }
+
+  private static final class ResolvedInput implements LSInput {
+
+    private String publicId;
+    private String systemId;
+    private String baseURI;
+    private final byte[] content;
+
+    private ResolvedInput(String publicId, String systemId, String baseURI, byte[] content) {
+      this.publicId = publicId;
+      this.systemId = systemId;
+      this.baseURI = baseURI;
+      this.content = content;
+    }
+
+    @Override
+    public Reader getCharacterStream() {
+      return null;
+    }
+
+    @Override
+    public void setCharacterStream(Reader characterStream) {}
+
+    @Override
+    public InputStream getByteStream() {
+      return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public void setByteStream(InputStream byteStream) {}
+
+    @Override
+    public String getStringData() {
+      return null;
+    }
+
+    @Override
+    public void setStringData(String stringData) {}
+
+    @Override
+    public String getSystemId() {
+      return systemId;
+    }
+
+    @Override
+    public void setSystemId(String systemId) {
+      this.systemId = systemId;
+    }
+
+    @Override
+    public String getPublicId() {
+      return publicId;
+    }
+
+    @Override
+    public void setPublicId(String publicId) {
+      this.publicId = publicId;
+    }
+
+    @Override
+    public String getBaseURI() {
+      return baseURI;
+    }
+
+    @Override
+    public void setBaseURI(String baseURI) {
+      this.baseURI = baseURI;
+    }
+
+    @Override
+    public String getEncoding() {
+      return null;
+    }
+
+    @Override
+    public void setEncoding(String encoding) {}
+
+    @Override
+    public boolean getCertifiedText() {
+      return false;
+    }
+
+    @Override
+    public void setCertifiedText(boolean certifiedText) {}
+  }
+}
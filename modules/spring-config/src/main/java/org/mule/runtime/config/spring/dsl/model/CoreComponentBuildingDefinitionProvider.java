@@ -524,6 +524,7 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
             .withSetterParameterDefinition("secondsBetweenRetries", fromSimpleParameter("secondsBetweenRetries").build())
             .withSetterParameterDefinition("failureExpression", fromSimpleParameter("failureExpression").build())
             .withSetterParameterDefinition("ackExpression", fromSimpleParameter("ackExpression").build())
+            .withSetterParameterDefinition("backoffStrategy", fromSimpleReferenceParameter("backoffStrategy-ref").build())
             .withSetterParameterDefinition("synchronous", fromSimpleParameter("synchronous").withDefaultValue(false).build())
             .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
             .build());
@@ -578,10 +579,13 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withTypeDefinition(fromType(MessageChunkAggregator.class)).build());
 
     componentBuildingDefinitions.add(baseDefinition.copy().withIdentifier("collection-splitter")
-        .withTypeDefinition(fromType(CollectionSplitter.class)).build());
+        .withTypeDefinition(fromType(CollectionSplitter.class))
+        .withSetterParameterDefinition("resultsAccumulator", fromSimpleReferenceParameter("resultsAccumulator-ref").build())
+        .build());
 
     componentBuildingDefinitions.add(baseAggregatorDefinition.copy().withIdentifier("collection-aggregator")
         .withTypeDefinition(fromType(SimpleCollectionAggregator.class))
+        .withSetterParameterDefinition("resultsAccumulator", fromSimpleReferenceParameter("resultsAccumulator-ref").build())
         .build());
 
     componentBuildingDefinitions.add(baseDefinition.copy().withIdentifier(REQUEST_REPLY)
@@ -806,6 +810,9 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition("idExpression", fromSimpleParameter("idExpression").build())
         .withSetterParameterDefinition("valueExpression", fromSimpleParameter("valueExpression").build())
         .withSetterParameterDefinition("storePrefix", fromSimpleParameter("storePrefix").build())
+        .withSetterParameterDefinition("expectedEntries", fromSimpleParameter("expectedEntries").build())
+        .withSetterParameterDefinition("shards", fromSimpleParameter("shards").build())
+        .withSetterParameterDefinition("entryTtl", fromSimpleParameter("entryTtl").build())
         .withSetterParameterDefinition("throwOnUnaccepted", fromSimpleParameter("throwOnUnaccepted").build())
         .withSetterParameterDefinition("store", fromChildConfiguration(ObjectStore.class).build())
         .withSetterParameterDefinition("unacceptedMessageProcessor", fromSimpleReferenceParameter("onUnaccepted").build());
@@ -24,6 +24,7 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableList;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,6 +47,13 @@ import org.w3c.dom.NodeList;
  */
 public class XmlApplicationParser {
 
+  /**
+   * Key of the {@link Node#getUserData(String) user data} of an {@link Element} with the names of the attributes that were
+   * added to it from the defaults of its XSD when the document was not validated again, since those attributes can't be
+   * flagged as not {@link Attr#getSpecified() specified}.
+   */
+  public static final String XSD_DEFAULT_ATTRIBUTES_KEY = "xsdDefaultAttributes";
+
   private static final String COLON = ":";
   private static final Map<String, String> predefinedNamespace = new HashMap<>();
   private static final String UNDEFINED_NAMESPACE = "undefined";
@@ -97,6 +105,11 @@ public class XmlApplicationParser {
     return configLineFromElement(configElement, () -> null);
   }
 
+  private boolean isXsdDefaultAttribute(Element element, String attributeName) {
+    Collection<String> xsdDefaultAttributes = (Collection<String>) element.getUserData(XSD_DEFAULT_ATTRIBUTES_KEY);
+    return xsdDefaultAttributes != null && xsdDefaultAttributes.contains(attributeName);
+  }
+
   private Optional<ConfigLine> configLineFromElement(Node node, ConfigLineProvider parentProvider) {
     if (!isValidType(node)) {
       return Optional.empty();
@@ -120,7 +133,7 @@ public class XmlApplicationParser {
       for (int i = 0; i < attributes.getLength(); i++) {
         Node attribute = attributes.item(i);
         Attr attributeNode = element.getAttributeNode(attribute.getNodeName());
-        boolean isFromXsd = !attributeNode.getSpecified();
+        boolean isFromXsd = !attributeNode.getSpecified() || isXsdDefaultAttribute(element, attribute.getNodeName());
         builder.addConfigAttribute(attribute.getNodeName(), attribute.getNodeValue(), isFromXsd);
       }
     }
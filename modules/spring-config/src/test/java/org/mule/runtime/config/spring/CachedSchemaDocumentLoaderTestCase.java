@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.springframework.util.xml.XmlValidationModeDetector.VALIDATION_XSD;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXParseException;
+
+@SmallTest
+public class CachedSchemaDocumentLoaderTestCase extends AbstractMuleTestCase {
+
+  private static final String NAMESPACE = "http://www.mulesoft.org/schema/mule/test";
+  private static final String LOCATION = "http://www.mulesoft.org/schema/mule/test/current/mule-test.xsd";
+
+  private static final String SCHEMA = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + NAMESPACE
+      + "\"><xs:element name=\"root\"><xs:complexType>"
+      + "<xs:attribute name=\"mode\" type=\"xs:string\" default=\"auto\"/>"
+      + "</xs:complexType></xs:element></xs:schema>";
+
+  private final CachedSchemaDocumentLoader loader = new CachedSchemaDocumentLoader(new XmlSchemaCache());
+
+  private final EntityResolver resolver = (publicId, systemId) -> LOCATION.equals(systemId)
+      ? new InputSource(new ByteArrayInputStream(SCHEMA.getBytes())) : null;
+
+  private final ErrorHandler errorHandler = new ErrorHandler() {
+
+    @Override
+    public void warning(SAXParseException exception) {}
+
+    @Override
+    public void error(SAXParseException exception) throws SAXParseException {
+      throw exception;
+    }
+
+    @Override
+    public void fatalError(SAXParseException exception) throws SAXParseException {
+      throw exception;
+    }
+  };
+
+  @Test
+  public void addsSchemaDefaultAttributes() throws Exception {
+    assertDefaultAttribute(load(new ByteArrayInputStream(document("").getBytes())));
+  }
+
+  @Test
+  public void loadsStreamWithoutMarkSupport() throws Exception {
+    InputStream stream = new FilterInputStream(new ByteArrayInputStream(document("").getBytes())) {
+
+      @Override
+      public boolean markSupported() {
+        return false;
+      }
+    };
+
+    assertDefaultAttribute(load(stream));
+  }
+
+  @Test(expected = SAXParseException.class)
+  public void rejectsInvalidDocument() throws Exception {
+    load(new ByteArrayInputStream(document("unknown=\"value\"").getBytes()));
+  }
+
+  private Document load(InputStream stream) throws Exception {
+    return loader.loadDocument(new InputSource(stream), resolver, errorHandler, VALIDATION_XSD, true);
+  }
+
+  private void assertDefaultAttribute(Document document) {
+    Attr mode = document.getDocumentElement().getAttributeNode("mode");
+    assertThat(mode, is(notNullValue()));
+    assertThat(mode.getValue(), is("auto"));
+    assertThat(mode.getSpecified(), is(false));
+  }
+
+  private String document(String attributes) {
+    return "<t:root xmlns:t=\"" + NAMESPACE + "\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+        + "xsi:schemaLocation=\"" + NAMESPACE + " " + LOCATION + "\" " + attributes + "/>";
+  }
+}
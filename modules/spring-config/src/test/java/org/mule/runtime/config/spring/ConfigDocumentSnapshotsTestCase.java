@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsCollectionContaining.hasItem;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.config.spring.dsl.processor.xml.XmlApplicationParser.XSD_DEFAULT_ATTRIBUTES_KEY;
+import static org.springframework.util.xml.XmlValidationModeDetector.VALIDATION_XSD;
+import org.mule.runtime.config.spring.ConfigDocumentSnapshots.RecordingEntityResolver;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+import org.xml.sax.helpers.DefaultHandler;
+
+@SmallTest
+public class ConfigDocumentSnapshotsTestCase extends AbstractMuleTestCase {
+
+  private static final String NAMESPACE = "http://www.mulesoft.org/schema/mule/test";
+  private static final String LOCATION = "http://www.mulesoft.org/schema/mule/test/current/mule-test.xsd";
+  private static final String CONFIG = "<test:config xmlns:test=\"" + NAMESPACE + "\""
+      + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\""
+      + " xsi:schemaLocation=\"" + NAMESPACE + " " + LOCATION + "\">"
+      + "<test:element name=\"  spaced   name \"/>"
+      + "</test:config>";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File snapshotsFolder;
+  private ConfigDocumentSnapshots snapshots;
+
+  @Before
+  public void before() {
+    snapshotsFolder = new File(temporaryFolder.getRoot(), "snapshots");
+    snapshots = new ConfigDocumentSnapshots(snapshotsFolder, "4.0.0");
+  }
+
+  @Test
+  public void noSnapshot() {
+    assertThat(snapshots.restore(CONFIG.getBytes(), resolver(schema("default"))), is(Optional.empty()));
+  }
+
+  @Test
+  public void restoresValidatedDocument() throws Exception {
+    EntityResolver resolver = resolver(schema("default"));
+    storeValidated(CONFIG, resolver);
+
+    Element element = getElement(snapshots.restore(CONFIG.getBytes(), resolver).get());
+    assertThat(element.getAttribute("name"), is("spaced name"));
+    assertThat(element.getAttribute("type"), is("default"));
+    assertThat((Collection<String>) element.getUserData(XSD_DEFAULT_ATTRIBUTES_KEY), hasItem("type"));
+  }
+
+  @Test
+  public void schemaChangeInvalidatesSnapshot() throws Exception {
+    storeValidated(CONFIG, resolver(schema("default")));
+
+    assertThat(snapshots.restore(CONFIG.getBytes(), resolver(schema("otherDefault"))), is(Optional.empty()));
+  }
+
+  @Test
+  public void configChangeInvalidatesSnapshot() throws Exception {
+    EntityResolver resolver = resolver(schema("default"));
+    storeValidated(CONFIG, resolver);
+
+    String changedConfig = CONFIG.replace("spaced", "other");
+    assertThat(snapshots.restore(changedConfig.getBytes(), resolver), is(Optional.empty()));
+  }
+
+  @Test
+  public void runtimeChangeInvalidatesSnapshot() throws Exception {
+    EntityResolver resolver = resolver(schema("default"));
+    storeValidated(CONFIG, resolver);
+
+    assertThat(new ConfigDocumentSnapshots(snapshotsFolder, "4.0.1").restore(CONFIG.getBytes(), resolver),
+               is(Optional.empty()));
+  }
+
+  @Test
+  public void deletesUnusedSnapshots() throws Exception {
+    EntityResolver resolver = resolver(schema("default"));
+    storeValidated(CONFIG, resolver);
+    storeValidated(CONFIG.replace("spaced", "other"), resolver);
+    assertThat(snapshotsFolder.listFiles(), arrayWithSize(2));
+
+    ConfigDocumentSnapshots nextStart = new ConfigDocumentSnapshots(snapshotsFolder, "4.0.0");
+    assertThat(nextStart.restore(CONFIG.getBytes(), resolver).isPresent(), is(true));
+    nextStart.deleteUnused();
+    assertThat(snapshotsFolder.listFiles(), arrayWithSize(1));
+  }
+
+  private void storeValidated(String config, EntityResolver resolver) throws Exception {
+    RecordingEntityResolver recordingResolver = new RecordingEntityResolver(resolver);
+    Document document = new MuleDocumentLoader()
+        .loadDocument(new InputSource(new ByteArrayInputStream(config.getBytes())), recordingResolver, new DefaultHandler(),
+                      VALIDATION_XSD, true);
+    snapshots.store(config.getBytes(), document, recordingResolver.getResolved(), resolver);
+  }
+
+  private Element getElement(Document document) {
+    return (Element) document.getElementsByTagNameNS(NAMESPACE, "element").item(0);
+  }
+
+  private String schema(String defaultType) {
+    return "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + NAMESPACE + "\""
+        + " elementFormDefault=\"qualified\">"
+        + "<xs:element name=\"config\"><xs:complexType><xs:sequence>"
+        + "<xs:element name=\"element\"><xs:complexType>"
+        + "<xs:attribute name=\"name\" type=\"xs:token\"/>"
+        + "<xs:attribute name=\"type\" type=\"xs:string\" default=\"" + defaultType + "\"/>"
+        + "</xs:complexType></xs:element>"
+        + "</xs:sequence><xs:anyAttribute namespace=\"##other\" processContents=\"lax\"/></xs:complexType></xs:element>"
+        + "</xs:schema>";
+  }
+
+  private EntityResolver resolver(String schema) {
+    Map<String, String> schemas = new HashMap<>();
+    schemas.put(LOCATION, schema);
+    return (publicId, systemId) -> schemas.containsKey(systemId)
+        ? new InputSource(new ByteArrayInputStream(schemas.get(systemId).getBytes())) : null;
+  }
+}
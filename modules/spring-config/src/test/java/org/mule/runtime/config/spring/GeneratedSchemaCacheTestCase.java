@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.singleton;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class GeneratedSchemaCacheTestCase extends AbstractMuleTestCase {
+
+  private static final byte[] SCHEMA = "<schema/>".getBytes();
+  private static final int MAX_CACHED_SCHEMAS = 2;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final AtomicInteger generations = new AtomicInteger();
+  private GeneratedSchemaCache cache;
+
+  @Before
+  public void before() {
+    cache = createCache("4.0.0");
+  }
+
+  private GeneratedSchemaCache createCache(String runtimeVersion) {
+    return new GeneratedSchemaCache(temporaryFolder.getRoot(), runtimeVersion, this::serialize, MAX_CACHED_SCHEMAS);
+  }
+
+  @Test
+  public void generatesSchemaOnlyOnce() {
+    ExtensionModel extension = extension("1.0.0");
+
+    assertThat(cache.get(extension, singleton(extension), this::generate), is(SCHEMA));
+    assertThat(cache.get(extension, singleton(extension), this::generate), is(SCHEMA));
+    assertThat(generations.get(), is(1));
+  }
+
+  @Test
+  public void sharedBetweenCacheInstances() {
+    ExtensionModel extension = extension("1.0.0");
+    cache.get(extension, singleton(extension), this::generate);
+
+    GeneratedSchemaCache otherCache = createCache("4.0.0");
+    assertThat(otherCache.get(extension, singleton(extension), this::generate), is(SCHEMA));
+    assertThat(generations.get(), is(1));
+  }
+
+  @Test
+  public void otherRuntimeVersionGeneratesAgain() {
+    ExtensionModel extension = extension("1.0.0");
+    cache.get(extension, singleton(extension), this::generate);
+
+    createCache("4.0.1").get(extension, singleton(extension), this::generate);
+    assertThat(generations.get(), is(2));
+  }
+
+  @Test
+  public void otherExtensionVersionGeneratesAgain() {
+    ExtensionModel extension = extension("1.0.0");
+    cache.get(extension, singleton(extension), this::generate);
+
+    ExtensionModel newVersion = extension("1.0.1");
+    cache.get(newVersion, singleton(newVersion), this::generate);
+    assertThat(generations.get(), is(2));
+  }
+
+  @Test
+  public void republishedSnapshotGeneratesAgain() {
+    ExtensionModel extension = extension("1.0.0-SNAPSHOT");
+    cache.get(extension, singleton(extension), this::generate);
+
+    ExtensionModel republished = extension("1.0.0-SNAPSHOT");
+    when(republished.getDescription()).thenReturn("changed");
+    cache.get(republished, singleton(republished), this::generate);
+    assertThat(generations.get(), is(2));
+  }
+
+  @Test
+  public void leastRecentlyUsedSchemasAreDeleted() throws Exception {
+    ExtensionModel first = extension("1.0.0");
+    cache.get(first, singleton(first), this::generate);
+    ExtensionModel second = extension("1.0.1");
+    cache.get(second, singleton(second), this::generate);
+    // makes the first one the most recently used
+    for (File schema : temporaryFolder.getRoot().listFiles()) {
+      schema.setLastModified(currentTimeMillis() - 60000);
+    }
+    cache.get(first, singleton(first), this::generate);
+
+    ExtensionModel third = extension("1.0.2");
+    cache.get(third, singleton(third), this::generate);
+    assertThat(temporaryFolder.getRoot().list().length, is(MAX_CACHED_SCHEMAS));
+
+    cache.get(first, singleton(first), this::generate);
+    assertThat(generations.get(), is(3));
+    cache.get(second, singleton(second), this::generate);
+    assertThat(generations.get(), is(4));
+  }
+
+  private byte[] serialize(ExtensionModel extensionModel) {
+    return (extensionModel.getName() + extensionModel.getVersion() + extensionModel.getDescription()).getBytes();
+  }
+
+  private byte[] generate() {
+    generations.incrementAndGet();
+    return SCHEMA;
+  }
+
+  private ExtensionModel extension(String version) {
+    ExtensionModel extensionModel = mock(ExtensionModel.class);
+    when(extensionModel.getName()).thenReturn("test");
+    when(extensionModel.getVendor()).thenReturn("MuleSoft");
+    when(extensionModel.getVersion()).thenReturn(version);
+    when(extensionModel.getXmlDslModel()).thenReturn(XmlDslModel.builder()
+        .setXsdFileName("mule-test.xsd")
+        .setPrefix("test")
+        .setNamespace("http://www.mulesoft.org/schema/mule/test")
+        .setSchemaLocation("http://www.mulesoft.org/schema/mule/test/current/mule-test.xsd")
+        .setSchemaVersion("4.0")
+        .build());
+    return extensionModel;
+  }
+}
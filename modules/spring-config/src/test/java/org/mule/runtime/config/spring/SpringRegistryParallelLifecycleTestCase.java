@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.core.lifecycle.RegistryLifecycleCallback.LIFECYCLE_PARALLELISM_PROPERTY;
+import org.mule.runtime.api.lifecycle.Initialisable;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.config.MuleConfiguration;
+import org.mule.runtime.core.lifecycle.RegistryBrokerLifecycleManager;
+import org.mule.runtime.core.lifecycle.RegistryLifecycleManager;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.context.support.StaticApplicationContext;
+
+@SmallTest
+public class SpringRegistryParallelLifecycleTestCase extends AbstractMuleTestCase {
+
+  private static final String EVENTS = "events";
+  private static final String DEPENDENT = "dependent";
+  private static final String HOLDER = "holder";
+  private static final String DEPENDENCY = "dependency";
+  private static final String INDEPENDENT = "independent";
+
+  @Rule
+  public SystemProperty parallelism = new SystemProperty(LIFECYCLE_PARALLELISM_PROPERTY, "4");
+
+  private final SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+  private final StaticApplicationContext applicationContext = new StaticApplicationContext();
+  private MuleContext muleContext;
+  private SpringRegistry springRegistry;
+  private LifecycleEvents events;
+
+  @Before
+  public void before() throws Exception {
+    MuleConfiguration configuration = mock(MuleConfiguration.class);
+    when(configuration.getId()).thenReturn("test");
+    when(configuration.getShutdownTimeout()).thenReturn(5000);
+    muleContext = mock(MuleContext.class);
+    when(muleContext.getConfiguration()).thenReturn(configuration);
+    when(muleContext.getSchedulerService()).thenReturn(schedulerService);
+
+    // dependent -> holder -> dependency, where the holder is not Startable and so it is outside the lifecycle group
+    applicationContext.registerSingleton(EVENTS, LifecycleEvents.class);
+    registerStartable(DEPENDENT, new MutablePropertyValues().add("dependency", new RuntimeBeanReference(HOLDER)));
+    applicationContext.registerSingleton(HOLDER, Holder.class,
+                                         new MutablePropertyValues().add("target", new RuntimeBeanReference(DEPENDENCY)));
+    registerStartable(DEPENDENCY, new MutablePropertyValues());
+    registerStartable(INDEPENDENT, new MutablePropertyValues());
+
+    springRegistry = new SpringRegistry(applicationContext, muleContext);
+    springRegistry.initialise();
+    events = (LifecycleEvents) springRegistry.get(EVENTS);
+  }
+
+  @After
+  public void after() throws Exception {
+    springRegistry.dispose();
+    schedulerService.stop();
+  }
+
+  @Test
+  public void resolvesDependenciesThroughBeansOutsideTheGroup() {
+    Object dependent = springRegistry.get(DEPENDENT);
+    Object dependency = springRegistry.get(DEPENDENCY);
+    Object independent = springRegistry.get(INDEPENDENT);
+
+    Map<Object, Collection<Object>> dependencies =
+        springRegistry.resolveLifecycleDependencies(asList(dependent, dependency, independent));
+
+    assertThat(dependencies.get(dependent), contains(dependency));
+    assertThat(dependencies.get(dependency), is(empty()));
+    assertThat(dependencies.get(independent), is(empty()));
+  }
+
+  @Test
+  public void startsAndStopsInDependencyOrder() throws Exception {
+    // the broker lifecycle manager is the one applying the start and stop phases on the registries objects
+    RegistryLifecycleManager lifecycleManager = new RegistryBrokerLifecycleManager("test", springRegistry, muleContext);
+    lifecycleManager.fireLifecycle(Initialisable.PHASE_NAME);
+
+    lifecycleManager.fireLifecycle(Startable.PHASE_NAME);
+    assertThat(events.started.subList(0, 2), containsInAnyOrder(DEPENDENCY, INDEPENDENT));
+    assertThat(events.started.get(2), is(DEPENDENT));
+    // the objects without dependencies among them are started concurrently on the lifecycle scheduler
+    assertThat(events.startThreads.subList(0, 2), everyItem(not(sameInstance(currentThread()))));
+
+    lifecycleManager.fireLifecycle(Stoppable.PHASE_NAME);
+    assertThat(events.stopped.subList(0, 2), containsInAnyOrder(DEPENDENT, INDEPENDENT));
+    assertThat(events.stopped.get(2), is(DEPENDENCY));
+
+    assertThat(schedulerService.getSchedulers(), is(empty()));
+  }
+
+  private void registerStartable(String name, MutablePropertyValues properties) {
+    applicationContext.registerSingleton(name, RecordingStartable.class,
+                                         properties.add("name", name).add("events", new RuntimeBeanReference(EVENTS)));
+  }
+
+  public static class LifecycleEvents {
+
+    private final List<String> started = new ArrayList<>();
+    private final List<Thread> startThreads = new ArrayList<>();
+    private final List<String> stopped = new ArrayList<>();
+
+    synchronized void started(String name) {
+      started.add(name);
+      startThreads.add(currentThread());
+    }
+
+    synchronized void stopped(String name) {
+      stopped.add(name);
+    }
+  }
+
+  public static class Holder {
+
+    private Object target;
+
+    public void setTarget(Object target) {
+      this.target = target;
+    }
+  }
+
+  public static class RecordingStartable implements Startable, Stoppable {
+
+    private String name;
+    private LifecycleEvents events;
+    private Object dependency;
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public void setEvents(LifecycleEvents events) {
+      this.events = events;
+    }
+
+    public void setDependency(Object dependency) {
+      this.dependency = dependency;
+    }
+
+    @Override
+    public void start() {
+      events.started(name);
+    }
+
+    @Override
+    public void stop() {
+      events.stopped(name);
+    }
+  }
+}
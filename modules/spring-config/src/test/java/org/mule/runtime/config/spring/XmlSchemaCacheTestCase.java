@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.config.spring;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.xml.validation.Schema;
+
+import org.junit.Test;
+import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
+
+@SmallTest
+public class XmlSchemaCacheTestCase extends AbstractMuleTestCase {
+
+  private static final String NAMESPACE = "http://www.mulesoft.org/schema/mule/test";
+  private static final String LOCATION = "http://www.mulesoft.org/schema/mule/test/current/mule-test.xsd";
+  private static final String SCHEMA_LOCATION = NAMESPACE + " " + LOCATION;
+
+  private final XmlSchemaCache cache = new XmlSchemaCache();
+
+  @Test
+  public void reusesCompiledSchema() {
+    EntityResolver resolver = resolver(schema("element"));
+
+    Schema schema = cache.getSchema(SCHEMA_LOCATION, resolver).get();
+    assertThat(cache.getSchema(SCHEMA_LOCATION, resolver).get(), is(sameInstance(schema)));
+  }
+
+  @Test
+  public void compilesAgainWhenSchemaContentChanges() {
+    Schema schema = cache.getSchema(SCHEMA_LOCATION, resolver(schema("element"))).get();
+    Schema otherSchema = cache.getSchema(SCHEMA_LOCATION, resolver(schema("otherElement"))).get();
+
+    assertThat(otherSchema, is(not(sameInstance(schema))));
+    assertThat(cache.getSchema(SCHEMA_LOCATION, resolver(schema("element"))).get(), is(sameInstance(schema)));
+  }
+
+  @Test
+  public void unresolvedSchemaIsNotCompiled() {
+    assertThat(cache.getSchema(SCHEMA_LOCATION, (publicId, systemId) -> null), is(Optional.empty()));
+  }
+
+  @Test
+  public void invalidSchemaIsNotCompiled() {
+    assertThat(cache.getSchema(SCHEMA_LOCATION, resolver("<notASchema/>")), is(Optional.empty()));
+  }
+
+  @Test
+  public void noSchemaLocation() {
+    assertThat(cache.getSchema(null, resolver(schema("element"))), is(Optional.empty()));
+  }
+
+  private String schema(String elementName) {
+    return "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"" + NAMESPACE + "\">"
+        + "<xs:element name=\"" + elementName + "\"/>"
+        + "</xs:schema>";
+  }
+
+  private EntityResolver resolver(String schema) {
+    Map<String, String> schemas = new HashMap<>();
+    schemas.put(LOCATION, schema);
+    return (publicId, systemId) -> schemas.containsKey(systemId)
+        ? new InputSource(new ByteArrayInputStream(schemas.get(systemId).getBytes())) : null;
+  }
+}
@@ -17,16 +17,19 @@ import org.mule.runtime.api.tls.TlsContextKeyStoreConfiguration;
 import org.mule.runtime.api.tls.TlsContextTrustStoreConfiguration;
 import org.mule.runtime.core.util.ArrayUtils;
 import org.mule.runtime.core.util.FileUtils;
+import org.mule.runtime.core.util.IOUtils;
 import org.mule.runtime.core.util.StringUtils;
 
 import com.google.common.base.Joiner;
 
+import java.io.File;
 import java.io.IOException;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSessionContext;
 import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 
@@ -36,6 +39,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of the {@code TlsContextFactory} interface, which delegates all its operations to a
  * {@code TlsConfiguration} object. Only enabled cipher suites and protocols will not delegate to it if configured.
+ * <p>
+ * A single {@link SSLContext} is built per factory and shared by all the callers of {@link #createSslContext()}, so that the
+ * TLS sessions it caches can be resumed across connections. That context is rebuilt when the key store or trust store files
+ * are modified, if {@link #setStoreReloadCheckInterval(long) reload checks} are enabled.
  */
 public class DefaultTlsContextFactory implements TlsContextFactory, Initialisable {
 
@@ -44,13 +51,24 @@ public class DefaultTlsContextFactory implements TlsContextFactory, Initialisabl
 
   private String name;
 
-  private TlsConfiguration tlsConfiguration = new TlsConfiguration(null);
+  private volatile TlsConfiguration tlsConfiguration = new TlsConfiguration(null);
 
   private AtomicBoolean initialized = new AtomicBoolean(false);
   private boolean trustStoreInsecure = false;
   private String[] enabledProtocols;
   private String[] enabledCipherSuites;
 
+  private int sessionCacheSize = -1;
+  private int sessionTimeout = -1;
+  private long storeReloadCheckInterval = -1;
+
+  private final Object sslContextLock = new Object();
+  private volatile SSLContext sslContext;
+  private volatile long nextStoreReloadCheck;
+  private long keyStoreLastModified;
+  private long trustStoreLastModified;
+  private final TlsSessionStatistics sessionStatistics = new TlsSessionStatistics();
+
   @Override
   public void initialise() throws InitialisationException {
     if (initialized.getAndSet(true)) {
@@ -201,15 +219,152 @@ public class DefaultTlsContextFactory implements TlsContextFactory, Initialisabl
   }
 
 
+  public int getSessionCacheSize() {
+    return sessionCacheSize;
+  }
+
+  /**
+   * @param sessionCacheSize the maximum amount of TLS sessions to cache for resumption, {@code 0} meaning no limit. A negative
+   *        value keeps the default of the JSSE provider.
+   */
+  public void setSessionCacheSize(int sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  public int getSessionTimeout() {
+    return sessionTimeout;
+  }
+
+  /**
+   * @param sessionTimeout the amount of seconds a cached TLS session can be resumed for, {@code 0} meaning no limit. A negative
+   *        value keeps the default of the JSSE provider.
+   */
+  public void setSessionTimeout(int sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
+  public long getStoreReloadCheckInterval() {
+    return storeReloadCheckInterval;
+  }
+
+  /**
+   * @param storeReloadCheckInterval the minimum amount of milliseconds between checks for modifications on the key store and
+   *        trust store files. A negative value disables the checks.
+   */
+  public void setStoreReloadCheckInterval(long storeReloadCheckInterval) {
+    this.storeReloadCheckInterval = storeReloadCheckInterval;
+  }
+
+  /**
+   * @return the amount of TLS handshakes completed through the {@link SSLContext} of this factory that negotiated a new session
+   */
+  public long getFullHandshakeCount() {
+    return sessionStatistics.getFullHandshakes();
+  }
+
+  /**
+   * @return the amount of TLS handshakes completed through the {@link SSLContext} of this factory that resumed a cached session
+   */
+  public long getResumedHandshakeCount() {
+    return sessionStatistics.getResumedHandshakes();
+  }
+
   @Override
   public SSLContext createSslContext() throws KeyManagementException, NoSuchAlgorithmException {
-    SSLContext sslContext;
+    SSLContext context = sslContext;
+    if (context == null || isStoreReloadCheckDue()) {
+      synchronized (sslContextLock) {
+        if (sslContext == null) {
+          keyStoreLastModified = lastModified(getKeyStorePath());
+          trustStoreLastModified = lastModified(getTrustStorePath());
+          sslContext = buildSslContext(tlsConfiguration);
+        } else if (isStoreReloadCheckDue()) {
+          reloadIfStoresModified();
+        }
+        nextStoreReloadCheck = System.currentTimeMillis() + storeReloadCheckInterval;
+        context = sslContext;
+      }
+    }
+    return context;
+  }
+
+  private boolean isStoreReloadCheckDue() {
+    return storeReloadCheckInterval >= 0 && System.currentTimeMillis() >= nextStoreReloadCheck;
+  }
+
+  private void reloadIfStoresModified() throws KeyManagementException, NoSuchAlgorithmException {
+    long keyStoreModified = lastModified(getKeyStorePath());
+    long trustStoreModified = lastModified(getTrustStorePath());
+    if (keyStoreModified == keyStoreLastModified && trustStoreModified == trustStoreLastModified) {
+      return;
+    }
+
+    logger.info("Key store or trust store of TLS context {} modified, reloading it", name == null ? StringUtils.EMPTY : name);
+    try {
+      // The configuration in use is left untouched until the new one is fully loaded
+      TlsConfiguration reloadedConfiguration = copyTlsConfiguration();
+      reloadedConfiguration.initialise(null == getKeyStorePath(), null);
+      SSLContext reloadedContext = buildSslContext(reloadedConfiguration);
+      tlsConfiguration = reloadedConfiguration;
+      sslContext = reloadedContext;
+      keyStoreLastModified = keyStoreModified;
+      trustStoreLastModified = trustStoreModified;
+    } catch (CreateException | IOException e) {
+      // The store may be in the middle of being written, keep the current context and retry on the next check
+      logger.warn("Unable to reload the key store or trust store of TLS context {}, keeping the previous ones",
+                  name == null ? StringUtils.EMPTY : name, e);
+    }
+  }
+
+  private TlsConfiguration copyTlsConfiguration() throws IOException {
+    TlsConfiguration copy = new TlsConfiguration(null);
+    copy.setKeyStore(tlsConfiguration.getKeyStore());
+    copy.setKeyStoreType(tlsConfiguration.getKeyStoreType());
+    copy.setKeyAlias(tlsConfiguration.getKeyAlias());
+    copy.setKeyStorePassword(tlsConfiguration.getKeyStorePassword());
+    copy.setKeyPassword(tlsConfiguration.getKeyPassword());
+    copy.setKeyManagerAlgorithm(tlsConfiguration.getKeyManagerAlgorithm());
+    copy.setTrustStore(tlsConfiguration.getTrustStore());
+    copy.setTrustStoreType(tlsConfiguration.getTrustStoreType());
+    copy.setTrustStorePassword(tlsConfiguration.getTrustStorePassword());
+    copy.setTrustManagerAlgorithm(tlsConfiguration.getTrustManagerAlgorithm());
+    return copy;
+  }
+
+  /**
+   * @return the last modification time of the given store, resolved the same way {@link TlsConfiguration} does when loading
+   *         it, or {@code 0} if it's not a file of the local file system
+   */
+  private long lastModified(String storePath) {
+    if (storePath == null) {
+      return 0;
+    }
+    File storeFile = FileUtils.toFile(IOUtils.getResourceAsUrl(storePath, getClass()));
+    return storeFile != null && storeFile.isFile() ? storeFile.lastModified() : 0;
+  }
+
+  private SSLContext buildSslContext(TlsConfiguration configuration) throws KeyManagementException, NoSuchAlgorithmException {
+    SSLContext context;
     if (trustStoreInsecure) {
-      sslContext = tlsConfiguration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
+      context = configuration.getSslContext(new TrustManager[] {new InsecureTrustManager()});
     } else {
-      sslContext = tlsConfiguration.getSslContext();
+      context = configuration.getSslContext();
+    }
+    configureSessionContext(context.getClientSessionContext());
+    configureSessionContext(context.getServerSessionContext());
+    return new InstrumentedSslContext(context, sessionStatistics);
+  }
+
+  private void configureSessionContext(SSLSessionContext sessionContext) {
+    if (sessionContext == null) {
+      return;
+    }
+    if (sessionCacheSize >= 0) {
+      sessionContext.setSessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout >= 0) {
+      sessionContext.setSessionTimeout(sessionTimeout);
     }
-    return sslContext;
   }
 
   @Override
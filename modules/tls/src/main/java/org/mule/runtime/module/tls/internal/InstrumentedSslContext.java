@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.security.KeyManagementException;
+import java.security.SecureRandom;
+
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLContextSpi;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLServerSocketFactory;
+import javax.net.ssl.SSLSessionContext;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+
+/**
+ * {@link SSLContext} which delegates to another one, reporting to a {@link TlsSessionStatistics} the handshakes completed by
+ * the client sockets and the engines it creates.
+ *
+ * @since 4.0
+ */
+final class InstrumentedSslContext extends SSLContext {
+
+  InstrumentedSslContext(SSLContext delegate, TlsSessionStatistics statistics) {
+    super(new InstrumentedSslContextSpi(delegate, statistics), delegate.getProvider(), delegate.getProtocol());
+  }
+
+  private static final class InstrumentedSslContextSpi extends SSLContextSpi {
+
+    private final SSLContext delegate;
+    private final TlsSessionStatistics statistics;
+    private final SSLSocketFactory socketFactory;
+
+    private InstrumentedSslContextSpi(SSLContext delegate, TlsSessionStatistics statistics) {
+      this.delegate = delegate;
+      this.statistics = statistics;
+      this.socketFactory = new InstrumentedSslSocketFactory(delegate.getSocketFactory(), statistics);
+    }
+
+    @Override
+    protected void engineInit(KeyManager[] keyManagers, TrustManager[] trustManagers, SecureRandom random)
+        throws KeyManagementException {
+      delegate.init(keyManagers, trustManagers, random);
+    }
+
+    @Override
+    protected SSLSocketFactory engineGetSocketFactory() {
+      return socketFactory;
+    }
+
+    @Override
+    protected SSLServerSocketFactory engineGetServerSocketFactory() {
+      return delegate.getServerSocketFactory();
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine() {
+      return new InstrumentedSslEngine(delegate.createSSLEngine(), statistics);
+    }
+
+    @Override
+    protected SSLEngine engineCreateSSLEngine(String host, int port) {
+      return new InstrumentedSslEngine(delegate.createSSLEngine(host, port), statistics);
+    }
+
+    @Override
+    protected SSLSessionContext engineGetServerSessionContext() {
+      return delegate.getServerSessionContext();
+    }
+
+    @Override
+    protected SSLSessionContext engineGetClientSessionContext() {
+      return delegate.getClientSessionContext();
+    }
+
+    @Override
+    protected SSLParameters engineGetDefaultSSLParameters() {
+      return delegate.getDefaultSSLParameters();
+    }
+
+    @Override
+    protected SSLParameters engineGetSupportedSSLParameters() {
+      return delegate.getSupportedSSLParameters();
+    }
+  }
+
+  private static final class InstrumentedSslSocketFactory extends SSLSocketFactory {
+
+    private final SSLSocketFactory delegate;
+    private final TlsSessionStatistics statistics;
+
+    private InstrumentedSslSocketFactory(SSLSocketFactory delegate, TlsSessionStatistics statistics) {
+      this.delegate = delegate;
+      this.statistics = statistics;
+    }
+
+    @Override
+    public String[] getDefaultCipherSuites() {
+      return delegate.getDefaultCipherSuites();
+    }
+
+    @Override
+    public String[] getSupportedCipherSuites() {
+      return delegate.getSupportedCipherSuites();
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+      return instrument(delegate.createSocket());
+    }
+
+    @Override
+    public Socket createSocket(Socket socket, String host, int port, boolean autoClose) throws IOException {
+      return instrument(delegate.createSocket(socket, host, port, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(Socket socket, InputStream consumed, boolean autoClose) throws IOException {
+      return instrument(delegate.createSocket(socket, consumed, autoClose));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+      return instrument(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+      return instrument(delegate.createSocket(host, port, localHost, localPort));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+      return instrument(delegate.createSocket(host, port));
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+      return instrument(delegate.createSocket(address, port, localAddress, localPort));
+    }
+
+    private Socket instrument(Socket socket) {
+      if (socket instanceof SSLSocket) {
+        ((SSLSocket) socket).addHandshakeCompletedListener(event -> statistics.onHandshakeCompleted(event.getSession()));
+      }
+      return socket;
+    }
+  }
+}
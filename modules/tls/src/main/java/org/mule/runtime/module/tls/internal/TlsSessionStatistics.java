@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.tls.internal;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * Counts the TLS handshakes completed with the {@link javax.net.ssl.SSLContext} of a {@link DefaultTlsContextFactory},
+ * telling apart the full ones from the ones that resumed a previous session.
+ * <p>
+ * A handshake is considered to resume a session when the id of the negotiated session was already seen on a previous
+ * handshake. Only the ids of the most recent sessions are remembered, as older ones will have been evicted from the session
+ * cache anyway.
+ *
+ * @since 4.0
+ */
+final class TlsSessionStatistics {
+
+  private static final int MAX_REMEMBERED_SESSIONS = 10000;
+
+  private final AtomicLong fullHandshakes = new AtomicLong();
+  private final AtomicLong resumedHandshakes = new AtomicLong();
+
+  private final Map<ByteBuffer, Boolean> seenSessions = new LinkedHashMap<ByteBuffer, Boolean>(16, 0.75f, true) {
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Boolean> eldest) {
+      return size() > MAX_REMEMBERED_SESSIONS;
+    }
+  };
+
+  void onHandshakeCompleted(SSLSession session) {
+    byte[] id = session != null ? session.getId() : null;
+    if (id == null || id.length == 0) {
+      fullHandshakes.incrementAndGet();
+      return;
+    }
+
+    boolean resumed;
+    synchronized (seenSessions) {
+      resumed = seenSessions.put(ByteBuffer.wrap(id), Boolean.TRUE) != null;
+    }
+    if (resumed) {
+      resumedHandshakes.incrementAndGet();
+    } else {
+      fullHandshakes.incrementAndGet();
+    }
+  }
+
+  long getFullHandshakes() {
+    return fullHandshakes.get();
+  }
+
+  long getResumedHandshakes() {
+    return resumedHandshakes.get();
+  }
+}
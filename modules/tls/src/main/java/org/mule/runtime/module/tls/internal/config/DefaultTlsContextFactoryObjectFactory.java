@@ -23,6 +23,9 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractAnnotatedObje
   private TlsContextTrustStoreConfiguration trustStore;
   private String enabledProtocols;
   private String enabledCipherSuites;
+  private Integer sessionCacheSize;
+  private Integer sessionTimeout;
+  private Long storeReloadCheckInterval;
 
   public void setKeyStore(TlsContextKeyStoreConfiguration keyStore) {
     this.keyStore = keyStore;
@@ -40,12 +43,33 @@ public class DefaultTlsContextFactoryObjectFactory extends AbstractAnnotatedObje
     this.enabledCipherSuites = enabledCipherSuites;
   }
 
+  public void setSessionCacheSize(Integer sessionCacheSize) {
+    this.sessionCacheSize = sessionCacheSize;
+  }
+
+  public void setSessionTimeout(Integer sessionTimeout) {
+    this.sessionTimeout = sessionTimeout;
+  }
+
+  public void setStoreReloadCheckInterval(Long storeReloadCheckInterval) {
+    this.storeReloadCheckInterval = storeReloadCheckInterval;
+  }
+
   @Override
   public DefaultTlsContextFactory doGetObject() throws Exception {
     DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory();
 
     tlsContextFactory.setEnabledProtocols(enabledProtocols);
     tlsContextFactory.setEnabledCipherSuites(enabledCipherSuites);
+    if (sessionCacheSize != null) {
+      tlsContextFactory.setSessionCacheSize(sessionCacheSize);
+    }
+    if (sessionTimeout != null) {
+      tlsContextFactory.setSessionTimeout(sessionTimeout);
+    }
+    if (storeReloadCheckInterval != null) {
+      tlsContextFactory.setStoreReloadCheckInterval(storeReloadCheckInterval);
+    }
 
     if (keyStore != null) {
       tlsContextFactory.setKeyAlias(keyStore.getAlias());
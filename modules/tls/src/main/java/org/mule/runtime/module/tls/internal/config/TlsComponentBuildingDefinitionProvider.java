@@ -61,6 +61,9 @@ public class TlsComponentBuildingDefinitionProvider implements ComponentBuilding
             .withObjectFactoryType(DefaultTlsContextFactoryObjectFactory.class)
             .withSetterParameterDefinition("enabledProtocols", fromSimpleParameter("enabledProtocols").build())
             .withSetterParameterDefinition("enabledCipherSuites", fromSimpleParameter("enabledCipherSuites").build())
+            .withSetterParameterDefinition("sessionCacheSize", fromSimpleParameter("sessionCacheSize").build())
+            .withSetterParameterDefinition("sessionTimeout", fromSimpleParameter("sessionTimeout").build())
+            .withSetterParameterDefinition("storeReloadCheckInterval", fromSimpleParameter("storeReloadCheckInterval").build())
             .withSetterParameterDefinition("keyStore", fromChildConfiguration(KeyStoreConfig.class).build())
             .withSetterParameterDefinition("trustStore", fromChildConfiguration(TrustStoreConfig.class).build()).build());
 
@@ -6,22 +6,36 @@
  */
 package org.mule.test.module.tls;
 
+import static java.net.InetAddress.getLoopbackAddress;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assume.assumeThat;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.core.api.security.tls.TlsConfiguration;
 import org.mule.runtime.module.tls.internal.DefaultTlsContextFactory;
 import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
 import org.mule.runtime.core.util.ClassUtils;
 import org.mule.runtime.core.util.StringUtils;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLServerSocket;
+import javax.net.ssl.SSLSocket;
 
 import org.hamcrest.core.Is;
 import org.junit.AfterClass;
@@ -29,12 +43,16 @@ import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
 
   @Rule
   public ExpectedException expectedException = ExpectedException.none();
 
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   @BeforeClass
   public static void createTlsPropertiesFile() throws Exception {
 
@@ -117,4 +135,98 @@ public class DefaultTlsContextFactoryTestCase extends AbstractMuleTestCase {
     expectedException.expectMessage(containsString("cipher suites are invalid"));
     tlsContextFactory.initialise();
   }
+
+  @Test
+  public void sharesSslContext() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory();
+    tlsContextFactory.setTrustStorePath("trustStore");
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.initialise();
+
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(tlsContextFactory.createSslContext())));
+  }
+
+  @Test
+  public void configuresSessionCache() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory();
+    tlsContextFactory.setTrustStorePath("trustStore");
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.setSessionCacheSize(100);
+    tlsContextFactory.setSessionTimeout(300);
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(sslContext.getClientSessionContext().getSessionCacheSize(), is(100));
+    assertThat(sslContext.getClientSessionContext().getSessionTimeout(), is(300));
+    assertThat(sslContext.getServerSessionContext().getSessionCacheSize(), is(100));
+    assertThat(sslContext.getServerSessionContext().getSessionTimeout(), is(300));
+  }
+
+  @Test
+  public void reloadsModifiedTrustStore() throws Exception {
+    File trustStore = temporaryFolder.newFile("trustStore");
+    Files.copy(new File(ClassUtils.getClassPathRoot(getClass()).getPath(), "trustStore").toPath(), trustStore.toPath(),
+               REPLACE_EXISTING);
+
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory();
+    tlsContextFactory.setTrustStorePath(trustStore.getAbsolutePath());
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.setStoreReloadCheckInterval(0);
+    tlsContextFactory.initialise();
+
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+    assertThat(tlsContextFactory.createSslContext(), is(sameInstance(sslContext)));
+
+    trustStore.setLastModified(trustStore.lastModified() - 10000);
+    assertThat(tlsContextFactory.createSslContext(), is(not(sameInstance(sslContext))));
+  }
+
+  @Test
+  public void countsFullAndResumedHandshakes() throws Exception {
+    DefaultTlsContextFactory tlsContextFactory = new DefaultTlsContextFactory();
+    tlsContextFactory.setKeyStorePath("serverKeystore");
+    tlsContextFactory.setKeyStorePassword("mulepassword");
+    tlsContextFactory.setKeyManagerPassword("mulepassword");
+    tlsContextFactory.setKeyAlias("muleserver");
+    tlsContextFactory.setTrustStorePath("trustStore");
+    tlsContextFactory.setTrustStorePassword("mulepassword");
+    tlsContextFactory.initialise();
+    SSLContext sslContext = tlsContextFactory.createSslContext();
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try (SSLServerSocket serverSocket =
+        (SSLServerSocket) sslContext.getServerSocketFactory().createServerSocket(0, 50, getLoopbackAddress())) {
+      Future<?> server = executor.submit(() -> {
+        for (int i = 0; i < 2; ++i) {
+          try (SSLSocket socket = (SSLSocket) serverSocket.accept()) {
+            socket.getOutputStream().write(1);
+            socket.getInputStream().read();
+          }
+        }
+        return null;
+      });
+
+      handshake(sslContext, serverSocket.getLocalPort());
+      new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> tlsContextFactory.getFullHandshakeCount() == 1));
+      assertThat(tlsContextFactory.getResumedHandshakeCount(), is(0L));
+
+      handshake(sslContext, serverSocket.getLocalPort());
+      new PollingProber(5000, 50).check(new JUnitLambdaProbe(() -> tlsContextFactory.getResumedHandshakeCount() == 1));
+      assertThat(tlsContextFactory.getFullHandshakeCount(), is(1L));
+
+      server.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private void handshake(SSLContext sslContext, int port) throws IOException {
+    try (SSLSocket socket = (SSLSocket) sslContext.getSocketFactory().createSocket(getLoopbackAddress(), port)) {
+      // Resumption is detected through session ids, which TLSv1.3 doesn't reuse
+      socket.setEnabledProtocols(new String[] {"TLSv1.2"});
+      socket.startHandshake();
+      socket.getInputStream().read();
+      socket.getOutputStream().write(1);
+    }
+  }
 }
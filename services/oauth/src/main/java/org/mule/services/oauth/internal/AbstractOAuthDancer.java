@@ -6,11 +6,19 @@
  */
 package org.mule.services.oauth.internal;
 
+import static java.lang.Long.getLong;
+import static java.lang.Math.max;
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.System.nanoTime;
 import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.api.metadata.MediaType.ANY;
 import static org.mule.runtime.api.metadata.MediaType.parse;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext.DEFAULT_RESOURCE_OWNER_ID;
 import static org.mule.service.http.api.HttpConstants.HttpStatus.BAD_REQUEST;
 import static org.mule.service.http.api.HttpConstants.Method.POST;
 import static org.mule.service.http.api.HttpHeaders.Names.AUTHORIZATION;
@@ -18,6 +26,7 @@ import static org.mule.service.http.api.HttpHeaders.Names.CONTENT_TYPE;
 import static org.mule.service.http.api.HttpHeaders.Values.APPLICATION_X_WWW_FORM_URLENCODED;
 import static org.mule.service.http.api.utils.HttpEncoderDecoderUtils.decodeUrlEncodedBody;
 import static org.mule.service.http.api.utils.HttpEncoderDecoderUtils.encodeString;
+import static org.slf4j.LoggerFactory.getLogger;
 
 import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.el.ExpressionEvaluator;
@@ -28,6 +37,8 @@ import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.DataType;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.scheduler.Scheduler;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
 import org.mule.runtime.core.util.IOUtils;
 import org.mule.runtime.core.util.MapUtils;
 import org.mule.runtime.oauth.api.exception.RequestAuthenticationException;
@@ -50,9 +61,14 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.locks.Lock;
 
+import org.slf4j.Logger;
+
 /**
  * Base implementations with behavior common to all grant-types.
  *
@@ -60,6 +76,14 @@ import java.util.concurrent.locks.Lock;
  */
 public abstract class AbstractOAuthDancer implements Startable, Stoppable {
 
+  private static final Logger LOGGER = getLogger(AbstractOAuthDancer.class);
+
+  /**
+   * How long before its expiration, in milliseconds, an access token is refreshed.
+   */
+  public static final String REFRESH_AHEAD_SKEW_PROPERTY = SYSTEM_PROPERTY_PREFIX + "oauth.refreshAheadSkewMillis";
+  private static final long DEFAULT_REFRESH_AHEAD_SKEW_MILLIS = 30000;
+
   private static final int TOKEN_REQUEST_TIMEOUT_MILLIS = 60000;
 
   protected final String clientId;
@@ -77,12 +101,21 @@ public abstract class AbstractOAuthDancer implements Startable, Stoppable {
   private final Map<String, ResourceOwnerOAuthContext> tokensStore;
   private final HttpClient httpClient;
   private final ExpressionEvaluator expressionEvaluator;
+  private final SchedulerService schedulerService;
+
+  private final long refreshAheadSkewMillis = getLong(REFRESH_AHEAD_SKEW_PROPERTY, DEFAULT_REFRESH_AHEAD_SKEW_MILLIS);
+  private final ConcurrentMap<String, CompletableFuture<Void>> refreshesInFlight = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, Long> tokenExpirations = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, ScheduledFuture<?>> scheduledRefreshes = new ConcurrentHashMap<>();
+  private final TokenRefreshStatistics refreshStatistics = new TokenRefreshStatistics();
+  private volatile Scheduler refreshScheduler;
 
   protected AbstractOAuthDancer(String clientId, String clientSecret, String tokenUrl, Charset encoding, String scopes,
                                 String responseAccessTokenExpr, String responseRefreshTokenExpr, String responseExpiresInExpr,
                                 Map<String, String> customParametersExtractorsExprs, LockFactory lockProvider,
                                 Map<String, ResourceOwnerOAuthContext> tokensStore,
-                                HttpClient httpClient, ExpressionEvaluator expressionEvaluator) {
+                                HttpClient httpClient, ExpressionEvaluator expressionEvaluator,
+                                SchedulerService schedulerService) {
     this.clientId = clientId;
     this.clientSecret = clientSecret;
     this.tokenUrl = tokenUrl;
@@ -97,29 +130,108 @@ public abstract class AbstractOAuthDancer implements Startable, Stoppable {
     this.tokensStore = tokensStore;
     this.httpClient = httpClient;
     this.expressionEvaluator = expressionEvaluator;
+    this.schedulerService = schedulerService;
   }
 
   @Override
   public void start() throws MuleException {
     httpClient.start();
+    refreshScheduler = schedulerService.ioScheduler();
   }
 
   @Override
   public void stop() throws MuleException {
+    scheduledRefreshes.values().forEach(scheduledRefresh -> scheduledRefresh.cancel(false));
+    scheduledRefreshes.clear();
+    if (refreshScheduler != null) {
+      refreshScheduler.stop(5, SECONDS);
+      refreshScheduler = null;
+    }
     httpClient.stop();
   }
 
+  /**
+   * Provides the access token of the given resource owner.
+   * <p>
+   * Tokens are refreshed ahead of their expiration. If that refresh fails, the current token keeps being returned until it
+   * expires. Once expired, the token is refreshed before returning it, and the returned future completes exceptionally if that
+   * refresh fails.
+   *
+   * @param resourceOwner the resource owner to get the token for.
+   * @return a future that completes with the access token of the resource owner.
+   * @throws RequestAuthenticationException if the resource owner has not been authenticated yet.
+   */
   public CompletableFuture<String> accessToken(String resourceOwner) throws RequestAuthenticationException {
-    final String accessToken = getContextForResourceOwner(resourceOwner).getAccessToken();
+    final ResourceOwnerOAuthContext context = getContextForResourceOwner(resourceOwner);
+    final String accessToken = context.getAccessToken();
     if (accessToken == null) {
       throw new RequestAuthenticationException(createStaticMessage(format("No access token found. "
           + "Verify that you have authenticated before trying to execute an operation to the API.")));
     }
 
-    // TODO MULE-11858 proactively refresh if the token has already expired based on its 'expiresIn' parameter
+    // Normally the token is refreshed ahead of its expiration, this only happens if that refresh failed or is still going on
+    final Long expiration = tokenExpirations.get(context.getResourceOwnerId());
+    if (expiration != null && currentTimeMillis() >= expiration && isRefreshable(context)) {
+      return refreshToken(resourceOwner).thenApply(v -> getContextForResourceOwner(resourceOwner).getAccessToken());
+    }
     return completedFuture(accessToken);
   }
 
+  /**
+   * Refreshes the token of the given resource owner.
+   * <p>
+   * Implementations don't need to worry about concurrent calls for the same resource owner, the dancer makes sure there's only
+   * one refresh going on for each, returning the same future to all the callers that request it meanwhile.
+   *
+   * @param resourceOwner the resource owner to refresh the token for.
+   * @return a future that completes when the token of the resource owner is updated.
+   */
+  protected abstract CompletableFuture<Void> doRefreshToken(String resourceOwner);
+
+  /**
+   * @return whether the token of the given resource owner can be refreshed without its intervention.
+   */
+  protected boolean isRefreshable(ResourceOwnerOAuthContext resourceOwnerOAuthContext) {
+    return true;
+  }
+
+  public CompletableFuture<Void> refreshToken(String resourceOwner) {
+    final String key = resourceOwner == null ? DEFAULT_RESOURCE_OWNER_ID : resourceOwner;
+    final CompletableFuture<Void> refresh = new CompletableFuture<>();
+    final CompletableFuture<Void> inFlight = refreshesInFlight.putIfAbsent(key, refresh);
+    if (inFlight != null) {
+      return inFlight;
+    }
+
+    final long start = nanoTime();
+    try {
+      doRefreshToken(resourceOwner).whenComplete((v, t) -> completeRefresh(key, refresh, start, t));
+    } catch (RuntimeException e) {
+      // Let the callers waiting on this refresh know about the failure, but keep throwing it as before for this caller
+      completeRefresh(key, refresh, start, e);
+      throw e;
+    }
+    return refresh;
+  }
+
+  private void completeRefresh(String key, CompletableFuture<Void> refresh, long start, Throwable failure) {
+    refreshStatistics.onRefreshCompleted(nanoTime() - start, failure != null);
+    // Removed before completing so that callers arriving after the completion trigger a new refresh
+    refreshesInFlight.remove(key, refresh);
+    if (failure != null) {
+      refresh.completeExceptionally(failure);
+    } else {
+      refresh.complete(null);
+    }
+  }
+
+  /**
+   * @return the statistics of the token refreshes done by this dancer.
+   */
+  public TokenRefreshStatistics getRefreshStatistics() {
+    return refreshStatistics;
+  }
+
   protected TokenResponse invokeTokenUrl(String tokenUrl, Map<String, String> tokenRequestFormToSend, String authorization,
                                          boolean retrieveRefreshToken, Charset encoding)
       throws TokenUrlResponseException, TokenNotFoundException {
@@ -239,7 +351,15 @@ public abstract class AbstractOAuthDancer implements Startable, Stoppable {
    * @return oauth state
    */
   protected ResourceOwnerOAuthContext getContextForResourceOwner(final String resourceOwnerId) {
-    ResourceOwnerOAuthContext resourceOwnerOAuthContext = null;
+    // Hot path: the context already exists, no need for locking
+    ResourceOwnerOAuthContext resourceOwnerOAuthContext = tokensStore.get(resourceOwnerId);
+    if (resourceOwnerOAuthContext != null) {
+      if (resourceOwnerOAuthContext.getRefreshUserOAuthContextLock() == null) {
+        resourceOwnerOAuthContext.setRefreshUserOAuthContextLock(createLockForResourceOwner(resourceOwnerId));
+      }
+      return resourceOwnerOAuthContext;
+    }
+
     if (!tokensStore.containsKey(resourceOwnerId)) {
       final Lock lock = lockProvider.createLock(toString() + "-config-oauth-context");
       lock.lock();
@@ -276,6 +396,66 @@ public abstract class AbstractOAuthDancer implements Startable, Stoppable {
     } finally {
       resourceOwnerContextLock.unlock();
     }
+    scheduleRefreshAhead(resourceOwnerOAuthContext);
+  }
+
+  /**
+   * Schedules the refresh of the token of the given resource owner {@link #REFRESH_AHEAD_SKEW_PROPERTY a bit before} it expires,
+   * so the requests don't find it expired. Nothing is scheduled if the token doesn't have a known expiration or can't be
+   * refreshed.
+   */
+  private void scheduleRefreshAhead(ResourceOwnerOAuthContext resourceOwnerOAuthContext) {
+    final String resourceOwnerId = resourceOwnerOAuthContext.getResourceOwnerId();
+    final ScheduledFuture<?> previous = scheduledRefreshes.remove(resourceOwnerId);
+    if (previous != null) {
+      previous.cancel(false);
+    }
+
+    final Long expiresInSeconds = parseExpiresIn(resourceOwnerOAuthContext.getExpiresIn());
+    if (expiresInSeconds == null) {
+      tokenExpirations.remove(resourceOwnerId);
+      return;
+    }
+    final long expiresInMillis = SECONDS.toMillis(expiresInSeconds);
+    tokenExpirations.put(resourceOwnerId, currentTimeMillis() + expiresInMillis);
+
+    final Scheduler scheduler = refreshScheduler;
+    if (scheduler == null || !isRefreshable(resourceOwnerOAuthContext)) {
+      return;
+    }
+    final long delay = max(0, expiresInMillis - refreshAheadSkewMillis);
+    scheduledRefreshes.put(resourceOwnerId, scheduler.schedule(() -> {
+      scheduledRefreshes.remove(resourceOwnerId);
+      try {
+        refreshToken(resourceOwnerId).whenComplete((v, t) -> {
+          if (t != null) {
+            logRefreshAheadFailure(resourceOwnerId, t);
+          }
+        });
+      } catch (RuntimeException e) {
+        logRefreshAheadFailure(resourceOwnerId, e);
+      }
+    }, delay, MILLISECONDS));
+  }
+
+  private void logRefreshAheadFailure(String resourceOwnerId, Throwable failure) {
+    LOGGER.warn(format("Could not refresh ahead the access token of resource owner '%s', it will be refreshed when used",
+                       resourceOwnerId),
+                failure);
+  }
+
+  private Long parseExpiresIn(String expiresIn) {
+    if (expiresIn == null) {
+      return null;
+    }
+    try {
+      return Long.valueOf(expiresIn.trim());
+    } catch (NumberFormatException e) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(format("Token 'expires_in' value '%s' is not a number, it won't be refreshed ahead", expiresIn));
+      }
+      return null;
+    }
   }
 
 }
@@ -23,6 +23,7 @@ import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.LifecycleException;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
 import org.mule.runtime.oauth.api.OAuthDancer;
 import org.mule.runtime.oauth.api.exception.TokenNotFoundException;
 import org.mule.runtime.oauth.api.exception.TokenUrlResponseException;
@@ -55,9 +56,10 @@ public class ClientCredentialsOAuthDancer extends AbstractOAuthDancer implements
                                       String responseRefreshTokenExpr, String responseExpiresInExpr,
                                       Map<String, String> customParametersExprs, LockFactory lockProvider,
                                       Map<String, ResourceOwnerOAuthContext> tokensStore, HttpClient httpClient,
-                                      ExpressionEvaluator expressionEvaluator) {
+                                      ExpressionEvaluator expressionEvaluator, SchedulerService schedulerService) {
     super(clientId, clientSecret, tokenUrl, encoding, scopes, responseAccessTokenExpr, responseRefreshTokenExpr,
-          responseExpiresInExpr, customParametersExprs, lockProvider, tokensStore, httpClient, expressionEvaluator);
+          responseExpiresInExpr, customParametersExprs, lockProvider, tokensStore, httpClient, expressionEvaluator,
+          schedulerService);
     this.encodeClientCredentialsInBody = encodeClientCredentialsInBody;
   }
 
@@ -77,7 +79,7 @@ public class ClientCredentialsOAuthDancer extends AbstractOAuthDancer implements
   }
 
   @Override
-  public CompletableFuture<Void> refreshToken(String resourceOwner) {
+  protected CompletableFuture<Void> doRefreshToken(String resourceOwner) {
     final Map<String, String> formData = new HashMap<>();
 
     formData.put(GRANT_TYPE_PARAMETER, GRANT_TYPE_CLIENT_CREDENTIALS);
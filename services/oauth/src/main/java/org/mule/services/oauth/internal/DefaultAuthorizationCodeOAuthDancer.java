@@ -48,6 +48,7 @@ import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.metadata.MediaType;
 import org.mule.runtime.core.api.DefaultMuleException;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
 import org.mule.runtime.core.util.StringUtils;
 import org.mule.runtime.oauth.api.AuthorizationCodeOAuthDancer;
 import org.mule.runtime.oauth.api.exception.TokenNotFoundException;
@@ -117,9 +118,11 @@ public class DefaultAuthorizationCodeOAuthDancer extends AbstractOAuthDancer imp
                                              String responseExpiresInExpr, Map<String, String> customParameters,
                                              Map<String, String> customParametersExtractorsExprs,
                                              LockFactory lockProvider, Map<String, ResourceOwnerOAuthContext> tokensStore,
-                                             HttpClient httpClient, ExpressionEvaluator expressionEvaluator) {
+                                             HttpClient httpClient, ExpressionEvaluator expressionEvaluator,
+                                             SchedulerService schedulerService) {
     super(clientId, clientSecret, tokenUrl, encoding, scopes, responseAccessTokenExpr, responseRefreshTokenExpr,
-          responseExpiresInExpr, customParametersExtractorsExprs, lockProvider, tokensStore, httpClient, expressionEvaluator);
+          responseExpiresInExpr, customParametersExtractorsExprs, lockProvider, tokensStore, httpClient, expressionEvaluator,
+          schedulerService);
 
     this.httpServer = httpServer;
     this.localCallbackUrlPath = localCallbackUrlPath;
@@ -397,7 +400,12 @@ public class DefaultAuthorizationCodeOAuthDancer extends AbstractOAuthDancer imp
   }
 
   @Override
-  public CompletableFuture<Void> refreshToken(String resourceOwner) {
+  protected boolean isRefreshable(ResourceOwnerOAuthContext resourceOwnerOAuthContext) {
+    return resourceOwnerOAuthContext.getRefreshToken() != null;
+  }
+
+  @Override
+  protected CompletableFuture<Void> doRefreshToken(String resourceOwner) {
     if (LOGGER.isDebugEnabled()) {
       LOGGER.debug("Executing refresh token for user " + resourceOwner);
     }
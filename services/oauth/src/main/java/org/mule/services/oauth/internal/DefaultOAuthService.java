@@ -41,7 +41,8 @@ public final class DefaultOAuthService implements OAuthService {
   public <T> OAuthClientCredentialsDancerBuilder clientCredentialsGrantTypeDancerBuilder(LockFactory lockProvider,
                                                                                          Map<String, T> tokensStore,
                                                                                          ExpressionEvaluator expressionEvaluator) {
-    return new DefaultOAuthClientCredentialsDancerBuilder(lockProvider, (Map<String, ResourceOwnerOAuthContext>) tokensStore,
+    return new DefaultOAuthClientCredentialsDancerBuilder(schedulerService, lockProvider,
+                                                          (Map<String, ResourceOwnerOAuthContext>) tokensStore,
                                                           httpService, expressionEvaluator);
   }
 
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.services.oauth.internal;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps track of the token refreshes done by an {@link AbstractOAuthDancer}: how many succeeded or failed and how long they
+ * took.
+ *
+ * @since 4.0
+ */
+public final class TokenRefreshStatistics {
+
+  private final LongAdder refreshes = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  void onRefreshCompleted(long latencyNanos, boolean failed) {
+    if (failed) {
+      failures.increment();
+    } else {
+      refreshes.increment();
+    }
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+
+  /**
+   * @return the amount of token refreshes that succeeded.
+   */
+  public long getRefreshCount() {
+    return refreshes.sum();
+  }
+
+  /**
+   * @return the amount of token refreshes that failed.
+   */
+  public long getFailureCount() {
+    return failures.sum();
+  }
+
+  /**
+   * @return the average time the token refreshes took, either successful or failed, in the given {@code unit}.
+   */
+  public long getAverageLatency(TimeUnit unit) {
+    long count = refreshes.sum() + failures.sum();
+    return count == 0 ? 0 : unit.convert(totalLatencyNanos.sum() / count, NANOSECONDS);
+  }
+
+  /**
+   * @return the longest time a token refresh took, either successful or failed, in the given {@code unit}.
+   */
+  public long getMaxLatency(TimeUnit unit) {
+    return unit.convert(maxLatencyNanos.get(), NANOSECONDS);
+  }
+}
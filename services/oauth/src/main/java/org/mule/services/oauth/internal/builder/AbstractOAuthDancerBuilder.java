@@ -12,6 +12,7 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 import org.mule.runtime.api.el.ExpressionEvaluator;
 import org.mule.runtime.api.lock.LockFactory;
 import org.mule.runtime.api.tls.TlsContextFactory;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
 import org.mule.runtime.oauth.api.OAuthDancer;
 import org.mule.runtime.oauth.api.builder.OAuthDancerBuilder;
 import org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext;
@@ -36,6 +37,7 @@ public abstract class AbstractOAuthDancerBuilder<D extends OAuthDancer> implemen
   protected final Map<String, ResourceOwnerOAuthContext> tokensStore;
   protected final HttpService httpService;
   protected final ExpressionEvaluator expressionEvaluator;
+  protected final SchedulerService schedulerService;
 
   protected String clientId;
   protected String clientSecret;
@@ -49,8 +51,10 @@ public abstract class AbstractOAuthDancerBuilder<D extends OAuthDancer> implemen
   protected String scopes = null;
   protected Map<String, String> customParametersExtractorsExprs;
 
-  public AbstractOAuthDancerBuilder(LockFactory lockProvider, Map<String, ResourceOwnerOAuthContext> tokensStore,
-                                    HttpService httpService, ExpressionEvaluator expressionEvaluator) {
+  public AbstractOAuthDancerBuilder(SchedulerService schedulerService, LockFactory lockProvider,
+                                    Map<String, ResourceOwnerOAuthContext> tokensStore, HttpService httpService,
+                                    ExpressionEvaluator expressionEvaluator) {
+    this.schedulerService = schedulerService;
     this.lockProvider = lockProvider;
     this.tokensStore = tokensStore;
     this.httpService = httpService;
@@ -55,7 +55,7 @@ public class DefaultOAuthAuthorizationCodeDancerBuilder extends AbstractOAuthDan
                                                     SchedulerService schedulerService, LockFactory lockProvider,
                                                     Map<String, ResourceOwnerOAuthContext> tokensStore, HttpService httpService,
                                                     ExpressionEvaluator expressionEvaluator) {
-    super(lockProvider, tokensStore, httpService, expressionEvaluator);
+    super(schedulerService, lockProvider, tokensStore, httpService, expressionEvaluator);
     this.httpServersManager = httpServersManager;
   }
 
@@ -192,7 +192,8 @@ public class DefaultOAuthAuthorizationCodeDancerBuilder extends AbstractOAuthDan
                                                    localAuthorizationUrlPath, localAuthorizationUrlResourceOwnerId, state,
                                                    authorizationUrl, responseAccessTokenExpr, responseRefreshTokenExpr,
                                                    responseExpiresInExpr, customParameters, customParametersExtractorsExprs,
-                                                   lockProvider, tokensStore, httpClientFactory.get(), expressionEvaluator);
+                                                   lockProvider, tokensStore, httpClientFactory.get(), expressionEvaluator,
+                                                   schedulerService);
   }
 
 }
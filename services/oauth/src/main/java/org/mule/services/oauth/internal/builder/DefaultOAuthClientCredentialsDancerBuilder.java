@@ -11,6 +11,7 @@ import static org.mule.runtime.api.util.Preconditions.checkArgument;
 
 import org.mule.runtime.api.el.ExpressionEvaluator;
 import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
 import org.mule.runtime.oauth.api.OAuthDancer;
 import org.mule.runtime.oauth.api.builder.OAuthClientCredentialsDancerBuilder;
 import org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext;
@@ -26,10 +27,10 @@ public class DefaultOAuthClientCredentialsDancerBuilder extends AbstractOAuthDan
 
   private boolean encodeClientCredentialsInBody = false;
 
-  public DefaultOAuthClientCredentialsDancerBuilder(LockFactory lockProvider,
+  public DefaultOAuthClientCredentialsDancerBuilder(SchedulerService schedulerService, LockFactory lockProvider,
                                                     Map<String, ResourceOwnerOAuthContext> tokensStore, HttpService httpService,
                                                     ExpressionEvaluator expressionEvaluator) {
-    super(lockProvider, tokensStore, httpService, expressionEvaluator);
+    super(schedulerService, lockProvider, tokensStore, httpService, expressionEvaluator);
   }
 
   @Override
@@ -47,7 +48,7 @@ public class DefaultOAuthClientCredentialsDancerBuilder extends AbstractOAuthDan
     return new ClientCredentialsOAuthDancer(clientId, clientSecret, tokenUrl, scopes, encodeClientCredentialsInBody, encoding,
                                             responseAccessTokenExpr, responseRefreshTokenExpr, responseExpiresInExpr,
                                             customParametersExtractorsExprs, lockProvider, tokensStore,
-                                            (HttpClient) httpClientFactory.get(), expressionEvaluator);
+                                            (HttpClient) httpClientFactory.get(), expressionEvaluator, schedulerService);
   }
 
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.test.oauth.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mule.services.oauth.internal.AbstractOAuthDancer.REFRESH_AHEAD_SKEW_PROPERTY;
+import org.mule.runtime.api.el.ExpressionEvaluator;
+import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
+import org.mule.runtime.oauth.api.state.ResourceOwnerOAuthContext;
+import org.mule.service.http.api.client.HttpClient;
+import org.mule.services.oauth.internal.AbstractOAuthDancer;
+import org.mule.tck.SimpleUnitTestSupportSchedulerService;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.tck.probe.JUnitLambdaProbe;
+import org.mule.tck.probe.PollingProber;
+
+import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class TokenRefreshTestCase extends AbstractMuleContextTestCase {
+
+  private static final long PROBE_TIMEOUT = 5000;
+  private static final long PROBE_POLL_DELAY = 50;
+
+  // Tokens expiring in 10 seconds are refreshed right away
+  @Rule
+  public SystemProperty refreshAheadSkew = new SystemProperty(REFRESH_AHEAD_SKEW_PROPERTY, "10000");
+
+  private SimpleUnitTestSupportSchedulerService schedulerService = new SimpleUnitTestSupportSchedulerService();
+  private TestDancer dancer;
+
+  @Before
+  public void before() throws Exception {
+    dancer = new TestDancer(muleContext.getRegistry().lookupObject(LockFactory.class), mock(SchedulerService.class));
+  }
+
+  @After
+  public void after() throws Exception {
+    dancer.stop();
+    schedulerService.stop();
+  }
+
+  @Test
+  public void concurrentRefreshesShareTheSameCall() {
+    CompletableFuture<Void> first = dancer.refreshToken("owner");
+    CompletableFuture<Void> second = dancer.refreshToken("owner");
+
+    assertThat(second, is(sameInstance(first)));
+    assertThat(dancer.refreshes, is(1));
+
+    dancer.pending.complete(null);
+    assertThat(first.isDone(), is(true));
+    assertThat(dancer.getRefreshStatistics().getRefreshCount(), is(1L));
+  }
+
+  @Test
+  public void refreshAfterCompletionCallsAgain() {
+    CompletableFuture<Void> first = dancer.refreshToken("owner");
+    dancer.pending.complete(null);
+
+    CompletableFuture<Void> second = dancer.refreshToken("owner");
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(dancer.refreshes, is(2));
+  }
+
+  @Test
+  public void differentOwnersRefreshIndependently() {
+    CompletableFuture<Void> first = dancer.refreshToken("owner");
+    CompletableFuture<Void> second = dancer.refreshToken("otherOwner");
+
+    assertThat(second, is(not(sameInstance(first))));
+    assertThat(dancer.refreshes, is(2));
+  }
+
+  @Test
+  public void failedRefreshIsCounted() {
+    CompletableFuture<Void> refresh = dancer.refreshToken("owner");
+    dancer.pending.completeExceptionally(new IllegalStateException());
+
+    assertThat(refresh.isCompletedExceptionally(), is(true));
+    assertThat(dancer.getRefreshStatistics().getFailureCount(), is(1L));
+    assertThat(dancer.getRefreshStatistics().getRefreshCount(), is(0L));
+  }
+
+  @Test
+  public void refreshesAheadOfExpiration() throws Exception {
+    dancer = startedDancer();
+    dancer.updateToken("owner", "token", "10");
+
+    new PollingProber(PROBE_TIMEOUT, PROBE_POLL_DELAY).check(new JUnitLambdaProbe(() -> dancer.refreshes == 1));
+  }
+
+  @Test
+  public void tokenWithoutExpirationIsNotRefreshedAhead() throws Exception {
+    dancer = startedDancer();
+    dancer.updateToken("owner", "token", null);
+
+    assertThat(dancer.accessToken("owner").get(), is("token"));
+    assertThat(dancer.refreshes, is(0));
+  }
+
+  @Test
+  public void keepsCurrentTokenWhenRefreshAheadFails() throws Exception {
+    dancer = startedDancer();
+    dancer.updateToken("owner", "token", "10");
+    new PollingProber(PROBE_TIMEOUT, PROBE_POLL_DELAY).check(new JUnitLambdaProbe(() -> dancer.refreshes == 1));
+    dancer.pending.completeExceptionally(new IllegalStateException());
+
+    assertThat(dancer.accessToken("owner").get(), is("token"));
+    assertThat(dancer.refreshes, is(1));
+  }
+
+  @Test
+  public void keepsCurrentTokenWhenRefreshAheadThrows() throws Exception {
+    dancer = startedDancer();
+    dancer.failSynchronously = true;
+    dancer.updateToken("owner", "token", "10");
+    new PollingProber(PROBE_TIMEOUT, PROBE_POLL_DELAY)
+        .check(new JUnitLambdaProbe(() -> dancer.getRefreshStatistics().getFailureCount() == 1));
+
+    assertThat(dancer.accessToken("owner").get(), is("token"));
+  }
+
+  @Test
+  public void refreshesExpiredToken() throws Exception {
+    dancer.updateToken("owner", "token", "0");
+
+    CompletableFuture<String> accessToken = dancer.accessToken("owner");
+    assertThat(dancer.refreshes, is(1));
+    assertThat(accessToken.isDone(), is(false));
+
+    dancer.updateToken("owner", "newToken", "3600");
+    dancer.pending.complete(null);
+    assertThat(accessToken.get(), is("newToken"));
+  }
+
+  @Test(expected = ExecutionException.class)
+  public void failedRefreshOfExpiredTokenIsReported() throws Exception {
+    dancer.updateToken("owner", "token", "0");
+
+    CompletableFuture<String> accessToken = dancer.accessToken("owner");
+    dancer.pending.completeExceptionally(new IllegalStateException());
+    accessToken.get();
+  }
+
+  private TestDancer startedDancer() throws Exception {
+    TestDancer startedDancer = new TestDancer(muleContext.getRegistry().lookupObject(LockFactory.class), schedulerService);
+    startedDancer.start();
+    return startedDancer;
+  }
+
+  private static class TestDancer extends AbstractOAuthDancer {
+
+    private volatile int refreshes;
+    private volatile boolean failSynchronously;
+    private volatile CompletableFuture<Void> pending;
+
+    private TestDancer(LockFactory lockFactory, SchedulerService schedulerService) {
+      super("clientId", "clientSecret", "http://host/token", UTF_8, null, null, null, null, null, lockFactory, new HashMap<>(),
+            mock(HttpClient.class), mock(ExpressionEvaluator.class), schedulerService);
+    }
+
+    private void updateToken(String resourceOwner, String accessToken, String expiresIn) {
+      ResourceOwnerOAuthContext context = getContextForResourceOwner(resourceOwner);
+      context.setAccessToken(accessToken);
+      context.setExpiresIn(expiresIn);
+      updateResourceOwnerOAuthContext(context);
+    }
+
+    @Override
+    protected CompletableFuture<Void> doRefreshToken(String resourceOwner) {
+      refreshes++;
+      if (failSynchronously) {
+        throw new IllegalStateException();
+      }
+      pending = new CompletableFuture<>();
+      return pending;
+    }
+  }
+}
@@ -15,11 +15,13 @@ import org.mule.services.soap.api.message.SoapResponse;
 import org.mule.services.soap.client.SoapCxfClient;
 import org.mule.services.soap.generator.attachment.AttachmentResponseEnricher;
 import org.mule.services.soap.api.exception.BadResponseException;
+import org.mule.services.soap.impl.xml.stax.XMLStreamReaderInputStream;
 import org.mule.services.soap.message.ImmutableSoapResponse;
 import org.mule.services.soap.util.XmlTransformationUtils;
 import org.mule.services.soap.util.XmlTransformationException;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.util.List;
 
 import javax.xml.stream.XMLStreamReader;
@@ -46,6 +48,9 @@ public final class SoapResponseGenerator {
    * If there are out attachments the nodes in the response associated to them will be removed so the end user don't need to
    * handle those nodes.
    * <p>
+   * If there are no out attachments the response body is not read upfront: it is returned as a stream which serializes the
+   * body from the CXF {@link XMLStreamReader} as it is consumed, so it's never held in memory as a whole.
+   * <p>
    * The our SOAP headers and the protocol specific headers will be retrieved in a {@link SoapAttributes} as attributes in the
    * returned {@link Result}.
    *
@@ -54,28 +59,40 @@ public final class SoapResponseGenerator {
    * @param exchange  the exchange used for CXF to store the headers and attachments.
    */
   public SoapResponse generate(String operation, Object[] response, Exchange exchange) {
-    Document document = unwrapResponse(response);
-    // Streaming
-    String result = responseEnricher.enrich(document, operation, exchange);
+    XMLStreamReader reader = unwrapResponse(response);
+    InputStream content;
+    if (responseEnricher.hasAttachments(operation)) {
+      String result = responseEnricher.enrich(toDocument(reader), operation, exchange);
+      content = new ByteArrayInputStream(result.getBytes());
+    } else {
+      content = new XMLStreamReaderInputStream(reader);
+    }
     List<SoapAttachment> attachments = (List<SoapAttachment>) exchange.get(SoapCxfClient.MULE_ATTACHMENTS_KEY);
     List<SoapHeader> soapHeaders = (List<SoapHeader>) exchange.get(SoapCxfClient.MULE_HEADERS_KEY);
-    ByteArrayInputStream resultStream = new ByteArrayInputStream(result.getBytes());
-    return new ImmutableSoapResponse(resultStream, soapHeaders, emptyMap(), attachments, APPLICATION_XML);
+    return new ImmutableSoapResponse(content, soapHeaders, emptyMap(), attachments, APPLICATION_XML);
   }
 
   /**
-   * Unwraps the CXF {@link XMLStreamReader} response into a dom {@link Document}.
+   * Unwraps the CXF {@link XMLStreamReader} response.
    *
    * @param response the CXF received response.
    */
-  private Document unwrapResponse(Object[] response) {
+  private XMLStreamReader unwrapResponse(Object[] response) {
     if (response.length == 0) {
       throw new BadResponseException("no elements were received in the SOAP response.");
     }
     if (response.length != 1) {
       throw new BadResponseException("the obtained response contains more than one element, only one was expected");
     }
-    XMLStreamReader reader = (XMLStreamReader) response[0];
+    return (XMLStreamReader) response[0];
+  }
+
+  /**
+   * Reads the CXF {@link XMLStreamReader} response into a dom {@link Document}.
+   *
+   * @param reader the CXF received response.
+   */
+  private Document toDocument(XMLStreamReader reader) {
     try {
       return XmlTransformationUtils.xmlStreamReaderToDocument(reader);
     } catch (XmlTransformationException e) {
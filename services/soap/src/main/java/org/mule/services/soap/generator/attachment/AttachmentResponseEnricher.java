@@ -17,6 +17,8 @@ import org.mule.services.soap.util.SoapServiceMetadataTypeUtils;
 import org.mule.services.soap.impl.xml.util.XMLUtils;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.wsdl.Part;
 
@@ -31,6 +33,7 @@ public abstract class AttachmentResponseEnricher {
 
   private final WsdlIntrospecter introspecter;
   private final TypeLoader loader;
+  private final Map<String, List<ObjectFieldType>> attachmentFields = new ConcurrentHashMap<>();
 
   protected AttachmentResponseEnricher(WsdlIntrospecter introspecter, TypeLoader loader) {
     this.introspecter = introspecter;
@@ -44,6 +47,30 @@ public abstract class AttachmentResponseEnricher {
    * the user can have a better experience.
    */
   public String enrich(Document response, String operation, Exchange exchange) {
+    List<ObjectFieldType> attachmentParams = getAttachmentFields(operation);
+    if (!attachmentParams.isEmpty()) {
+      processResponseAttachments(response, attachmentParams, exchange);
+    }
+    return XMLUtils.toXml(response);
+  }
+
+  /**
+   * @return whether the output of the given operation declares attachments, in which case the response has to be
+   *         {@link #enrich(Document, String, Exchange) enriched}.
+   */
+  public boolean hasAttachments(String operation) {
+    return !getAttachmentFields(operation).isEmpty();
+  }
+
+  /**
+   * The attachment fields only depend on the WSDL, so they are resolved once per operation instead of loading the output type
+   * on each response.
+   */
+  private List<ObjectFieldType> getAttachmentFields(String operation) {
+    return attachmentFields.computeIfAbsent(operation, this::resolveAttachmentFields);
+  }
+
+  private List<ObjectFieldType> resolveAttachmentFields(String operation) {
     Part outputPart = introspecter.getBodyPart(operation, new OutputTypeIntrospecterDelegate())
         .orElseThrow(() -> new InvalidWsdlException(
                                                     format("Cannot find output body part for operation [%s] in the configured WSDL",
@@ -55,11 +82,7 @@ public abstract class AttachmentResponseEnricher {
                                                     format("Cannot found output part [%s] for operation [%s] in the configured WSDL",
                                                            part, operation)));
 
-    List<ObjectFieldType> attachmentParams = SoapServiceMetadataTypeUtils.getAttachmentFields(outputBodyType);
-    if (!attachmentParams.isEmpty()) {
-      processResponseAttachments(response, attachmentParams, exchange);
-    }
-    return XMLUtils.toXml(response);
+    return SoapServiceMetadataTypeUtils.getAttachmentFields(outputBodyType);
   }
 
   /**
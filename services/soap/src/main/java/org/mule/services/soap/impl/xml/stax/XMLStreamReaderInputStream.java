@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.services.soap.impl.xml.stax;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.xml.XMLConstants.DEFAULT_NS_PREFIX;
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.COMMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.ENTITY_REFERENCE;
+import static javax.xml.stream.XMLStreamConstants.PROCESSING_INSTRUCTION;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * {@link InputStream} with the serialized content of the element an {@link XMLStreamReader} is positioned at.
+ * <p>
+ * The element is not read upfront: each time the already serialized bytes are consumed, the reader is advanced and the events
+ * it produces are written until at least {@code chunkSize} new bytes are available, so at most a chunk of the element is held
+ * in memory. The namespaces are taken from the reader as they are, so any decorator on it (e.g. the one restoring the
+ * namespaces of the envelope on the body) is honored.
+ * <p>
+ * The reader is closed once the element is fully read or when this stream is closed.
+ *
+ * @since 4.0
+ */
+public final class XMLStreamReaderInputStream extends InputStream {
+
+  private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory.newInstance();
+  private static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+  private static final int EVENTS_BETWEEN_FLUSHES = 32;
+
+  private final XMLStreamReader reader;
+  private final int chunkSize;
+  private final ChunkBuffer buffer;
+  private XMLStreamWriter writer;
+
+  private int position;
+  private int depth;
+  private boolean started;
+  private boolean finished;
+
+  public XMLStreamReaderInputStream(XMLStreamReader reader) {
+    this(reader, DEFAULT_CHUNK_SIZE);
+  }
+
+  public XMLStreamReaderInputStream(XMLStreamReader reader, int chunkSize) {
+    this.reader = reader;
+    this.chunkSize = chunkSize;
+    this.buffer = new ChunkBuffer(chunkSize * 2);
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!fill()) {
+      return -1;
+    }
+    return buffer.bytes()[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+    if (!fill()) {
+      return -1;
+    }
+    int count = Math.min(len, buffer.size() - position);
+    System.arraycopy(buffer.bytes(), position, b, off, count);
+    position += count;
+    return count;
+  }
+
+  @Override
+  public int available() {
+    return buffer.size() - position;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!finished) {
+      finished = true;
+      try {
+        reader.close();
+      } catch (XMLStreamException e) {
+        throw new IOException(e);
+      }
+    }
+  }
+
+  /**
+   * Makes sure there are serialized bytes pending to be consumed, advancing the reader if needed.
+   *
+   * @return {@code false} if the element has been fully consumed.
+   */
+  private boolean fill() throws IOException {
+    if (position < buffer.size()) {
+      return true;
+    }
+    buffer.reset();
+    position = 0;
+    if (finished) {
+      return false;
+    }
+
+    try {
+      if (!started) {
+        start();
+      }
+      int events = 0;
+      while (!finished && buffer.size() < chunkSize) {
+        writeEvent();
+        // The writer may hold some content of its own, flush it from time to time to know how much is actually serialized
+        if (++events % EVENTS_BETWEEN_FLUSHES == 0) {
+          writer.flush();
+        }
+      }
+      writer.flush();
+    } catch (XMLStreamException e) {
+      close();
+      throw new IOException("Error reading the XML content", e);
+    }
+    return buffer.size() > 0;
+  }
+
+  private void start() throws XMLStreamException {
+    started = true;
+    writer = OUTPUT_FACTORY.createXMLStreamWriter(buffer, UTF_8.name());
+    writer.writeStartDocument(UTF_8.name(), "1.0");
+    // The element to serialize is the one the reader is at, or the first one after its current position
+    if (reader.getEventType() != START_ELEMENT) {
+      reader.nextTag();
+    }
+  }
+
+  private void writeEvent() throws XMLStreamException {
+    switch (reader.getEventType()) {
+      case START_ELEMENT:
+        writeStartElement();
+        depth++;
+        break;
+      case END_ELEMENT:
+        writer.writeEndElement();
+        depth--;
+        break;
+      case CHARACTERS:
+      case SPACE:
+        writer.writeCharacters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+        break;
+      case CDATA:
+        writer.writeCData(reader.getText());
+        break;
+      case COMMENT:
+        writer.writeComment(reader.getText());
+        break;
+      case PROCESSING_INSTRUCTION:
+        writer.writeProcessingInstruction(reader.getPITarget(), reader.getPIData());
+        break;
+      case ENTITY_REFERENCE:
+        writer.writeEntityRef(reader.getLocalName());
+        break;
+      default:
+        // Nothing to write for the rest of the events
+    }
+
+    if (depth == 0) {
+      writer.writeEndDocument();
+      writer.flush();
+      close();
+    } else {
+      reader.next();
+    }
+  }
+
+  private void writeStartElement() throws XMLStreamException {
+    String prefix = reader.getPrefix();
+    String namespace = reader.getNamespaceURI();
+    writer.writeStartElement(prefix == null ? DEFAULT_NS_PREFIX : prefix, reader.getLocalName(),
+                             namespace == null ? "" : namespace);
+
+    for (int i = 0; i < reader.getNamespaceCount(); i++) {
+      String namespacePrefix = reader.getNamespacePrefix(i);
+      String namespaceUri = reader.getNamespaceURI(i);
+      if (namespacePrefix == null || namespacePrefix.isEmpty()) {
+        writer.writeDefaultNamespace(namespaceUri == null ? "" : namespaceUri);
+      } else {
+        writer.writeNamespace(namespacePrefix, namespaceUri);
+      }
+    }
+
+    for (int i = 0; i < reader.getAttributeCount(); i++) {
+      String attributePrefix = reader.getAttributePrefix(i);
+      String attributeNamespace = reader.getAttributeNamespace(i);
+      if (attributeNamespace == null || attributeNamespace.isEmpty()) {
+        writer.writeAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+      } else {
+        writer.writeAttribute(attributePrefix == null ? DEFAULT_NS_PREFIX : attributePrefix, attributeNamespace,
+                              reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+      }
+    }
+  }
+
+  /**
+   * {@link ByteArrayOutputStream} which gives access to its buffer, to avoid copying it on each chunk.
+   */
+  private static final class ChunkBuffer extends ByteArrayOutputStream {
+
+    private ChunkBuffer(int size) {
+      super(size);
+    }
+
+    private byte[] bytes() {
+      return buf;
+    }
+  }
+}
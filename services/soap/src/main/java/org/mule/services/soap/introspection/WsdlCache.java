@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.services.soap.introspection;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.services.soap.api.exception.InvalidWsdlException;
+import org.mule.services.soap.introspection.WsdlSchemasCollector.CollectedSchemas;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.BiFunction;
+
+import javax.wsdl.Definition;
+import javax.xml.bind.DatatypeConverter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Process wide cache of parsed WSDL {@link Definition}s and the schemas collected from them, so every {@link WsdlIntrospecter}
+ * created for the same WSDL (by each client and each metadata resolution) doesn't parse it again.
+ * <p>
+ * Entries are keyed by the location of the WSDL plus a version of its content: the last modification time and size for local
+ * files, or a digest of the content for any other URL. That way a modified WSDL is parsed again while an unchanged one is
+ * reused no matter how many configurations point to it. Only the root document is checked, changes to imported documents
+ * alone are not detected.
+ * <p>
+ * Remote WSDLs are checked for modifications at most once per the amount of milliseconds set by the
+ * {@value #REMOTE_WSDL_CHECK_INTERVAL_PROPERTY} system property, one minute by default. HTTP checks are conditional on the {@code ETag} and {@code Last-Modified} headers of the previous response, so an unchanged WSDL
+ * is not downloaded again. When a check downloads the WSDL and it has to be parsed, the downloaded content is parsed instead of
+ * fetching it once more.
+ * <p>
+ * The amount of cached WSDLs is bounded by the {@value #WSDL_CACHE_SIZE_PROPERTY} system property, and the entries are softly
+ * referenced so they can be reclaimed on memory pressure.
+ *
+ * @since 4.0
+ */
+final class WsdlCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(WsdlCache.class);
+
+  static final String WSDL_CACHE_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "soap.wsdlCacheSize";
+  private static final int DEFAULT_WSDL_CACHE_SIZE = 32;
+
+  static final String REMOTE_WSDL_CHECK_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "soap.remoteWsdlCheckInterval";
+  private static final long DEFAULT_REMOTE_WSDL_CHECK_INTERVAL = 60000;
+
+  private static final WsdlSchemasCollector schemaCollector = new WsdlSchemasCollector();
+
+  private static volatile WsdlCache instance;
+
+  private final Cache<WsdlKey, CachedWsdl> cache;
+  private final Cache<String, RemoteVersion> remoteVersions;
+  private final long remoteCheckInterval;
+
+  static WsdlCache getInstance() {
+    if (instance == null) {
+      synchronized (WsdlCache.class) {
+        if (instance == null) {
+          instance = new WsdlCache(getInteger(WSDL_CACHE_SIZE_PROPERTY, DEFAULT_WSDL_CACHE_SIZE),
+                                   getLong(REMOTE_WSDL_CHECK_INTERVAL_PROPERTY, DEFAULT_REMOTE_WSDL_CHECK_INTERVAL));
+        }
+      }
+    }
+    return instance;
+  }
+
+  WsdlCache(int maxSize, long remoteCheckInterval) {
+    cache = CacheBuilder.newBuilder().maximumSize(maxSize).softValues().build();
+    remoteVersions = CacheBuilder.newBuilder().maximumSize(maxSize).build();
+    this.remoteCheckInterval = remoteCheckInterval;
+  }
+
+  /**
+   * Returns the cached WSDL for the given location, parsing it with the given {@code parser} if it's not cached or its content
+   * changed. Concurrent requests for the same WSDL wait for a single parse.
+   * <p>
+   * The {@code parser} receives the location of the WSDL, which is also the base to resolve its imports, and its content if it
+   * was already downloaded, or {@code null} if it has to be read from the location.
+   */
+  CachedWsdl get(String wsdlLocation, BiFunction<String, InputStream, Definition> parser) {
+    ContentVersion version = contentVersion(wsdlLocation);
+    WsdlKey key = new WsdlKey(wsdlLocation, version.version);
+    try {
+      return cache.get(key, () -> new CachedWsdl(parser.apply(wsdlLocation, version.content != null
+          ? new ByteArrayInputStream(version.content) : null)));
+    } catch (UncheckedExecutionException | ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new InvalidWsdlException(format("Something went wrong when parsing the wsdl file [%s]", wsdlLocation), e.getCause());
+    }
+  }
+
+  void invalidateAll() {
+    cache.invalidateAll();
+    remoteVersions.invalidateAll();
+  }
+
+  private ContentVersion contentVersion(String wsdlLocation) {
+    try {
+      File file = new File(wsdlLocation);
+      if (!file.isFile()) {
+        URL url = new URL(wsdlLocation);
+        if (!"file".equals(url.getProtocol())) {
+          return remoteContentVersion(wsdlLocation, url);
+        }
+        file = new File(url.toURI());
+      }
+      return new ContentVersion(file.lastModified() + ":" + file.length(), null);
+    } catch (Exception e) {
+      // The parser will fail with a proper message if the location is actually unreachable
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug(format("Could not determine the version of wsdl [%s], caching it by location only", wsdlLocation), e);
+      }
+      return new ContentVersion("", null);
+    }
+  }
+
+  private ContentVersion remoteContentVersion(String wsdlLocation, URL url) throws IOException, NoSuchAlgorithmException {
+    final long now = currentTimeMillis();
+    final RemoteVersion known = remoteVersions.getIfPresent(wsdlLocation);
+    if (known != null && now - known.checkedAt < remoteCheckInterval) {
+      return new ContentVersion(known.version, null);
+    }
+
+    URLConnection connection = url.openConnection();
+    if (known != null && connection instanceof HttpURLConnection) {
+      if (known.etag != null) {
+        connection.setRequestProperty("If-None-Match", known.etag);
+      }
+      if (known.lastModified != null) {
+        connection.setRequestProperty("If-Modified-Since", known.lastModified);
+      }
+      if (((HttpURLConnection) connection).getResponseCode() == HTTP_NOT_MODIFIED) {
+        ((HttpURLConnection) connection).disconnect();
+        remoteVersions.put(wsdlLocation, new RemoteVersion(known.version, known.etag, known.lastModified, now));
+        return new ContentVersion(known.version, null);
+      }
+    }
+
+    byte[] content;
+    try (InputStream contentStream = connection.getInputStream()) {
+      content = IOUtils.toByteArray(contentStream);
+    }
+    String version = DatatypeConverter.printHexBinary(MessageDigest.getInstance("SHA-256").digest(content));
+    remoteVersions.put(wsdlLocation, new RemoteVersion(version, connection.getHeaderField("ETag"),
+                                                       connection.getHeaderField("Last-Modified"), now));
+    return new ContentVersion(version, content);
+  }
+
+  /**
+   * A parsed WSDL {@link Definition} along with the schemas collected from it, which are collected the first time they are
+   * requested.
+   */
+  static final class CachedWsdl {
+
+    private final Definition definition;
+    private volatile CollectedSchemas schemas;
+
+    private CachedWsdl(Definition definition) {
+      this.definition = definition;
+    }
+
+    Definition getDefinition() {
+      return definition;
+    }
+
+    CollectedSchemas getSchemas() {
+      if (schemas == null) {
+        synchronized (this) {
+          if (schemas == null) {
+            schemas = schemaCollector.collect(definition);
+          }
+        }
+      }
+      return schemas;
+    }
+  }
+
+  /**
+   * The version of the content of a WSDL, along with that content if it had to be downloaded to compute the version.
+   */
+  private static final class ContentVersion {
+
+    private final String version;
+    private final byte[] content;
+
+    private ContentVersion(String version, byte[] content) {
+      this.version = version;
+      this.content = content;
+    }
+  }
+
+  /**
+   * The last known version of a remote WSDL, along with the validators to check whether it changed.
+   */
+  private static final class RemoteVersion {
+
+    private final String version;
+    private final String etag;
+    private final String lastModified;
+    private final long checkedAt;
+
+    private RemoteVersion(String version, String etag, String lastModified, long checkedAt) {
+      this.version = version;
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.checkedAt = checkedAt;
+    }
+  }
+
+  private static final class WsdlKey {
+
+    private final String location;
+    private final String version;
+
+    private WsdlKey(String location, String version) {
+      this.location = location;
+      this.version = version;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof WsdlKey)) {
+        return false;
+      }
+      WsdlKey other = (WsdlKey) obj;
+      return location.equals(other.location) && version.equals(other.version);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * location.hashCode() + version.hashCode();
+    }
+  }
+}
@@ -20,6 +20,7 @@ import com.ibm.wsdl.extensions.schema.SchemaSerializer;
 import com.ibm.wsdl.extensions.soap.SOAPOperationImpl;
 import com.ibm.wsdl.extensions.soap12.SOAP12OperationImpl;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,6 +51,8 @@ import javax.wsdl.factory.WSDLFactory;
 import javax.wsdl.xml.WSDLReader;
 import javax.xml.namespace.QName;
 
+import org.xml.sax.InputSource;
+
 /**
  * Parses a WSDL file and for a given service name and port name introspecting all the operations and components for the given
  * set.
@@ -62,14 +65,19 @@ public class WsdlIntrospecter {
   private static final String DOCUMENT_STYLE = "document";
   private static final String RPC_STYLE = "rpc";
 
-  private static final WsdlSchemasCollector schemaCollector = new WsdlSchemasCollector();
-
+  private final WsdlCache.CachedWsdl wsdl;
   private final Definition definition;
   private final Service service;
   private final Port port;
 
+  /**
+   * Creates a new introspecter for the given service and port of a WSDL. The parsed WSDL is shared with the rest of the
+   * introspecters created for the same (unchanged) document, see {@link WsdlCache}.
+   */
   public WsdlIntrospecter(String wsdlLocation, String serviceName, String portName) {
-    this.definition = parseWsdl(wsdlLocation);
+    validateBlankString(wsdlLocation, "wsdl Location");
+    this.wsdl = WsdlCache.getInstance().get(wsdlLocation, this::parseWsdl);
+    this.definition = wsdl.getDefinition();
     this.service = findService(serviceName);
     this.port = findPort(portName);
   }
@@ -154,7 +162,7 @@ public class WsdlIntrospecter {
   }
 
   public SchemaCollector getSchemas() {
-    return schemaCollector.collect(definition);
+    return wsdl.getSchemas().toSchemaCollector();
   }
 
   public Service getService() {
@@ -229,9 +237,8 @@ public class WsdlIntrospecter {
    *
    * @param wsdlLocation path to the desired WSDL file
    */
-  private Definition parseWsdl(final String wsdlLocation) {
+  private Definition parseWsdl(final String wsdlLocation, final InputStream wsdlContent) {
     try {
-      validateBlankString(wsdlLocation, "wsdl Location");
       WSDLFactory factory = WSDLFactory.newInstance();
       ExtensionRegistry registry = initExtensionRegistry(factory);
       WSDLReader wsdlReader = factory.newWSDLReader();
@@ -240,7 +247,8 @@ public class WsdlIntrospecter {
       wsdlReader.setExtensionRegistry(registry);
 
       // TODO: MULE-10783 don't delegate this call, get the wsdl using the transport configuration specified in the connection.
-      Definition definition = wsdlReader.readWSDL(wsdlLocation);
+      Definition definition = wsdlContent != null ? wsdlReader.readWSDL(wsdlLocation, new InputSource(wsdlContent))
+          : wsdlReader.readWSDL(wsdlLocation);
       validateNotNull(definition, format("Cannot obtain WSDL definition for file [%s]", wsdlLocation));
 
       return definition;
@@ -14,7 +14,9 @@ import org.mule.services.soap.util.XmlTransformationUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 
 import javax.wsdl.Definition;
@@ -32,31 +34,31 @@ import javax.wsdl.extensions.schema.SchemaImport;
 @SuppressWarnings("unchecked")
 final class WsdlSchemasCollector {
 
-  SchemaCollector collect(Definition wsdlDefinition) {
-    SchemaCollector collector = SchemaCollector.getInstance();
+  CollectedSchemas collect(Definition wsdlDefinition) {
+    CollectedSchemas collected = new CollectedSchemas();
 
-    collectTypes(wsdlDefinition.getTypes(), collector);
+    collectTypes(wsdlDefinition.getTypes(), collected);
 
     wsdlDefinition.getImports().values().forEach(wsdlImport -> {
       Definition definition = ((Import) wsdlImport).getDefinition();
-      collectTypes(definition.getTypes(), collector);
+      collectTypes(definition.getTypes(), collected);
     });
 
-    return collector;
+    return collected;
   }
 
-  private void collectTypes(Types types, SchemaCollector collector) {
+  private void collectTypes(Types types, CollectedSchemas collected) {
     if (types != null) {
       types.getExtensibilityElements().forEach(element -> {
         if (element instanceof Schema) {
           Schema schema = (Schema) element;
           String schemaUri = schema.getDocumentBaseURI();
           try {
-            collector.addSchema(schemaUri, XmlTransformationUtils.nodeToString(schema.getElement()));
+            collected.schemas.put(schemaUri, XmlTransformationUtils.nodeToString(schema.getElement()));
           } catch (XmlTransformationException e) {
             throw new InvalidWsdlException(format("Cannot collect schema [%s], error while processing content", schemaUri), e);
           }
-          getSchemaImportsUrls(schema).forEach(collector::addSchema);
+          collected.schemaUrls.addAll(getSchemaImportsUrls(schema));
         }
       });
     }
@@ -71,4 +73,24 @@ final class WsdlSchemasCollector {
     });
     return schemas;
   }
+
+  /**
+   * The schemas found in a WSDL definition, with the content of the embedded ones already serialized so they can be handed to
+   * any number of {@link SchemaCollector}s without touching the definition again.
+   */
+  static final class CollectedSchemas {
+
+    private final Map<String, String> schemas = new LinkedHashMap<>();
+    private final List<String> schemaUrls = new ArrayList<>();
+
+    /**
+     * @return a new {@link SchemaCollector} with all the collected schemas.
+     */
+    SchemaCollector toSchemaCollector() {
+      SchemaCollector collector = SchemaCollector.getInstance();
+      schemas.forEach(collector::addSchema);
+      schemaUrls.forEach(collector::addSchema);
+      return collector;
+    }
+  }
 }
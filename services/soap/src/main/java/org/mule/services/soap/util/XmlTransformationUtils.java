@@ -37,12 +37,14 @@ import org.xml.sax.InputSource;
  */
 public class XmlTransformationUtils {
 
+  // The factory is thread safe and expensive to create, only the transformers it creates have to be created on each call
+  private static final TransformerFactory TRANSFORMER_FACTORY = new SaxonTransformerFactory();
+
   public static Document xmlStreamReaderToDocument(XMLStreamReader xmlStreamReader) throws XmlTransformationException {
     StaxSource staxSource = new StaxSource(xmlStreamReader);
     DOMResult writer = new DOMResult();
-    TransformerFactory idTransformer = new SaxonTransformerFactory();
     try {
-      Transformer transformer = idTransformer.newTransformer();
+      Transformer transformer = TRANSFORMER_FACTORY.newTransformer();
       transformer.transform(staxSource, writer);
     } catch (TransformerException e) {
       throw new XmlTransformationException("Error transforming XML Stream Reader to String", e);
@@ -77,8 +79,7 @@ public class XmlTransformationUtils {
       StringWriter writer = new StringWriter();
       DOMSource source = new DOMSource(node);
       StreamResult result = new StreamResult(writer);
-      TransformerFactory idTransformer = new SaxonTransformerFactory();
-      Transformer transformer = idTransformer.newTransformer();
+      Transformer transformer = TRANSFORMER_FACTORY.newTransformer();
       transformer.transform(source, result);
       return writer.toString();
     } catch (Exception e) {
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.services.soap.impl.xml.stax;
+
+import static org.custommonkey.xmlunit.XMLUnit.compareXML;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import org.mule.runtime.core.util.IOUtils;
+import org.mule.services.soap.interceptor.NamespaceRestorerXMLStreamReader;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.Test;
+import ru.yandex.qatools.allure.annotations.Description;
+import ru.yandex.qatools.allure.annotations.Features;
+import ru.yandex.qatools.allure.annotations.Stories;
+
+@Features("Web Service Consumer")
+@Stories("Response Generation")
+public class XMLStreamReaderInputStreamTestCase extends AbstractMuleTestCase {
+
+  private static final String ENVELOPE = "<soap:Envelope xmlns:soap=\"http://schemas.xmlsoap.org/soap/envelope/\" "
+      + "xmlns:con=\"http://service.soap.services.mule.org/\">"
+      + "<soap:Body>"
+      + "<con:echoResponse><text attr=\"value\">hello &amp; bye</text><!-- comment --><other/></con:echoResponse>"
+      + "</soap:Body>"
+      + "</soap:Envelope>";
+
+  private static final String BODY = "<con:echoResponse xmlns:con=\"http://service.soap.services.mule.org/\">"
+      + "<text attr=\"value\">hello &amp; bye</text><!-- comment --><other/>"
+      + "</con:echoResponse>";
+
+  @Test
+  @Description("Streams the element the reader is positioned at")
+  public void streamsElement() throws Exception {
+    XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(BODY));
+
+    String result = IOUtils.toString(new XMLStreamReaderInputStream(reader, 4));
+
+    assertThat(compareXML(BODY, result).similar(), is(true));
+  }
+
+  @Test
+  @Description("Streams the body of an envelope keeping the namespaces declared in its parents")
+  public void streamsBodyRestoringNamespaces() throws Exception {
+    NamespaceRestorerXMLStreamReader reader = new NamespaceRestorerXMLStreamReader(XMLInputFactory.newInstance()
+        .createXMLStreamReader(new StringReader(ENVELOPE)));
+    // Envelope, Body and then the body content
+    reader.next();
+    reader.next();
+    reader.next();
+    reader.restoreNamespaces();
+
+    String result = IOUtils.toString(new XMLStreamReaderInputStream(reader));
+
+    assertThat(result, containsString("xmlns:con=\"http://service.soap.services.mule.org/\""));
+    assertThat(compareXML(BODY, result).similar(), is(true));
+  }
+}
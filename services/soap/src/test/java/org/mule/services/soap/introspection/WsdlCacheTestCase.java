@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.services.soap.introspection;
+
+import static java.lang.Long.MAX_VALUE;
+import static java.lang.Thread.currentThread;
+import static java.net.HttpURLConnection.HTTP_NOT_MODIFIED;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.InetAddress.getLoopbackAddress;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.wsdl.Definition;
+import javax.wsdl.WSDLException;
+import javax.wsdl.factory.WSDLFactory;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.xml.sax.InputSource;
+
+public class WsdlCacheTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private HttpServer server;
+  private volatile String etag = "\"v1\"";
+  private final AtomicInteger downloads = new AtomicInteger();
+  private final AtomicInteger notModifiedResponses = new AtomicInteger();
+  private final AtomicInteger parsesFromLocation = new AtomicInteger();
+
+  @After
+  public void after() {
+    if (server != null) {
+      server.stop(0);
+    }
+  }
+
+  @Test
+  public void sharesDefinitionAcrossIntrospecters() throws Exception {
+    URL wsdl = currentThread().getContextClassLoader().getResource("wsdl/simple-service.wsdl");
+    WsdlIntrospecter introspecter = new WsdlIntrospecter(wsdl.getPath(), "TestService", "TestPort");
+    WsdlIntrospecter other = new WsdlIntrospecter(wsdl.getPath(), "TestService", "TestPort");
+
+    assertThat(other.getService(), is(sameInstance(introspecter.getService())));
+  }
+
+  @Test
+  public void parsesAgainModifiedWsdl() throws Exception {
+    File wsdl = temporaryFolder.newFile("simple-service.wsdl");
+    URL original = currentThread().getContextClassLoader().getResource("wsdl/simple-service.wsdl");
+    Files.copy(new File(original.toURI()).toPath(), wsdl.toPath(), REPLACE_EXISTING);
+
+    WsdlCache cache = new WsdlCache(10, 0);
+    Definition definition = cache.get(wsdl.getPath(), this::parse).getDefinition();
+    assertThat(cache.get(wsdl.getPath(), this::parse).getDefinition(), is(sameInstance(definition)));
+
+    wsdl.setLastModified(wsdl.lastModified() - 10000);
+    assertThat(cache.get(wsdl.getPath(), this::parse).getDefinition(), is(not(sameInstance(definition))));
+  }
+
+  @Test
+  public void remoteWsdlIsNotDownloadedAgainWhenNotModified() throws Exception {
+    String location = startServer();
+
+    WsdlCache cache = new WsdlCache(10, 0);
+    Definition definition = cache.get(location, this::parse).getDefinition();
+    assertThat(cache.get(location, this::parse).getDefinition(), is(sameInstance(definition)));
+
+    assertThat(downloads.get(), is(1));
+    assertThat(notModifiedResponses.get(), is(1));
+    assertThat(parsesFromLocation.get(), is(0));
+  }
+
+  @Test
+  public void remoteWsdlIsNotCheckedWithinInterval() throws Exception {
+    String location = startServer();
+
+    WsdlCache cache = new WsdlCache(10, MAX_VALUE);
+    Definition definition = cache.get(location, this::parse).getDefinition();
+    assertThat(cache.get(location, this::parse).getDefinition(), is(sameInstance(definition)));
+
+    assertThat(downloads.get(), is(1));
+    assertThat(notModifiedResponses.get(), is(0));
+  }
+
+  @Test
+  public void parsesAgainModifiedRemoteWsdlFromDownloadedContent() throws Exception {
+    String location = startServer();
+
+    WsdlCache cache = new WsdlCache(10, 0);
+    Definition definition = cache.get(location, this::parse).getDefinition();
+    etag = "\"v2\"";
+    assertThat(cache.get(location, this::parse).getDefinition(), is(not(sameInstance(definition))));
+
+    assertThat(downloads.get(), is(2));
+    assertThat(parsesFromLocation.get(), is(0));
+  }
+
+  private String startServer() throws Exception {
+    URL original = currentThread().getContextClassLoader().getResource("wsdl/simple-service.wsdl");
+    byte[] wsdl = Files.readAllBytes(new File(original.toURI()).toPath());
+
+    server = HttpServer.create(new InetSocketAddress(getLoopbackAddress(), 0), 0);
+    server.createContext("/simple-service.wsdl", exchange -> {
+      String currentEtag = etag;
+      exchange.getResponseHeaders().add("ETag", currentEtag);
+      if (currentEtag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+        notModifiedResponses.incrementAndGet();
+        exchange.sendResponseHeaders(HTTP_NOT_MODIFIED, -1);
+      } else {
+        downloads.incrementAndGet();
+        exchange.sendResponseHeaders(HTTP_OK, wsdl.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+          body.write(wsdl);
+        }
+      }
+      exchange.close();
+    });
+    server.start();
+    return "http://" + getLoopbackAddress().getHostAddress() + ":" + server.getAddress().getPort() + "/simple-service.wsdl";
+  }
+
+  private Definition parse(String location, InputStream content) {
+    try {
+      if (content == null) {
+        parsesFromLocation.incrementAndGet();
+        return WSDLFactory.newInstance().newWSDLReader().readWSDL(location);
+      }
+      return WSDLFactory.newInstance().newWSDLReader().readWSDL(location, new InputSource(content));
+    } catch (WSDLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.DefaultEventContext;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.message.InternalMessage;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.serialization.SerializationProtocol;
+import org.mule.runtime.core.internal.serialization.BinarySerializationProtocol;
+import org.mule.runtime.core.internal.serialization.JavaExternalSerializerProtocol;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+public class SerializationBenchmark extends AbstractBenchmark {
+
+  private MuleContext muleContext;
+  private SerializationProtocol javaProtocol;
+  private SerializationProtocol binaryProtocol;
+
+  private Event event;
+  private Event eventWith10VariablesProperties;
+  private byte[] javaEvent;
+  private byte[] javaEventWith10VariablesProperties;
+  private byte[] binaryEvent;
+  private byte[] binaryEventWith10VariablesProperties;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    Flow flow = createFlow(muleContext);
+    muleContext.getRegistry().registerFlowConstruct(flow);
+
+    JavaExternalSerializerProtocol java = new JavaExternalSerializerProtocol();
+    java.setMuleContext(muleContext);
+    javaProtocol = java;
+    BinarySerializationProtocol binary = new BinarySerializationProtocol();
+    binary.setMuleContext(muleContext);
+    binaryProtocol = binary;
+
+    event = Event.builder(DefaultEventContext.create(flow, CONNECTOR_NAME)).message(InternalMessage.of(PAYLOAD)).build();
+    eventWith10VariablesProperties = createEventWithVariablesAndProperties(flow, 10);
+
+    javaEvent = javaProtocol.serialize(event);
+    javaEventWith10VariablesProperties = javaProtocol.serialize(eventWith10VariablesProperties);
+    binaryEvent = binaryProtocol.serialize(event);
+    binaryEventWith10VariablesProperties = binaryProtocol.serialize(eventWith10VariablesProperties);
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    stopIfNeeded(muleContext.getRegistry().lookupObject(SchedulerService.class));
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public byte[] serializeEventJava() {
+    return javaProtocol.serialize(event);
+  }
+
+  @Benchmark
+  public byte[] serializeEventBinary() {
+    return binaryProtocol.serialize(event);
+  }
+
+  @Benchmark
+  public byte[] serializeEventWith10VariablesPropertiesJava() {
+    return javaProtocol.serialize(eventWith10VariablesProperties);
+  }
+
+  @Benchmark
+  public byte[] serializeEventWith10VariablesPropertiesBinary() {
+    return binaryProtocol.serialize(eventWith10VariablesProperties);
+  }
+
+  @Benchmark
+  public Event deserializeEventJava() {
+    return javaProtocol.deserialize(javaEvent);
+  }
+
+  @Benchmark
+  public Event deserializeEventBinary() {
+    return binaryProtocol.deserialize(binaryEvent);
+  }
+
+  @Benchmark
+  public Event deserializeEventWith10VariablesPropertiesJava() {
+    return javaProtocol.deserialize(javaEventWith10VariablesProperties);
+  }
+
+  @Benchmark
+  public Event deserializeEventWith10VariablesPropertiesBinary() {
+    return binaryProtocol.deserialize(binaryEventWith10VariablesProperties);
+  }
+
+  private Event createEventWithVariablesAndProperties(Flow flow, int numProperties) {
+    InternalMessage.Builder messageBuilder = InternalMessage.builder().payload(PAYLOAD);
+    for (int i = 1; i <= numProperties; i++) {
+      messageBuilder.addInboundProperty("InBoUnDpRoPeRtYkEy" + i, "val");
+      messageBuilder.addOutboundProperty("OuTBoUnDpRoPeRtYkEy" + i, "val");
+    }
+    Event.Builder eventBuilder =
+        Event.builder(DefaultEventContext.create(flow, CONNECTOR_NAME)).message(messageBuilder.build());
+    for (int i = 1; i <= numProperties; i++) {
+      eventBuilder.addVariable("FlOwVaRiAbLeKeY" + i, "val");
+    }
+    return eventBuilder.build();
+  }
+}
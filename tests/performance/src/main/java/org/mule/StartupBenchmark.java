@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.mule.runtime.config.spring.XmlConfigurationDocumentLoader.DISABLE_SCHEMA_CACHE_PROPERTY;
+import static org.mule.runtime.core.config.bootstrap.ArtifactType.APP;
+import org.mule.runtime.config.builders.BasicRuntimeServicesConfigurationBuilder;
+import org.mule.runtime.config.spring.SpringXmlConfigurationBuilder;
+import org.mule.runtime.config.spring.XmlConfigurationDocumentLoader;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.context.DefaultMuleContextFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.w3c.dom.Document;
+
+@OutputTimeUnit(MILLISECONDS)
+public class StartupBenchmark extends AbstractBenchmark {
+
+  private static final String[] CONFIG_FILES =
+      {"startup-benchmark-config-1.xml", "startup-benchmark-config-2.xml", "startup-benchmark-config-3.xml"};
+
+  @Param({"false", "true"})
+  public boolean disableSchemaCache;
+
+  @Setup
+  public void setup() {
+    System.setProperty(DISABLE_SCHEMA_CACHE_PROPERTY, Boolean.toString(disableSchemaCache));
+  }
+
+  @TearDown
+  public void teardown() {
+    System.clearProperty(DISABLE_SCHEMA_CACHE_PROPERTY);
+  }
+
+  @Benchmark
+  public Document loadConfig() throws IOException {
+    try (InputStream config = StartupBenchmark.class.getClassLoader().getResourceAsStream(CONFIG_FILES[0])) {
+      return new XmlConfigurationDocumentLoader().loadDocument(CONFIG_FILES[0], config);
+    }
+  }
+
+  @Benchmark
+  public MuleContext startApplication() throws Exception {
+    MuleContext muleContext = new DefaultMuleContextFactory()
+        .createMuleContext(new BasicRuntimeServicesConfigurationBuilder(),
+                           new SpringXmlConfigurationBuilder(CONFIG_FILES, emptyMap(), APP));
+    muleContext.start();
+    muleContext.dispose();
+    return muleContext;
+  }
+}
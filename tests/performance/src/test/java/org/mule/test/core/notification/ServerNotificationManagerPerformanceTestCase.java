@@ -18,6 +18,7 @@ import org.mule.runtime.core.api.context.notification.ServerNotificationListener
 import org.mule.runtime.core.api.context.notification.SynchronousServerEvent;
 import org.mule.runtime.core.api.registry.MuleRegistry;
 import org.mule.runtime.core.config.builders.AbstractConfigurationBuilder;
+import org.mule.runtime.core.context.notification.NotificationOverflowPolicy;
 import org.mule.runtime.core.context.notification.ServerNotificationManager;
 import org.mule.service.scheduler.internal.DefaultSchedulerService;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
@@ -75,6 +76,15 @@ public class ServerNotificationManagerPerformanceTestCase extends AbstractMuleCo
     notificationManager.addListener(asyncLightListener);
   }
 
+  /**
+   * Allows subclasses to configure the dispatching of the {@link ServerNotificationManager} before it is initialised.
+   *
+   * @param notificationManager the manager to configure
+   */
+  protected void configureNotificationManager(ServerNotificationManager notificationManager) {
+    // Nothing to do
+  }
+
   @Override
   protected void addBuilders(List<ConfigurationBuilder> builders) {
     builders.add(new AbstractConfigurationBuilder() {
@@ -83,6 +93,7 @@ public class ServerNotificationManagerPerformanceTestCase extends AbstractMuleCo
       protected void doConfigure(MuleContext muleContext) throws Exception {
         MuleRegistry registry = muleContext.getRegistry();
         registry.registerObject(schedulerService.getName(), schedulerService);
+        configureNotificationManager(muleContext.getNotificationManager());
       }
     });
   }
@@ -157,6 +168,48 @@ public class ServerNotificationManagerPerformanceTestCase extends AbstractMuleCo
     new PollingProber(5000, 10).check(new JUnitLambdaProbe(() -> asyncLightListener.getNotifications() >= K_NOTIFICATIONS));
   }
 
+  /**
+   * Runs the same scenarios with notifications queued in a ring buffer per listener and delivered in batches.
+   */
+  @Ignore("MULE-11450: Migrate Contiperf tests to JMH")
+  public static class BatchedDispatchTestCase extends ServerNotificationManagerPerformanceTestCase {
+
+    @Override
+    protected void configureNotificationManager(ServerNotificationManager notificationManager) {
+      notificationManager.setBatchedDispatch(true);
+      notificationManager.setDispatchBufferSize(4 * K_NOTIFICATIONS);
+      notificationManager.setDispatchBatchSize(64);
+      notificationManager.setOverflowPolicy(NotificationOverflowPolicy.BLOCK);
+    }
+  }
+
+  /**
+   * Runs the same scenarios with batched delivery, discarding the oldest notifications of the listeners that fall behind.
+   */
+  @Ignore("MULE-11450: Migrate Contiperf tests to JMH")
+  public static class BatchedDropOldestDispatchTestCase extends ServerNotificationManagerPerformanceTestCase {
+
+    @Override
+    protected void configureNotificationManager(ServerNotificationManager notificationManager) {
+      notificationManager.setBatchedDispatch(true);
+      notificationManager.setDispatchBufferSize(K_NOTIFICATIONS / 4);
+      notificationManager.setDispatchBatchSize(64);
+      notificationManager.setOverflowPolicy(NotificationOverflowPolicy.DROP_OLDEST);
+    }
+
+    @Override
+    public void dispatchAndNotifyIOAsyncEvents() {
+      // notifications are expected to be dropped with this configuration
+      justDispatchAsyncIOEvents();
+    }
+
+    @Override
+    public void dispatchAndNotifyAsyncLightEvents() {
+      // notifications are expected to be dropped with this configuration
+      justDispatchAsyncLightEvents();
+    }
+  }
+
   public static class PerfTestLightServerNotificationListener
       implements ServerNotificationListener<PerfTestLightServerNotification> {
 
@@ -13,7 +13,9 @@ import org.mule.tck.junit4.rule.SystemProperty;
 import org.mule.test.performance.util.AbstractIsolatedFunctionalPerformanceTestCase;
 
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang.RandomStringUtils;
@@ -26,6 +28,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestName;
 
 @Ignore("MULE-11450: Migrate Contiperf tests to JMH")
 public class FilePerformanceTestCase extends AbstractIsolatedFunctionalPerformanceTestCase {
@@ -33,16 +36,31 @@ public class FilePerformanceTestCase extends AbstractIsolatedFunctionalPerforman
   private static final String HELLO_WORLD = "Hello World!";
   private static final String HELLO_FILE_NAME = "hello.json";
   private static final int REPETITIONS = 10;
+  private static final long LARGE_FILE_SIZE = 2L * 1024 * 1024 * 1024;
 
   @ClassRule
   public static TemporaryFolder temporaryFolder = new TemporaryFolder();
 
+  /**
+   * Holds the large file, which is expensive to create, so it is kept for all the tests of the class
+   */
+  @ClassRule
+  public static TemporaryFolder largeFileFolder = new TemporaryFolder();
+
+  private static File largeFile;
+
   @Rule
   public ExpectedException expectedException = none();
 
   @Rule
   public SystemProperty workingDir = new SystemProperty("workingDir", temporaryFolder.getRoot().getAbsolutePath());
 
+  @Rule
+  public SystemProperty largeFileDir = new SystemProperty("largeFileDir", largeFileFolder.getRoot().getAbsolutePath());
+
+  @Rule
+  public TestName testName = new TestName();
+
   @Override
   protected void doSetUpBeforeMuleContextCreation() throws Exception {
     if (!temporaryFolder.getRoot().exists()) {
@@ -65,6 +83,9 @@ public class FilePerformanceTestCase extends AbstractIsolatedFunctionalPerforman
     createHelloWorldFile();
     createRandomFileOfSize("1K", 1024);
     createRandomFileOfSize("1M", 1024 * 1024);
+    if (testName.getMethodName().endsWith("2G")) {
+      getLargeFile();
+    }
   }
 
   @Test
@@ -94,6 +115,18 @@ public class FilePerformanceTestCase extends AbstractIsolatedFunctionalPerforman
     }
   }
 
+  @Test
+  @PerfTest(duration = 60000, threads = 1, warmUp = 10000)
+  public void readWrite2G() throws Exception {
+    flowRunner("read-write-2G").run();
+  }
+
+  @Test
+  @PerfTest(duration = 60000, threads = 1, warmUp = 10000)
+  public void copy2G() throws Exception {
+    flowRunner("copy-2G").run();
+  }
+
   @Test
   @Required(throughput = 1000, average = 1, percentile90 = 2)
   @PerfTest(duration = 15000, threads = 1, warmUp = 5000)
@@ -174,5 +207,24 @@ public class FilePerformanceTestCase extends AbstractIsolatedFunctionalPerforman
     return file;
   }
 
+  private static synchronized File getLargeFile() throws IOException {
+    if (largeFile == null) {
+      largeFile = createLargeFile(LARGE_FILE_SIZE);
+    }
+    return largeFile;
+  }
+
+  private static File createLargeFile(long size) throws IOException {
+    File file = new File(largeFileFolder.getRoot(), "file");
+    byte[] block = RandomStringUtils.random(1024 * 1024).getBytes();
+    try (OutputStream out = new FileOutputStream(file)) {
+      for (long written = 0; written < size; written += block.length) {
+        out.write(block, 0, (int) Math.min(block.length, size - written));
+      }
+    }
+
+    return file;
+  }
+
 }
 
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+
+package org.mule.test.module.extension.ftp;
+
+import org.mule.functional.util.sftp.SftpServer;
+import org.mule.tck.junit4.rule.DynamicPort;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.test.performance.util.AbstractIsolatedFunctionalPerformanceTestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Random;
+
+import org.databene.contiperf.PerfTest;
+import org.junit.ClassRule;
+import org.junit.Ignore;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@Ignore("MULE-11450: Migrate Contiperf tests to JMH")
+public class SftpPerformanceTestCase extends AbstractIsolatedFunctionalPerformanceTestCase {
+
+  private static final int LARGE_FILE_SIZE = 64 * 1024 * 1024;
+
+  @ClassRule
+  public static TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public DynamicPort sftpPort = new DynamicPort("sftpPort");
+
+  @Rule
+  public SystemProperty workingDir = new SystemProperty("workingDir", temporaryFolder.getRoot().getAbsolutePath());
+
+  private SftpServer sftpServer;
+
+  @Override
+  protected String getConfigFile() {
+    return "sftp-perf-test.xml";
+  }
+
+  @Override
+  protected void doSetUpBeforeMuleContextCreation() throws Exception {
+    super.doSetUpBeforeMuleContextCreation();
+    if (!temporaryFolder.getRoot().exists()) {
+      temporaryFolder.getRoot().mkdir();
+    }
+    createLargeFile(new File(temporaryFolder.getRoot(), "large.bin"));
+
+    sftpServer = new SftpServer(sftpPort.getNumber());
+    sftpServer.start();
+  }
+
+  @Test
+  @PerfTest(duration = 30000, threads = 1, warmUp = 5000)
+  public void readLargeFile() throws Exception {
+    flowRunner("read-large").run();
+  }
+
+  @Test
+  @PerfTest(duration = 30000, threads = 1, warmUp = 5000)
+  public void readWriteLargeFile() throws Exception {
+    flowRunner("read-write-large").run();
+  }
+
+  @Test
+  @PerfTest(duration = 30000, threads = 4, warmUp = 5000)
+  public void parallelCopyLargeFile() throws Exception {
+    flowRunner("copy-large").run();
+  }
+
+  @Override
+  protected void doTearDownAfterMuleContextDispose() throws Exception {
+    super.doTearDownAfterMuleContextDispose();
+    try {
+      if (sftpServer != null) {
+        sftpServer.stop();
+      }
+    } finally {
+      temporaryFolder.delete();
+    }
+  }
+
+  private void createLargeFile(File file) throws IOException {
+    byte[] block = new byte[1024 * 1024];
+    new Random().nextBytes(block);
+    try (OutputStream out = new FileOutputStream(file)) {
+      for (int written = 0; written < LARGE_FILE_SIZE; written += block.length) {
+        out.write(block);
+      }
+    }
+  }
+}